@@ -25,6 +25,8 @@ import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.StatisticType;
 import org.optaplanner.benchmark.impl.statistic.subsingle.constraintmatchtotalbestscore.ConstraintMatchTotalBestScoreSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.constraintmatchtotalstepscore.ConstraintMatchTotalStepScoreSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.subsingle.moveevaluationlatency.MoveEvaluationLatencySubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.subsingle.moveselectorprobability.MoveSelectorProbabilitySubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.pickedmovetypebestscore.PickedMoveTypeBestScoreDiffSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.pickedmovetypestepscore.PickedMoveTypeStepScoreDiffSubSingleStatistic;
 
@@ -33,7 +35,9 @@ public enum SingleStatisticType implements StatisticType {
     CONSTRAINT_MATCH_TOTAL_BEST_SCORE,
     CONSTRAINT_MATCH_TOTAL_STEP_SCORE,
     PICKED_MOVE_TYPE_BEST_SCORE_DIFF,
-    PICKED_MOVE_TYPE_STEP_SCORE_DIFF;
+    PICKED_MOVE_TYPE_STEP_SCORE_DIFF,
+    MOVE_SELECTOR_PROBABILITY,
+    MOVE_EVALUATION_LATENCY;
 
     @Override
     public String getLabel() {
@@ -51,6 +55,10 @@ public enum SingleStatisticType implements StatisticType {
                 return new PickedMoveTypeBestScoreDiffSubSingleStatistic(subSingleBenchmarkResult);
             case PICKED_MOVE_TYPE_STEP_SCORE_DIFF:
                 return new PickedMoveTypeStepScoreDiffSubSingleStatistic(subSingleBenchmarkResult);
+            case MOVE_SELECTOR_PROBABILITY:
+                return new MoveSelectorProbabilitySubSingleStatistic(subSingleBenchmarkResult);
+            case MOVE_EVALUATION_LATENCY:
+                return new MoveEvaluationLatencySubSingleStatistic(subSingleBenchmarkResult);
             default:
                 throw new IllegalStateException("The singleStatisticType (" + this + ") is not implemented.");
         }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.subsingle.moveevaluationlatency;
+
+import org.optaplanner.benchmark.impl.statistic.StatisticPoint;
+import org.optaplanner.core.impl.solver.trace.MoveEvaluationStage;
+
+public class MoveEvaluationLatencyStatisticPoint extends StatisticPoint {
+
+    private final long timeMillisSpent;
+    private final int phaseIndex;
+    private final String moveSelector;
+    private final String moveType;
+    private final MoveEvaluationStage stage;
+    private final long moveCount;
+    private final double meanNanos;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+
+    public MoveEvaluationLatencyStatisticPoint(long timeMillisSpent, int phaseIndex, String moveSelector,
+            String moveType, MoveEvaluationStage stage, long moveCount,
+            double meanNanos, long p50Nanos, long p90Nanos, long p99Nanos, long maxNanos) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.phaseIndex = phaseIndex;
+        this.moveSelector = moveSelector;
+        this.moveType = moveType;
+        this.stage = stage;
+        this.moveCount = moveCount;
+        this.meanNanos = meanNanos;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    public int getPhaseIndex() {
+        return phaseIndex;
+    }
+
+    public String getMoveSelector() {
+        return moveSelector;
+    }
+
+    public String getMoveType() {
+        return moveType;
+    }
+
+    public MoveEvaluationStage getStage() {
+        return stage;
+    }
+
+    public long getMoveCount() {
+        return moveCount;
+    }
+
+    public double getMeanNanos() {
+        return meanNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLineWithStrings(timeMillisSpent, Integer.toString(phaseIndex), moveSelector, moveType,
+                stage.name(), Long.toString(moveCount), Double.toString(meanNanos),
+                Long.toString(p50Nanos), Long.toString(p90Nanos), Long.toString(p99Nanos), Long.toString(maxNanos));
+    }
+
+}
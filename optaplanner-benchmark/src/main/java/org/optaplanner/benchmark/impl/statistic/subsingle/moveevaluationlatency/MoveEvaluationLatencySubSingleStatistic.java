@@ -0,0 +1,193 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.subsingle.moveevaluationlatency;
+
+import java.io.File;
+import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.xml.bind.annotation.XmlTransient;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.CategoryAxis;
+import org.jfree.chart.axis.CategoryLabelPositions;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.renderer.category.BarRenderer;
+import org.jfree.chart.renderer.category.StackedBarRenderer;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.optaplanner.benchmark.config.statistic.SingleStatisticType;
+import org.optaplanner.benchmark.impl.report.BenchmarkReport;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.solver.trace.LatencyHistogram;
+import org.optaplanner.core.impl.solver.trace.MoveEvaluationStage;
+import org.optaplanner.core.impl.solver.trace.MoveEvaluationTrace;
+import org.optaplanner.core.impl.solver.trace.MoveEvaluationTraceListener;
+
+/**
+ * Records the latency of every {@link MoveEvaluationStage} per phase, move selector and move type.
+ */
+public class MoveEvaluationLatencySubSingleStatistic<Solution_>
+        extends PureSubSingleStatistic<Solution_, MoveEvaluationLatencyStatisticPoint> {
+
+    private static final double NANOS_PER_MICRO = 1000.0;
+
+    @XmlTransient
+    private MoveEvaluationLatencySubSingleStatisticListener listener;
+
+    @XmlTransient
+    protected List<File> graphFileList = null;
+
+    public MoveEvaluationLatencySubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        super(subSingleBenchmarkResult, SingleStatisticType.MOVE_EVALUATION_LATENCY);
+        listener = new MoveEvaluationLatencySubSingleStatisticListener();
+    }
+
+    /**
+     * @return never null
+     */
+    @Override
+    public List<File> getGraphFileList() {
+        return graphFileList;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(Solver<Solution_> solver) {
+        ((DefaultSolver<Solution_>) solver).addMoveEvaluationTraceListener(listener);
+    }
+
+    @Override
+    public void close(Solver<Solution_> solver) {
+        ((DefaultSolver<Solution_>) solver).removeMoveEvaluationTraceListener(listener);
+    }
+
+    private class MoveEvaluationLatencySubSingleStatisticListener implements MoveEvaluationTraceListener<Solution_> {
+
+        @Override
+        public void phaseTraced(AbstractPhaseScope<Solution_> phaseScope, List<MoveEvaluationTrace> traceList) {
+            long timeMillisSpent = phaseScope.calculateSolverTimeMillisSpentUpToNow();
+            for (MoveEvaluationTrace trace : traceList) {
+                for (MoveEvaluationStage stage : MoveEvaluationStage.values()) {
+                    LatencyHistogram histogram = trace.getHistogram(stage);
+                    pointList.add(new MoveEvaluationLatencyStatisticPoint(timeMillisSpent,
+                            trace.getPhaseIndex(), trace.getMoveSelector(), trace.getMoveType(), stage,
+                            histogram.getTotalCount(), histogram.getMean(),
+                            histogram.getValueAtPercentile(50.0), histogram.getValueAtPercentile(90.0),
+                            histogram.getValueAtPercentile(99.0), histogram.getMaxValue()));
+                }
+            }
+        }
+
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return MoveEvaluationLatencyStatisticPoint.buildCsvLine("timeMillisSpent", "phaseIndex", "moveSelector",
+                "moveType", "stage", "moveCount", "meanNanos", "p50Nanos", "p90Nanos", "p99Nanos", "maxNanos");
+    }
+
+    @Override
+    protected MoveEvaluationLatencyStatisticPoint createPointFromCsvLine(ScoreDefinition scoreDefinition,
+            List<String> csvLine) {
+        return new MoveEvaluationLatencyStatisticPoint(Long.parseLong(csvLine.get(0)),
+                Integer.parseInt(csvLine.get(1)), csvLine.get(2), csvLine.get(3),
+                MoveEvaluationStage.valueOf(csvLine.get(4)), Long.parseLong(csvLine.get(5)),
+                Double.parseDouble(csvLine.get(6)), Long.parseLong(csvLine.get(7)), Long.parseLong(csvLine.get(8)),
+                Long.parseLong(csvLine.get(9)), Long.parseLong(csvLine.get(10)));
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    @Override
+    public void writeGraphFiles(BenchmarkReport benchmarkReport) {
+        Locale locale = benchmarkReport.getLocale();
+        DefaultCategoryDataset stageDataset = new DefaultCategoryDataset();
+        DefaultCategoryDataset percentileDataset = new DefaultCategoryDataset();
+        // Every trace has 1 point per stage, in stage order.
+        // Different move selectors can have the same label, so each trace needs its own category.
+        Set<String> categorySet = new HashSet<>();
+        String category = null;
+        for (MoveEvaluationLatencyStatisticPoint point : getPointList()) {
+            if (point.getStage().ordinal() == 0) {
+                category = buildCategory(point, categorySet);
+            }
+            if (point.getMoveCount() == 0L) {
+                continue;
+            }
+            if (point.getStage() == MoveEvaluationStage.TOTAL) {
+                percentileDataset.addValue(point.getP50Nanos() / NANOS_PER_MICRO, "p50", category);
+                percentileDataset.addValue(point.getP90Nanos() / NANOS_PER_MICRO, "p90", category);
+                percentileDataset.addValue(point.getP99Nanos() / NANOS_PER_MICRO, "p99", category);
+            } else {
+                stageDataset.addValue(point.getMeanNanos() / NANOS_PER_MICRO, point.getStage().name(), category);
+            }
+        }
+        CategoryPlot stagePlot = createPlot(locale, stageDataset, "Mean latency (microseconds)",
+                new StackedBarRenderer());
+        JFreeChart stageChart = new JFreeChart(subSingleBenchmarkResult.getName()
+                + " move evaluation latency per stage statistic", JFreeChart.DEFAULT_TITLE_FONT, stagePlot, true);
+        CategoryPlot percentilePlot = createPlot(locale, percentileDataset, "Latency (microseconds)",
+                new BarRenderer());
+        JFreeChart percentileChart = new JFreeChart(subSingleBenchmarkResult.getName()
+                + " move evaluation latency percentile statistic", JFreeChart.DEFAULT_TITLE_FONT, percentilePlot, true);
+        graphFileList = Arrays.asList(
+                writeChartToImageFile(stageChart, "MoveEvaluationLatencyPerStageStatistic"),
+                writeChartToImageFile(percentileChart, "MoveEvaluationLatencyPercentileStatistic"));
+    }
+
+    private static String buildCategory(MoveEvaluationLatencyStatisticPoint point, Set<String> categorySet) {
+        String baseCategory = point.getMoveType() + " of " + point.getMoveSelector()
+                + " (phase " + point.getPhaseIndex() + ")";
+        String category = baseCategory;
+        for (int i = 2; !categorySet.add(category); i++) {
+            category = baseCategory + " #" + i;
+        }
+        return category;
+    }
+
+    private CategoryPlot createPlot(Locale locale, DefaultCategoryDataset dataset, String yAxisLabel,
+            BarRenderer renderer) {
+        CategoryAxis xAxis = new CategoryAxis("Move type");
+        xAxis.setCategoryLabelPositions(CategoryLabelPositions.UP_45);
+        NumberAxis yAxis = new NumberAxis(yAxisLabel);
+        yAxis.setNumberFormatOverride(NumberFormat.getNumberInstance(locale));
+        CategoryPlot plot = new CategoryPlot(dataset, xAxis, yAxis, renderer);
+        plot.setOrientation(PlotOrientation.VERTICAL);
+        return plot;
+    }
+
+}
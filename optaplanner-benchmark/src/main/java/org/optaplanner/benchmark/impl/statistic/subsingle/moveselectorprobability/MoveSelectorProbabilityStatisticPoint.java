@@ -0,0 +1,50 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.subsingle.moveselectorprobability;
+
+import org.optaplanner.benchmark.impl.statistic.StatisticPoint;
+
+public class MoveSelectorProbabilityStatisticPoint extends StatisticPoint {
+
+    private final long timeMillisSpent;
+    private final String moveSelector;
+    private final double probability;
+
+    public MoveSelectorProbabilityStatisticPoint(long timeMillisSpent, String moveSelector, double probability) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.moveSelector = moveSelector;
+        this.probability = probability;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    public String getMoveSelector() {
+        return moveSelector;
+    }
+
+    public double getProbability() {
+        return probability;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLineWithStrings(timeMillisSpent, moveSelector, Double.toString(probability));
+    }
+
+}
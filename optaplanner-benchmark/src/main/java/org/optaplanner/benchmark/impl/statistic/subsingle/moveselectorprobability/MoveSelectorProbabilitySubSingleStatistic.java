@@ -0,0 +1,168 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.subsingle.moveselectorprobability;
+
+import java.io.File;
+import java.text.NumberFormat;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.xml.bind.annotation.XmlTransient;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYStepRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.optaplanner.benchmark.config.statistic.SingleStatisticType;
+import org.optaplanner.benchmark.impl.report.BenchmarkReport;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.common.MillisecondsSpentNumberFormat;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.impl.heuristic.selector.move.composite.AdaptiveUnionMoveSelector;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+
+/**
+ * Records the selection probability that each {@link AdaptiveUnionMoveSelector} learned for its child move selectors.
+ */
+public class MoveSelectorProbabilitySubSingleStatistic<Solution_>
+        extends PureSubSingleStatistic<Solution_, MoveSelectorProbabilityStatisticPoint> {
+
+    @XmlTransient
+    private MoveSelectorProbabilitySubSingleStatisticListener listener;
+
+    @XmlTransient
+    protected List<File> graphFileList = null;
+
+    public MoveSelectorProbabilitySubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        super(subSingleBenchmarkResult, SingleStatisticType.MOVE_SELECTOR_PROBABILITY);
+        listener = new MoveSelectorProbabilitySubSingleStatisticListener();
+    }
+
+    /**
+     * @return never null
+     */
+    @Override
+    public List<File> getGraphFileList() {
+        return graphFileList;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(Solver<Solution_> solver) {
+        ((DefaultSolver<Solution_>) solver).addPhaseLifecycleListener(listener);
+    }
+
+    @Override
+    public void close(Solver<Solution_> solver) {
+        ((DefaultSolver<Solution_>) solver).removePhaseLifecycleListener(listener);
+    }
+
+    private class MoveSelectorProbabilitySubSingleStatisticListener extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            if (stepScope instanceof LocalSearchStepScope) {
+                localSearchStepEnded((LocalSearchStepScope<Solution_>) stepScope);
+            }
+        }
+
+        private void localSearchStepEnded(LocalSearchStepScope<Solution_> stepScope) {
+            List<AdaptiveUnionMoveSelector<Solution_>> adaptiveUnionMoveSelectorList =
+                    stepScope.getPhaseScope().getSolverScope().getAdaptiveUnionMoveSelectorList();
+            if (adaptiveUnionMoveSelectorList.isEmpty()) {
+                return;
+            }
+            long timeMillisSpent = stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow();
+            for (AdaptiveUnionMoveSelector<Solution_> adaptiveUnionMoveSelector : adaptiveUnionMoveSelectorList) {
+                for (int i = 0; i < adaptiveUnionMoveSelector.getChildMoveSelectorList().size(); i++) {
+                    String moveSelector = adaptiveUnionMoveSelector.getChildMoveSelectorList().get(i).toString();
+                    pointList.add(new MoveSelectorProbabilityStatisticPoint(
+                            timeMillisSpent, moveSelector, adaptiveUnionMoveSelector.getProbability(i)));
+                }
+            }
+        }
+
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return MoveSelectorProbabilityStatisticPoint.buildCsvLine("timeMillisSpent", "moveSelector", "probability");
+    }
+
+    @Override
+    protected MoveSelectorProbabilityStatisticPoint createPointFromCsvLine(ScoreDefinition scoreDefinition,
+            List<String> csvLine) {
+        return new MoveSelectorProbabilityStatisticPoint(Long.parseLong(csvLine.get(0)),
+                csvLine.get(1), Double.parseDouble(csvLine.get(2)));
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    @Override
+    public void writeGraphFiles(BenchmarkReport benchmarkReport) {
+        Map<String, XYSeries> moveSelectorToSeriesMap = new LinkedHashMap<>();
+        for (MoveSelectorProbabilityStatisticPoint point : getPointList()) {
+            String moveSelector = point.getMoveSelector();
+            XYSeries series = moveSelectorToSeriesMap.computeIfAbsent(moveSelector,
+                    k -> new XYSeries(moveSelector));
+            series.add(point.getTimeMillisSpent(), point.getProbability());
+        }
+        XYPlot plot = createPlot(benchmarkReport);
+        XYSeriesCollection seriesCollection = new XYSeriesCollection();
+        for (XYSeries series : moveSelectorToSeriesMap.values()) {
+            seriesCollection.addSeries(series);
+        }
+        plot.setDataset(seriesCollection);
+        plot.setRenderer(new XYStepRenderer());
+        JFreeChart chart = new JFreeChart(subSingleBenchmarkResult.getName() + " move selector probability statistic",
+                JFreeChart.DEFAULT_TITLE_FONT, plot, true);
+        graphFileList = Collections.singletonList(writeChartToImageFile(chart, "MoveSelectorProbabilityStatistic"));
+    }
+
+    private XYPlot createPlot(BenchmarkReport benchmarkReport) {
+        Locale locale = benchmarkReport.getLocale();
+        NumberAxis xAxis = new NumberAxis("Time spent");
+        xAxis.setNumberFormatOverride(new MillisecondsSpentNumberFormat(locale));
+        NumberAxis yAxis = new NumberAxis("Selection probability");
+        yAxis.setNumberFormatOverride(NumberFormat.getPercentInstance(locale));
+        yAxis.setRange(0.0, 1.0);
+        XYPlot plot = new XYPlot(null, xAxis, yAxis, null);
+        plot.setOrientation(PlotOrientation.VERTICAL);
+        return plot;
+    }
+
+}
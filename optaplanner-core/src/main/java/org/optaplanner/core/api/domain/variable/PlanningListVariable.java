@@ -0,0 +1,66 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.domain.variable;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
+import org.optaplanner.core.api.score.Score;
+
+/**
+ * Specifies that a bean property (or a field) holds an ordered {@link List} of planning values
+ * that can be changed and should be optimized by the optimization algorithms.
+ * <p>
+ * It is specified on a getter of a java bean property (or directly on a field) of a {@link PlanningEntity} class.
+ * The property type must be {@link List} and the property must never be null.
+ * <p>
+ * Every planning value is assigned to at most 1 entity, at a single index in that entity's list.
+ * In use cases such as Vehicle Routing or TSP, it is a faster alternative to
+ * a {@link PlanningVariableGraphType#CHAINED} {@link PlanningVariable}:
+ * the entity and the index of a planning value are looked up in constant time
+ * instead of by walking the chain.
+ * <p>
+ * A planning value that is in no entity's list is unassigned
+ * and counts as an uninitialized variable in the {@link Score#getInitScore()}.
+ * <p>
+ * Constraint streams only support a planning list variable with the Bavet implementation,
+ * which reads the list through its planning entity.
+ */
+@Target({ METHOD, FIELD })
+@Retention(RUNTIME)
+public @interface PlanningListVariable {
+
+    /**
+     * Any {@link ValueRangeProvider} annotation on a {@link PlanningSolution}
+     * will automatically be registered with its {@link ValueRangeProvider#id()}.
+     * <p>
+     * There should be at least 1 element in this array.
+     * A {@link ValueRangeProvider} on a {@link PlanningEntity} is not supported.
+     *
+     * @return 1 (or more) registered {@link ValueRangeProvider#id()}
+     */
+    String[] valueRangeProviderRefs() default {};
+
+}
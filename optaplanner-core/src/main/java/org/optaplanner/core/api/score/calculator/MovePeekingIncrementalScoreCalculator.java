@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.calculator;
+
+import java.util.List;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.variable.PlanningVariable;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.heuristic.move.Move;
+
+/**
+ * Allows a {@link IncrementalScoreCalculator} to predict the {@link Score} of the most common generic {@link Move}s
+ * (change, swap and pillar change) without changing the working solution.
+ * This avoids that the {@link ScoreDirector} has to do the {@link Move}, trigger the variable listeners,
+ * calculate the {@link Score} and undo the {@link Move} again, for every evaluated {@link Move}.
+ * <p>
+ * Every peek method must derive the {@link Score} from the state of this calculator,
+ * without changing the working solution or that state, not even temporarily:
+ * doing and undoing the change on the planning entities would bypass the {@link ScoreDirector}
+ * (so no variable listener would be triggered) and would cost as much as the {@link Move} it avoids.
+ * It is only called if the working solution is initialized
+ * and if no shadow variable depends on the changed genuine variables.
+ * <p>
+ * Every peek method may return null if it cannot predict the {@link Score} of that particular {@link Move},
+ * in which case the {@link Move} is done and undone as usual.
+ * Use {@link org.optaplanner.core.config.solver.EnvironmentMode#FULL_ASSERT} to verify the predicted scores.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <Score_> the {@link Score} type
+ */
+public interface MovePeekingIncrementalScoreCalculator<Solution_, Score_ extends Score<Score_>>
+        extends IncrementalScoreCalculator<Solution_, Score_> {
+
+    /**
+     * @param entity never null, an instance of a {@link PlanningEntity} class
+     * @param variableName never null, a genuine {@link PlanningVariable}
+     * @param toPlanningValue sometimes null, the new value of that variable
+     * @return null if the {@link Score} cannot be predicted,
+     *         otherwise the {@link Score} as {@link #calculateScore()} would return it after the change
+     */
+    default Score_ peekChangeMove(Object entity, String variableName, Object toPlanningValue) {
+        return null;
+    }
+
+    /**
+     * @param leftEntity never null, an instance of a {@link PlanningEntity} class
+     * @param rightEntity never null, an instance of the same {@link PlanningEntity} class
+     * @param variableNameList never null, the genuine {@link PlanningVariable}s of which the values are swapped
+     * @return null if the {@link Score} cannot be predicted,
+     *         otherwise the {@link Score} as {@link #calculateScore()} would return it after the swap
+     */
+    default Score_ peekSwapMove(Object leftEntity, Object rightEntity, List<String> variableNameList) {
+        return null;
+    }
+
+    /**
+     * @param pillar never null, the entities which all have the same planning value for that variable
+     * @param variableName never null, a genuine {@link PlanningVariable}
+     * @param toPlanningValue sometimes null, the new value of that variable for every entity in the pillar
+     * @return null if the {@link Score} cannot be predicted,
+     *         otherwise the {@link Score} as {@link #calculateScore()} would return it after the change
+     */
+    default Score_ peekPillarChangeMove(List<Object> pillar, String variableName, Object toPlanningValue) {
+        return null;
+    }
+
+}
@@ -859,7 +859,7 @@ public final class ConstraintCollectors {
         return minOrMax(groupValueMapping, comparator, false);
     }
 
-    private static <A, Mapped> UniConstraintCollector<A, SortedMap<Mapped, Long>, Mapped> minOrMax(
+    private static <A, Mapped> UniConstraintCollector<A, SortedMap<Mapped, int[]>, Mapped> minOrMax(
             Function<A, Mapped> groupValueMapping, Comparator<Mapped> comparator, boolean min) {
         return new DefaultUniConstraintCollector<>(
                 () -> new TreeMap<>(comparator),
@@ -886,7 +886,7 @@ public final class ConstraintCollectors {
         return minOrMax(groupValueMapping, comparator, false);
     }
 
-    private static <A, B, Mapped> BiConstraintCollector<A, B, SortedMap<Mapped, Long>, Mapped> minOrMax(
+    private static <A, B, Mapped> BiConstraintCollector<A, B, SortedMap<Mapped, int[]>, Mapped> minOrMax(
             BiFunction<A, B, Mapped> groupValueMapping, Comparator<Mapped> comparator, boolean min) {
         return new DefaultBiConstraintCollector<>(
                 () -> new TreeMap<>(comparator),
@@ -913,7 +913,7 @@ public final class ConstraintCollectors {
         return minOrMax(groupValueMapping, comparator, false);
     }
 
-    private static <A, B, C, Mapped> TriConstraintCollector<A, B, C, SortedMap<Mapped, Long>, Mapped> minOrMax(
+    private static <A, B, C, Mapped> TriConstraintCollector<A, B, C, SortedMap<Mapped, int[]>, Mapped> minOrMax(
             TriFunction<A, B, C, Mapped> groupValueMapping, Comparator<Mapped> comparator, boolean min) {
         return new DefaultTriConstraintCollector<>(
                 () -> new TreeMap<>(comparator),
@@ -940,7 +940,7 @@ public final class ConstraintCollectors {
         return minOrMax(groupValueMapping, comparator, false);
     }
 
-    private static <A, B, C, D, Mapped> QuadConstraintCollector<A, B, C, D, SortedMap<Mapped, Long>, Mapped> minOrMax(
+    private static <A, B, C, D, Mapped> QuadConstraintCollector<A, B, C, D, SortedMap<Mapped, int[]>, Mapped> minOrMax(
             QuadFunction<A, B, C, D, Mapped> groupValueMapping, Comparator<Mapped> comparator, boolean min) {
         return new DefaultQuadConstraintCollector<>(
                 () -> new TreeMap<>(comparator),
@@ -951,14 +951,39 @@ public final class ConstraintCollectors {
                 resultContainer -> minOrMaxFinisher(resultContainer, min));
     }
 
-    private static <Mapped> Runnable minOrMaxAccumulator(SortedMap<Mapped, Long> resultContainer, Mapped mapped) {
-        resultContainer.compute(mapped, (key, value) -> value == null ? 1L : value + 1L);
-        return () -> resultContainer.compute(mapped, (key, value) -> value == 1L ? null : value - 1L);
+    private static <Mapped> Runnable minOrMaxAccumulator(SortedMap<Mapped, int[]> resultContainer, Mapped mapped) {
+        return innerCountingAccumulator(resultContainer, mapped);
     }
 
-    private static <Mapped> Mapped minOrMaxFinisher(SortedMap<Mapped, Long> resultContainer, boolean min) {
-        Function<SortedMap<Mapped, Long>, Mapped> keySupplier = min ? SortedMap::firstKey : SortedMap::lastKey;
-        return resultContainer.isEmpty() ? null : keySupplier.apply(resultContainer);
+    private static <Mapped> Mapped minOrMaxFinisher(SortedMap<Mapped, int[]> resultContainer, boolean min) {
+        if (resultContainer.isEmpty()) {
+            return null;
+        }
+        return min ? resultContainer.firstKey() : resultContainer.lastKey();
+    }
+
+    /**
+     * Counts how many times each value is in the group, so a value is only removed when its last occurrence is.
+     * Both adding and removing are O(1) for a hash map and O(log n) for a sorted map.
+     */
+    private static <Mapped> Runnable innerCountingAccumulator(Map<Mapped, int[]> resultContainer, Mapped mapped) {
+        int[] count = resultContainer.get(mapped);
+        if (count == null) {
+            count = new int[1];
+            resultContainer.put(mapped, count);
+        }
+        count[0]++;
+        return () -> {
+            int[] count2 = resultContainer.get(mapped);
+            if (count2 == null) {
+                throw new IllegalStateException("Impossible state: the value (" + mapped +
+                        ") is removed more times than it was added.");
+            }
+            count2[0]--;
+            if (count2[0] == 0) {
+                resultContainer.remove(mapped);
+            }
+        };
     }
 
     public static <A, Result extends Collection<A>> UniConstraintCollector<A, ?, Result> toCollection(
@@ -990,7 +1015,7 @@ public final class ConstraintCollectors {
      * @return never null
      */
     public static <A extends Comparable<A>> UniConstraintCollector<A, ?, SortedSet<A>> toSortedSet() {
-        return toCollection(Function.identity(), i -> new TreeSet<>());
+        return toSortedSet(Function.<A> identity());
     }
 
     /**
@@ -1038,7 +1063,10 @@ public final class ConstraintCollectors {
      * @return never null
      */
     public static <A, Mapped> UniConstraintCollector<A, ?, Set<Mapped>> toSet(Function<A, Mapped> groupValueMapping) {
-        return toCollection(groupValueMapping, LinkedHashSet::new);
+        return new DefaultUniConstraintCollector<>(
+                (Supplier<Map<Mapped, int[]>>) LinkedHashMap::new,
+                (resultContainer, a) -> innerCountingAccumulator(resultContainer, groupValueMapping.apply(a)),
+                resultContainer -> new LinkedHashSet<>(resultContainer.keySet()));
     }
 
     /**
@@ -1052,7 +1080,10 @@ public final class ConstraintCollectors {
      */
     public static <A, Mapped extends Comparable<Mapped>> UniConstraintCollector<A, ?, SortedSet<Mapped>> toSortedSet(
             Function<A, Mapped> groupValueMapping) {
-        return toCollection(groupValueMapping, i -> new TreeSet<>());
+        return new DefaultUniConstraintCollector<>(
+                (Supplier<TreeMap<Mapped, int[]>>) TreeMap::new,
+                (resultContainer, a) -> innerCountingAccumulator(resultContainer, groupValueMapping.apply(a)),
+                resultContainer -> new TreeSet<>(resultContainer.navigableKeySet()));
     }
 
     /**
@@ -1092,7 +1123,10 @@ public final class ConstraintCollectors {
      */
     public static <A, B, Mapped> BiConstraintCollector<A, B, ?, Set<Mapped>> toSet(
             BiFunction<A, B, Mapped> groupValueMapping) {
-        return toCollection(groupValueMapping, LinkedHashSet::new);
+        return new DefaultBiConstraintCollector<>(
+                (Supplier<Map<Mapped, int[]>>) LinkedHashMap::new,
+                (resultContainer, a, b) -> innerCountingAccumulator(resultContainer, groupValueMapping.apply(a, b)),
+                resultContainer -> new LinkedHashSet<>(resultContainer.keySet()));
     }
 
     /**
@@ -1106,7 +1140,10 @@ public final class ConstraintCollectors {
      */
     public static <A, B, Mapped extends Comparable<Mapped>> BiConstraintCollector<A, B, ?, SortedSet<Mapped>> toSortedSet(
             BiFunction<A, B, Mapped> groupValueMapping) {
-        return toCollection(groupValueMapping, i -> new TreeSet<>());
+        return new DefaultBiConstraintCollector<>(
+                (Supplier<TreeMap<Mapped, int[]>>) TreeMap::new,
+                (resultContainer, a, b) -> innerCountingAccumulator(resultContainer, groupValueMapping.apply(a, b)),
+                resultContainer -> new TreeSet<>(resultContainer.navigableKeySet()));
     }
 
     /**
@@ -1149,7 +1186,10 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, Mapped> TriConstraintCollector<A, B, C, ?, Set<Mapped>> toSet(
             TriFunction<A, B, C, Mapped> groupValueMapping) {
-        return toCollection(groupValueMapping, LinkedHashSet::new);
+        return new DefaultTriConstraintCollector<>(
+                (Supplier<Map<Mapped, int[]>>) LinkedHashMap::new,
+                (resultContainer, a, b, c) -> innerCountingAccumulator(resultContainer, groupValueMapping.apply(a, b, c)),
+                resultContainer -> new LinkedHashSet<>(resultContainer.keySet()));
     }
 
     /**
@@ -1164,7 +1204,10 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, Mapped extends Comparable<Mapped>> TriConstraintCollector<A, B, C, ?, SortedSet<Mapped>>
             toSortedSet(TriFunction<A, B, C, Mapped> groupValueMapping) {
-        return toCollection(groupValueMapping, i -> new TreeSet<>());
+        return new DefaultTriConstraintCollector<>(
+                (Supplier<TreeMap<Mapped, int[]>>) TreeMap::new,
+                (resultContainer, a, b, c) -> innerCountingAccumulator(resultContainer, groupValueMapping.apply(a, b, c)),
+                resultContainer -> new TreeSet<>(resultContainer.navigableKeySet()));
     }
 
     /**
@@ -1209,7 +1252,10 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, D, Mapped> QuadConstraintCollector<A, B, C, D, ?, Set<Mapped>> toSet(
             QuadFunction<A, B, C, D, Mapped> groupValueMapping) {
-        return toCollection(groupValueMapping, LinkedHashSet::new);
+        return new DefaultQuadConstraintCollector<>(
+                (Supplier<Map<Mapped, int[]>>) LinkedHashMap::new,
+                (resultContainer, a, b, c, d) -> innerCountingAccumulator(resultContainer, groupValueMapping.apply(a, b, c, d)),
+                resultContainer -> new LinkedHashSet<>(resultContainer.keySet()));
     }
 
     /**
@@ -1225,7 +1271,10 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, D, Mapped extends Comparable<Mapped>> QuadConstraintCollector<A, B, C, D, ?, SortedSet<Mapped>>
             toSortedSet(QuadFunction<A, B, C, D, Mapped> groupValueMapping) {
-        return toCollection(groupValueMapping, i -> new TreeSet<>());
+        return new DefaultQuadConstraintCollector<>(
+                (Supplier<TreeMap<Mapped, int[]>>) TreeMap::new,
+                (resultContainer, a, b, c, d) -> innerCountingAccumulator(resultContainer, groupValueMapping.apply(a, b, c, d)),
+                resultContainer -> new TreeSet<>(resultContainer.navigableKeySet()));
     }
 
     /**
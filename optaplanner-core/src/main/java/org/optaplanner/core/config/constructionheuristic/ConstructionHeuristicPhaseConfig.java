@@ -40,6 +40,10 @@ import org.optaplanner.core.config.heuristic.selector.move.generic.SwapMoveSelec
 import org.optaplanner.core.config.heuristic.selector.move.generic.chained.SubChainChangeMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.chained.SubChainSwapMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.chained.TailChainSwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListSwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.SubListChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.TwoOptListMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.value.ValueSorterManner;
 import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.config.util.ConfigUtils;
@@ -50,7 +54,9 @@ import org.optaplanner.core.config.util.ConfigUtils;
         "valueSorterManner",
         "entityPlacerConfig",
         "moveSelectorConfigList",
-        "foragerConfig"
+        "foragerConfig",
+        "incrementalPlacementEvaluation",
+        "parallelBatchSize"
 })
 public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHeuristicPhaseConfig> {
 
@@ -75,6 +81,9 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
             @XmlElement(name = CartesianProductMoveSelectorConfig.XML_ELEMENT_NAME,
                     type = CartesianProductMoveSelectorConfig.class),
             @XmlElement(name = ChangeMoveSelectorConfig.XML_ELEMENT_NAME, type = ChangeMoveSelectorConfig.class),
+            @XmlElement(name = ListChangeMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = ListChangeMoveSelectorConfig.class),
+            @XmlElement(name = ListSwapMoveSelectorConfig.XML_ELEMENT_NAME, type = ListSwapMoveSelectorConfig.class),
             @XmlElement(name = MoveIteratorFactoryConfig.XML_ELEMENT_NAME, type = MoveIteratorFactoryConfig.class),
             @XmlElement(name = MoveListFactoryConfig.XML_ELEMENT_NAME, type = MoveListFactoryConfig.class),
             @XmlElement(name = PillarChangeMoveSelectorConfig.XML_ELEMENT_NAME,
@@ -84,9 +93,13 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
                     type = SubChainChangeMoveSelectorConfig.class),
             @XmlElement(name = SubChainSwapMoveSelectorConfig.XML_ELEMENT_NAME,
                     type = SubChainSwapMoveSelectorConfig.class),
+            @XmlElement(name = SubListChangeMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = SubListChangeMoveSelectorConfig.class),
             @XmlElement(name = SwapMoveSelectorConfig.XML_ELEMENT_NAME, type = SwapMoveSelectorConfig.class),
             @XmlElement(name = TailChainSwapMoveSelectorConfig.XML_ELEMENT_NAME,
                     type = TailChainSwapMoveSelectorConfig.class),
+            @XmlElement(name = TwoOptListMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = TwoOptListMoveSelectorConfig.class),
             @XmlElement(name = UnionMoveSelectorConfig.XML_ELEMENT_NAME, type = UnionMoveSelectorConfig.class)
     })
     protected List<MoveSelectorConfig> moveSelectorConfigList = null;
@@ -94,6 +107,10 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
     @XmlElement(name = "forager")
     protected ConstructionHeuristicForagerConfig foragerConfig = null;
 
+    protected Boolean incrementalPlacementEvaluation = null;
+
+    protected Integer parallelBatchSize = null;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -146,6 +163,31 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
         this.foragerConfig = foragerConfig;
     }
 
+    /**
+     * @return null, true or false. If true, the score difference of a move is cached across steps
+     *         and only recalculated if the move shares a planning entity or value with the last step.
+     *         Requires a pooled entity placer, such as {@link ConstructionHeuristicType#ALLOCATE_FROM_POOL}.
+     */
+    public Boolean getIncrementalPlacementEvaluation() {
+        return incrementalPlacementEvaluation;
+    }
+
+    public void setIncrementalPlacementEvaluation(Boolean incrementalPlacementEvaluation) {
+        this.incrementalPlacementEvaluation = incrementalPlacementEvaluation;
+    }
+
+    /**
+     * @return null or the number of entities that are placed in parallel by the move threads
+     *         before they are reconciled through the solver thread. Requires a moveThreadCount.
+     */
+    public Integer getParallelBatchSize() {
+        return parallelBatchSize;
+    }
+
+    public void setParallelBatchSize(Integer parallelBatchSize) {
+        this.parallelBatchSize = parallelBatchSize;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -181,6 +223,16 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
         return this;
     }
 
+    public ConstructionHeuristicPhaseConfig withIncrementalPlacementEvaluation(Boolean incrementalPlacementEvaluation) {
+        this.incrementalPlacementEvaluation = incrementalPlacementEvaluation;
+        return this;
+    }
+
+    public ConstructionHeuristicPhaseConfig withParallelBatchSize(Integer parallelBatchSize) {
+        this.parallelBatchSize = parallelBatchSize;
+        return this;
+    }
+
     @Override
     public ConstructionHeuristicPhaseConfig inherit(ConstructionHeuristicPhaseConfig inheritedConfig) {
         super.inherit(inheritedConfig);
@@ -195,6 +247,10 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
         moveSelectorConfigList = ConfigUtils.inheritMergeableListConfig(
                 moveSelectorConfigList, inheritedConfig.getMoveSelectorConfigList());
         foragerConfig = ConfigUtils.inheritConfig(foragerConfig, inheritedConfig.getForagerConfig());
+        incrementalPlacementEvaluation = ConfigUtils.inheritOverwritableProperty(incrementalPlacementEvaluation,
+                inheritedConfig.getIncrementalPlacementEvaluation());
+        parallelBatchSize = ConfigUtils.inheritOverwritableProperty(parallelBatchSize,
+                inheritedConfig.getParallelBatchSize());
         return this;
     }
 
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.config.heuristic.selector.move.composite;
+
+import javax.xml.bind.annotation.XmlEnum;
+
+/**
+ * Defines how a {@link UnionMoveSelectorConfig} with adaptive selection learns the selection probability
+ * of each child move selector from the number of step score improvements per millisecond it yields.
+ */
+@XmlEnum
+public enum AdaptiveSelectionPolicy {
+    /**
+     * Each selection probability is proportional to the quality of its child move selector,
+     * but never less than the minimum probability.
+     */
+    PROBABILITY_MATCHING,
+    /**
+     * The selection probability of the best child move selector moves towards the maximum probability
+     * and the others towards the minimum probability, with the learning rate as speed.
+     * Reacts faster than {@link #PROBABILITY_MATCHING} when a child move selector stops yielding improvements.
+     */
+    ADAPTIVE_PURSUIT;
+}
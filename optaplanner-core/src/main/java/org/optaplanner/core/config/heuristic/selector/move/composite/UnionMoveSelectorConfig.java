@@ -28,16 +28,24 @@ import org.optaplanner.core.config.heuristic.selector.move.factory.MoveListFacto
 import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.PillarChangeMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.PillarSwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.RuinRecreateMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.chained.SubChainChangeMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.chained.SubChainSwapMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.chained.TailChainSwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListSwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.SubListChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.TwoOptListMoveSelectorConfig;
 import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 
 @XmlType(propOrder = {
         "moveSelectorConfigList",
-        "selectorProbabilityWeightFactoryClass"
+        "selectorProbabilityWeightFactoryClass",
+        "adaptiveSelectionPolicy",
+        "adaptiveLearningRate",
+        "adaptiveMinimumProbability"
 })
 public class UnionMoveSelectorConfig extends MoveSelectorConfig<UnionMoveSelectorConfig> {
 
@@ -47,24 +55,37 @@ public class UnionMoveSelectorConfig extends MoveSelectorConfig<UnionMoveSelecto
             @XmlElement(name = CartesianProductMoveSelectorConfig.XML_ELEMENT_NAME,
                     type = CartesianProductMoveSelectorConfig.class),
             @XmlElement(name = ChangeMoveSelectorConfig.XML_ELEMENT_NAME, type = ChangeMoveSelectorConfig.class),
+            @XmlElement(name = ListChangeMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = ListChangeMoveSelectorConfig.class),
+            @XmlElement(name = ListSwapMoveSelectorConfig.XML_ELEMENT_NAME, type = ListSwapMoveSelectorConfig.class),
             @XmlElement(name = MoveIteratorFactoryConfig.XML_ELEMENT_NAME, type = MoveIteratorFactoryConfig.class),
             @XmlElement(name = MoveListFactoryConfig.XML_ELEMENT_NAME, type = MoveListFactoryConfig.class),
             @XmlElement(name = PillarChangeMoveSelectorConfig.XML_ELEMENT_NAME,
                     type = PillarChangeMoveSelectorConfig.class),
             @XmlElement(name = PillarSwapMoveSelectorConfig.XML_ELEMENT_NAME, type = PillarSwapMoveSelectorConfig.class),
+            @XmlElement(name = RuinRecreateMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = RuinRecreateMoveSelectorConfig.class),
             @XmlElement(name = SubChainChangeMoveSelectorConfig.XML_ELEMENT_NAME,
                     type = SubChainChangeMoveSelectorConfig.class),
             @XmlElement(name = SubChainSwapMoveSelectorConfig.XML_ELEMENT_NAME,
                     type = SubChainSwapMoveSelectorConfig.class),
+            @XmlElement(name = SubListChangeMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = SubListChangeMoveSelectorConfig.class),
             @XmlElement(name = SwapMoveSelectorConfig.XML_ELEMENT_NAME, type = SwapMoveSelectorConfig.class),
             @XmlElement(name = TailChainSwapMoveSelectorConfig.XML_ELEMENT_NAME,
                     type = TailChainSwapMoveSelectorConfig.class),
+            @XmlElement(name = TwoOptListMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = TwoOptListMoveSelectorConfig.class),
             @XmlElement(name = UnionMoveSelectorConfig.XML_ELEMENT_NAME, type = UnionMoveSelectorConfig.class)
     })
     private List<MoveSelectorConfig> moveSelectorConfigList = null;
 
     private Class<? extends SelectionProbabilityWeightFactory> selectorProbabilityWeightFactoryClass = null;
 
+    private AdaptiveSelectionPolicy adaptiveSelectionPolicy = null;
+    private Double adaptiveLearningRate = null;
+    private Double adaptiveMinimumProbability = null;
+
     public UnionMoveSelectorConfig() {
     }
 
@@ -89,6 +110,36 @@ public class UnionMoveSelectorConfig extends MoveSelectorConfig<UnionMoveSelecto
         this.selectorProbabilityWeightFactoryClass = selectorProbabilityWeightFactoryClass;
     }
 
+    /**
+     * Not supported together with a {@link org.optaplanner.core.config.solver.SolverConfig#getMoveThreadCount()
+     * moveThreadCount}.
+     *
+     * @return null if the selection probability weights are fixed
+     */
+    public AdaptiveSelectionPolicy getAdaptiveSelectionPolicy() {
+        return adaptiveSelectionPolicy;
+    }
+
+    public void setAdaptiveSelectionPolicy(AdaptiveSelectionPolicy adaptiveSelectionPolicy) {
+        this.adaptiveSelectionPolicy = adaptiveSelectionPolicy;
+    }
+
+    public Double getAdaptiveLearningRate() {
+        return adaptiveLearningRate;
+    }
+
+    public void setAdaptiveLearningRate(Double adaptiveLearningRate) {
+        this.adaptiveLearningRate = adaptiveLearningRate;
+    }
+
+    public Double getAdaptiveMinimumProbability() {
+        return adaptiveMinimumProbability;
+    }
+
+    public void setAdaptiveMinimumProbability(Double adaptiveMinimumProbability) {
+        this.adaptiveMinimumProbability = adaptiveMinimumProbability;
+    }
+
     @Override
     public void extractLeafMoveSelectorConfigsIntoList(List<MoveSelectorConfig> leafMoveSelectorConfigList) {
         for (MoveSelectorConfig moveSelectorConfig : moveSelectorConfigList) {
@@ -103,6 +154,12 @@ public class UnionMoveSelectorConfig extends MoveSelectorConfig<UnionMoveSelecto
                 moveSelectorConfigList, inheritedConfig.getMoveSelectorConfigList());
         selectorProbabilityWeightFactoryClass = ConfigUtils.inheritOverwritableProperty(
                 selectorProbabilityWeightFactoryClass, inheritedConfig.getSelectorProbabilityWeightFactoryClass());
+        adaptiveSelectionPolicy = ConfigUtils.inheritOverwritableProperty(
+                adaptiveSelectionPolicy, inheritedConfig.getAdaptiveSelectionPolicy());
+        adaptiveLearningRate = ConfigUtils.inheritOverwritableProperty(
+                adaptiveLearningRate, inheritedConfig.getAdaptiveLearningRate());
+        adaptiveMinimumProbability = ConfigUtils.inheritOverwritableProperty(
+                adaptiveMinimumProbability, inheritedConfig.getAdaptiveMinimumProbability());
         return this;
     }
 
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.config.heuristic.selector.move.generic;
+
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementWrapper;
+import javax.xml.bind.annotation.XmlType;
+
+import org.optaplanner.core.config.heuristic.selector.entity.EntitySelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.MoveSelectorConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+
+/**
+ * Unassigns a cluster of related entities (see {@link RuinType}) and reassigns them one by one
+ * to the value with the best score, as a single move.
+ * Escapes local optima that no combination of small moves can escape.
+ */
+@XmlType(propOrder = {
+        "entitySelectorConfig",
+        "variableNameIncludeList",
+        "ruinType",
+        "minimumRuinedEntityCount",
+        "maximumRuinedEntityCount",
+        "nearbyDistanceMeterClass"
+})
+public class RuinRecreateMoveSelectorConfig extends MoveSelectorConfig<RuinRecreateMoveSelectorConfig> {
+
+    public static final String XML_ELEMENT_NAME = "ruinRecreateMoveSelector";
+
+    @XmlElement(name = "entitySelector")
+    private EntitySelectorConfig entitySelectorConfig = null;
+
+    @XmlElementWrapper(name = "variableNameIncludes")
+    @XmlElement(name = "variableNameInclude")
+    private List<String> variableNameIncludeList = null;
+
+    private RuinType ruinType = null;
+    private Integer minimumRuinedEntityCount = null;
+    private Integer maximumRuinedEntityCount = null;
+    private Class<? extends NearbyDistanceMeter> nearbyDistanceMeterClass = null;
+
+    public EntitySelectorConfig getEntitySelectorConfig() {
+        return entitySelectorConfig;
+    }
+
+    public void setEntitySelectorConfig(EntitySelectorConfig entitySelectorConfig) {
+        this.entitySelectorConfig = entitySelectorConfig;
+    }
+
+    public List<String> getVariableNameIncludeList() {
+        return variableNameIncludeList;
+    }
+
+    public void setVariableNameIncludeList(List<String> variableNameIncludeList) {
+        this.variableNameIncludeList = variableNameIncludeList;
+    }
+
+    /**
+     * @return sometimes null, defaults to {@link RuinType#RANDOM}
+     */
+    public RuinType getRuinType() {
+        return ruinType;
+    }
+
+    public void setRuinType(RuinType ruinType) {
+        this.ruinType = ruinType;
+    }
+
+    /**
+     * @return sometimes null, defaults to 2
+     */
+    public Integer getMinimumRuinedEntityCount() {
+        return minimumRuinedEntityCount;
+    }
+
+    public void setMinimumRuinedEntityCount(Integer minimumRuinedEntityCount) {
+        this.minimumRuinedEntityCount = minimumRuinedEntityCount;
+    }
+
+    /**
+     * @return sometimes null, defaults to 10, never more than the number of entities
+     */
+    public Integer getMaximumRuinedEntityCount() {
+        return maximumRuinedEntityCount;
+    }
+
+    public void setMaximumRuinedEntityCount(Integer maximumRuinedEntityCount) {
+        this.maximumRuinedEntityCount = maximumRuinedEntityCount;
+    }
+
+    /**
+     * @return sometimes null, required for {@link RuinType#NEARBY}
+     */
+    public Class<? extends NearbyDistanceMeter> getNearbyDistanceMeterClass() {
+        return nearbyDistanceMeterClass;
+    }
+
+    public void setNearbyDistanceMeterClass(Class<? extends NearbyDistanceMeter> nearbyDistanceMeterClass) {
+        this.nearbyDistanceMeterClass = nearbyDistanceMeterClass;
+    }
+
+    @Override
+    public RuinRecreateMoveSelectorConfig inherit(RuinRecreateMoveSelectorConfig inheritedConfig) {
+        super.inherit(inheritedConfig);
+        entitySelectorConfig = ConfigUtils.inheritConfig(entitySelectorConfig, inheritedConfig.getEntitySelectorConfig());
+        variableNameIncludeList = ConfigUtils.inheritMergeableListProperty(
+                variableNameIncludeList, inheritedConfig.getVariableNameIncludeList());
+        ruinType = ConfigUtils.inheritOverwritableProperty(ruinType, inheritedConfig.getRuinType());
+        minimumRuinedEntityCount = ConfigUtils.inheritOverwritableProperty(minimumRuinedEntityCount,
+                inheritedConfig.getMinimumRuinedEntityCount());
+        maximumRuinedEntityCount = ConfigUtils.inheritOverwritableProperty(maximumRuinedEntityCount,
+                inheritedConfig.getMaximumRuinedEntityCount());
+        nearbyDistanceMeterClass = ConfigUtils.inheritOverwritableProperty(nearbyDistanceMeterClass,
+                inheritedConfig.getNearbyDistanceMeterClass());
+        return this;
+    }
+
+    @Override
+    public RuinRecreateMoveSelectorConfig copyConfig() {
+        return new RuinRecreateMoveSelectorConfig().inherit(this);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + entitySelectorConfig + ", " + ruinType + ")";
+    }
+
+}
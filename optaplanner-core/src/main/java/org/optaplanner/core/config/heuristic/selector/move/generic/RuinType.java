@@ -0,0 +1,43 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.config.heuristic.selector.move.generic;
+
+import javax.xml.bind.annotation.XmlEnum;
+
+/**
+ * Defines which entities a {@link RuinRecreateMoveSelectorConfig} unassigns together,
+ * starting from a randomly selected seed entity.
+ */
+@XmlEnum
+public enum RuinType {
+
+    /**
+     * The other ruined entities are selected randomly.
+     */
+    RANDOM,
+    /**
+     * The other ruined entities are the nearest entities to the seed entity,
+     * according to the {@link RuinRecreateMoveSelectorConfig#getNearbyDistanceMeterClass()}.
+     */
+    NEARBY,
+    /**
+     * The seed entity is selected among the entities with a negative indictment score
+     * and the other ruined entities are the entities that share a constraint match with it,
+     * topped up randomly.
+     */
+    INDICTMENT;
+}
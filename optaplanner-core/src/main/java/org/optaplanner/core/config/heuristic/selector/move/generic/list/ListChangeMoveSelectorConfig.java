@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.config.heuristic.selector.move.generic.list;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlType;
+
+import org.optaplanner.core.config.heuristic.selector.entity.EntitySelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.MoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.value.ValueSelectorConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
+
+@XmlType(propOrder = {
+        "valueSelectorConfig",
+        "destinationEntitySelectorConfig"
+})
+public class ListChangeMoveSelectorConfig extends MoveSelectorConfig<ListChangeMoveSelectorConfig> {
+
+    public static final String XML_ELEMENT_NAME = "listChangeMoveSelector";
+
+    @XmlElement(name = "valueSelector")
+    private ValueSelectorConfig valueSelectorConfig = null;
+
+    @XmlElement(name = "destinationEntitySelector")
+    private EntitySelectorConfig destinationEntitySelectorConfig = null;
+
+    public ValueSelectorConfig getValueSelectorConfig() {
+        return valueSelectorConfig;
+    }
+
+    public void setValueSelectorConfig(ValueSelectorConfig valueSelectorConfig) {
+        this.valueSelectorConfig = valueSelectorConfig;
+    }
+
+    public EntitySelectorConfig getDestinationEntitySelectorConfig() {
+        return destinationEntitySelectorConfig;
+    }
+
+    public void setDestinationEntitySelectorConfig(EntitySelectorConfig destinationEntitySelectorConfig) {
+        this.destinationEntitySelectorConfig = destinationEntitySelectorConfig;
+    }
+
+    @Override
+    public ListChangeMoveSelectorConfig inherit(ListChangeMoveSelectorConfig inheritedConfig) {
+        super.inherit(inheritedConfig);
+        valueSelectorConfig = ConfigUtils.inheritConfig(valueSelectorConfig, inheritedConfig.getValueSelectorConfig());
+        destinationEntitySelectorConfig = ConfigUtils.inheritConfig(destinationEntitySelectorConfig,
+                inheritedConfig.getDestinationEntitySelectorConfig());
+        return this;
+    }
+
+    @Override
+    public ListChangeMoveSelectorConfig copyConfig() {
+        return new ListChangeMoveSelectorConfig().inherit(this);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + valueSelectorConfig + ", " + destinationEntitySelectorConfig + ")";
+    }
+
+}
@@ -28,10 +28,15 @@ import org.optaplanner.core.config.heuristic.selector.move.factory.MoveListFacto
 import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.PillarChangeMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.PillarSwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.RuinRecreateMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.chained.SubChainChangeMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.chained.SubChainSwapMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.chained.TailChainSwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListSwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.SubListChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.TwoOptListMoveSelectorConfig;
 import org.optaplanner.core.config.localsearch.decider.acceptor.LocalSearchAcceptorConfig;
 import org.optaplanner.core.config.localsearch.decider.forager.LocalSearchForagerConfig;
 import org.optaplanner.core.config.phase.PhaseConfig;
@@ -41,7 +46,12 @@ import org.optaplanner.core.config.util.ConfigUtils;
         "localSearchType",
         "moveSelectorConfig",
         "acceptorConfig",
-        "foragerConfig"
+        "foragerConfig",
+        "levelWiseScoreCalculation",
+        "perturbationType",
+        "perturbationMoveCount",
+        "islandCount",
+        "islandExchangeStepCount"
 })
 public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig> {
 
@@ -56,18 +66,27 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
             @XmlElement(name = CartesianProductMoveSelectorConfig.XML_ELEMENT_NAME,
                     type = CartesianProductMoveSelectorConfig.class),
             @XmlElement(name = ChangeMoveSelectorConfig.XML_ELEMENT_NAME, type = ChangeMoveSelectorConfig.class),
+            @XmlElement(name = ListChangeMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = ListChangeMoveSelectorConfig.class),
+            @XmlElement(name = ListSwapMoveSelectorConfig.XML_ELEMENT_NAME, type = ListSwapMoveSelectorConfig.class),
             @XmlElement(name = MoveIteratorFactoryConfig.XML_ELEMENT_NAME, type = MoveIteratorFactoryConfig.class),
             @XmlElement(name = MoveListFactoryConfig.XML_ELEMENT_NAME, type = MoveListFactoryConfig.class),
             @XmlElement(name = PillarChangeMoveSelectorConfig.XML_ELEMENT_NAME,
                     type = PillarChangeMoveSelectorConfig.class),
             @XmlElement(name = PillarSwapMoveSelectorConfig.XML_ELEMENT_NAME, type = PillarSwapMoveSelectorConfig.class),
+            @XmlElement(name = RuinRecreateMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = RuinRecreateMoveSelectorConfig.class),
             @XmlElement(name = SubChainChangeMoveSelectorConfig.XML_ELEMENT_NAME,
                     type = SubChainChangeMoveSelectorConfig.class),
             @XmlElement(name = SubChainSwapMoveSelectorConfig.XML_ELEMENT_NAME,
                     type = SubChainSwapMoveSelectorConfig.class),
+            @XmlElement(name = SubListChangeMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = SubListChangeMoveSelectorConfig.class),
             @XmlElement(name = SwapMoveSelectorConfig.XML_ELEMENT_NAME, type = SwapMoveSelectorConfig.class),
             @XmlElement(name = TailChainSwapMoveSelectorConfig.XML_ELEMENT_NAME,
                     type = TailChainSwapMoveSelectorConfig.class),
+            @XmlElement(name = TwoOptListMoveSelectorConfig.XML_ELEMENT_NAME,
+                    type = TwoOptListMoveSelectorConfig.class),
             @XmlElement(name = UnionMoveSelectorConfig.XML_ELEMENT_NAME, type = UnionMoveSelectorConfig.class)
     })
     private MoveSelectorConfig moveSelectorConfig = null;
@@ -75,6 +94,11 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
     private LocalSearchAcceptorConfig acceptorConfig = null;
     @XmlElement(name = "forager")
     private LocalSearchForagerConfig foragerConfig = null;
+    private Boolean levelWiseScoreCalculation = null;
+    private PerturbationType perturbationType = null;
+    private Integer perturbationMoveCount = null;
+    private Integer islandCount = null;
+    private Integer islandExchangeStepCount = null;
 
     // ************************************************************************
     // Constructors and simple getters/setters
@@ -112,6 +136,79 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
         this.foragerConfig = foragerConfig;
     }
 
+    /**
+     * If true, the score of a move is calculated 1 score level at a time (for example hard before soft)
+     * and the calculation stops as soon as the acceptor will reject the move anyway.
+     * Only supported by Bavet constraint streams, other score directors always calculate the entire score.
+     *
+     * @return null if it's false
+     */
+    public Boolean getLevelWiseScoreCalculation() {
+        return levelWiseScoreCalculation;
+    }
+
+    public void setLevelWiseScoreCalculation(Boolean levelWiseScoreCalculation) {
+        this.levelWiseScoreCalculation = levelWiseScoreCalculation;
+    }
+
+    /**
+     * Only used with {@link LocalSearchType#VARIABLE_NEIGHBORHOOD_DESCENT}.
+     * If neither this nor {@link #getPerturbationMoveCount()} is set, the local search never perturbs.
+     *
+     * @return null if it's {@link PerturbationType#FIXED}
+     */
+    public PerturbationType getPerturbationType() {
+        return perturbationType;
+    }
+
+    public void setPerturbationType(PerturbationType perturbationType) {
+        this.perturbationType = perturbationType;
+    }
+
+    /**
+     * Only used with {@link LocalSearchType#VARIABLE_NEIGHBORHOOD_DESCENT}:
+     * the number of random moves done to escape a local optimum of all neighborhoods.
+     * If neither this nor {@link #getPerturbationType()} is set, the local search never perturbs.
+     *
+     * @return null if it's 3
+     */
+    public Integer getPerturbationMoveCount() {
+        return perturbationMoveCount;
+    }
+
+    public void setPerturbationMoveCount(Integer perturbationMoveCount) {
+        this.perturbationMoveCount = perturbationMoveCount;
+    }
+
+    /**
+     * If set, this many independent local searches (islands) run in parallel, each on its own thread
+     * and its own clone of the working solution, and they periodically exchange their best solution.
+     * The islands only differ by their random seed.
+     *
+     * @return null if there are no islands and the local search runs on the solver thread
+     */
+    public Integer getIslandCount() {
+        return islandCount;
+    }
+
+    public void setIslandCount(Integer islandCount) {
+        this.islandCount = islandCount;
+    }
+
+    /**
+     * Only used with {@link #getIslandCount()}:
+     * the number of steps an island does between checks for a better best solution found by another island.
+     *
+     * @return null if it's 100
+     */
+    public Integer getIslandExchangeStepCount() {
+        return islandExchangeStepCount;
+    }
+
+    public void setIslandExchangeStepCount(Integer islandExchangeStepCount) {
+        this.islandExchangeStepCount = islandExchangeStepCount;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -136,6 +233,31 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
         return this;
     }
 
+    public LocalSearchPhaseConfig withLevelWiseScoreCalculation(Boolean levelWiseScoreCalculation) {
+        this.levelWiseScoreCalculation = levelWiseScoreCalculation;
+        return this;
+    }
+
+    public LocalSearchPhaseConfig withPerturbationType(PerturbationType perturbationType) {
+        this.perturbationType = perturbationType;
+        return this;
+    }
+
+    public LocalSearchPhaseConfig withPerturbationMoveCount(Integer perturbationMoveCount) {
+        this.perturbationMoveCount = perturbationMoveCount;
+        return this;
+    }
+
+    public LocalSearchPhaseConfig withIslandCount(Integer islandCount) {
+        this.islandCount = islandCount;
+        return this;
+    }
+
+    public LocalSearchPhaseConfig withIslandExchangeStepCount(Integer islandExchangeStepCount) {
+        this.islandExchangeStepCount = islandExchangeStepCount;
+        return this;
+    }
+
     @Override
     public LocalSearchPhaseConfig inherit(LocalSearchPhaseConfig inheritedConfig) {
         super.inherit(inheritedConfig);
@@ -145,6 +267,15 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
                 getMoveSelectorConfig(), inheritedConfig.getMoveSelectorConfig()));
         acceptorConfig = ConfigUtils.inheritConfig(acceptorConfig, inheritedConfig.getAcceptorConfig());
         foragerConfig = ConfigUtils.inheritConfig(foragerConfig, inheritedConfig.getForagerConfig());
+        levelWiseScoreCalculation = ConfigUtils.inheritOverwritableProperty(levelWiseScoreCalculation,
+                inheritedConfig.getLevelWiseScoreCalculation());
+        perturbationType = ConfigUtils.inheritOverwritableProperty(perturbationType,
+                inheritedConfig.getPerturbationType());
+        perturbationMoveCount = ConfigUtils.inheritOverwritableProperty(perturbationMoveCount,
+                inheritedConfig.getPerturbationMoveCount());
+        islandCount = ConfigUtils.inheritOverwritableProperty(islandCount, inheritedConfig.getIslandCount());
+        islandExchangeStepCount = ConfigUtils.inheritOverwritableProperty(islandExchangeStepCount,
+                inheritedConfig.getIslandExchangeStepCount());
         return this;
     }
 
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.config.localsearch;
+
+import javax.xml.bind.annotation.XmlEnum;
+
+/**
+ * Determines how many random moves {@link LocalSearchType#VARIABLE_NEIGHBORHOOD_DESCENT} does
+ * to escape a local optimum of all its neighborhoods.
+ */
+@XmlEnum
+public enum PerturbationType {
+    /**
+     * Every perturbation does {@link LocalSearchPhaseConfig#getPerturbationMoveCount()} random moves.
+     */
+    FIXED,
+    /**
+     * Every local optimum that doesn't improve the best score
+     * adds another {@link LocalSearchPhaseConfig#getPerturbationMoveCount()} random moves to the next perturbation,
+     * up to the number of planning entities.
+     * A new best score resets it.
+     */
+    ESCALATING;
+}
@@ -24,6 +24,7 @@ import org.optaplanner.core.config.util.ConfigUtils;
 @XmlType(propOrder = {
         "pickEarlyType",
         "acceptedCountLimit",
+        "stepMillisecondsSpentLimit",
         "finalistPodiumType",
         "breakTieRandomly"
 })
@@ -31,6 +32,7 @@ public class LocalSearchForagerConfig extends AbstractConfig<LocalSearchForagerC
 
     protected LocalSearchPickEarlyType pickEarlyType = null;
     protected Integer acceptedCountLimit = null;
+    protected Long stepMillisecondsSpentLimit = null;
     protected FinalistPodiumType finalistPodiumType = null;
     protected Boolean breakTieRandomly = null;
 
@@ -50,6 +52,22 @@ public class LocalSearchForagerConfig extends AbstractConfig<LocalSearchForagerC
         this.acceptedCountLimit = acceptedCountLimit;
     }
 
+    /**
+     * The time budget of a step: once it's spent, the best accepted move so far is picked.
+     * Unlike {@link #getAcceptedCountLimit()}, it keeps the step latency stable
+     * regardless of how expensive the moves are to evaluate.
+     * If no move has been accepted yet, the step continues until one is.
+     *
+     * @return null if there is no limit
+     */
+    public Long getStepMillisecondsSpentLimit() {
+        return stepMillisecondsSpentLimit;
+    }
+
+    public void setStepMillisecondsSpentLimit(Long stepMillisecondsSpentLimit) {
+        this.stepMillisecondsSpentLimit = stepMillisecondsSpentLimit;
+    }
+
     public FinalistPodiumType getFinalistPodiumType() {
         return finalistPodiumType;
     }
@@ -80,6 +98,11 @@ public class LocalSearchForagerConfig extends AbstractConfig<LocalSearchForagerC
         return this;
     }
 
+    public LocalSearchForagerConfig withStepMillisecondsSpentLimit(long stepMillisecondsSpentLimit) {
+        this.stepMillisecondsSpentLimit = stepMillisecondsSpentLimit;
+        return this;
+    }
+
     public LocalSearchForagerConfig withFinalistPodiumType(FinalistPodiumType finalistPodiumType) {
         this.finalistPodiumType = finalistPodiumType;
         return this;
@@ -96,6 +119,8 @@ public class LocalSearchForagerConfig extends AbstractConfig<LocalSearchForagerC
                 inheritedConfig.getPickEarlyType());
         acceptedCountLimit = ConfigUtils.inheritOverwritableProperty(acceptedCountLimit,
                 inheritedConfig.getAcceptedCountLimit());
+        stepMillisecondsSpentLimit = ConfigUtils.inheritOverwritableProperty(stepMillisecondsSpentLimit,
+                inheritedConfig.getStepMillisecondsSpentLimit());
         finalistPodiumType = ConfigUtils.inheritOverwritableProperty(finalistPodiumType,
                 inheritedConfig.getFinalistPodiumType());
         breakTieRandomly = ConfigUtils.inheritOverwritableProperty(breakTieRandomly,
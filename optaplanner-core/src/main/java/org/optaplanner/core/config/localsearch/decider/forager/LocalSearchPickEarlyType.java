@@ -22,5 +22,13 @@ import javax.xml.bind.annotation.XmlEnum;
 public enum LocalSearchPickEarlyType {
     NEVER,
     FIRST_BEST_SCORE_IMPROVING,
-    FIRST_LAST_STEP_SCORE_IMPROVING;
+    FIRST_LAST_STEP_SCORE_IMPROVING,
+    /**
+     * Pick the best accepted move as soon as the expected improvement per millisecond has halved:
+     * when the time spent since the best last step score improving move of this step
+     * exceeds the time spent to find it, with a minimum of a few milliseconds.
+     * Useful if some moves are far more expensive to evaluate than others.
+     * If none improve the last step score, it behaves exactly like {@link #NEVER}.
+     */
+    DIMINISHING_IMPROVEMENT_RATE;
 }
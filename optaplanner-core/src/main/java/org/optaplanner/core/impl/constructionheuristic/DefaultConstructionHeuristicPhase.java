@@ -16,7 +16,12 @@
 
 package org.optaplanner.core.impl.constructionheuristic;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.constructionheuristic.decider.BatchConstructionHeuristicDecider;
 import org.optaplanner.core.impl.constructionheuristic.decider.ConstructionHeuristicDecider;
 import org.optaplanner.core.impl.constructionheuristic.placer.EntityPlacer;
 import org.optaplanner.core.impl.constructionheuristic.placer.Placement;
@@ -69,38 +74,96 @@ public class DefaultConstructionHeuristicPhase<Solution_> extends AbstractPhase<
         ConstructionHeuristicPhaseScope<Solution_> phaseScope = new ConstructionHeuristicPhaseScope<>(solverScope);
         phaseStarted(phaseScope);
 
-        for (Placement<Solution_> placement : entityPlacer) {
-            ConstructionHeuristicStepScope<Solution_> stepScope = new ConstructionHeuristicStepScope<>(phaseScope);
-            stepStarted(stepScope);
-            decider.decideNextStep(stepScope, placement);
-            if (stepScope.getStep() == null) {
+        if (decider instanceof BatchConstructionHeuristicDecider) {
+            solveInBatches(phaseScope, (BatchConstructionHeuristicDecider<Solution_>) decider);
+        } else {
+            for (Placement<Solution_> placement : entityPlacer) {
+                ConstructionHeuristicStepScope<Solution_> stepScope = new ConstructionHeuristicStepScope<>(phaseScope);
+                stepStarted(stepScope);
+                decider.decideNextStep(stepScope, placement);
+                if (stepScope.getStep() == null) {
+                    processMissingStep(stepScope);
+                    // Although stepStarted has been called, stepEnded is not called for this step
+                    break;
+                }
+                doStep(stepScope);
+                stepEnded(stepScope);
+                phaseScope.setLastCompletedStepScope(stepScope);
                 if (termination.isPhaseTerminated(phaseScope)) {
-                    logger.trace("{}    Step index ({}), time spent ({}) terminated without picking a nextStep.",
-                            logIndentation,
-                            stepScope.getStepIndex(),
-                            stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow());
-                } else if (stepScope.getSelectedMoveCount() == 0L) {
-                    logger.warn("{}    No doable selected move at step index ({}), time spent ({})."
-                            + " Terminating phase early.",
-                            logIndentation,
-                            stepScope.getStepIndex(),
-                            stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow());
-                } else {
-                    throw new IllegalStateException("The step index (" + stepScope.getStepIndex()
-                            + ") has selected move count (" + stepScope.getSelectedMoveCount()
-                            + ") but failed to pick a nextStep (" + stepScope.getStep() + ").");
+                    break;
                 }
-                // Although stepStarted has been called, stepEnded is not called for this step
-                break;
             }
-            doStep(stepScope);
-            stepEnded(stepScope);
-            phaseScope.setLastCompletedStepScope(stepScope);
-            if (termination.isPhaseTerminated(phaseScope)) {
+        }
+        phaseEnded(phaseScope);
+    }
+
+    private void solveInBatches(ConstructionHeuristicPhaseScope<Solution_> phaseScope,
+            BatchConstructionHeuristicDecider<Solution_> batchDecider) {
+        Iterator<Placement<Solution_>> placementIterator = entityPlacer.iterator();
+        while (placementIterator.hasNext()) {
+            List<List<Move<Solution_>>> placementMoveListList = new ArrayList<>(batchDecider.getBatchSize());
+            while (placementMoveListList.size() < batchDecider.getBatchSize() && placementIterator.hasNext()) {
+                // The moves of a placement must be selected before the next placement is created,
+                // because the move selectors replay the entity of the current placement
+                List<Move<Solution_>> moveList = new ArrayList<>();
+                placementIterator.next().forEach(moveList::add);
+                placementMoveListList.add(moveList);
+            }
+            List<Move<Solution_>> stepList = batchDecider.decideNextSteps(phaseScope, placementMoveListList);
+            if (stepList.isEmpty()) {
                 break;
             }
+            for (int placementIndex = 0; placementIndex < stepList.size(); placementIndex++) {
+                ConstructionHeuristicStepScope<Solution_> stepScope = new ConstructionHeuristicStepScope<>(phaseScope);
+                stepStarted(stepScope);
+                stepScope.setSelectedMoveCount((long) placementMoveListList.get(placementIndex).size());
+                Move<Solution_> step = stepList.get(placementIndex);
+                if (step == null) {
+                    processMissingStep(stepScope);
+                    // Although stepStarted has been called, stepEnded is not called for this step
+                    return;
+                }
+                stepScope.setStep(step);
+                if (logger.isDebugEnabled()) {
+                    stepScope.setStepString(step.toString());
+                }
+                // The batch thread's score of the step ignores the placements of the other batch threads
+                Move<Solution_> undoStep = step.doMove(stepScope.getScoreDirector());
+                stepScope.setUndoStep(undoStep);
+                stepScope.setScore(stepScope.getScoreDirector().calculateScore());
+                predictWorkingStepScore(stepScope, step);
+                stepScope.setBestScoreImproved(true);
+                stepEnded(stepScope);
+                phaseScope.setLastCompletedStepScope(stepScope);
+                if (termination.isPhaseTerminated(phaseScope)) {
+                    return;
+                }
+            }
+            if (stepList.size() < placementMoveListList.size()) {
+                // The batch threads terminated early, so the placements of the rest of the batch are lost
+                return;
+            }
+            batchDecider.reconcileSteps(stepList);
+        }
+    }
+
+    private void processMissingStep(ConstructionHeuristicStepScope<Solution_> stepScope) {
+        if (termination.isPhaseTerminated(stepScope.getPhaseScope())) {
+            logger.trace("{}    Step index ({}), time spent ({}) terminated without picking a nextStep.",
+                    logIndentation,
+                    stepScope.getStepIndex(),
+                    stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow());
+        } else if (stepScope.getSelectedMoveCount() == 0L) {
+            logger.warn("{}    No doable selected move at step index ({}), time spent ({})."
+                    + " Terminating phase early.",
+                    logIndentation,
+                    stepScope.getStepIndex(),
+                    stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow());
+        } else {
+            throw new IllegalStateException("The step index (" + stepScope.getStepIndex()
+                    + ") has selected move count (" + stepScope.getSelectedMoveCount()
+                    + ") but failed to pick a nextStep (" + stepScope.getStep() + ").");
         }
-        phaseEnded(phaseScope);
     }
 
     private void doStep(ConstructionHeuristicStepScope<Solution_> stepScope) {
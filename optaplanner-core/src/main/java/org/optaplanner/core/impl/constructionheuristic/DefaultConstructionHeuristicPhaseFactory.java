@@ -23,6 +23,7 @@ import java.util.concurrent.ThreadFactory;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicType;
 import org.optaplanner.core.config.constructionheuristic.decider.forager.ConstructionHeuristicForagerConfig;
+import org.optaplanner.core.config.constructionheuristic.decider.forager.ConstructionHeuristicPickEarlyType;
 import org.optaplanner.core.config.constructionheuristic.placer.EntityPlacerConfig;
 import org.optaplanner.core.config.constructionheuristic.placer.PooledEntityPlacerConfig;
 import org.optaplanner.core.config.constructionheuristic.placer.QueuedEntityPlacerConfig;
@@ -32,13 +33,17 @@ import org.optaplanner.core.config.heuristic.selector.move.composite.CartesianPr
 import org.optaplanner.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
 import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.constructionheuristic.decider.BatchConstructionHeuristicDecider;
 import org.optaplanner.core.impl.constructionheuristic.decider.ConstructionHeuristicDecider;
+import org.optaplanner.core.impl.constructionheuristic.decider.IncrementalConstructionHeuristicDecider;
 import org.optaplanner.core.impl.constructionheuristic.decider.MultiThreadedConstructionHeuristicDecider;
 import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
 import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForagerFactory;
 import org.optaplanner.core.impl.constructionheuristic.placer.EntityPlacer;
 import org.optaplanner.core.impl.constructionheuristic.placer.EntityPlacerFactory;
+import org.optaplanner.core.impl.constructionheuristic.placer.PooledEntityPlacer;
 import org.optaplanner.core.impl.constructionheuristic.placer.PooledEntityPlacerFactory;
+import org.optaplanner.core.impl.constructionheuristic.placer.QueuedEntityPlacer;
 import org.optaplanner.core.impl.constructionheuristic.placer.QueuedEntityPlacerFactory;
 import org.optaplanner.core.impl.constructionheuristic.placer.QueuedValuePlacerFactory;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
@@ -90,6 +95,21 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
         }
         EntityPlacer<Solution_> entityPlacer = EntityPlacerFactory.<Solution_> create(entityPlacerConfig_)
                 .buildEntityPlacer(phaseConfigPolicy);
+        if (phaseConfig.getParallelBatchSize() != null && !(entityPlacer instanceof QueuedEntityPlacer)) {
+            throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                    + ") with parallelBatchSize (" + phaseConfig.getParallelBatchSize()
+                    + ") requires a " + QueuedEntityPlacer.class.getSimpleName()
+                    + ", but the entityPlacer (" + entityPlacer + ") isn't one.");
+        }
+        if (Boolean.TRUE.equals(phaseConfig.getIncrementalPlacementEvaluation())
+                && !(entityPlacer instanceof PooledEntityPlacer)) {
+            // Other placers never offer the same move in a later step, so the cached scores would never be reused
+            throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                    + ") with incrementalPlacementEvaluation (" + phaseConfig.getIncrementalPlacementEvaluation()
+                    + ") requires a " + PooledEntityPlacer.class.getSimpleName()
+                    + " (for example constructionHeuristicType ALLOCATE_FROM_POOL),"
+                    + " but the entityPlacer (" + entityPlacer + ") isn't one.");
+        }
         phase.setEntityPlacer(entityPlacer);
         EnvironmentMode environmentMode = phaseConfigPolicy.getEnvironmentMode();
         if (environmentMode.isNonIntrusiveFullAsserted()) {
@@ -113,7 +133,39 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
         EnvironmentMode environmentMode = configPolicy.getEnvironmentMode();
         ConstructionHeuristicDecider<Solution_> decider;
         Integer moveThreadCount = configPolicy.getMoveThreadCount();
-        if (moveThreadCount == null) {
+        boolean incrementalPlacementEvaluation_ = Boolean.TRUE.equals(phaseConfig.getIncrementalPlacementEvaluation());
+        Integer parallelBatchSize = phaseConfig.getParallelBatchSize();
+        if (parallelBatchSize != null) {
+            if (moveThreadCount == null) {
+                throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                        + ") with parallelBatchSize (" + parallelBatchSize
+                        + ") requires a moveThreadCount (" + moveThreadCount + ").");
+            }
+            if (parallelBatchSize < 1) {
+                throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                        + ") has a parallelBatchSize (" + parallelBatchSize + ") which is less than 1.");
+            }
+            if (incrementalPlacementEvaluation_) {
+                throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                        + ") with parallelBatchSize (" + parallelBatchSize
+                        + ") does not support incrementalPlacementEvaluation ("
+                        + phaseConfig.getIncrementalPlacementEvaluation() + ").");
+            }
+            assertNeverPickEarly(foragerConfig_, "parallelBatchSize (" + parallelBatchSize + ")");
+            ThreadFactory threadFactory = configPolicy.buildThreadFactory(ChildThreadType.MOVE_THREAD);
+            decider = new BatchConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager,
+                    threadFactory, moveThreadCount, parallelBatchSize);
+        } else if (incrementalPlacementEvaluation_) {
+            if (moveThreadCount != null) {
+                throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                        + ") with incrementalPlacementEvaluation (" + phaseConfig.getIncrementalPlacementEvaluation()
+                        + ") does not support a moveThreadCount (" + moveThreadCount + ").");
+            }
+            assertNeverPickEarly(foragerConfig_,
+                    "incrementalPlacementEvaluation (" + phaseConfig.getIncrementalPlacementEvaluation() + ")");
+            decider = new IncrementalConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination,
+                    forager);
+        } else if (moveThreadCount == null) {
             decider = new ConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager);
         } else {
             Integer moveThreadBufferSize = configPolicy.getMoveThreadBufferSize();
@@ -146,8 +198,32 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
         return decider;
     }
 
+    private void assertNeverPickEarly(ConstructionHeuristicForagerConfig foragerConfig, String option) {
+        ConstructionHeuristicPickEarlyType pickEarlyType = foragerConfig.getPickEarlyType();
+        if (pickEarlyType != null && pickEarlyType != ConstructionHeuristicPickEarlyType.NEVER) {
+            throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                    + ") with " + option + " does not support a pickEarlyType (" + pickEarlyType + ").");
+        }
+    }
+
     private EntityPlacerConfig buildUnfoldedEntityPlacerConfig(HeuristicConfigPolicy<Solution_> phaseConfigPolicy,
             ConstructionHeuristicType constructionHeuristicType) {
+        if (phaseConfigPolicy.getSolutionDescriptor().hasListVariable()) {
+            // The entities of a list variable are never uninitialized, so the unassigned values are queued instead
+            switch (constructionHeuristicType) {
+                case FIRST_FIT:
+                case ALLOCATE_ENTITY_FROM_QUEUE:
+                case ALLOCATE_TO_VALUE_FROM_QUEUE:
+                    if (!ConfigUtils.isEmptyCollection(phaseConfig.getMoveSelectorConfigList())) {
+                        return QueuedValuePlacerFactory.unfoldNew(checkSingleMoveSelectorConfig());
+                    }
+                    return new QueuedValuePlacerConfig();
+                default:
+                    throw new IllegalArgumentException("The constructionHeuristicType (" + constructionHeuristicType
+                            + ") is not supported on a planning solution with a list variable ("
+                            + phaseConfigPolicy.getSolutionDescriptor().getListVariableDescriptors() + ").");
+            }
+        }
         switch (constructionHeuristicType) {
             case FIRST_FIT:
             case FIRST_FIT_DECREASING:
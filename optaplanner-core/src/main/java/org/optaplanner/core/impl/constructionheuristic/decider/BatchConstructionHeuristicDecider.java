@@ -0,0 +1,252 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.constructionheuristic.decider;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.BooleanSupplier;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
+import org.optaplanner.core.impl.constructionheuristic.placer.QueuedEntityPlacer;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.solver.thread.ChildThreadType;
+import org.optaplanner.core.impl.solver.thread.ThreadUtils;
+
+/**
+ * Places a batch of entities of a {@link QueuedEntityPlacer} in parallel,
+ * instead of evaluating the moves of a single placement in parallel like {@link MultiThreadedConstructionHeuristicDecider}.
+ * <p>
+ * Each batch thread has its own child score director and places a disjoint subset of the batch (round-robin),
+ * so it only sees its own placements of that batch.
+ * The solver thread then does the picked moves, in the original placement order, as steps on the parent score director,
+ * after which every batch thread applies the steps of the other batch threads to its child score director.
+ * So a bigger batch size reduces the synchronization overhead, but also the quality of the placements.
+ * <p>
+ * Each batch thread checks the phase termination before each of its placements,
+ * so a terminated phase doesn't wait for the rest of the batch.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class BatchConstructionHeuristicDecider<Solution_> extends ConstructionHeuristicDecider<Solution_> {
+
+    protected final ThreadFactory threadFactory;
+    protected final int batchThreadCount;
+    protected final int batchSize;
+
+    protected ExecutorService executor;
+    protected List<BatchPlacementWorker<Solution_>> workerList;
+    // Latched by the first batch thread that sees the phase termination, so the other batch threads stop too
+    protected volatile boolean batchTerminated = false;
+
+    public BatchConstructionHeuristicDecider(String logIndentation, Termination<Solution_> termination,
+            ConstructionHeuristicForager<Solution_> forager, ThreadFactory threadFactory, int batchThreadCount,
+            int batchSize) {
+        super(logIndentation, termination, forager);
+        this.threadFactory = threadFactory;
+        this.batchThreadCount = batchThreadCount;
+        this.batchSize = batchSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
+        executor = Executors.newFixedThreadPool(batchThreadCount, threadFactory);
+        workerList = new ArrayList<>(batchThreadCount);
+        for (int batchThreadIndex = 0; batchThreadIndex < batchThreadCount; batchThreadIndex++) {
+            workerList.add(new BatchPlacementWorker<>(
+                    scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD),
+                    batchThreadIndex, batchThreadCount, assertMoveScoreFromScratch));
+        }
+    }
+
+    @Override
+    public void phaseEnded(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Batch Construction Heuristic");
+        long childThreadsScoreCalculationCount = 0L;
+        for (BatchPlacementWorker<Solution_> worker : workerList) {
+            childThreadsScoreCalculationCount += worker.scoreDirector.getCalculationCount();
+            worker.scoreDirector.close();
+        }
+        phaseScope.addChildThreadsScoreCalculationCount(childThreadsScoreCalculationCount);
+        executor = null;
+        workerList = null;
+    }
+
+    /**
+     * @param phaseScope never null
+     * @param placementMoveListList never null, the moves of each placement of the batch,
+     *        on the working solution of the parent score director
+     * @return never null, the picked move of each placement, rebased on the parent score director,
+     *         with a null element for a placement without moves.
+     *         Shorter than placementMoveListList if the phase terminated during the batch,
+     *         empty if the solver thread got interrupted.
+     */
+    public List<Move<Solution_>> decideNextSteps(ConstructionHeuristicPhaseScope<Solution_> phaseScope,
+            List<List<Move<Solution_>>> placementMoveListList) {
+        batchTerminated = false;
+        List<Callable<List<Move<Solution_>>>> taskList = new ArrayList<>(batchThreadCount);
+        for (BatchPlacementWorker<Solution_> worker : workerList) {
+            taskList.add(() -> worker.placeSubset(placementMoveListList, () -> isBatchTerminated(phaseScope)));
+        }
+        List<List<Move<Solution_>>> pickedMoveListList = invokeAll(taskList);
+        if (pickedMoveListList == null) {
+            return Collections.emptyList();
+        }
+        InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
+        List<Move<Solution_>> stepList = new ArrayList<>(placementMoveListList.size());
+        for (int placementIndex = 0; placementIndex < placementMoveListList.size(); placementIndex++) {
+            List<Move<Solution_>> pickedMoveList = pickedMoveListList.get(placementIndex % batchThreadCount);
+            int subsetIndex = placementIndex / batchThreadCount;
+            if (subsetIndex >= pickedMoveList.size()) {
+                // That batch thread terminated before this placement,
+                // so drop the later placements too, because they might build on this one
+                break;
+            }
+            Move<Solution_> pickedMove = pickedMoveList.get(subsetIndex);
+            stepList.add(pickedMove == null ? null : pickedMove.rebase(scoreDirector));
+        }
+        return stepList;
+    }
+
+    private synchronized boolean isBatchTerminated(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        // The solver thread waits for the batch threads, so only they use the Termination, but one at a time
+        if (!batchTerminated && termination.isPhaseTerminated(phaseScope)) {
+            batchTerminated = true;
+        }
+        return batchTerminated;
+    }
+
+    /**
+     * Brings every child score director up to date with the parent score director.
+     *
+     * @param stepList never null, the steps that have been done on the parent score director,
+     *        as returned by {@link #decideNextSteps(ConstructionHeuristicPhaseScope, List)}
+     */
+    public void reconcileSteps(List<Move<Solution_>> stepList) {
+        List<Callable<List<Move<Solution_>>>> taskList = new ArrayList<>(batchThreadCount);
+        for (BatchPlacementWorker<Solution_> worker : workerList) {
+            taskList.add(() -> {
+                worker.applyOtherSteps(stepList);
+                return Collections.emptyList();
+            });
+        }
+        invokeAll(taskList);
+    }
+
+    private List<List<Move<Solution_>>> invokeAll(List<Callable<List<Move<Solution_>>>> taskList) {
+        List<List<Move<Solution_>>> resultList = new ArrayList<>(taskList.size());
+        try {
+            for (Future<List<Move<Solution_>>> future : executor.invokeAll(taskList)) {
+                resultList.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A batch thread of the construction heuristic threw an exception.",
+                    e.getCause());
+        }
+        return resultList;
+    }
+
+    protected static final class BatchPlacementWorker<Solution_> {
+
+        private final InnerScoreDirector<Solution_, ?> scoreDirector;
+        private final int batchThreadIndex;
+        private final int batchThreadCount;
+        private final boolean assertMoveScoreFromScratch;
+
+        private Move<Solution_> pickedMove;
+        private Score pickedScore;
+
+        private BatchPlacementWorker(InnerScoreDirector<Solution_, ?> scoreDirector, int batchThreadIndex,
+                int batchThreadCount, boolean assertMoveScoreFromScratch) {
+            this.scoreDirector = scoreDirector;
+            this.batchThreadIndex = batchThreadIndex;
+            this.batchThreadCount = batchThreadCount;
+            this.assertMoveScoreFromScratch = assertMoveScoreFromScratch;
+        }
+
+        private List<Move<Solution_>> placeSubset(List<List<Move<Solution_>>> placementMoveListList,
+                BooleanSupplier batchTerminated) {
+            List<Move<Solution_>> pickedMoveList = new ArrayList<>(
+                    placementMoveListList.size() / batchThreadCount + 1);
+            for (int placementIndex = batchThreadIndex; placementIndex < placementMoveListList.size();
+                    placementIndex += batchThreadCount) {
+                if (batchTerminated.getAsBoolean()) {
+                    break;
+                }
+                pickedMove = null;
+                pickedScore = null;
+                for (Move<Solution_> move : placementMoveListList.get(placementIndex)) {
+                    // Like the ConstructionHeuristicDecider, do not filter out pointless moves
+                    Move<Solution_> rebasedMove = move.rebase(scoreDirector);
+                    scoreDirector.doAndProcessMove(rebasedMove, assertMoveScoreFromScratch,
+                            score -> processMoveScore(rebasedMove, score));
+                }
+                if (pickedMove != null) {
+                    // The next placements of this batch thread build on this one
+                    pickedMove.doMove(scoreDirector);
+                }
+                pickedMoveList.add(pickedMove);
+            }
+            return pickedMoveList;
+        }
+
+        private void processMoveScore(Move<Solution_> move, Score score) {
+            // On a tie, the first move wins, like the ConstructionHeuristicForager does
+            if (pickedScore == null || score.compareTo(pickedScore) > 0) {
+                pickedMove = move;
+                pickedScore = score;
+            }
+        }
+
+        private void applyOtherSteps(List<Move<Solution_>> stepList) {
+            for (int placementIndex = 0; placementIndex < stepList.size(); placementIndex++) {
+                Move<Solution_> step = stepList.get(placementIndex);
+                if (placementIndex % batchThreadCount != batchThreadIndex && step != null) {
+                    step.rebase(scoreDirector).doMove(scoreDirector);
+                }
+            }
+            scoreDirector.calculateScore();
+        }
+
+    }
+
+}
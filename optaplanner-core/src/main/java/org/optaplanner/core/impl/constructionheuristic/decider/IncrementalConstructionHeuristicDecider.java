@@ -0,0 +1,245 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.constructionheuristic.decider;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
+import org.optaplanner.core.impl.constructionheuristic.placer.Placement;
+import org.optaplanner.core.impl.constructionheuristic.placer.PooledEntityPlacer;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicMoveScope;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.termination.Termination;
+
+/**
+ * Caches the score difference of every evaluated move of the previous step,
+ * and only evaluates a move again if it shares a planning entity or a planning value with the last step,
+ * instead of evaluating every move of every {@link Placement}.
+ * Only a {@link PooledEntityPlacer} offers the same moves again in the next step, so only it uses this decider.
+ * The cache only holds the moves of the last {@link Placement}, so it never outgrows a single step.
+ * <p>
+ * The picked move is always evaluated in the current step:
+ * the moves are picked from a priority queue of their (cached) scores,
+ * and a move with a cached score is evaluated and requeued before it can be picked.
+ * So the score of a step is always correct, but a constraint that couples moves without a common entity or value
+ * (such as a load balancing constraint) can make a cached score difference stale,
+ * in which case a different move is picked than by {@link ConstructionHeuristicDecider}.
+ * The planning entities and values of a move are visited while it's done (as {@link Move} requires),
+ * and kept with its cached score difference.
+ * A move that can't report its planning entities and values is always evaluated.
+ * <p>
+ * The {@link ConstructionHeuristicForager} isn't used to pick the move, so it never picks early.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class IncrementalConstructionHeuristicDecider<Solution_> extends ConstructionHeuristicDecider<Solution_> {
+
+    // Ties are broken by the move index, like the forager does
+    private static final Comparator<CandidateMove<?>> CANDIDATE_COMPARATOR =
+            Comparator.<CandidateMove<?>, Score> comparing(candidate -> candidate.moveScope.getScore(),
+                    Collections.reverseOrder())
+                    .thenComparingInt(candidate -> candidate.moveScope.getMoveIndex());
+
+    // Only the moves of the last placement, replaced every step
+    private Map<Move<Solution_>, CachedMove> moveToCachedMoveMap;
+    // Null if every move must be evaluated, for example at the first step
+    private Set<Object> lastStepPlanningObjectSet;
+    private boolean moveIntrospectionUnsupported;
+
+    private final List<Object> planningObjectList = new ArrayList<>();
+    private final Consumer<Object> planningObjectCollector = planningObjectList::add;
+    private Object[] evaluatedMovePlanningObjects;
+
+    public IncrementalConstructionHeuristicDecider(String logIndentation, Termination<Solution_> termination,
+            ConstructionHeuristicForager<Solution_> forager) {
+        super(logIndentation, termination, forager);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        moveToCachedMoveMap = Collections.emptyMap();
+        lastStepPlanningObjectSet = null;
+        moveIntrospectionUnsupported = false;
+    }
+
+    @Override
+    public void stepEnded(ConstructionHeuristicStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        if (moveIntrospectionUnsupported) {
+            return;
+        }
+        // The step is done by now, so its planning entities and values can be visited
+        Object[] stepPlanningObjects = collectPlanningObjects(stepScope.getStep());
+        if (stepPlanningObjects == null) {
+            logger.trace("{}    The step ({}) can't report its planning entities and values,"
+                    + " so every move is evaluated from now on.", logIndentation, stepScope.getStep());
+            return;
+        }
+        lastStepPlanningObjectSet = Collections.newSetFromMap(new IdentityHashMap<>(stepPlanningObjects.length));
+        Collections.addAll(lastStepPlanningObjectSet, stepPlanningObjects);
+    }
+
+    @Override
+    public void phaseEnded(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        moveToCachedMoveMap = null;
+        lastStepPlanningObjectSet = null;
+    }
+
+    @Override
+    public void decideNextStep(ConstructionHeuristicStepScope<Solution_> stepScope, Placement<Solution_> placement) {
+        Score lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        PriorityQueue<CandidateMove<Solution_>> candidateQueue = new PriorityQueue<>(CANDIDATE_COMPARATOR);
+        Map<Move<Solution_>, CachedMove> lastMoveToCachedMoveMap = moveToCachedMoveMap;
+        // Evicts the moves that are no longer offered, such as those of an entity that is initialized now
+        moveToCachedMoveMap = new HashMap<>(lastMoveToCachedMoveMap.size());
+        int moveIndex = 0;
+        for (Move<Solution_> move : placement) {
+            ConstructionHeuristicMoveScope<Solution_> moveScope = new ConstructionHeuristicMoveScope<>(stepScope, moveIndex,
+                    move);
+            moveIndex++;
+            CachedMove cachedMove = lastMoveToCachedMoveMap.get(move);
+            CandidateMove<Solution_> candidate = new CandidateMove<>(moveScope);
+            if (cachedMove == null || isAffectedByLastStep(cachedMove)) {
+                evaluate(candidate, lastStepScore);
+            } else {
+                moveScope.setScore(lastStepScore.add(cachedMove.scoreDifference));
+                moveToCachedMoveMap.put(move, cachedMove);
+            }
+            candidateQueue.add(candidate);
+            stepScope.getPhaseScope().getSolverScope().checkYielding();
+            if (termination.isPhaseTerminated(stepScope.getPhaseScope())) {
+                break;
+            }
+        }
+        stepScope.setSelectedMoveCount((long) moveIndex);
+        while (!candidateQueue.isEmpty()) {
+            CandidateMove<Solution_> candidate = candidateQueue.poll();
+            if (candidate.evaluated) {
+                Move<Solution_> step = candidate.moveScope.getMove();
+                stepScope.setStep(step);
+                if (logger.isDebugEnabled()) {
+                    stepScope.setStepString(step.toString());
+                }
+                stepScope.setScore(candidate.moveScope.getScore());
+                return;
+            }
+            // The cached score difference might be stale, so evaluate it before picking it
+            evaluate(candidate, lastStepScore);
+            candidateQueue.add(candidate);
+        }
+    }
+
+    private boolean isAffectedByLastStep(CachedMove cachedMove) {
+        if (lastStepPlanningObjectSet == null) {
+            return true;
+        }
+        for (Object planningObject : cachedMove.planningObjects) {
+            if (lastStepPlanningObjectSet.contains(planningObject)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private <Score_ extends Score<Score_>> void evaluate(CandidateMove<Solution_> candidate, Score_ lastStepScore) {
+        ConstructionHeuristicMoveScope<Solution_> moveScope = candidate.moveScope;
+        Move<Solution_> move = moveScope.getMove();
+        InnerScoreDirector<Solution_, Score_> scoreDirector = moveScope.getScoreDirector();
+        evaluatedMovePlanningObjects = null;
+        scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch, score -> {
+            moveScope.setScore(score);
+            // While the move is done, as the Move contract requires
+            if (!moveIntrospectionUnsupported) {
+                evaluatedMovePlanningObjects = collectPlanningObjects(move);
+            }
+        });
+        if (assertExpectedUndoMoveScore) {
+            scoreDirector.assertExpectedUndoMoveScore(move, lastStepScore);
+        }
+        candidate.evaluated = true;
+        if (evaluatedMovePlanningObjects != null) {
+            moveToCachedMoveMap.put(move, new CachedMove(((Score_) moveScope.getScore()).subtract(lastStepScore),
+                    evaluatedMovePlanningObjects));
+        }
+        logger.trace("{}        Move index ({}), score ({}), move ({}).",
+                logIndentation,
+                moveScope.getMoveIndex(), moveScope.getScore(), moveScope.getMove());
+    }
+
+    /**
+     * Must only be called while the move is done.
+     *
+     * @return null if the move can't report its planning entities and values
+     */
+    private Object[] collectPlanningObjects(Move<Solution_> move) {
+        planningObjectList.clear();
+        try {
+            move.visitPlanningEntities(planningObjectCollector);
+            move.visitPlanningValues(planningObjectCollector);
+        } catch (UnsupportedOperationException e) {
+            moveIntrospectionUnsupported = true;
+            lastStepPlanningObjectSet = null;
+            moveToCachedMoveMap.clear();
+            return null;
+        }
+        return planningObjectList.toArray();
+    }
+
+    private static final class CachedMove {
+
+        private final Score scoreDifference;
+        private final Object[] planningObjects;
+
+        private CachedMove(Score scoreDifference, Object[] planningObjects) {
+            this.scoreDifference = scoreDifference;
+            this.planningObjects = planningObjects;
+        }
+
+    }
+
+    private static final class CandidateMove<Solution_> {
+
+        private final ConstructionHeuristicMoveScope<Solution_> moveScope;
+        private boolean evaluated = false;
+
+        private CandidateMove(ConstructionHeuristicMoveScope<Solution_> moveScope) {
+            this.moveScope = moveScope;
+        }
+
+    }
+
+}
@@ -23,6 +23,7 @@ import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
 import org.optaplanner.core.config.heuristic.selector.entity.EntitySelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.MoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListChangeMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.value.ValueSelectorConfig;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
@@ -32,6 +33,7 @@ import org.optaplanner.core.impl.heuristic.selector.move.MoveSelectorFactory;
 import org.optaplanner.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
 import org.optaplanner.core.impl.heuristic.selector.value.ValueSelector;
 import org.optaplanner.core.impl.heuristic.selector.value.ValueSelectorFactory;
+import org.optaplanner.core.impl.heuristic.selector.value.decorator.UnassignedListValueSelector;
 
 public class QueuedValuePlacerFactory<Solution_>
         extends AbstractEntityPlacerFactory<Solution_, QueuedValuePlacerConfig> {
@@ -55,10 +57,17 @@ public class QueuedValuePlacerFactory<Solution_>
                 .buildValueSelector(configPolicy, entityDescriptor, SelectionCacheType.PHASE, SelectionOrder.ORIGINAL,
                         false);
 
-        MoveSelectorConfig moveSelectorConfig_ = config.getMoveSelectorConfig() == null
-                ? buildChangeMoveSelectorConfig(configPolicy, valueSelectorConfig_.getId(),
-                        valueSelector.getVariableDescriptor())
-                : config.getMoveSelectorConfig();
+        GenuineVariableDescriptor<Solution_> variableDescriptor = valueSelector.getVariableDescriptor();
+        MoveSelectorConfig moveSelectorConfig_;
+        if (config.getMoveSelectorConfig() != null) {
+            moveSelectorConfig_ = config.getMoveSelectorConfig();
+        } else if (variableDescriptor.isListVariable()) {
+            moveSelectorConfig_ = buildListChangeMoveSelectorConfig(configPolicy, valueSelectorConfig_.getId(),
+                    variableDescriptor);
+        } else {
+            moveSelectorConfig_ = buildChangeMoveSelectorConfig(configPolicy, valueSelectorConfig_.getId(),
+                    variableDescriptor);
+        }
 
         MoveSelector<Solution_> moveSelector = MoveSelectorFactory.<Solution_> create(moveSelectorConfig_)
                 .buildMoveSelector(configPolicy, SelectionCacheType.JUST_IN_TIME, SelectionOrder.ORIGINAL);
@@ -68,7 +77,13 @@ public class QueuedValuePlacerFactory<Solution_>
                     + " Check your @" + ValueRangeProvider.class.getSimpleName() + " annotations.");
 
         }
-        return new QueuedValuePlacer<>((EntityIndependentValueSelector<Solution_>) valueSelector, moveSelector);
+        EntityIndependentValueSelector<Solution_> placerValueSelector =
+                (EntityIndependentValueSelector<Solution_>) valueSelector;
+        if (variableDescriptor.isListVariable()) {
+            // Wraps the mimic recorder, so the move selector only replays the values that are not assigned yet
+            placerValueSelector = new UnassignedListValueSelector<>(placerValueSelector);
+        }
+        return new QueuedValuePlacer<>(placerValueSelector, moveSelector);
     }
 
     private ValueSelectorConfig buildValueSelectorConfig(HeuristicConfigPolicy<Solution_> configPolicy,
@@ -117,4 +132,23 @@ public class QueuedValuePlacerFactory<Solution_>
         changeMoveSelectorConfig.setValueSelectorConfig(changeValueSelectorConfig);
         return changeMoveSelectorConfig;
     }
+
+    private ListChangeMoveSelectorConfig buildListChangeMoveSelectorConfig(
+            HeuristicConfigPolicy<Solution_> configPolicy, String valueSelectorConfigId,
+            GenuineVariableDescriptor<Solution_> variableDescriptor) {
+        ListChangeMoveSelectorConfig listChangeMoveSelectorConfig = new ListChangeMoveSelectorConfig();
+        EntitySelectorConfig destinationEntitySelectorConfig = new EntitySelectorConfig();
+        EntityDescriptor<Solution_> entityDescriptor = variableDescriptor.getEntityDescriptor();
+        destinationEntitySelectorConfig.setEntityClass(entityDescriptor.getEntityClass());
+        if (EntitySelectorConfig.hasSorter(configPolicy.getEntitySorterManner(), entityDescriptor)) {
+            destinationEntitySelectorConfig.setCacheType(SelectionCacheType.PHASE);
+            destinationEntitySelectorConfig.setSelectionOrder(SelectionOrder.SORTED);
+            destinationEntitySelectorConfig.setSorterManner(configPolicy.getEntitySorterManner());
+        }
+        listChangeMoveSelectorConfig.setDestinationEntitySelectorConfig(destinationEntitySelectorConfig);
+        ValueSelectorConfig listChangeValueSelectorConfig = new ValueSelectorConfig();
+        listChangeValueSelectorConfig.setMimicSelectorRef(valueSelectorConfigId);
+        listChangeMoveSelectorConfig.setValueSelectorConfig(listChangeValueSelectorConfig);
+        return listChangeMoveSelectorConfig;
+    }
 }
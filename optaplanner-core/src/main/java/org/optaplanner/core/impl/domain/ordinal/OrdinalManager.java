@@ -0,0 +1,254 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.ordinal;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+
+/**
+ * Assigns a dense ordinal to every planning entity and problem fact of the {@link PlanningSolution working solution},
+ * so selectors and acceptors can keep their per object state in arrays indexed by ordinal.
+ * <p>
+ * Finding the ordinal of an object is still a hash lookup, but an identity based one into a primitive table,
+ * so it never calls the domain's {@link Object#hashCode()} or {@link Object#equals(Object)} and never boxes.
+ * It only pays off for state that is read much more often than the ordinal is looked up,
+ * or that is looked up by ordinal directly.
+ * <p>
+ * An ordinal is stable while its working object remains in the working solution.
+ * The ordinal of a removed working object is reused for the next added working object,
+ * so the ordinals stay dense, but an array that is indexed by ordinal must be reset for a reused ordinal.
+ * After {@link #resetWorkingObjects(Collection)}, the ordinals follow the iteration order of the facts,
+ * so they are reproducible.
+ */
+public class OrdinalManager {
+
+    public static final int NO_ORDINAL = -1;
+
+    // Open addressing with linear probing, keyed by identity, null marks an empty slot
+    private Object[] keyTable;
+    private int[] ordinalTable;
+    private int keyCount;
+
+    private Object[] workingObjects;
+    private int ordinalCount;
+    private int[] freeOrdinals;
+    private int freeOrdinalCount;
+    private int workingObjectsRevision = 0;
+
+    public void resetWorkingObjects(Collection<Object> allFacts) {
+        int size = allFacts.size();
+        int tableLength = Integer.highestOneBit(Math.max(size, 8) * 2 - 1) << 1;
+        keyTable = new Object[tableLength];
+        ordinalTable = new int[tableLength];
+        keyCount = 0;
+        workingObjects = new Object[Math.max(size, 16)];
+        ordinalCount = 0;
+        freeOrdinals = new int[16];
+        freeOrdinalCount = 0;
+        workingObjectsRevision++;
+        for (Object fact : allFacts) {
+            addWorkingObject(fact);
+        }
+    }
+
+    /**
+     * Does nothing if the workingObject already has an ordinal,
+     * for example because it's a planning entity that is also a planning value.
+     *
+     * @param workingObject never null
+     */
+    public void addWorkingObject(Object workingObject) {
+        int slot = findSlot(workingObject);
+        if (keyTable[slot] != null) {
+            return;
+        }
+        int ordinal;
+        if (freeOrdinalCount > 0) {
+            freeOrdinalCount--;
+            ordinal = freeOrdinals[freeOrdinalCount];
+        } else {
+            ordinal = ordinalCount;
+            ordinalCount++;
+            if (ordinal == workingObjects.length) {
+                workingObjects = Arrays.copyOf(workingObjects, workingObjects.length * 2);
+            }
+        }
+        workingObjects[ordinal] = workingObject;
+        keyTable[slot] = workingObject;
+        ordinalTable[slot] = ordinal;
+        keyCount++;
+        // Keep the load factor at most 1/2, so the probe sequences stay short
+        if (keyCount * 2 > keyTable.length) {
+            growTable();
+        }
+        workingObjectsRevision++;
+    }
+
+    /**
+     * Does nothing if the workingObject has no ordinal,
+     * for example because it was added to the working solution without notifying the {@link ScoreDirector}.
+     *
+     * @param workingObject never null
+     */
+    public void removeWorkingObject(Object workingObject) {
+        int slot = findSlot(workingObject);
+        if (keyTable[slot] == null) {
+            return;
+        }
+        int ordinal = ordinalTable[slot];
+        removeSlot(slot);
+        workingObjects[ordinal] = null;
+        if (freeOrdinalCount == freeOrdinals.length) {
+            freeOrdinals = Arrays.copyOf(freeOrdinals, freeOrdinals.length * 2);
+        }
+        freeOrdinals[freeOrdinalCount] = ordinal;
+        freeOrdinalCount++;
+        workingObjectsRevision++;
+    }
+
+    public void clearWorkingObjects() {
+        keyTable = null;
+        ordinalTable = null;
+        keyCount = 0;
+        workingObjects = null;
+        freeOrdinals = null;
+        ordinalCount = 0;
+        freeOrdinalCount = 0;
+        workingObjectsRevision++;
+    }
+
+    /**
+     * Called when a problem property of a working object changed, for example by a
+     * {@link org.optaplanner.core.api.solver.ProblemFactChange}.
+     * The ordinals remain the same, but a cache that depends on those properties must detect that it's stale.
+     */
+    public void markWorkingObjectChanged() {
+        workingObjectsRevision++;
+    }
+
+    /**
+     * @param workingObject sometimes null
+     * @return {@code 0 <= ordinal < }{@link #getOrdinalCount()},
+     *         or {@link #NO_ORDINAL} if the workingObject is null or isn't a fact of the working solution,
+     *         for example a value of a {@link org.optaplanner.core.api.domain.valuerange.ValueRange} that is not a fact
+     */
+    public int getOrdinal(Object workingObject) {
+        if (workingObject == null) {
+            return NO_ORDINAL;
+        }
+        int slot = findSlot(workingObject);
+        return keyTable[slot] == null ? NO_ORDINAL : ordinalTable[slot];
+    }
+
+    /**
+     * @param ordinal {@code 0 <= ordinal < }{@link #getOrdinalCount()}
+     * @return null if no working object has that ordinal at the moment
+     */
+    public Object getWorkingObject(int ordinal) {
+        return workingObjects[ordinal];
+    }
+
+    /**
+     * @return {@code >= 0}, the exclusive upper bound of every ordinal, which only grows until the next reset,
+     *         suitable as the length of an array that is indexed by ordinal
+     */
+    public int getOrdinalCount() {
+        return ordinalCount;
+    }
+
+    /**
+     * Changes whenever a working object is added, removed or {@link #markWorkingObjectChanged() changed},
+     * or the working objects are reset, for example by a {@link org.optaplanner.core.api.solver.ProblemFactChange}.
+     * So a cache that depends on the working objects can detect that it's stale.
+     *
+     * @return the same value as long as the working objects (and their ordinals and problem properties) remain the same
+     */
+    public int getWorkingObjectsRevision() {
+        return workingObjectsRevision;
+    }
+
+    // ************************************************************************
+    // Table methods
+    // ************************************************************************
+
+    /**
+     * @return the slot that holds the key, or otherwise the empty slot where it would be inserted
+     */
+    private int findSlot(Object key) {
+        int mask = keyTable.length - 1;
+        int slot = hashSlot(key, mask);
+        Object slotKey = keyTable[slot];
+        while (slotKey != null && slotKey != key) {
+            slot = (slot + 1) & mask;
+            slotKey = keyTable[slot];
+        }
+        return slot;
+    }
+
+    private static int hashSlot(Object key, int mask) {
+        // Spread the bits, because the identity hash codes of consecutive allocations can be close
+        int hash = System.identityHashCode(key) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Shifts the following keys of the probe sequence back, so no tombstone is needed.
+     */
+    private void removeSlot(int slot) {
+        int mask = keyTable.length - 1;
+        int emptySlot = slot;
+        int nextSlot = (slot + 1) & mask;
+        while (keyTable[nextSlot] != null) {
+            int homeSlot = hashSlot(keyTable[nextSlot], mask);
+            // Move it back unless its home slot lies cyclically in (emptySlot, nextSlot]
+            boolean stays = emptySlot <= nextSlot
+                    ? emptySlot < homeSlot && homeSlot <= nextSlot
+                    : emptySlot < homeSlot || homeSlot <= nextSlot;
+            if (!stays) {
+                keyTable[emptySlot] = keyTable[nextSlot];
+                ordinalTable[emptySlot] = ordinalTable[nextSlot];
+                emptySlot = nextSlot;
+            }
+            nextSlot = (nextSlot + 1) & mask;
+        }
+        keyTable[emptySlot] = null;
+        keyCount--;
+    }
+
+    private void growTable() {
+        Object[] oldKeyTable = keyTable;
+        int[] oldOrdinalTable = ordinalTable;
+        keyTable = new Object[oldKeyTable.length * 2];
+        ordinalTable = new int[oldKeyTable.length * 2];
+        int mask = keyTable.length - 1;
+        for (int i = 0; i < oldKeyTable.length; i++) {
+            Object key = oldKeyTable[i];
+            if (key != null) {
+                int slot = hashSlot(key, mask);
+                while (keyTable[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keyTable[slot] = key;
+                ordinalTable[slot] = oldOrdinalTable[i];
+            }
+        }
+    }
+
+}
@@ -51,7 +51,9 @@ import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
 import org.optaplanner.core.impl.domain.common.ConcurrentMemoization;
 import org.optaplanner.core.impl.domain.common.ReflectionHelper;
 import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
@@ -142,6 +144,7 @@ public class FieldAccessingSolutionCloner<Solution_> implements SolutionCloner<S
         }
         return isFieldAnEntityPropertyOnSolution(field, fieldInstanceClass)
                 || isFieldAnEntityOrSolution(field, fieldInstanceClass)
+                || isFieldAPlanningListVariable(field, fieldInstanceClass)
                 || isFieldADeepCloneProperty(field, fieldInstanceClass);
     }
 
@@ -163,6 +166,18 @@ public class FieldAccessingSolutionCloner<Solution_> implements SolutionCloner<S
         return false;
     }
 
+    protected boolean isFieldAPlanningListVariable(Field field, Class<?> fieldInstanceClass) {
+        // The moves change a planning list variable in place, so the clone needs its own list of the same values
+        EntityDescriptor<Solution_> entityDescriptor = solutionDescriptor.findEntityDescriptor(fieldInstanceClass);
+        if (entityDescriptor == null) {
+            return false;
+        }
+        // This assumes we're dealing with a simple getter/setter.
+        GenuineVariableDescriptor<Solution_> variableDescriptor =
+                entityDescriptor.getGenuineVariableDescriptor(field.getName());
+        return variableDescriptor != null && variableDescriptor.isListVariable();
+    }
+
     protected boolean isFieldAnEntityOrSolution(Field field, Class<?> fieldInstanceClass) {
         Class<?> type = field.getType();
         if (isClassDeepCloned(type)) {
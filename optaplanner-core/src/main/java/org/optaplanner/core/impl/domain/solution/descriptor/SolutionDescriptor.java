@@ -84,6 +84,7 @@ import org.optaplanner.core.impl.domain.lookup.LookUpStrategyResolver;
 import org.optaplanner.core.impl.domain.policy.DescriptorPolicy;
 import org.optaplanner.core.impl.domain.solution.cloner.FieldAccessingSolutionCloner;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.score.buildin.bendable.BendableScoreDefinition;
@@ -832,6 +833,26 @@ public class SolutionDescriptor<Solution_> {
         return genuineEntityDescriptorList;
     }
 
+    /**
+     * @return never null, every {@link ListVariableDescriptor} declared on any entity class
+     */
+    public List<ListVariableDescriptor<Solution_>> getListVariableDescriptors() {
+        List<ListVariableDescriptor<Solution_>> listVariableDescriptorList = new ArrayList<>();
+        for (EntityDescriptor<Solution_> entityDescriptor : entityDescriptorMap.values()) {
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                    .getDeclaredGenuineVariableDescriptors()) {
+                if (variableDescriptor.isListVariable()) {
+                    listVariableDescriptorList.add((ListVariableDescriptor<Solution_>) variableDescriptor);
+                }
+            }
+        }
+        return listVariableDescriptorList;
+    }
+
+    public boolean hasListVariable() {
+        return !getListVariableDescriptors().isEmpty();
+    }
+
     public boolean hasEntityDescriptorStrict(Class<?> entityClass) {
         return entityDescriptorMap.containsKey(entityClass);
     }
@@ -1109,6 +1130,9 @@ public class SolutionDescriptor<Solution_> {
         long count = extractAllEntitiesStream(solution)
                 .mapToLong(entity -> findEntityDescriptorOrFail(entity.getClass()).countUninitializedVariables(entity))
                 .sum();
+        for (ListVariableDescriptor<Solution_> listVariableDescriptor : getListVariableDescriptors()) {
+            count += listVariableDescriptor.countUnassignedValues(solution);
+        }
         // Score.initScore is an int
         return Math.toIntExact(count);
     }
@@ -124,7 +124,7 @@ public abstract class AbstractFromPropertyValueRangeDescriptor<Solution_>
                         + " with an unsupported type arguments (" + typeArgument + ").");
             }
             Class<?> collectionElementClass = ((Class) typeArgument);
-            Class<?> variablePropertyType = variableDescriptor.getVariablePropertyType();
+            Class<?> variablePropertyType = variableDescriptor.getValueType();
             if (!variablePropertyType.isAssignableFrom(collectionElementClass)) {
                 throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
                         + ") has a " + PlanningVariable.class.getSimpleName()
@@ -138,7 +138,7 @@ public abstract class AbstractFromPropertyValueRangeDescriptor<Solution_>
             }
         } else if (arrayWrapping) {
             Class<?> arrayElementClass = type.getComponentType();
-            Class<?> variablePropertyType = variableDescriptor.getVariablePropertyType();
+            Class<?> variablePropertyType = variableDescriptor.getValueType();
             if (!variablePropertyType.isAssignableFrom(arrayElementClass)) {
                 throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
                         + ") has a " + PlanningVariable.class.getSimpleName()
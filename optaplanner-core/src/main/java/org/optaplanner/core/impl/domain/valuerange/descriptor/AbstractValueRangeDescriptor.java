@@ -49,7 +49,7 @@ public abstract class AbstractValueRangeDescriptor<Solution_> implements ValueRa
     @Override
     public boolean mightContainEntity() {
         SolutionDescriptor<Solution_> solutionDescriptor = variableDescriptor.getEntityDescriptor().getSolutionDescriptor();
-        Class<?> variablePropertyType = variableDescriptor.getVariablePropertyType();
+        Class<?> variablePropertyType = variableDescriptor.getValueType();
         for (Class<?> entityClass : solutionDescriptor.getEntityClassSet()) {
             if (variablePropertyType.isAssignableFrom(entityClass)) {
                 return true;
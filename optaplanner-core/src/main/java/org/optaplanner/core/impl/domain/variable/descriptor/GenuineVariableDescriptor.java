@@ -67,6 +67,7 @@ public class GenuineVariableDescriptor<Solution_> extends VariableDescriptor<Sol
     public GenuineVariableDescriptor(EntityDescriptor<Solution_> entityDescriptor,
             MemberAccessor variableMemberAccessor) {
         super(entityDescriptor, variableMemberAccessor);
+        reinitializeVariableEntityFilter = new NullValueReinitializeVariableEntityFilter<>(this);
     }
 
     // ************************************************************************
@@ -81,7 +82,7 @@ public class GenuineVariableDescriptor<Solution_> extends VariableDescriptor<Sol
         PlanningVariable planningVariableAnnotation = variableMemberAccessor.getAnnotation(PlanningVariable.class);
         processNullable(descriptorPolicy, planningVariableAnnotation);
         processChained(descriptorPolicy, planningVariableAnnotation);
-        processValueRangeRefs(descriptorPolicy, planningVariableAnnotation);
+        processValueRangeRefs(descriptorPolicy, planningVariableAnnotation.valueRangeProviderRefs());
         processStrength(descriptorPolicy, planningVariableAnnotation);
     }
 
@@ -93,7 +94,6 @@ public class GenuineVariableDescriptor<Solution_> extends VariableDescriptor<Sol
                     + ") with nullable (" + nullable + "), which is not compatible with the primitive propertyType ("
                     + variableMemberAccessor.getType() + ").");
         }
-        reinitializeVariableEntityFilter = new NullValueReinitializeVariableEntityFilter<>(this);
     }
 
     private void processChained(DescriptorPolicy descriptorPolicy, PlanningVariable planningVariableAnnotation) {
@@ -115,8 +115,7 @@ public class GenuineVariableDescriptor<Solution_> extends VariableDescriptor<Sol
         }
     }
 
-    private void processValueRangeRefs(DescriptorPolicy descriptorPolicy, PlanningVariable planningVariableAnnotation) {
-        String[] valueRangeProviderRefs = planningVariableAnnotation.valueRangeProviderRefs();
+    protected void processValueRangeRefs(DescriptorPolicy descriptorPolicy, String[] valueRangeProviderRefs) {
         if (ArrayUtils.isEmpty(valueRangeProviderRefs)) {
             throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
                     + ") has a " + PlanningVariable.class.getSimpleName()
@@ -215,6 +214,20 @@ public class GenuineVariableDescriptor<Solution_> extends VariableDescriptor<Sol
         return chained;
     }
 
+    /**
+     * @return true if this is a {@link ListVariableDescriptor}
+     */
+    public boolean isListVariable() {
+        return false;
+    }
+
+    /**
+     * @return never null, the type of a single planning value of this variable
+     */
+    public Class<?> getValueType() {
+        return getVariablePropertyType();
+    }
+
     public boolean isNullable() {
         return nullable;
     }
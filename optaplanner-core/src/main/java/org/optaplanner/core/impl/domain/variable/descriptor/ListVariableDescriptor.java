@@ -0,0 +1,166 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.descriptor;
+
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.valuerange.CountableValueRange;
+import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.policy.DescriptorPolicy;
+
+/**
+ * Describes a {@link PlanningListVariable}.
+ * Its value is a {@link List} of planning values, which the moves change in place.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class ListVariableDescriptor<Solution_> extends GenuineVariableDescriptor<Solution_> {
+
+    public ListVariableDescriptor(EntityDescriptor<Solution_> entityDescriptor,
+            MemberAccessor variableMemberAccessor) {
+        super(entityDescriptor, variableMemberAccessor);
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void processAnnotations(DescriptorPolicy descriptorPolicy) {
+        if (!List.class.isAssignableFrom(variableMemberAccessor.getType())) {
+            throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
+                    + ") has a " + PlanningListVariable.class.getSimpleName()
+                    + " annotated property (" + variableMemberAccessor.getName()
+                    + ") with a propertyType (" + variableMemberAccessor.getType()
+                    + ") which is not a " + List.class.getSimpleName() + ".");
+        }
+        PlanningListVariable planningListVariableAnnotation =
+                variableMemberAccessor.getAnnotation(PlanningListVariable.class);
+        processValueRangeRefs(descriptorPolicy, planningListVariableAnnotation.valueRangeProviderRefs());
+        if (!isValueRangeEntityIndependent()) {
+            throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
+                    + ") has a " + PlanningListVariable.class.getSimpleName()
+                    + " annotated property (" + variableMemberAccessor.getName()
+                    + ") that refers to a @" + ValueRangeProvider.class.getSimpleName()
+                    + " on the entityClass, which is not supported.\n"
+                    + "Maybe move that @" + ValueRangeProvider.class.getSimpleName()
+                    + " to the solution class (" + entityDescriptor.getSolutionDescriptor().getSolutionClass() + ").");
+        }
+        if (!getValueRangeDescriptor().isCountable()) {
+            throw new IllegalArgumentException("The entityClass (" + entityDescriptor.getEntityClass()
+                    + ") has a " + PlanningListVariable.class.getSimpleName()
+                    + " annotated property (" + variableMemberAccessor.getName()
+                    + ") with a value range that is not countable.");
+        }
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isListVariable() {
+        return true;
+    }
+
+    /**
+     * @return never null, the element type of the {@link List}
+     */
+    @Override
+    public Class<?> getValueType() {
+        return ConfigUtils.extractCollectionGenericTypeParameter("entityClass", entityDescriptor.getEntityClass(),
+                variableMemberAccessor.getType(), variableMemberAccessor.getGenericType(),
+                PlanningListVariable.class, variableMemberAccessor.getName());
+    }
+
+    // ************************************************************************
+    // Extraction methods
+    // ************************************************************************
+
+    /**
+     * A list variable is always initialized:
+     * its unassigned planning values are counted by {@link #countUnassignedValues(Object)} instead.
+     *
+     * @param entity never null
+     * @return true
+     */
+    @Override
+    public boolean isInitialized(Object entity) {
+        return true;
+    }
+
+    /**
+     * @param entity never null
+     * @return never null, the live list of the entity, to be changed only between
+     *         {@link org.optaplanner.core.impl.score.director.InnerScoreDirector#beforeVariableChanged} and
+     *         {@link org.optaplanner.core.impl.score.director.InnerScoreDirector#afterVariableChanged}
+     */
+    public List<Object> getListVariable(Object entity) {
+        List<Object> list = (List<Object>) getValue(entity);
+        if (list == null) {
+            throw new IllegalStateException("The entity (" + entity
+                    + ") has a " + PlanningListVariable.class.getSimpleName()
+                    + " (" + variableName + ") that is null, but it should be an empty list instead.");
+        }
+        return list;
+    }
+
+    public int getListSize(Object entity) {
+        return getListVariable(entity).size();
+    }
+
+    public Object getElement(Object entity, int index) {
+        return getListVariable(entity).get(index);
+    }
+
+    public Object removeElement(Object entity, int index) {
+        return getListVariable(entity).remove(index);
+    }
+
+    public void addElement(Object entity, int index, Object element) {
+        getListVariable(entity).add(index, element);
+    }
+
+    public Object setElement(Object entity, int index, Object element) {
+        return getListVariable(entity).set(index, element);
+    }
+
+    /**
+     * @param solution never null
+     * @return {@code >= 0}, the number of planning values in the value range that are in no entity's list
+     */
+    public long countUnassignedValues(Solution_ solution) {
+        long valueCount = ((CountableValueRange<?>) getValueRangeDescriptor().extractValueRange(solution, null))
+                .getSize();
+        long assignedCount = 0L;
+        for (Object entity : entityDescriptor.extractEntities(solution)) {
+            assignedCount += getListSize(entity);
+        }
+        return valueCount - assignedCount;
+    }
+
+    @Override
+    public String toString() {
+        return getSimpleEntityAndVariableName() + " list variable";
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.index;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.ListVariableListener;
+
+/**
+ * Keeps the entity and the index of every assigned planning value of a list variable.
+ * <p>
+ * A change of an entity's list only reindexes that list from the lowest index that the change touched,
+ * the location objects of the planning values are reused to avoid garbage.
+ */
+public class ExternalizedListVariableIndexSupply<Solution_>
+        implements ListVariableListener<Solution_>, ListVariableIndexSupply {
+
+    protected final ListVariableDescriptor<Solution_> sourceVariableDescriptor;
+
+    protected Map<Object, ElementLocation> elementLocationMap = null;
+    // The entities that are retracted from an index until the end of their list, but not yet inserted again
+    protected Map<Object, Integer> retractedEntityToFromIndexMap = null;
+
+    public ExternalizedListVariableIndexSupply(ListVariableDescriptor<Solution_> sourceVariableDescriptor) {
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+    }
+
+    @Override
+    public ListVariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return sourceVariableDescriptor;
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+        List<Object> entityList = sourceVariableDescriptor.getEntityDescriptor()
+                .extractEntities(scoreDirector.getWorkingSolution());
+        elementLocationMap = new IdentityHashMap<>();
+        retractedEntityToFromIndexMap = new IdentityHashMap<>();
+        for (Object entity : entityList) {
+            insert(entity, 0);
+        }
+    }
+
+    @Override
+    public void close() {
+        elementLocationMap = null;
+        retractedEntityToFromIndexMap = null;
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        insert(entity, 0);
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        beforeListVariableChanged(scoreDirector, entity, 0);
+    }
+
+    @Override
+    public void beforeListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity, int fromIndex) {
+        Integer retractedFromIndex = retractedEntityToFromIndexMap.get(entity);
+        if (retractedFromIndex == null) {
+            retract(entity, fromIndex, sourceVariableDescriptor.getListSize(entity));
+            retractedEntityToFromIndexMap.put(entity, fromIndex);
+        } else if (fromIndex < retractedFromIndex) {
+            // The elements before the retractedFromIndex have not changed yet
+            retract(entity, fromIndex, retractedFromIndex);
+            retractedEntityToFromIndexMap.put(entity, fromIndex);
+        }
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        Integer retractedFromIndex = retractedEntityToFromIndexMap.remove(entity);
+        if (retractedFromIndex == null) {
+            throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                    + " because the entity (" + entity + ") changed without a before notification.");
+        }
+        insert(entity, retractedFromIndex);
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        beforeListVariableChanged(scoreDirector, entity, 0);
+        retractedEntityToFromIndexMap.remove(entity);
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    protected void insert(Object entity, int fromIndex) {
+        List<Object> list = sourceVariableDescriptor.getListVariable(entity);
+        for (int i = fromIndex; i < list.size(); i++) {
+            Object element = list.get(i);
+            ElementLocation location = elementLocationMap.computeIfAbsent(element, k -> new ElementLocation());
+            if (location.entity != null) {
+                throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                        + " because the element (" + element + ") at index (" + i
+                        + ") of entity (" + entity + ") cannot be inserted:"
+                        + " it is already in the list of another entity (" + location.entity + ").");
+            }
+            location.entity = entity;
+            location.index = i;
+        }
+    }
+
+    protected void retract(Object entity, int fromIndex, int toIndex) {
+        List<Object> list = sourceVariableDescriptor.getListVariable(entity);
+        for (int i = fromIndex; i < toIndex; i++) {
+            Object element = list.get(i);
+            ElementLocation location = elementLocationMap.get(element);
+            if (location == null || location.entity != entity || location.index != i) {
+                throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                        + " because the element (" + element + ") at index (" + i
+                        + ") of entity (" + entity + ") cannot be retracted: it was never inserted there.");
+            }
+            location.entity = null;
+            location.index = -1;
+        }
+    }
+
+    @Override
+    public Object getEntity(Object planningValue) {
+        ElementLocation location = elementLocationMap.get(planningValue);
+        return location == null ? null : location.entity;
+    }
+
+    @Override
+    public int getIndex(Object planningValue) {
+        ElementLocation location = elementLocationMap.get(planningValue);
+        return location == null ? -1 : location.index;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getVariableName() + ")";
+    }
+
+    private static final class ElementLocation {
+
+        private Object entity = null;
+        private int index = -1;
+
+    }
+
+}
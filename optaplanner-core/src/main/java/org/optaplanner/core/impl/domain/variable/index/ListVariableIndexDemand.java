@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.index;
+
+import java.util.Objects;
+
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.Demand;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+public class ListVariableIndexDemand<Solution_> implements Demand<Solution_, ListVariableIndexSupply> {
+
+    protected final ListVariableDescriptor<Solution_> sourceVariableDescriptor;
+
+    public ListVariableIndexDemand(ListVariableDescriptor<Solution_> sourceVariableDescriptor) {
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+    }
+
+    public ListVariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return sourceVariableDescriptor;
+    }
+
+    // ************************************************************************
+    // Creation method
+    // ************************************************************************
+
+    @Override
+    public ListVariableIndexSupply createExternalizedSupply(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        return new ExternalizedListVariableIndexSupply<>(sourceVariableDescriptor);
+    }
+
+    // ************************************************************************
+    // Equals/hashCode method
+    // ************************************************************************
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ListVariableIndexDemand)) {
+            return false;
+        }
+        ListVariableIndexDemand<Solution_> other = (ListVariableIndexDemand<Solution_>) o;
+        return sourceVariableDescriptor.equals(other.sourceVariableDescriptor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ListVariableIndexDemand.class.getName(), sourceVariableDescriptor);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.index;
+
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.impl.domain.variable.supply.Supply;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Only supported for {@link PlanningListVariable list variables},
+ * which guarantee that every planningValue is in at most 1 entity's list.
+ * <p>
+ * To get an instance, demand a {@link ListVariableIndexDemand} from {@link InnerScoreDirector#getSupplyManager()}.
+ */
+public interface ListVariableIndexSupply extends Supply {
+
+    /**
+     * If entity1.varA = [x, y] then the entity of y is entity1.
+     *
+     * @param planningValue never null
+     * @return sometimes null, the entity whose list contains the planningValue, null if it is unassigned
+     */
+    Object getEntity(Object planningValue);
+
+    /**
+     * If entity1.varA = [x, y] then the index of y is 1.
+     *
+     * @param planningValue never null
+     * @return {@code >= 0} the index of the planningValue in the list of {@link #getEntity(Object)},
+     *         -1 if it is unassigned
+     */
+    int getIndex(Object planningValue);
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.listener;
+
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+
+/**
+ * A {@link SourcedVariableListener} of a {@link PlanningListVariable}
+ * that is told from which index the list of an entity changes.
+ */
+public interface ListVariableListener<Solution_> extends SourcedVariableListener<Solution_, Object> {
+
+    /**
+     * Called instead of {@link #beforeVariableChanged(ScoreDirector, Object)}.
+     * Unlike that method, it is called again if the same entity changes again
+     * before {@link #afterVariableChanged(ScoreDirector, Object)} is called,
+     * so the elements from that lower fromIndex can still be read before they change.
+     *
+     * @param scoreDirector never null
+     * @param entity never null
+     * @param fromIndex {@code >= 0}, the elements of the entity's list before this index do not change
+     */
+    void beforeListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity, int fromIndex);
+
+}
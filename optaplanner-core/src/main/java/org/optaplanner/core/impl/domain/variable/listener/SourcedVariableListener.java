@@ -16,6 +16,9 @@
 
 package org.optaplanner.core.impl.domain.variable.listener;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.optaplanner.core.api.domain.variable.VariableListener;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.supply.Supply;
@@ -27,4 +30,14 @@ public interface SourcedVariableListener<Solution_, Entity_> extends VariableLis
 
     VariableDescriptor<Solution_> getSourceVariableDescriptor();
 
+    /**
+     * A change of any of these variables triggers this listener, but only once per entity.
+     * They must all belong to the same entity class.
+     *
+     * @return never null, at least {@link #getSourceVariableDescriptor()}
+     */
+    default List<VariableDescriptor<Solution_>> getSourceVariableDescriptorList() {
+        return Collections.singletonList(getSourceVariableDescriptor());
+    }
+
 }
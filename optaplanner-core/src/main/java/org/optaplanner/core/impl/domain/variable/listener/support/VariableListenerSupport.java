@@ -31,6 +31,7 @@ import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.ListVariableListener;
 import org.optaplanner.core.impl.domain.variable.listener.SourcedVariableListener;
 import org.optaplanner.core.impl.domain.variable.supply.Demand;
 import org.optaplanner.core.impl.domain.variable.supply.Supply;
@@ -114,8 +115,12 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
                 VariableDescriptor<Solution_> source = variableListener.getSourceVariableDescriptor();
                 VariableListenerNotifiable notifiable = new VariableListenerNotifiable(variableListener, nextGlobalOrder);
                 nextGlobalOrder++;
-                List<VariableListenerNotifiable> variableNotifiableList = sourceVariableToNotifiableMap.get(source);
-                variableNotifiableList.add(notifiable);
+                for (VariableDescriptor<Solution_> sourceVariableDescriptor : variableListener
+                        .getSourceVariableDescriptorList()) {
+                    List<VariableListenerNotifiable> variableNotifiableList =
+                            sourceVariableToNotifiableMap.get(sourceVariableDescriptor);
+                    variableNotifiableList.add(notifiable);
+                }
                 List<VariableListenerNotifiable> entityNotifiableList = sourceEntityToNotifiableMap
                         .get(source.getEntityDescriptor());
                 if (!entityNotifiableList.contains(notifiable)) {
@@ -165,14 +170,29 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
     }
 
     public void beforeVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        beforeVariableChanged(variableDescriptor, entity, 0);
+    }
+
+    /**
+     * @param variableDescriptor never null
+     * @param entity never null
+     * @param listFromIndex {@code >= 0}, only used by a {@link ListVariableListener}
+     */
+    public void beforeVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int listFromIndex) {
         List<VariableListenerNotifiable> notifiableList = sourceVariableToNotifiableMap.getOrDefault(variableDescriptor,
                 Collections.emptyList()); // Avoids null for chained swap move on an unchained var.
         for (VariableListenerNotifiable notifiable : notifiableList) {
             Collection<VariableListenerNotification> notificationQueue = notifiable.getNotificationQueue();
             boolean added = notificationQueue.add(
                     new VariableListenerNotification(entity, VariableListenerNotificationType.VARIABLE_CHANGED));
-            if (added) {
-                notifiable.getVariableListener().beforeVariableChanged(scoreDirector, entity);
+            VariableListener<Solution_, Object> variableListener = notifiable.getVariableListener();
+            if (variableListener instanceof ListVariableListener) {
+                // Even if already added, because the changed part of the list can grow
+                ((ListVariableListener<Solution_>) variableListener).beforeListVariableChanged(scoreDirector, entity,
+                        listFromIndex);
+            } else if (added) {
+                variableListener.beforeVariableChanged(scoreDirector, entity);
             }
         }
         notificationQueuesAreEmpty = false;
@@ -61,6 +61,11 @@ public class DefaultExhaustiveSearchPhaseFactory<Solution_>
             HeuristicConfigPolicy<Solution_> solverConfigPolicy, BestSolutionRecaller<Solution_> bestSolutionRecaller,
             Termination<Solution_> solverTermination) {
         HeuristicConfigPolicy<Solution_> phaseConfigPolicy = solverConfigPolicy.createFilteredPhaseConfigPolicy();
+        if (phaseConfigPolicy.getSolutionDescriptor().hasListVariable()) {
+            throw new UnsupportedOperationException("Exhaustive Search does not support a planning solution"
+                    + " with a list variable (" + phaseConfigPolicy.getSolutionDescriptor().getListVariableDescriptors()
+                    + ") yet.");
+        }
         ExhaustiveSearchType exhaustiveSearchType_ = phaseConfig.getExhaustiveSearchType() == null
                 ? ExhaustiveSearchType.BRANCH_AND_BOUND
                 : phaseConfig.getExhaustiveSearchType();
@@ -203,6 +203,9 @@ public class HeuristicConfigPolicy<Solution_> {
                 case PART_THREAD:
                     threadPrefix = "PartThread";
                     break;
+                case ISLAND_THREAD:
+                    threadPrefix = "IslandThread";
+                    break;
                 default:
                     throw new IllegalStateException("Unsupported childThreadType (" + childThreadType + ").");
             }
@@ -22,6 +22,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Consumer;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.director.ScoreDirector;
@@ -166,6 +167,20 @@ public class CompositeMove<Solution_> implements Move<Solution_> {
         return values;
     }
 
+    @Override
+    public void visitPlanningEntities(Consumer<Object> entityVisitor) {
+        for (Move<Solution_> move : moves) {
+            move.visitPlanningEntities(entityVisitor);
+        }
+    }
+
+    @Override
+    public void visitPlanningValues(Consumer<Object> valueVisitor) {
+        for (Move<Solution_> move : moves) {
+            move.visitPlanningValues(valueVisitor);
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
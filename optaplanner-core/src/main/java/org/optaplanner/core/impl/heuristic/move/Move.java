@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.optaplanner.core.api.domain.entity.PlanningEntity;
 import org.optaplanner.core.api.domain.lookup.PlanningId;
@@ -154,6 +155,23 @@ public interface Move<Solution_> {
                 + ") doesn't implement the getPlanningEntities() method, so Entity Tabu Search is impossible.");
     }
 
+    /**
+     * Allocation free alternative to {@link #getPlanningEntities()},
+     * because {@link AcceptorType#ENTITY_TABU} calls it for every evaluated move.
+     * <p>
+     * This method is only called after {@link #doMove(ScoreDirector)} (which might affect the visited entities).
+     * <p>
+     * The default implementation iterates {@link #getPlanningEntities()}.
+     * Unlike that method, an implementation may visit the same entity more than once.
+     *
+     * @param entityVisitor never null, called for every planning entity that is being changed by this move
+     */
+    default void visitPlanningEntities(Consumer<Object> entityVisitor) {
+        for (Object entity : getPlanningEntities()) {
+            entityVisitor.accept(entity);
+        }
+    }
+
     /**
      * Returns all planning values that entities are being assigned to by this move.
      * Required for {@link AcceptorType#VALUE_TABU}.
@@ -171,4 +189,21 @@ public interface Move<Solution_> {
                 + ") doesn't implement the getPlanningEntities() method, so Value Tabu Search is impossible.");
     }
 
+    /**
+     * Allocation free alternative to {@link #getPlanningValues()},
+     * because {@link AcceptorType#VALUE_TABU} calls it for every evaluated move.
+     * <p>
+     * This method is only called after {@link #doMove(ScoreDirector)} (which might affect the visited values).
+     * <p>
+     * The default implementation iterates {@link #getPlanningValues()}.
+     * Unlike that method, an implementation may visit the same value more than once.
+     *
+     * @param valueVisitor never null, called for every planning value that entities are being assigned to by this move
+     */
+    default void visitPlanningValues(Consumer<Object> valueVisitor) {
+        for (Object value : getPlanningValues()) {
+            valueVisitor.accept(value);
+        }
+    }
+
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.IntConsumer;
+
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.solver.thread.ThreadUtils;
+
+/**
+ * Splits the work over the selections of a large selection cache
+ * (such as creating sorter weights) over the threads of the {@link Solver}'s {@link ThreadFactory}.
+ * Only used if a {@link SolverConfig#getMoveThreadCount() moveThreadCount} is configured,
+ * otherwise the selection caches are built on the solver thread alone.
+ * <p>
+ * The work must only read the working solution: never hand a {@link ScoreDirector} to the worker threads.
+ * The thread pool is created on first use and shut down by {@link #shutdown(String)} when solving ends.
+ */
+public class SelectionCacheExecutor {
+
+    /**
+     * A cache of fewer selections isn't worth the hand-off to the worker threads.
+     */
+    public static final int PARALLEL_CACHE_SIZE_THRESHOLD = 1_000;
+
+    private final ThreadFactory threadFactory;
+    private final int threadCount;
+
+    private ExecutorService executor = null;
+
+    public SelectionCacheExecutor(ThreadFactory threadFactory, int threadCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("The threadCount (" + threadCount + ") must be at least 1.");
+        }
+        this.threadFactory = threadFactory;
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Calls the indexConsumer for every index of the cache, in no particular order.
+     * Returns after every call has finished.
+     * @param selectionCacheExecutor sometimes null, in which case the calls happen on the calling thread
+     * @param cacheSize {@code >= 0}
+     * @param indexConsumer never null, must be thread-safe if the selectionCacheExecutor is not null
+     */
+    public static void forEachIndex(SelectionCacheExecutor selectionCacheExecutor, int cacheSize,
+            IntConsumer indexConsumer) {
+        if (selectionCacheExecutor == null || cacheSize < PARALLEL_CACHE_SIZE_THRESHOLD) {
+            for (int i = 0; i < cacheSize; i++) {
+                indexConsumer.accept(i);
+            }
+        } else {
+            selectionCacheExecutor.forEachIndexInParallel(cacheSize, indexConsumer);
+        }
+    }
+
+    private void forEachIndexInParallel(int cacheSize, IntConsumer indexConsumer) {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(threadCount, threadFactory);
+        }
+        int chunkSize = (cacheSize + threadCount - 1) / threadCount;
+        List<Callable<Void>> chunkList = new ArrayList<>(threadCount);
+        for (int fromIndex = 0; fromIndex < cacheSize; fromIndex += chunkSize) {
+            int chunkFromIndex = fromIndex;
+            int chunkToIndex = Math.min(fromIndex + chunkSize, cacheSize);
+            chunkList.add(() -> {
+                for (int i = chunkFromIndex; i < chunkToIndex; i++) {
+                    indexConsumer.accept(i);
+                }
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> future : executor.invokeAll(chunkList)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The selection cache construction was interrupted.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("The selection cache construction failed.", cause);
+        }
+    }
+
+    /**
+     * Idempotent. The next use creates a new thread pool.
+     * @param logIndentation never null
+     */
+    public void shutdown(String logIndentation) {
+        if (executor != null) {
+            ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Selection cache construction");
+            executor = null;
+        }
+    }
+
+}
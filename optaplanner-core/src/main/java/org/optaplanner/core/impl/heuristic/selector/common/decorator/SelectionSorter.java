@@ -23,6 +23,7 @@ import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.Selector;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 /**
  * Decides the order of a {@link List} of selection
@@ -41,4 +42,15 @@ public interface SelectionSorter<Solution_, T> {
      */
     void sort(ScoreDirector<Solution_> scoreDirector, List<T> selectionList);
 
+    /**
+     * Called when a selection cache is constructed.
+     * @param solverScope never null, which has the {@link SolverScope#getScoreDirector()}
+     *        and possibly the {@link SolverScope#getSelectionCacheExecutor()}
+     * @param selectionList never null, a {@link List}
+     *        of {@link PlanningEntity}, planningValue, {@link Move} or {@link Selector}
+     */
+    default void sortCache(SolverScope<Solution_> solverScope, List<T> selectionList) {
+        sort(solverScope.getScoreDirector(), selectionList);
+    }
+
 }
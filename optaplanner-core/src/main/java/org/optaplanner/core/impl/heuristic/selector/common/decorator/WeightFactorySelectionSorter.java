@@ -16,11 +16,10 @@
 
 package org.optaplanner.core.impl.heuristic.selector.common.decorator;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
-import java.util.SortedMap;
-import java.util.TreeMap;
 
 import org.optaplanner.core.api.domain.entity.PlanningEntity;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
@@ -28,9 +27,15 @@ import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.heuristic.selector.common.decorator.SelectionSorterOrder;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.Selector;
+import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheExecutor;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 /**
  * Sorts a selection {@link List} based on a {@link SelectionSorterWeightFactory}.
+ * <p>
+ * When a selection cache is constructed with a {@link SolverScope#getSelectionCacheExecutor()},
+ * the weights of a large selection {@link List} are created on several threads,
+ * so the {@link SelectionSorterWeightFactory} must be thread-safe in that case.
  *
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  * @param <T> the selection type
@@ -61,23 +66,50 @@ public class WeightFactorySelectionSorter<Solution_, T> implements SelectionSort
         sort(scoreDirector.getWorkingSolution(), selectionList);
     }
 
+    @Override
+    public void sortCache(SolverScope<Solution_> solverScope, List<T> selectionList) {
+        sort(solverScope.getScoreDirector().getWorkingSolution(), selectionList,
+                solverScope.getSelectionCacheExecutor());
+    }
+
     /**
      * @param solution never null, the {@link PlanningSolution} to which the selections belong or apply to
      * @param selectionList never null, a {@link List}
      *        of {@link PlanningEntity}, planningValue, {@link Move} or {@link Selector}
      */
     public void sort(Solution_ solution, List<T> selectionList) {
-        SortedMap<Comparable, T> selectionMap = new TreeMap<>(appliedWeightComparator);
-        for (T selection : selectionList) {
-            Comparable difficultyWeight = selectionSorterWeightFactory.createSorterWeight(solution, selection);
-            T previous = selectionMap.put(difficultyWeight, selection);
-            if (previous != null) {
+        sort(solution, selectionList, null);
+    }
+
+    private void sort(Solution_ solution, List<T> selectionList, SelectionCacheExecutor selectionCacheExecutor) {
+        int size = selectionList.size();
+        WeightedSelection<T>[] weightedSelections = new WeightedSelection[size];
+        SelectionCacheExecutor.forEachIndex(selectionCacheExecutor, size, i -> {
+            T selection = selectionList.get(i);
+            Comparable weight = selectionSorterWeightFactory.createSorterWeight(solution, selection);
+            weightedSelections[i] = new WeightedSelection<>(weight, selection);
+        });
+        Comparator<WeightedSelection<T>> comparator = (a, b) -> appliedWeightComparator.compare(a.weight, b.weight);
+        Arrays.sort(weightedSelections, comparator);
+        for (int i = 0; i < size; i++) {
+            if (i > 0 && comparator.compare(weightedSelections[i - 1], weightedSelections[i]) == 0) {
                 throw new IllegalStateException("The selectionList contains 2 times the same selection ("
-                        + previous + ") and (" + selection + ").");
+                        + weightedSelections[i - 1].selection + ") and (" + weightedSelections[i].selection + ").");
             }
+            selectionList.set(i, weightedSelections[i].selection);
         }
-        selectionList.clear();
-        selectionList.addAll(selectionMap.values());
+    }
+
+    private static final class WeightedSelection<T> {
+
+        private final Comparable weight;
+        private final T selection;
+
+        private WeightedSelection(Comparable weight, T selection) {
+            this.weight = weight;
+            this.selection = selection;
+        }
+
     }
 
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.common.nearby;
+
+/**
+ * A {@link NearbyDistanceMeter} for origins and destinations that have coordinates,
+ * such as the latitude and longitude of a location.
+ * It allows nearby selection to find the nearest destinations of an origin through a spatial index
+ * (a k-d tree), instead of measuring the distance to every destination and sorting them.
+ * That makes nearby selection viable for problems with 100 000 locations or more.
+ * <p>
+ * The spatial index is only used if the destinations don't depend on the origin,
+ * for example if the planning value range isn't defined on the planning entity.
+ * Otherwise, {@link #getNearbyDistance(Object, Object)} is used for every destination.
+ *
+ * @param <O> the origin type
+ * @param <D> the destination type
+ */
+public interface CoordinateNearbyDistanceMeter<O, D> extends NearbyDistanceMeter<O, D> {
+
+    /**
+     * @param origin never null
+     * @return never null, the coordinates of the origin, for example {@code {latitude, longitude}}
+     */
+    double[] getOriginCoordinates(O origin);
+
+    /**
+     * @param destination never null
+     * @return never null, the coordinates of the destination, in the same dimensions as
+     *         {@link #getOriginCoordinates(Object)}
+     */
+    double[] getDestinationCoordinates(D destination);
+
+    /**
+     * Returns the euclidean distance between the coordinates of the origin and the destination,
+     * which is the distance the spatial index sorts the destinations by.
+     * Do not override this method with a different distance,
+     * because the nearby order would then depend on whether the spatial index is used or not.
+     *
+     * @param origin never null
+     * @param destination never null
+     * @return {@code >= 0.0}
+     */
+    @Override
+    default double getNearbyDistance(O origin, D destination) {
+        double[] originCoordinates = getOriginCoordinates(origin);
+        double[] destinationCoordinates = getDestinationCoordinates(destination);
+        double squaredDistance = 0.0;
+        for (int i = 0; i < originCoordinates.length; i++) {
+            double difference = destinationCoordinates[i] - originCoordinates[i];
+            squaredDistance += difference * difference;
+        }
+        return Math.sqrt(squaredDistance);
+    }
+
+}
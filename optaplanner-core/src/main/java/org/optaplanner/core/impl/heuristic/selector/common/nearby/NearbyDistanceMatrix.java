@@ -16,22 +16,94 @@
 
 package org.optaplanner.core.impl.heuristic.selector.common.nearby;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import org.optaplanner.core.impl.domain.ordinal.OrdinalManager;
 
 public final class NearbyDistanceMatrix {
 
     private final NearbyDistanceMeter nearbyDistanceMeter;
-    private final Map<Object, Object[]> originToDestinationsMap;
+    private final Map<Object, int[]> originToDestinationIndexesMap;
+    private final boolean spatialIndexEnabled;
+    private final OrdinalManager ordinalManager;
+
+    private Function<Object, Iterator<Object>> destinationIteratorProvider;
+    private ToIntFunction<Object> destinationSizeFunction;
+
+    private NearbyKdTree kdTree = null;
+    // Every destination once, so the nearest destinations of an origin are dense int indexes into this table
+    private Object[] destinationTable = new Object[16];
+    private int destinationTableSize = 0;
+    private final Map<Object, Integer> destinationToIndexMap = new IdentityHashMap<>();
+    // Indexed by origin ordinal, the origin is kept to detect a reused ordinal
+    private Object[] ordinalOrigins;
+    private int[][] ordinalDestinationIndexes;
 
     public NearbyDistanceMatrix(NearbyDistanceMeter nearbyDistanceMeter, int originSize) {
+        this(nearbyDistanceMeter, originSize, null, null, false, null);
+    }
+
+    /**
+     * Creates a matrix that sorts the destinations of an origin lazily, the first time that origin is requested.
+     * So the start of a phase doesn't have to wait until every origin has measured the distance to every destination,
+     * and origins that are never selected are never measured.
+     *
+     * @param nearbyDistanceMeter never null
+     * @param originSize {@code >= 0}, the expected number of origins
+     * @param destinationIteratorProvider null if every origin is added with
+     *        {@link #addAllDestinations(Object, Iterator, int)}, otherwise the destinations of an origin
+     * @param destinationSizeFunction null if destinationIteratorProvider is null,
+     *        otherwise the number of nearest destinations to keep for an origin
+     * @param originIndependentDestinations true if destinationIteratorProvider returns the same destinations
+     *        for every origin, in which case a {@link CoordinateNearbyDistanceMeter} finds them through a spatial index
+     * @param ordinalManager sometimes null, if not null the destinations of an origin with an ordinal
+     *        are kept in an array indexed by that ordinal instead of in a map that calls the origin's hashCode()
+     */
+    public NearbyDistanceMatrix(NearbyDistanceMeter nearbyDistanceMeter, int originSize,
+            Function<Object, Iterator<Object>> destinationIteratorProvider, ToIntFunction<Object> destinationSizeFunction,
+            boolean originIndependentDestinations, OrdinalManager ordinalManager) {
         this.nearbyDistanceMeter = nearbyDistanceMeter;
-        originToDestinationsMap = new HashMap<>(originSize);
+        originToDestinationIndexesMap = new HashMap<>(ordinalManager == null ? originSize : 0);
+        this.ordinalManager = ordinalManager;
+        if (ordinalManager != null) {
+            int ordinalCount = ordinalManager.getOrdinalCount();
+            ordinalOrigins = new Object[ordinalCount];
+            ordinalDestinationIndexes = new int[ordinalCount][];
+        }
+        this.destinationIteratorProvider = destinationIteratorProvider;
+        this.destinationSizeFunction = destinationSizeFunction;
+        spatialIndexEnabled = originIndependentDestinations
+                && nearbyDistanceMeter instanceof CoordinateNearbyDistanceMeter;
+    }
+
+    /**
+     * The matrix can outlive the phase that created it (see {@link NearbyDistanceMatrixSupply}),
+     * so every phase binds the destinations of the origins that are not sorted yet to its own selectors.
+     *
+     * @param destinationIteratorProvider never null, must return the same destinations as the previous one
+     * @param destinationSizeFunction never null, must return the same sizes as the previous one
+     */
+    public void bindDestinations(Function<Object, Iterator<Object>> destinationIteratorProvider,
+            ToIntFunction<Object> destinationSizeFunction) {
+        this.destinationIteratorProvider = destinationIteratorProvider;
+        this.destinationSizeFunction = destinationSizeFunction;
     }
 
     public void addAllDestinations(Object origin, Iterator<Object> destinationIterator, int destinationSize) {
+        int ordinal = ordinalManager == null ? OrdinalManager.NO_ORDINAL : ordinalManager.getOrdinal(origin);
+        putDestinationIndexes(origin, ordinal,
+                toDestinationIndexes(sortDestinations(origin, destinationIterator, destinationSize)));
+    }
+
+    private Object[] sortDestinations(Object origin, Iterator<Object> destinationIterator, int destinationSize) {
         Object[] destinations = new Object[destinationSize];
         double[] distances = new double[destinationSize];
         int size = 0;
@@ -64,12 +136,78 @@ public final class NearbyDistanceMatrix {
             throw new IllegalStateException("The destinationIterator's size (" + size
                     + ") differs from the expected destinationSize (" + destinationSize + ").");
         }
-        originToDestinationsMap.put(origin, destinations);
+        return destinations;
     }
 
     public Object getDestination(Object origin, int nearbyIndex) {
-        Object[] destinations = originToDestinationsMap.get(origin);
-        return destinations[nearbyIndex];
+        int ordinal = ordinalManager == null ? OrdinalManager.NO_ORDINAL : ordinalManager.getOrdinal(origin);
+        int[] destinationIndexes;
+        if (ordinal == OrdinalManager.NO_ORDINAL) {
+            destinationIndexes = originToDestinationIndexesMap.get(origin);
+        } else {
+            destinationIndexes = ordinal < ordinalOrigins.length && ordinalOrigins[ordinal] == origin
+                    ? ordinalDestinationIndexes[ordinal]
+                    : null;
+        }
+        if (destinationIndexes == null) {
+            destinationIndexes = toDestinationIndexes(computeDestinations(origin));
+            putDestinationIndexes(origin, ordinal, destinationIndexes);
+        }
+        return destinationTable[destinationIndexes[nearbyIndex]];
+    }
+
+    private int[] toDestinationIndexes(Object[] destinations) {
+        int[] destinationIndexes = new int[destinations.length];
+        for (int i = 0; i < destinations.length; i++) {
+            Object destination = destinations[i];
+            Integer destinationIndex = destinationToIndexMap.get(destination);
+            if (destinationIndex == null) {
+                destinationIndex = destinationTableSize;
+                if (destinationTableSize == destinationTable.length) {
+                    destinationTable = Arrays.copyOf(destinationTable, destinationTable.length * 2);
+                }
+                destinationTable[destinationTableSize] = destination;
+                destinationTableSize++;
+                destinationToIndexMap.put(destination, destinationIndex);
+            }
+            destinationIndexes[i] = destinationIndex;
+        }
+        return destinationIndexes;
+    }
+
+    private void putDestinationIndexes(Object origin, int ordinal, int[] destinationIndexes) {
+        if (ordinal == OrdinalManager.NO_ORDINAL) {
+            originToDestinationIndexesMap.put(origin, destinationIndexes);
+            return;
+        }
+        if (ordinal >= ordinalOrigins.length) {
+            int newLength = Math.max(ordinal + 1, ordinalOrigins.length * 2);
+            ordinalOrigins = Arrays.copyOf(ordinalOrigins, newLength);
+            ordinalDestinationIndexes = Arrays.copyOf(ordinalDestinationIndexes, newLength);
+        }
+        ordinalOrigins[ordinal] = origin;
+        ordinalDestinationIndexes[ordinal] = destinationIndexes;
+    }
+
+    private Object[] computeDestinations(Object origin) {
+        if (destinationIteratorProvider == null) {
+            throw new IllegalStateException("The origin (" + origin + ") was never added to this matrix.");
+        }
+        if (spatialIndexEnabled) {
+            return findNearestDestinations(origin);
+        }
+        return sortDestinations(origin, destinationIteratorProvider.apply(origin),
+                destinationSizeFunction.applyAsInt(origin));
+    }
+
+    private Object[] findNearestDestinations(Object origin) {
+        if (kdTree == null) {
+            List<Object> destinationList = new ArrayList<>();
+            destinationIteratorProvider.apply(origin).forEachRemaining(destinationList::add);
+            kdTree = new NearbyKdTree((CoordinateNearbyDistanceMeter<Object, Object>) nearbyDistanceMeter,
+                    destinationList);
+        }
+        return kdTree.findNearestDestinations(origin, destinationSizeFunction.applyAsInt(origin));
     }
 
 }
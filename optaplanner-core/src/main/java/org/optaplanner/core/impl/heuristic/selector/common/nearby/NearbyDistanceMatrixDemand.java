@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.common.nearby;
+
+import java.util.Objects;
+
+import org.optaplanner.core.impl.domain.variable.supply.Demand;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.entity.FromSolutionEntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.value.FromEntityPropertyValueSelector;
+import org.optaplanner.core.impl.heuristic.selector.value.FromSolutionPropertyValueSelector;
+import org.optaplanner.core.impl.heuristic.selector.value.ValueSelector;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Equal demands measure the same distances to the same destinations, so they share a {@link NearbyDistanceMatrix},
+ * also across phases.
+ * The destinations of an unfiltered selector are identified by its descriptor,
+ * the destinations of a selector that was built from a config by the values of that config
+ * (see {@link #ofSelectorConfig(NearbyDistanceMeter, Object, int)}),
+ * and the destinations of any other selector by that selector instance.
+ */
+public final class NearbyDistanceMatrixDemand<Solution_> implements Demand<Solution_, NearbyDistanceMatrixSupply> {
+
+    public static <Solution_> NearbyDistanceMatrixDemand<Solution_> ofEntitySelector(
+            NearbyDistanceMeter<?, ?> nearbyDistanceMeter, EntitySelector<Solution_> destinationEntitySelector,
+            int destinationSizeMaximum) {
+        Object destinationSource = destinationEntitySelector instanceof FromSolutionEntitySelector
+                ? destinationEntitySelector.getEntityDescriptor()
+                : destinationEntitySelector;
+        return new NearbyDistanceMatrixDemand<>(nearbyDistanceMeter.getClass(), destinationSource,
+                destinationSizeMaximum);
+    }
+
+    public static <Solution_> NearbyDistanceMatrixDemand<Solution_> ofValueSelector(
+            NearbyDistanceMeter<?, ?> nearbyDistanceMeter, ValueSelector<Solution_> destinationValueSelector,
+            int destinationSizeMaximum) {
+        Object destinationSource = destinationValueSelector instanceof FromSolutionPropertyValueSelector
+                || destinationValueSelector instanceof FromEntityPropertyValueSelector
+                        ? destinationValueSelector.getVariableDescriptor()
+                        : destinationValueSelector;
+        return new NearbyDistanceMatrixDemand<>(nearbyDistanceMeter.getClass(), destinationSource,
+                destinationSizeMaximum);
+    }
+
+    /**
+     * @param nearbyDistanceMeter never null
+     * @param destinationSelectorConfigKey never null, equal for destination selectors that select the same objects,
+     *        for example a list of the values of the config that they were built from,
+     *        so every phase with such a (filtered) selector shares the same matrix
+     * @param destinationSizeMaximum {@code >= 0}
+     * @return never null
+     */
+    public static <Solution_> NearbyDistanceMatrixDemand<Solution_> ofSelectorConfig(
+            NearbyDistanceMeter<?, ?> nearbyDistanceMeter, Object destinationSelectorConfigKey,
+            int destinationSizeMaximum) {
+        return new NearbyDistanceMatrixDemand<>(nearbyDistanceMeter.getClass(), destinationSelectorConfigKey,
+                destinationSizeMaximum);
+    }
+
+    private final Class<?> nearbyDistanceMeterClass;
+    private final Object destinationSource;
+    private final int destinationSizeMaximum;
+
+    private NearbyDistanceMatrixDemand(Class<?> nearbyDistanceMeterClass, Object destinationSource,
+            int destinationSizeMaximum) {
+        this.nearbyDistanceMeterClass = nearbyDistanceMeterClass;
+        this.destinationSource = destinationSource;
+        this.destinationSizeMaximum = destinationSizeMaximum;
+    }
+
+    // ************************************************************************
+    // Creation method
+    // ************************************************************************
+
+    @Override
+    public NearbyDistanceMatrixSupply createExternalizedSupply(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        return new NearbyDistanceMatrixSupply();
+    }
+
+    // ************************************************************************
+    // Equals/hashCode method
+    // ************************************************************************
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof NearbyDistanceMatrixDemand)) {
+            return false;
+        }
+        NearbyDistanceMatrixDemand<Solution_> other = (NearbyDistanceMatrixDemand<Solution_>) o;
+        return nearbyDistanceMeterClass.equals(other.nearbyDistanceMeterClass)
+                && destinationSource.equals(other.destinationSource)
+                && destinationSizeMaximum == other.destinationSizeMaximum;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(NearbyDistanceMatrixDemand.class.getName(), nearbyDistanceMeterClass,
+                destinationSource, destinationSizeMaximum);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + nearbyDistanceMeterClass.getSimpleName() + ", "
+                + destinationSource + ")";
+    }
+
+}
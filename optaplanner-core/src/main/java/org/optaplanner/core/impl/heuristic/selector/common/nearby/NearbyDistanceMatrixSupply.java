@@ -0,0 +1,55 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.common.nearby;
+
+import java.util.function.Supplier;
+
+import org.optaplanner.core.impl.domain.ordinal.OrdinalManager;
+import org.optaplanner.core.impl.domain.variable.supply.Supply;
+
+/**
+ * Keeps a {@link NearbyDistanceMatrix} across phases, for as long as the score director lives,
+ * so every phase doesn't measure the same distances again.
+ * It's rebuilt when a working object is added, removed or has a problem property changed,
+ * or the working solution is replaced, for example by a {@link org.optaplanner.core.api.solver.ProblemFactChange}.
+ *
+ * @see NearbyDistanceMatrixDemand
+ */
+public final class NearbyDistanceMatrixSupply implements Supply {
+
+    private NearbyDistanceMatrix nearbyDistanceMatrix = null;
+    private OrdinalManager ordinalManager = null;
+    private int workingObjectsRevision;
+
+    /**
+     * @param ordinalManager sometimes null, in which case the matrix can't detect a stale working solution
+     *        and is never reused
+     * @param nearbyDistanceMatrixFactory never null
+     * @return never null
+     */
+    public NearbyDistanceMatrix read(OrdinalManager ordinalManager,
+            Supplier<NearbyDistanceMatrix> nearbyDistanceMatrixFactory) {
+        if (nearbyDistanceMatrix == null || ordinalManager == null || this.ordinalManager != ordinalManager
+                || workingObjectsRevision != ordinalManager.getWorkingObjectsRevision()) {
+            nearbyDistanceMatrix = nearbyDistanceMatrixFactory.get();
+            this.ordinalManager = ordinalManager;
+            workingObjectsRevision = ordinalManager == null ? 0 : ordinalManager.getWorkingObjectsRevision();
+        }
+        return nearbyDistanceMatrix;
+    }
+
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.core.impl.heuristic.selector.common.nearby;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A k-d tree over the destinations of a {@link CoordinateNearbyDistanceMeter},
+ * to find the k nearest destinations of an origin in roughly {@code O(k log n)} instead of {@code O(n log k)}.
+ * <p>
+ * Destinations at the same distance are ordered by their original iteration order,
+ * just like {@link NearbyDistanceMatrix#addAllDestinations(Object, Iterator, int)} does.
+ */
+final class NearbyKdTree {
+
+    private final CoordinateNearbyDistanceMeter<Object, Object> nearbyDistanceMeter;
+    private final Object[] destinations;
+    private final double[][] coordinates;
+    /**
+     * -1 if there are no destinations.
+     */
+    private final int dimension;
+    /**
+     * An implicit balanced tree of destination indexes: the median of each range is its node.
+     */
+    private final int[] tree;
+
+    NearbyKdTree(CoordinateNearbyDistanceMeter<Object, Object> nearbyDistanceMeter, List<Object> destinationList) {
+        this.nearbyDistanceMeter = nearbyDistanceMeter;
+        int size = destinationList.size();
+        destinations = destinationList.toArray();
+        coordinates = new double[size][];
+        int dimension = -1;
+        for (int i = 0; i < size; i++) {
+            double[] destinationCoordinates = nearbyDistanceMeter.getDestinationCoordinates(destinations[i]);
+            if (dimension < 0) {
+                dimension = destinationCoordinates.length;
+            } else if (destinationCoordinates.length != dimension) {
+                throw new IllegalStateException("The nearbyDistanceMeter (" + nearbyDistanceMeter
+                        + ") returns destinationCoordinates with " + destinationCoordinates.length
+                        + " dimensions for destination (" + destinations[i]
+                        + "), but " + dimension + " dimensions for other destinations.");
+            }
+            coordinates[i] = destinationCoordinates;
+        }
+        this.dimension = dimension;
+        tree = new int[size];
+        for (int i = 0; i < size; i++) {
+            tree[i] = i;
+        }
+        build(0, size, 0);
+    }
+
+    private void build(int from, int to, int depth) {
+        if (to - from <= 1) {
+            return;
+        }
+        int axis = depth % dimension;
+        int middle = (from + to) >>> 1;
+        select(from, to - 1, middle, axis);
+        build(from, middle, depth + 1);
+        build(middle + 1, to, depth + 1);
+    }
+
+    /**
+     * Quickselect: partitions {@link #tree} between left and right (inclusive)
+     * so the k-th element is the one it would be if that range was sorted on the axis.
+     */
+    private void select(int left, int right, int k, int axis) {
+        while (right > left) {
+            double pivot = coordinates[tree[(left + right) >>> 1]][axis];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (coordinates[tree[i]][axis] < pivot) {
+                    i++;
+                }
+                while (coordinates[tree[j]][axis] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int swap = tree[i];
+                    tree[i] = tree[j];
+                    tree[j] = swap;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    public Object[] findNearestDestinations(Object origin, int destinationSize) {
+        if (destinationSize > destinations.length) {
+            throw new IllegalStateException("The destinationIterator's size (" + destinations.length
+                    + ") differs from the expected destinationSize (" + destinationSize + ").");
+        }
+        if (destinations.length == 0) {
+            // Without destinations, the dimension of the origin coordinates can't be validated
+            return new Object[0];
+        }
+        double[] originCoordinates = nearbyDistanceMeter.getOriginCoordinates(origin);
+        if (originCoordinates.length != dimension) {
+            throw new IllegalStateException("The nearbyDistanceMeter (" + nearbyDistanceMeter
+                    + ") returns originCoordinates with " + originCoordinates.length
+                    + " dimensions for origin (" + origin
+                    + "), but " + dimension + " dimensions for the destinations.");
+        }
+        NearestCandidates candidates = new NearestCandidates(destinationSize);
+        search(0, destinations.length, 0, originCoordinates, candidates);
+        return candidates.toSortedDestinations();
+    }
+
+    private void search(int from, int to, int depth, double[] originCoordinates, NearestCandidates candidates) {
+        if (from >= to) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        int destinationIndex = tree[middle];
+        double[] destinationCoordinates = coordinates[destinationIndex];
+        double squaredDistance = 0.0;
+        for (int i = 0; i < dimension; i++) {
+            double difference = destinationCoordinates[i] - originCoordinates[i];
+            squaredDistance += difference * difference;
+        }
+        candidates.offer(destinationIndex, squaredDistance);
+        int axis = depth % dimension;
+        double axisDifference = originCoordinates[axis] - destinationCoordinates[axis];
+        if (axisDifference < 0.0) {
+            search(from, middle, depth + 1, originCoordinates, candidates);
+            if (!candidates.isFull() || axisDifference * axisDifference <= candidates.getWorstSquaredDistance()) {
+                search(middle + 1, to, depth + 1, originCoordinates, candidates);
+            }
+        } else {
+            search(middle + 1, to, depth + 1, originCoordinates, candidates);
+            if (!candidates.isFull() || axisDifference * axisDifference <= candidates.getWorstSquaredDistance()) {
+                search(from, middle, depth + 1, originCoordinates, candidates);
+            }
+        }
+    }
+
+    /**
+     * A bounded max-heap, ordered by squared distance and then by destination index.
+     */
+    private final class NearestCandidates {
+
+        private final int capacity;
+        private final int[] indexes;
+        private final double[] squaredDistances;
+        private int size = 0;
+
+        private NearestCandidates(int capacity) {
+            this.capacity = capacity;
+            indexes = new int[capacity];
+            squaredDistances = new double[capacity];
+        }
+
+        private boolean isFull() {
+            return size == capacity;
+        }
+
+        private double getWorstSquaredDistance() {
+            return squaredDistances[0];
+        }
+
+        private boolean isWorse(int leftIndex, double leftSquaredDistance, int rightIndex, double rightSquaredDistance) {
+            return leftSquaredDistance > rightSquaredDistance
+                    || (leftSquaredDistance == rightSquaredDistance && leftIndex > rightIndex);
+        }
+
+        private void offer(int index, double squaredDistance) {
+            if (capacity == 0) {
+                return;
+            }
+            if (size < capacity) {
+                int child = size;
+                size++;
+                while (child > 0) {
+                    int parent = (child - 1) >>> 1;
+                    if (!isWorse(index, squaredDistance, indexes[parent], squaredDistances[parent])) {
+                        break;
+                    }
+                    indexes[child] = indexes[parent];
+                    squaredDistances[child] = squaredDistances[parent];
+                    child = parent;
+                }
+                indexes[child] = index;
+                squaredDistances[child] = squaredDistance;
+            } else if (isWorse(indexes[0], squaredDistances[0], index, squaredDistance)) {
+                siftDown(index, squaredDistance, size);
+            }
+        }
+
+        private void siftDown(int index, double squaredDistance, int heapSize) {
+            int parent = 0;
+            while (true) {
+                int child = 2 * parent + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                if (child + 1 < heapSize
+                        && isWorse(indexes[child + 1], squaredDistances[child + 1], indexes[child], squaredDistances[child])) {
+                    child++;
+                }
+                if (!isWorse(indexes[child], squaredDistances[child], index, squaredDistance)) {
+                    break;
+                }
+                indexes[parent] = indexes[child];
+                squaredDistances[parent] = squaredDistances[child];
+                parent = child;
+            }
+            indexes[parent] = index;
+            squaredDistances[parent] = squaredDistance;
+        }
+
+        private Object[] toSortedDestinations() {
+            Object[] sortedDestinations = new Object[size];
+            // Repeatedly move the worst candidate to the end
+            for (int heapSize = size; heapSize > 0; heapSize--) {
+                sortedDestinations[heapSize - 1] = destinations[indexes[0]];
+                int lastIndex = indexes[heapSize - 1];
+                double lastSquaredDistance = squaredDistances[heapSize - 1];
+                siftDown(lastIndex, lastSquaredDistance, heapSize - 1);
+            }
+            return sortedDestinations;
+        }
+
+    }
+
+}
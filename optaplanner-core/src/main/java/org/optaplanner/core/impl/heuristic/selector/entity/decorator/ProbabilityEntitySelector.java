@@ -16,11 +16,10 @@
 
 package org.optaplanner.core.impl.heuristic.selector.entity.decorator;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.ListIterator;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
+import java.util.List;
 
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
@@ -30,7 +29,7 @@ import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecyc
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import org.optaplanner.core.impl.heuristic.selector.entity.AbstractEntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
-import org.optaplanner.core.impl.solver.random.RandomUtils;
+import org.optaplanner.core.impl.solver.random.AliasMethodSampler;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 public class ProbabilityEntitySelector<Solution_> extends AbstractEntitySelector<Solution_>
@@ -40,8 +39,8 @@ public class ProbabilityEntitySelector<Solution_> extends AbstractEntitySelector
     protected final SelectionCacheType cacheType;
     protected final SelectionProbabilityWeightFactory<Solution_, Object> probabilityWeightFactory;
 
-    protected NavigableMap<Double, Object> cachedEntityMap = null;
-    protected double probabilityWeightTotal = -1.0;
+    protected final List<Object> cachedEntityList = new ArrayList<>();
+    protected final AliasMethodSampler probabilitySampler = new AliasMethodSampler();
 
     public ProbabilityEntitySelector(EntitySelector<Solution_> childEntitySelector, SelectionCacheType cacheType,
             SelectionProbabilityWeightFactory<Solution_, Object> probabilityWeightFactory) {
@@ -72,21 +71,23 @@ public class ProbabilityEntitySelector<Solution_> extends AbstractEntitySelector
 
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
-        cachedEntityMap = new TreeMap<>();
+        cachedEntityList.clear();
         ScoreDirector<Solution_> scoreDirector = solverScope.getScoreDirector();
-        double probabilityWeightOffset = 0L;
         for (Object entity : childEntitySelector) {
-            double probabilityWeight = probabilityWeightFactory.createProbabilityWeight(
-                    scoreDirector, entity);
-            cachedEntityMap.put(probabilityWeightOffset, entity);
-            probabilityWeightOffset += probabilityWeight;
+            cachedEntityList.add(entity);
+        }
+        // The alias table is only rebuilt if a weight differs from the previous cache, for example the previous step
+        probabilitySampler.setSize(cachedEntityList.size());
+        for (int i = 0; i < cachedEntityList.size(); i++) {
+            double probabilityWeight = probabilityWeightFactory.createProbabilityWeight(scoreDirector,
+                    cachedEntityList.get(i));
+            probabilitySampler.setWeight(i, probabilityWeight);
         }
-        probabilityWeightTotal = probabilityWeightOffset;
     }
 
     @Override
     public void disposeCache(SolverScope<Solution_> solverScope) {
-        probabilityWeightTotal = -1.0;
+        // Keep the weights, to compare them with those of the next cache
     }
 
     @Override
@@ -106,7 +107,7 @@ public class ProbabilityEntitySelector<Solution_> extends AbstractEntitySelector
 
     @Override
     public long getSize() {
-        return cachedEntityMap.size();
+        return cachedEntityList.size();
     }
 
     @Override
@@ -119,10 +120,7 @@ public class ProbabilityEntitySelector<Solution_> extends AbstractEntitySelector
 
             @Override
             public Object next() {
-                double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-                Map.Entry<Double, Object> entry = cachedEntityMap.floorEntry(randomOffset);
-                // entry is never null because randomOffset < probabilityWeightTotal
-                return entry.getValue();
+                return cachedEntityList.get(probabilitySampler.sample(workingRandom));
             }
 
             @Override
@@ -41,7 +41,7 @@ public class SortingEntitySelector<Solution_> extends AbstractCachingEntitySelec
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
         super.constructCache(solverScope);
-        sorter.sort(solverScope.getScoreDirector(), cachedEntityList);
+        sorter.sortCache(solverScope, cachedEntityList);
         logger.trace("    Sorted cachedEntityList: size ({}), entitySelector ({}).",
                 cachedEntityList.size(), this);
     }
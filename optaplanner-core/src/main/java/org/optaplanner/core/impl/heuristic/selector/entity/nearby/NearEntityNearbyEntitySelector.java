@@ -18,16 +18,21 @@ package org.optaplanner.core.impl.heuristic.selector.entity.nearby;
 
 import java.util.Iterator;
 import java.util.ListIterator;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.ordinal.OrdinalManager;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.SelectionIterator;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMatrix;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMatrixDemand;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyRandom;
 import org.optaplanner.core.impl.heuristic.selector.entity.AbstractEntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.mimic.MimicReplayingEntitySelector;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
 public final class NearEntityNearbyEntitySelector<Solution_> extends AbstractEntitySelector<Solution_> {
 
@@ -99,11 +104,19 @@ public final class NearEntityNearbyEntitySelector<Solution_> extends AbstractEnt
                 destinationSize = overallSizeMaximum;
             }
         }
-        nearbyDistanceMatrix = new NearbyDistanceMatrix(nearbyDistanceMeter, (int) originSize);
-        for (Iterator<Object> originIt = replayingOriginEntitySelector.endingIterator(); originIt.hasNext();) {
-            final Object origin = originIt.next();
-            nearbyDistanceMatrix.addAllDestinations(origin, childEntitySelector.endingIterator(), destinationSize);
-        }
+        final int finalDestinationSize = destinationSize;
+        Function<Object, Iterator<Object>> destinationIteratorProvider = origin -> childEntitySelector.endingIterator();
+        ToIntFunction<Object> destinationSizeFunction = origin -> finalDestinationSize;
+        // Each origin's destinations are sorted lazily, when that origin is first selected,
+        // and kept for the next phases until the working objects change
+        InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
+        OrdinalManager ordinalManager = scoreDirector.getOrdinalManager();
+        nearbyDistanceMatrix = scoreDirector.getSupplyManager()
+                .demand(NearbyDistanceMatrixDemand.ofEntitySelector(nearbyDistanceMeter, childEntitySelector,
+                        finalDestinationSize))
+                .read(ordinalManager, () -> new NearbyDistanceMatrix(nearbyDistanceMeter, (int) originSize,
+                        destinationIteratorProvider, destinationSizeFunction, true, ordinalManager));
+        nearbyDistanceMatrix.bindDestinations(destinationIteratorProvider, destinationSizeFunction);
     }
 
     @Override
@@ -34,12 +34,14 @@ import org.optaplanner.core.config.heuristic.selector.entity.pillar.SubPillarCon
 import org.optaplanner.core.config.heuristic.selector.move.generic.SubPillarType;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.selector.AbstractSelector;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleBridge;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleListener;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.CachedListRandomIterator;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.entity.FromSolutionEntitySelector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 /**
@@ -55,6 +57,7 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
     protected final boolean randomSelection;
     protected final SubPillarConfigPolicy subpillarConfigPolicy;
 
+    protected PillarSupply<Solution_> pillarSupply = null;
     protected List<List<Object>> cachedBasePillarList = null;
 
     public DefaultPillarSelector(EntitySelector<Solution_> entitySelector,
@@ -132,8 +135,37 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
         return CACHE_TYPE;
     }
 
+    @Override
+    public void solvingStarted(SolverScope<Solution_> solverScope) {
+        super.solvingStarted(solverScope);
+        // The pillar index holds every entity, so it only applies if the entitySelector selects every entity unsorted
+        if (entitySelector instanceof FromSolutionEntitySelector
+                && subpillarConfigPolicy.getEntityComparator() == null) {
+            SupplyManager<Solution_> supplyManager = solverScope.getScoreDirector().getSupplyManager();
+            pillarSupply = supplyManager.demand(
+                    new PillarDemand<>(entitySelector.getEntityDescriptor(), variableDescriptors));
+        }
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        super.solvingEnded(solverScope);
+        pillarSupply = null;
+    }
+
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
+        int minimumSubPillarSize = subpillarConfigPolicy.getMinimumSubPillarSize();
+        if (pillarSupply != null) {
+            // Only the pillars of the entities that changed since the previous step are rebuilt,
+            // in the same order as the grouping below
+            List<List<Object>> pillarList = pillarSupply.getPillarList();
+            if (minimumSubPillarSize > 1) {
+                pillarList.removeIf(pillar -> pillar.size() < minimumSubPillarSize);
+            }
+            cachedBasePillarList = pillarList;
+            return;
+        }
         long entitySize = entitySelector.getSize();
         if (entitySize > (long) Integer.MAX_VALUE) {
             throw new IllegalStateException("The selector (" + this + ") has an entitySelector ("
@@ -160,7 +192,6 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
         });
         // Store the cache. Exclude pillars of size lower than the minimumSubPillarSize, as we shouldn't select those.
         Collection<List<Object>> pillarLists = valueStateToPillarMap.values();
-        int minimumSubPillarSize = subpillarConfigPolicy.getMinimumSubPillarSize();
         if (minimumSubPillarSize > 1) {
             cachedBasePillarList = pillarLists.stream()
                     .filter(pillar -> pillar.size() >= minimumSubPillarSize)
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.Demand;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+public class PillarDemand<Solution_> implements Demand<Solution_, PillarSupply<Solution_>> {
+
+    protected final EntityDescriptor<Solution_> entityDescriptor;
+    protected final List<GenuineVariableDescriptor<Solution_>> variableDescriptors;
+
+    public PillarDemand(EntityDescriptor<Solution_> entityDescriptor,
+            List<GenuineVariableDescriptor<Solution_>> variableDescriptors) {
+        this.entityDescriptor = entityDescriptor;
+        this.variableDescriptors = variableDescriptors;
+    }
+
+    public EntityDescriptor<Solution_> getEntityDescriptor() {
+        return entityDescriptor;
+    }
+
+    public List<GenuineVariableDescriptor<Solution_>> getVariableDescriptors() {
+        return variableDescriptors;
+    }
+
+    // ************************************************************************
+    // Creation method
+    // ************************************************************************
+
+    @Override
+    public PillarSupply<Solution_> createExternalizedSupply(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        return new PillarSupply<>(entityDescriptor, variableDescriptors);
+    }
+
+    // ************************************************************************
+    // Equals/hashCode method
+    // ************************************************************************
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PillarDemand)) {
+            return false;
+        }
+        PillarDemand<Solution_> other = (PillarDemand<Solution_>) o;
+        return entityDescriptor.equals(other.entityDescriptor)
+                && variableDescriptors.equals(other.variableDescriptors);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(PillarDemand.class.getName(), entityDescriptor, variableDescriptors);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + entityDescriptor.getEntityClass().getSimpleName()
+                + ", " + variableDescriptors + ")";
+    }
+
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.SourcedVariableListener;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Groups all entities of an entity class into pillars, by the values of some of their genuine variables.
+ * The pillars are updated incrementally: only the entities of which a variable changed move to another pillar.
+ * <p>
+ * The pillars are ordered like the fallback grouping of {@link DefaultPillarSelector}:
+ * by the first entity of each pillar, in the order of {@link EntityDescriptor#extractEntities(Object)}
+ * on the last reset of the working solution.
+ * Entities added afterwards come after all the others.
+ * <p>
+ * The entity class can be a subclass of the class that declares the variables,
+ * so the entities of other classes that share those variables are ignored.
+ * <p>
+ * To get an instance, demand a {@link PillarDemand} from {@link InnerScoreDirector#getSupplyManager()}.
+ */
+public class PillarSupply<Solution_> implements SourcedVariableListener<Solution_, Object> {
+
+    protected final EntityDescriptor<Solution_> entityDescriptor;
+    protected final List<GenuineVariableDescriptor<Solution_>> variableDescriptors;
+
+    protected Map<Object, Pillar> valueStateToPillarMap = null;
+    protected Map<Object, Integer> entityToIndexMap = null;
+    protected NavigableMap<Integer, Pillar> firstIndexToPillarMap = null;
+    protected int nextIndex = 0;
+
+    public PillarSupply(EntityDescriptor<Solution_> entityDescriptor,
+            List<GenuineVariableDescriptor<Solution_>> variableDescriptors) {
+        this.entityDescriptor = entityDescriptor;
+        this.variableDescriptors = variableDescriptors;
+    }
+
+    @Override
+    public VariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return variableDescriptors.get(0);
+    }
+
+    @Override
+    public List<VariableDescriptor<Solution_>> getSourceVariableDescriptorList() {
+        return new ArrayList<>(variableDescriptors);
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+        List<Object> entityList = entityDescriptor.extractEntities(scoreDirector.getWorkingSolution());
+        valueStateToPillarMap = new HashMap<>();
+        entityToIndexMap = new IdentityHashMap<>(entityList.size());
+        firstIndexToPillarMap = new TreeMap<>();
+        nextIndex = 0;
+        for (Object entity : entityList) {
+            entityToIndexMap.put(entity, nextIndex++);
+            insert(entity);
+        }
+    }
+
+    @Override
+    public void close() {
+        valueStateToPillarMap = null;
+        entityToIndexMap = null;
+        firstIndexToPillarMap = null;
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        if (!entityDescriptor.matchesEntity(entity)) {
+            return;
+        }
+        entityToIndexMap.put(entity, nextIndex++);
+        insert(entity);
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        if (entityDescriptor.matchesEntity(entity)) {
+            retract(entity);
+        }
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        if (entityDescriptor.matchesEntity(entity)) {
+            insert(entity);
+        }
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        if (entityDescriptor.matchesEntity(entity)) {
+            retract(entity);
+            entityToIndexMap.remove(entity);
+        }
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    private Object extractValueState(Object entity) {
+        int variableCount = variableDescriptors.size();
+        if (variableCount == 1) {
+            return variableDescriptors.get(0).getValue(entity);
+        }
+        Object[] valueState = new Object[variableCount];
+        for (int i = 0; i < variableCount; i++) {
+            valueState[i] = variableDescriptors.get(i).getValue(entity);
+        }
+        return Arrays.asList(valueState);
+    }
+
+    protected void insert(Object entity) {
+        Object valueState = extractValueState(entity);
+        Integer index = entityToIndexMap.get(entity);
+        if (index == null) {
+            throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                    + " because the entity (" + entity
+                    + ") cannot be inserted: it was never added.");
+        }
+        Pillar pillar = valueStateToPillarMap.computeIfAbsent(valueState, Pillar::new);
+        if (pillar.indexToEntityMap.put(index, entity) != null) {
+            throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                    + " because the entity (" + entity
+                    + ") cannot be inserted: it is already in a pillar.");
+        }
+        if (pillar.indexToEntityMap.firstKey().equals(index)) {
+            if (pillar.indexToEntityMap.size() > 1) {
+                firstIndexToPillarMap.remove(pillar.indexToEntityMap.higherKey(index));
+            }
+            firstIndexToPillarMap.put(index, pillar);
+        }
+        pillar.snapshot = null;
+    }
+
+    protected void retract(Object entity) {
+        Object valueState = extractValueState(entity);
+        Pillar pillar = valueStateToPillarMap.get(valueState);
+        Integer index = entityToIndexMap.get(entity);
+        if (pillar == null || index == null || pillar.indexToEntityMap.get(index) != entity) {
+            throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                    + " because the entity (" + entity
+                    + ") cannot be retracted: the entity was never inserted for that valueState (" + valueState + ").");
+        }
+        boolean first = pillar.indexToEntityMap.firstKey().equals(index);
+        pillar.indexToEntityMap.remove(index);
+        pillar.snapshot = null;
+        if (first) {
+            firstIndexToPillarMap.remove(index);
+            if (pillar.indexToEntityMap.isEmpty()) {
+                valueStateToPillarMap.remove(valueState);
+            } else {
+                firstIndexToPillarMap.put(pillar.indexToEntityMap.firstKey(), pillar);
+            }
+        }
+    }
+
+    /**
+     * Only the pillars that changed since the previous call are copied.
+     *
+     * @return never null, a new list of which each pillar is a snapshot of its current entities,
+     *         so it is not affected by later changes of the working solution
+     */
+    public List<List<Object>> getPillarList() {
+        List<List<Object>> pillarSnapshotList = new ArrayList<>(firstIndexToPillarMap.size());
+        for (Pillar pillar : firstIndexToPillarMap.values()) {
+            if (pillar.snapshot == null) {
+                pillar.snapshot = Arrays.asList(pillar.indexToEntityMap.values().toArray());
+            }
+            pillarSnapshotList.add(pillar.snapshot);
+        }
+        return pillarSnapshotList;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + entityDescriptor.getEntityClass().getSimpleName()
+                + ", " + variableDescriptors + ")";
+    }
+
+    protected static final class Pillar {
+
+        private final Object valueState;
+        // Keeps the entities in the order of the entity list
+        private final NavigableMap<Integer, Object> indexToEntityMap = new TreeMap<>();
+        private List<Object> snapshot = null;
+
+        private Pillar(Object valueState) {
+            this.valueState = valueState;
+        }
+
+        @Override
+        public String toString() {
+            return "Pillar(" + valueState + ")";
+        }
+
+    }
+
+}
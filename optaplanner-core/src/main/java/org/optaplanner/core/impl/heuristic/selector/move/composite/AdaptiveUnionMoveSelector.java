@@ -0,0 +1,295 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.composite;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.config.heuristic.selector.move.composite.AdaptiveSelectionPolicy;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+
+/**
+ * A random {@link UnionMoveSelector} that learns the selection probability of each child {@link MoveSelector}
+ * during the phase, instead of using fixed weights.
+ * <p>
+ * The quality of a child move selector is its number of step score improvements per millisecond
+ * spent on evaluating its moves, both as exponential moving averages over the steps that selected its moves.
+ * The time spent on a move is measured from its selection until the selection of the next move.
+ * The {@link AdaptiveSelectionPolicy} turns those qualities into selection probabilities,
+ * which never drop below the minimum probability, so every child move selector keeps being explored.
+ * <p>
+ * Only local search steps are learned from.
+ * A moveThreadCount is not supported, because the step of a move thread is a rebased copy of the selected move.
+ *
+ * @see UnionMoveSelector
+ */
+public class AdaptiveUnionMoveSelector<Solution_> extends UnionMoveSelector<Solution_> {
+
+    protected final LearnedProbabilityWeightFactory<Solution_> learnedProbabilityWeightFactory;
+    protected final double[] initialProbabilities;
+    protected final AdaptiveSelectionPolicy adaptiveSelectionPolicy;
+    protected final double learningRate;
+    protected final double minimumProbability;
+
+    protected double[] rewardAverages;
+    protected double[] timeMillisAverages;
+
+    protected long[] selectedMoveCounts;
+    protected long[] stepCounts;
+    protected long[] improvingStepCounts;
+    protected long[] timeNanosSpents;
+
+    protected long[] stepSelectedMoveCounts;
+    protected long[] stepTimeNanosSpents;
+    protected Map<Move<Solution_>, Integer> stepMoveToChildIndexMap;
+    protected int lastSelectedChildIndex;
+    protected long lastSelectedNanos;
+
+    /**
+     * @param childMoveSelectorList never null
+     * @param initialProbabilityWeights never null, one non-negative weight per child move selector
+     * @param adaptiveSelectionPolicy never null
+     * @param learningRate {@code 0.0 < learningRate <= 1.0}
+     * @param minimumProbability {@code 0.0 <= minimumProbability < 1.0 / childMoveSelectorList.size()}
+     */
+    public AdaptiveUnionMoveSelector(List<MoveSelector<Solution_>> childMoveSelectorList,
+            double[] initialProbabilityWeights, AdaptiveSelectionPolicy adaptiveSelectionPolicy,
+            double learningRate, double minimumProbability) {
+        super(childMoveSelectorList, true, new LearnedProbabilityWeightFactory<>(childMoveSelectorList));
+        learnedProbabilityWeightFactory = (LearnedProbabilityWeightFactory<Solution_>) selectorProbabilityWeightFactory;
+        if (initialProbabilityWeights.length != childMoveSelectorList.size()) {
+            throw new IllegalArgumentException("The selector (" + this
+                    + ") has a different number of initialProbabilityWeights (" + initialProbabilityWeights.length
+                    + ") than childMoveSelectors (" + childMoveSelectorList.size() + ").");
+        }
+        double weightTotal = Arrays.stream(initialProbabilityWeights).sum();
+        if (weightTotal <= 0.0) {
+            throw new IllegalArgumentException("The selector (" + this
+                    + ") has initialProbabilityWeights (" + Arrays.toString(initialProbabilityWeights)
+                    + ") with a total (" + weightTotal + ") that isn't positive.");
+        }
+        initialProbabilities = new double[initialProbabilityWeights.length];
+        for (int i = 0; i < initialProbabilityWeights.length; i++) {
+            // Respect the minimum probability from the start, so the first steps explore every child
+            initialProbabilities[i] = minimumProbability + (1.0 - initialProbabilityWeights.length * minimumProbability)
+                    * initialProbabilityWeights[i] / weightTotal;
+        }
+        this.adaptiveSelectionPolicy = adaptiveSelectionPolicy;
+        this.learningRate = learningRate;
+        this.minimumProbability = minimumProbability;
+    }
+
+    /**
+     * @param childIndex {@code 0 <= childIndex < getChildMoveSelectorList().size()}
+     * @return {@code 0.0 <= probability <= 1.0}, the current selection probability of that child move selector
+     */
+    public double getProbability(int childIndex) {
+        return learnedProbabilityWeightFactory.probabilities[childIndex];
+    }
+
+    public long getSelectedMoveCount(int childIndex) {
+        return selectedMoveCounts[childIndex];
+    }
+
+    /**
+     * @param childIndex {@code 0 <= childIndex < getChildMoveSelectorList().size()}
+     * @return the number of steps with a move of that child move selector
+     */
+    public long getStepCount(int childIndex) {
+        return stepCounts[childIndex];
+    }
+
+    public long getImprovingStepCount(int childIndex) {
+        return improvingStepCounts[childIndex];
+    }
+
+    public long getTimeMillisSpent(int childIndex) {
+        return timeNanosSpents[childIndex] / 1_000_000L;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        int childCount = childMoveSelectorList.size();
+        System.arraycopy(initialProbabilities, 0, learnedProbabilityWeightFactory.probabilities, 0, childCount);
+        rewardAverages = new double[childCount];
+        timeMillisAverages = new double[childCount];
+        selectedMoveCounts = new long[childCount];
+        stepCounts = new long[childCount];
+        improvingStepCounts = new long[childCount];
+        timeNanosSpents = new long[childCount];
+        stepSelectedMoveCounts = new long[childCount];
+        stepTimeNanosSpents = new long[childCount];
+        stepMoveToChildIndexMap = new IdentityHashMap<>();
+        phaseScope.getSolverScope().getAdaptiveUnionMoveSelectorList().add(this);
+    }
+
+    @Override
+    public void stepStarted(AbstractStepScope<Solution_> stepScope) {
+        super.stepStarted(stepScope);
+        Arrays.fill(stepSelectedMoveCounts, 0L);
+        Arrays.fill(stepTimeNanosSpents, 0L);
+        stepMoveToChildIndexMap.clear();
+        lastSelectedChildIndex = -1;
+    }
+
+    @Override
+    protected void randomMoveSelected(MoveSelector<Solution_> childMoveSelector, Move<Solution_> move) {
+        long nanos = System.nanoTime();
+        if (lastSelectedChildIndex >= 0) {
+            stepTimeNanosSpents[lastSelectedChildIndex] += nanos - lastSelectedNanos;
+        }
+        int childIndex = learnedProbabilityWeightFactory.childIndexMap.get(childMoveSelector);
+        stepSelectedMoveCounts[childIndex]++;
+        stepMoveToChildIndexMap.put(move, childIndex);
+        lastSelectedChildIndex = childIndex;
+        lastSelectedNanos = nanos;
+    }
+
+    @Override
+    public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+        if (lastSelectedChildIndex >= 0) {
+            stepTimeNanosSpents[lastSelectedChildIndex] += System.nanoTime() - lastSelectedNanos;
+        }
+        if (stepScope instanceof LocalSearchStepScope) {
+            learn((LocalSearchStepScope<Solution_>) stepScope);
+        }
+        stepMoveToChildIndexMap.clear();
+        super.stepEnded(stepScope);
+    }
+
+    private void learn(LocalSearchStepScope<Solution_> stepScope) {
+        Move<Solution_> step = stepScope.getStep();
+        // Null if the step came from another move selector
+        Integer stepChildIndex = step == null ? null : stepMoveToChildIndexMap.get(step);
+        boolean improving = false;
+        if (stepChildIndex != null) {
+            Score lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+            improving = ((Score) stepScope.getScore()).compareTo(lastStepScore) > 0;
+            stepCounts[stepChildIndex]++;
+            if (improving) {
+                improvingStepCounts[stepChildIndex]++;
+            }
+        }
+        double[] qualities = new double[childMoveSelectorList.size()];
+        for (int i = 0; i < qualities.length; i++) {
+            selectedMoveCounts[i] += stepSelectedMoveCounts[i];
+            timeNanosSpents[i] += stepTimeNanosSpents[i];
+            if (stepSelectedMoveCounts[i] > 0L) {
+                double reward = (improving && stepChildIndex == i) ? 1.0 : 0.0;
+                rewardAverages[i] += learningRate * (reward - rewardAverages[i]);
+                timeMillisAverages[i] += learningRate * (stepTimeNanosSpents[i] / 1_000_000.0 - timeMillisAverages[i]);
+            }
+            qualities[i] = timeMillisAverages[i] > 0.0 ? rewardAverages[i] / timeMillisAverages[i] : 0.0;
+        }
+        updateProbabilities(qualities);
+    }
+
+    private void updateProbabilities(double[] qualities) {
+        double[] probabilities = learnedProbabilityWeightFactory.probabilities;
+        int childCount = probabilities.length;
+        switch (adaptiveSelectionPolicy) {
+            case PROBABILITY_MATCHING:
+                double qualityTotal = Arrays.stream(qualities).sum();
+                if (qualityTotal <= 0.0) {
+                    // Nothing learned yet
+                    return;
+                }
+                for (int i = 0; i < childCount; i++) {
+                    probabilities[i] = minimumProbability
+                            + (1.0 - childCount * minimumProbability) * qualities[i] / qualityTotal;
+                }
+                break;
+            case ADAPTIVE_PURSUIT:
+                int bestIndex = -1;
+                for (int i = 0; i < childCount; i++) {
+                    if (qualities[i] > 0.0 && (bestIndex < 0 || qualities[i] > qualities[bestIndex])) {
+                        bestIndex = i;
+                    }
+                }
+                if (bestIndex < 0) {
+                    // Nothing learned yet
+                    return;
+                }
+                double maximumProbability = 1.0 - (childCount - 1) * minimumProbability;
+                for (int i = 0; i < childCount; i++) {
+                    double targetProbability = (i == bestIndex) ? maximumProbability : minimumProbability;
+                    probabilities[i] += learningRate * (targetProbability - probabilities[i]);
+                }
+                break;
+            default:
+                throw new IllegalStateException("The adaptiveSelectionPolicy (" + adaptiveSelectionPolicy
+                        + ") is not implemented.");
+        }
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        phaseScope.getSolverScope().getAdaptiveUnionMoveSelectorList().remove(this);
+        if (logger.isDebugEnabled()) {
+            for (int i = 0; i < childMoveSelectorList.size(); i++) {
+                logger.debug("        Adaptive union child ({}): probability ({}), selected move count ({}),"
+                        + " step count ({}), improving step count ({}), time spent ({}).",
+                        childMoveSelectorList.get(i), getProbability(i), selectedMoveCounts[i],
+                        stepCounts[i], improvingStepCounts[i], getTimeMillisSpent(i));
+            }
+        }
+        stepMoveToChildIndexMap = null;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveUnion(" + childMoveSelectorList + ")";
+    }
+
+    protected static class LearnedProbabilityWeightFactory<Solution_>
+            implements SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> {
+
+        private final Map<MoveSelector<Solution_>, Integer> childIndexMap;
+        private final double[] probabilities;
+
+        private LearnedProbabilityWeightFactory(List<MoveSelector<Solution_>> childMoveSelectorList) {
+            childIndexMap = new IdentityHashMap<>(childMoveSelectorList.size());
+            for (int i = 0; i < childMoveSelectorList.size(); i++) {
+                childIndexMap.put(childMoveSelectorList.get(i), i);
+            }
+            probabilities = new double[childMoveSelectorList.size()];
+        }
+
+        @Override
+        public double createProbabilityWeight(ScoreDirector<Solution_> scoreDirector,
+                MoveSelector<Solution_> moveSelector) {
+            return probabilities[childIndexMap.get(moveSelector)];
+        }
+
+    }
+
+}
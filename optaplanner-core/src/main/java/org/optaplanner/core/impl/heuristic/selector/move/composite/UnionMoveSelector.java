@@ -30,8 +30,10 @@ import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.SelectionIterator;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 import org.optaplanner.core.impl.solver.random.RandomUtils;
+import org.optaplanner.core.impl.solver.trace.MoveEvaluationTracer;
 
 /**
  * A {@link CompositeMoveSelector} that unions 2 or more {@link MoveSelector}s.
@@ -47,6 +49,8 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
     protected final SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> selectorProbabilityWeightFactory;
 
     protected ScoreDirector<Solution_> scoreDirector;
+    // Null unless the moves are traced
+    protected MoveEvaluationTracer<Solution_> moveEvaluationTracer;
 
     public UnionMoveSelector(List<MoveSelector<Solution_>> childMoveSelectorList, boolean randomSelection) {
         this(childMoveSelectorList, randomSelection, null);
@@ -73,6 +77,18 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
         }
     }
 
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        moveEvaluationTracer = phaseScope.getSolverScope().getMoveEvaluationTracer();
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        moveEvaluationTracer = null;
+    }
+
     @Override
     public void stepStarted(AbstractStepScope<Solution_> stepScope) {
         scoreDirector = stepScope.getScoreDirector();
@@ -119,8 +135,16 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
     public Iterator<Move<Solution_>> iterator() {
         if (!randomSelection) {
             Stream<Move<Solution_>> stream = Stream.empty();
+            MoveEvaluationTracer<Solution_> tracer = moveEvaluationTracer;
             for (MoveSelector<Solution_> moveSelector : childMoveSelectorList) {
-                stream = Stream.concat(stream, toStream(moveSelector));
+                Stream<Move<Solution_>> childStream = toStream(moveSelector);
+                if (tracer != null) {
+                    childStream = childStream.map(move -> {
+                        tracer.setMoveSelector(moveSelector);
+                        return move;
+                    });
+                }
+                stream = Stream.concat(stream, childStream);
             }
             return stream.iterator();
         } else {
@@ -128,6 +152,16 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
         }
     }
 
+    /**
+     * Called by the {@link RandomUnionMoveIterator} for every move it selects.
+     *
+     * @param childMoveSelector never null, the child move selector that selected the move
+     * @param move never null
+     */
+    protected void randomMoveSelected(MoveSelector<Solution_> childMoveSelector, Move<Solution_> move) {
+        // Hook for subclasses
+    }
+
     private static <Solution_> Stream<Move<Solution_>> toStream(MoveSelector<Solution_> moveSelector) {
         return StreamSupport.stream(moveSelector.spliterator(), false);
     }
@@ -136,7 +170,7 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
 
         protected final Map<Iterator<Move<Solution_>>, ProbabilityItem<Solution_>> probabilityItemMap;
 
-        protected final NavigableMap<Double, Iterator<Move<Solution_>>> moveIteratorMap;
+        protected final NavigableMap<Double, ProbabilityItem<Solution_>> moveIteratorMap;
         protected double probabilityWeightTotal;
         protected boolean stale;
 
@@ -174,13 +208,19 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
                 refreshMoveIteratorMap();
             }
             double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-            Map.Entry<Double, Iterator<Move<Solution_>>> entry = moveIteratorMap.floorEntry(randomOffset);
+            Map.Entry<Double, ProbabilityItem<Solution_>> entry = moveIteratorMap.floorEntry(randomOffset);
             // entry is never null because randomOffset < probabilityWeightTotal
-            Iterator<Move<Solution_>> moveIterator = entry.getValue();
+            ProbabilityItem<Solution_> probabilityItem = entry.getValue();
+            Iterator<Move<Solution_>> moveIterator = probabilityItem.moveIterator;
+            if (moveEvaluationTracer != null) {
+                // Before selecting the move, so a nested union overwrites it with its own child
+                moveEvaluationTracer.setMoveSelector(probabilityItem.moveSelector);
+            }
             Move<Solution_> next = moveIterator.next();
             if (!moveIterator.hasNext()) {
                 stale = true;
             }
+            randomMoveSelected(probabilityItem.moveSelector, next);
             return next;
         }
 
@@ -190,7 +230,7 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
             for (ProbabilityItem<Solution_> probabilityItem : probabilityItemMap.values()) {
                 if (probabilityItem.probabilityWeight != 0.0
                         && probabilityItem.moveIterator.hasNext()) {
-                    moveIteratorMap.put(probabilityWeightOffset, probabilityItem.moveIterator);
+                    moveIteratorMap.put(probabilityWeightOffset, probabilityItem);
                     probabilityWeightOffset += probabilityItem.probabilityWeight;
                 }
             }
@@ -199,7 +239,7 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
 
     }
 
-    private static class ProbabilityItem<Solution_> {
+    protected static class ProbabilityItem<Solution_> {
 
         protected MoveSelector<Solution_> moveSelector;
         protected Iterator<Move<Solution_>> moveIterator;
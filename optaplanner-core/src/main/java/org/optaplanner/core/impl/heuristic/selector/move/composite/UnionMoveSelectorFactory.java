@@ -16,6 +16,8 @@
 
 package org.optaplanner.core.impl.heuristic.selector.move.composite;
 
+import static org.apache.commons.lang3.ObjectUtils.defaultIfNull;
+
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +34,8 @@ import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
 public class UnionMoveSelectorFactory<Solution_>
         extends AbstractCompositeMoveSelectorFactory<Solution_, UnionMoveSelectorConfig> {
 
+    private static final double DEFAULT_ADAPTIVE_LEARNING_RATE = 0.1;
+
     public UnionMoveSelectorFactory(UnionMoveSelectorConfig moveSelectorConfig) {
         super(moveSelectorConfig);
     }
@@ -42,6 +46,9 @@ public class UnionMoveSelectorFactory<Solution_>
         List<MoveSelector<Solution_>> moveSelectorList = buildInnerMoveSelectors(config.getMoveSelectorConfigList(),
                 configPolicy, minimumCacheType, randomSelection);
 
+        if (config.getAdaptiveSelectionPolicy() != null) {
+            return buildAdaptiveUnionMoveSelector(configPolicy, moveSelectorList, randomSelection);
+        }
         SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> selectorProbabilityWeightFactory;
         if (config.getSelectorProbabilityWeightFactoryClass() != null) {
             if (!randomSelection) {
@@ -71,4 +78,49 @@ public class UnionMoveSelectorFactory<Solution_>
         }
         return new UnionMoveSelector<>(moveSelectorList, randomSelection, selectorProbabilityWeightFactory);
     }
+
+    private AdaptiveUnionMoveSelector<Solution_> buildAdaptiveUnionMoveSelector(
+            HeuristicConfigPolicy<Solution_> configPolicy, List<MoveSelector<Solution_>> moveSelectorList,
+            boolean randomSelection) {
+        if (!randomSelection) {
+            throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                    + ") with adaptiveSelectionPolicy (" + config.getAdaptiveSelectionPolicy()
+                    + ") has non-random randomSelection (" + randomSelection + ").");
+        }
+        if (configPolicy.getMoveThreadCount() != null) {
+            // A move thread rebases the step, so the selector can't tell which of its child move selectors selected it
+            throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                    + ") with adaptiveSelectionPolicy (" + config.getAdaptiveSelectionPolicy()
+                    + ") does not support a moveThreadCount (" + configPolicy.getMoveThreadCount() + ").\n"
+                    + "Maybe remove the adaptiveSelectionPolicy or the moveThreadCount.");
+        }
+        if (config.getSelectorProbabilityWeightFactoryClass() != null) {
+            throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                    + ") with adaptiveSelectionPolicy (" + config.getAdaptiveSelectionPolicy()
+                    + ") cannot have a selectorProbabilityWeightFactoryClass ("
+                    + config.getSelectorProbabilityWeightFactoryClass() + ").");
+        }
+        double learningRate = defaultIfNull(config.getAdaptiveLearningRate(), DEFAULT_ADAPTIVE_LEARNING_RATE);
+        if (learningRate <= 0.0 || learningRate > 1.0) {
+            throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                    + ") has an adaptiveLearningRate (" + learningRate + ") which is not in the range ]0.0, 1.0].");
+        }
+        int childCount = moveSelectorList.size();
+        // By default, each child keeps at least a fifth of its uniform share
+        double minimumProbability = defaultIfNull(config.getAdaptiveMinimumProbability(), 0.2 / childCount);
+        if (minimumProbability < 0.0 || minimumProbability * childCount >= 1.0) {
+            throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                    + ") has an adaptiveMinimumProbability (" + minimumProbability
+                    + ") which is not in the range [0.0, " + (1.0 / childCount) + "[ for its " + childCount
+                    + " child moveSelectors.");
+        }
+        double[] initialProbabilityWeights = new double[childCount];
+        for (int i = 0; i < childCount; i++) {
+            Double fixedProbabilityWeight = config.getMoveSelectorConfigList().get(i).getFixedProbabilityWeight();
+            initialProbabilityWeights[i] = fixedProbabilityWeight == null ? 1.0 : fixedProbabilityWeight;
+        }
+        return new AdaptiveUnionMoveSelector<>(moveSelectorList, initialProbabilityWeights,
+                config.getAdaptiveSelectionPolicy(), learningRate, minimumProbability);
+    }
+
 }
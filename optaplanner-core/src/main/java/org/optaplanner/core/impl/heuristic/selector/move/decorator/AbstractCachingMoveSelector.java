@@ -16,7 +16,6 @@
 
 package org.optaplanner.core.impl.heuristic.selector.move.decorator;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
@@ -25,6 +24,7 @@ import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecyc
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleListener;
 import org.optaplanner.core.impl.heuristic.selector.move.AbstractMoveSelector;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 public abstract class AbstractCachingMoveSelector<Solution_> extends AbstractMoveSelector<Solution_>
@@ -73,7 +73,9 @@ public abstract class AbstractCachingMoveSelector<Solution_> extends AbstractMov
                     + ") with childSize (" + childSize
                     + ") which is higher than Integer.MAX_VALUE.");
         }
-        cachedMoveList = new ArrayList<>((int) childSize);
+        InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
+        cachedMoveList = new CompactMoveList<>(scoreDirector == null ? null : scoreDirector.getOrdinalManager(),
+                (int) childSize);
         childMoveSelector.iterator().forEachRemaining(cachedMoveList::add);
         logger.trace("    Created cachedMoveList: size ({}), moveSelector ({}).",
                 cachedMoveList.size(), this);
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.decorator;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.optaplanner.core.impl.domain.ordinal.OrdinalManager;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.SwapMove;
+
+/**
+ * A {@link List} of {@link Move}s for the caching {@link org.optaplanner.core.impl.heuristic.selector.move.MoveSelector}s.
+ * It stores generic {@link ChangeMove}s and {@link SwapMove}s as a pair of {@link OrdinalManager ordinals} per move
+ * in a {@code long[]}, instead of as move instances,
+ * as long as all of its moves are of the same type and for the same variable(s)
+ * and all of their entities and values are working objects with an ordinal.
+ * Otherwise it falls back to an {@link ArrayList} of move instances.
+ * <p>
+ * A decoded move is kept in a bounded cache, indexed by its list index,
+ * so iterating the list again, or randomly selecting from a list that fits in that cache, reuses the decoded moves
+ * instead of allocating new ones.
+ * Because moves are immutable, a reused move is safe for every caller that holds on to a selected move,
+ * such as a forager that keeps its finalists.
+ * <p>
+ * The ordinals are only valid as long as the working objects don't change,
+ * which holds because every cache is rebuilt when the solver restarts for a problem fact change.
+ *
+ * @param <Solution_> the solution type, the class with the {@link org.optaplanner.core.api.domain.solution.PlanningSolution}
+ *        annotation
+ */
+public class CompactMoveList<Solution_> extends AbstractList<Move<Solution_>> implements RandomAccess {
+
+    private enum Encoding {
+        CHANGE,
+        SWAP
+    }
+
+    private static final int NULL_ORDINAL = -1;
+    private static final int MAXIMUM_DECODED_MOVE_CACHE_SIZE = 4096;
+
+    private final OrdinalManager ordinalManager;
+    private int workingObjectsRevision;
+
+    private Encoding encoding = null;
+    private GenuineVariableDescriptor<Solution_> changeVariableDescriptor = null;
+    private List<GenuineVariableDescriptor<Solution_>> swapVariableDescriptorList = null;
+    private long[] encodedMoves;
+    private int size = 0;
+
+    // Direct mapped by index, a cached move is only valid if its encoded move still matches
+    private long[] decodedMoveCacheKeys = null;
+    private Move<Solution_>[] decodedMoveCache = null;
+
+    private List<Move<Solution_>> moveList = null;
+
+    /**
+     * @param ordinalManager sometimes null, in which case the moves are always stored as move instances
+     * @param initialCapacity {@code >= 0}
+     */
+    public CompactMoveList(OrdinalManager ordinalManager, int initialCapacity) {
+        this.ordinalManager = ordinalManager;
+        encodedMoves = new long[initialCapacity];
+    }
+
+    /**
+     * @return sometimes null
+     */
+    public OrdinalManager getOrdinalManager() {
+        return ordinalManager;
+    }
+
+    /**
+     * @return true if the moves are stored as ordinals, false if they are stored as move instances
+     */
+    public boolean isEncoded() {
+        return moveList == null;
+    }
+
+    @Override
+    public int size() {
+        return moveList == null ? size : moveList.size();
+    }
+
+    @Override
+    public Move<Solution_> get(int index) {
+        if (moveList != null) {
+            return moveList.get(index);
+        }
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("The index (" + index + ") must be lower than the size (" + size + ").");
+        }
+        long encodedMove = encodedMoves[index];
+        if (decodedMoveCache == null) {
+            int cacheSize = Integer.highestOneBit(Math.max(1, Math.min(size, MAXIMUM_DECODED_MOVE_CACHE_SIZE)) * 2 - 1);
+            decodedMoveCacheKeys = new long[cacheSize];
+            decodedMoveCache = new Move[cacheSize];
+        }
+        int slot = index & (decodedMoveCache.length - 1);
+        Move<Solution_> move = decodedMoveCache[slot];
+        if (move == null || decodedMoveCacheKeys[slot] != encodedMove) {
+            move = decode(encodedMove);
+            decodedMoveCacheKeys[slot] = encodedMove;
+            decodedMoveCache[slot] = move;
+        }
+        return move;
+    }
+
+    private Move<Solution_> decode(long encodedMove) {
+        if (workingObjectsRevision != ordinalManager.getWorkingObjectsRevision()) {
+            throw new IllegalStateException("The working objects changed since the moves were cached,"
+                    + " so their ordinals are no longer reliable.\n"
+                    + "Maybe the move selector's cache wasn't rebuilt after a problem fact change.");
+        }
+        Object left = workingObject((int) (encodedMove >>> 32));
+        Object right = workingObject((int) encodedMove);
+        switch (encoding) {
+            case CHANGE:
+                return new ChangeMove<>(left, changeVariableDescriptor, right);
+            case SWAP:
+                return new SwapMove<>(swapVariableDescriptorList, left, right);
+            default:
+                throw new IllegalStateException("The encoding (" + encoding + ") is not implemented.");
+        }
+    }
+
+    private Object workingObject(int ordinal) {
+        return ordinal == NULL_ORDINAL ? null : ordinalManager.getWorkingObject(ordinal);
+    }
+
+    @Override
+    public Move<Solution_> set(int index, Move<Solution_> move) {
+        if (moveList == null) {
+            Move<Solution_> oldMove = get(index);
+            if (isEncodable(move)) {
+                encodedMoves[index] = encode(move);
+                return oldMove;
+            }
+            decodeAll();
+        }
+        return moveList.set(index, move);
+    }
+
+    @Override
+    public void add(int index, Move<Solution_> move) {
+        if (moveList == null) {
+            if (index != size) {
+                throw new UnsupportedOperationException("The index (" + index + ") must be the size (" + size
+                        + ") because moves can only be appended.");
+            }
+            if (size == 0 && encoding == null) {
+                determineEncoding(move);
+            }
+            if (isEncodable(move)) {
+                if (size == encodedMoves.length) {
+                    encodedMoves = Arrays.copyOf(encodedMoves, Math.max(16, size + (size >> 1)));
+                }
+                encodedMoves[size] = encode(move);
+                size++;
+                if (decodedMoveCache != null
+                        && decodedMoveCache.length < Math.min(size, MAXIMUM_DECODED_MOVE_CACHE_SIZE)) {
+                    // Outgrown, the next get() allocates a bigger cache
+                    decodedMoveCacheKeys = null;
+                    decodedMoveCache = null;
+                }
+                modCount++;
+                return;
+            }
+            decodeAll();
+        }
+        moveList.add(index, move);
+        modCount++;
+    }
+
+    @Override
+    public Move<Solution_> remove(int index) {
+        if (moveList == null) {
+            decodeAll();
+        }
+        modCount++;
+        return moveList.remove(index);
+    }
+
+    @Override
+    public void clear() {
+        encoding = null;
+        changeVariableDescriptor = null;
+        swapVariableDescriptorList = null;
+        decodedMoveCacheKeys = null;
+        decodedMoveCache = null;
+        if (encodedMoves == null) {
+            encodedMoves = new long[0];
+        }
+        size = 0;
+        moveList = null;
+        modCount++;
+    }
+
+    /**
+     * Faster than {@link Collections#swap(List, int, int)} because it doesn't decode or encode the moves.
+     *
+     * @param i {@code 0 <= i < size}
+     * @param j {@code 0 <= j < size}
+     */
+    public void swap(int i, int j) {
+        if (moveList != null) {
+            Collections.swap(moveList, i, j);
+            return;
+        }
+        long encodedMove = encodedMoves[i];
+        encodedMoves[i] = encodedMoves[j];
+        encodedMoves[j] = encodedMove;
+    }
+
+    private void determineEncoding(Move<Solution_> move) {
+        if (ordinalManager == null) {
+            return;
+        }
+        workingObjectsRevision = ordinalManager.getWorkingObjectsRevision();
+        // Subclasses, such as ChainedChangeMove, need more than an entity and a value
+        if (move.getClass() == ChangeMove.class) {
+            encoding = Encoding.CHANGE;
+            changeVariableDescriptor = ((ChangeMove<Solution_>) move).getVariableDescriptor();
+        } else if (move.getClass() == SwapMove.class) {
+            encoding = Encoding.SWAP;
+            swapVariableDescriptorList = ((SwapMove<Solution_>) move).getVariableDescriptorList();
+        }
+    }
+
+    private boolean isEncodable(Move<Solution_> move) {
+        if (encoding == null) {
+            return false;
+        }
+        switch (encoding) {
+            case CHANGE:
+                if (move.getClass() != ChangeMove.class) {
+                    return false;
+                }
+                ChangeMove<Solution_> changeMove = (ChangeMove<Solution_>) move;
+                return changeMove.getVariableDescriptor() == changeVariableDescriptor
+                        && hasOrdinal(changeMove.getEntity()) && hasOrdinal(changeMove.getToPlanningValue());
+            case SWAP:
+                if (move.getClass() != SwapMove.class) {
+                    return false;
+                }
+                SwapMove<Solution_> swapMove = (SwapMove<Solution_>) move;
+                return swapMove.getVariableDescriptorList().equals(swapVariableDescriptorList)
+                        && hasOrdinal(swapMove.getLeftEntity()) && hasOrdinal(swapMove.getRightEntity());
+            default:
+                throw new IllegalStateException("The encoding (" + encoding + ") is not implemented.");
+        }
+    }
+
+    private long encode(Move<Solution_> move) {
+        Object left;
+        Object right;
+        if (encoding == Encoding.CHANGE) {
+            ChangeMove<Solution_> changeMove = (ChangeMove<Solution_>) move;
+            left = changeMove.getEntity();
+            right = changeMove.getToPlanningValue();
+        } else {
+            SwapMove<Solution_> swapMove = (SwapMove<Solution_>) move;
+            left = swapMove.getLeftEntity();
+            right = swapMove.getRightEntity();
+        }
+        return (((long) ordinal(left)) << 32) | (ordinal(right) & 0xFFFFFFFFL);
+    }
+
+    private boolean hasOrdinal(Object object) {
+        // A value that isn't a fact, such as a number of a ValueRange, has no ordinal
+        return object == null || ordinalManager.getOrdinal(object) != OrdinalManager.NO_ORDINAL;
+    }
+
+    private int ordinal(Object object) {
+        return object == null ? NULL_ORDINAL : ordinalManager.getOrdinal(object);
+    }
+
+    private void decodeAll() {
+        List<Move<Solution_>> decodedMoveList = new ArrayList<>(Math.max(encodedMoves.length, size + 1));
+        for (int i = 0; i < size; i++) {
+            decodedMoveList.add(decode(encodedMoves[i]));
+        }
+        moveList = decodedMoveList;
+        encodedMoves = null;
+        decodedMoveCacheKeys = null;
+        decodedMoveCache = null;
+    }
+
+}
@@ -17,19 +17,17 @@
 package org.optaplanner.core.impl.heuristic.selector.move.decorator;
 
 import java.util.Iterator;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
 
-import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
+import org.optaplanner.core.impl.domain.ordinal.OrdinalManager;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleBridge;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleListener;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import org.optaplanner.core.impl.heuristic.selector.move.AbstractMoveSelector;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
-import org.optaplanner.core.impl.solver.random.RandomUtils;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.random.AliasMethodSampler;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Solution_>
@@ -39,8 +37,8 @@ public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Sol
     protected final SelectionCacheType cacheType;
     protected final SelectionProbabilityWeightFactory<Solution_, Move<Solution_>> probabilityWeightFactory;
 
-    protected NavigableMap<Double, Move<Solution_>> cachedMoveMap = null;
-    protected double probabilityWeightTotal = -1.0;
+    protected CompactMoveList<Solution_> cachedMoveList = null;
+    protected final AliasMethodSampler probabilitySampler = new AliasMethodSampler();
 
     public ProbabilityMoveSelector(MoveSelector<Solution_> childMoveSelector, SelectionCacheType cacheType,
             SelectionProbabilityWeightFactory<Solution_, ? extends Move<Solution_>> probabilityWeightFactory) {
@@ -72,20 +70,28 @@ public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Sol
 
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
-        cachedMoveMap = new TreeMap<>();
-        ScoreDirector<Solution_> scoreDirector = solverScope.getScoreDirector();
-        double probabilityWeightOffset = 0L;
-        for (Move<Solution_> entity : childMoveSelector) {
-            double probabilityWeight = probabilityWeightFactory.createProbabilityWeight(scoreDirector, entity);
-            cachedMoveMap.put(probabilityWeightOffset, entity);
-            probabilityWeightOffset += probabilityWeight;
+        InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
+        OrdinalManager ordinalManager = scoreDirector == null ? null : scoreDirector.getOrdinalManager();
+        if (cachedMoveList == null || cachedMoveList.getOrdinalManager() != ordinalManager) {
+            cachedMoveList = new CompactMoveList<>(ordinalManager, 0);
+        } else {
+            cachedMoveList.clear();
+        }
+        for (Move<Solution_> move : childMoveSelector) {
+            cachedMoveList.add(move);
+        }
+        // The alias table is only rebuilt if a weight differs from the previous cache, for example the previous step
+        probabilitySampler.setSize(cachedMoveList.size());
+        for (int i = 0; i < cachedMoveList.size(); i++) {
+            double probabilityWeight = probabilityWeightFactory.createProbabilityWeight(scoreDirector,
+                    cachedMoveList.get(i));
+            probabilitySampler.setWeight(i, probabilityWeight);
         }
-        probabilityWeightTotal = probabilityWeightOffset;
     }
 
     @Override
     public void disposeCache(SolverScope<Solution_> solverScope) {
-        probabilityWeightTotal = -1.0;
+        // Keep the weights, to compare them with those of the next cache
     }
 
     @Override
@@ -100,7 +106,7 @@ public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Sol
 
     @Override
     public long getSize() {
-        return cachedMoveMap.size();
+        return cachedMoveList.size();
     }
 
     @Override
@@ -113,10 +119,7 @@ public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Sol
 
             @Override
             public Move<Solution_> next() {
-                double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-                Map.Entry<Double, Move<Solution_>> entry = cachedMoveMap.floorEntry(randomOffset);
-                // entry is never null because randomOffset < probabilityWeightTotal
-                return entry.getValue();
+                return cachedMoveList.get(probabilitySampler.sample(workingRandom));
             }
 
             @Override
@@ -18,6 +18,7 @@ package org.optaplanner.core.impl.heuristic.selector.move.decorator;
 
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.impl.heuristic.move.Move;
@@ -40,10 +41,7 @@ public class ShufflingMoveSelector<Solution_> extends AbstractCachingMoveSelecto
 
     @Override
     public Iterator<Move<Solution_>> iterator() {
-        Collections.shuffle(cachedMoveList, workingRandom);
-        logger.trace("    Shuffled cachedMoveList with size ({}) in moveSelector({}).",
-                cachedMoveList.size(), this);
-        return cachedMoveList.iterator();
+        return new LazyShuffledIterator();
     }
 
     @Override
@@ -51,4 +49,39 @@ public class ShufflingMoveSelector<Solution_> extends AbstractCachingMoveSelecto
         return "Shuffling(" + childMoveSelector + ")";
     }
 
+    /**
+     * Shuffles with Fisher-Yates, one move at a time, instead of shuffling the entire list up front,
+     * because most iterators are abandoned long before they reach the end of a large move list.
+     */
+    private class LazyShuffledIterator implements Iterator<Move<Solution_>> {
+
+        private int index = 0;
+
+        @Override
+        public boolean hasNext() {
+            return index < cachedMoveList.size();
+        }
+
+        @Override
+        public Move<Solution_> next() {
+            int size = cachedMoveList.size();
+            if (index >= size) {
+                throw new NoSuchElementException();
+            }
+            int remainingSize = size - index;
+            if (remainingSize > 1) {
+                int swapIndex = index + workingRandom.nextInt(remainingSize);
+                if (cachedMoveList instanceof CompactMoveList) {
+                    ((CompactMoveList<Solution_>) cachedMoveList).swap(index, swapIndex);
+                } else {
+                    Collections.swap(cachedMoveList, index, swapIndex);
+                }
+            }
+            Move<Solution_> move = cachedMoveList.get(index);
+            index++;
+            return move;
+        }
+
+    }
+
 }
@@ -41,7 +41,7 @@ public class SortingMoveSelector<Solution_> extends AbstractCachingMoveSelector<
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
         super.constructCache(solverScope);
-        sorter.sort(solverScope.getScoreDirector(), cachedMoveList);
+        sorter.sortCache(solverScope, cachedMoveList);
         logger.trace("    Sorted cachedMoveList: size ({}), moveSelector ({}).",
                 cachedMoveList.size(), this);
     }
@@ -19,6 +19,7 @@ package org.optaplanner.core.impl.heuristic.selector.move.generic;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.director.ScoreDirector;
@@ -42,6 +43,10 @@ public class ChangeMove<Solution_> extends AbstractMove<Solution_> {
         this.toPlanningValue = toPlanningValue;
     }
 
+    public GenuineVariableDescriptor<Solution_> getVariableDescriptor() {
+        return variableDescriptor;
+    }
+
     public Object getEntity() {
         return entity;
     }
@@ -104,6 +109,16 @@ public class ChangeMove<Solution_> extends AbstractMove<Solution_> {
         return Collections.singletonList(toPlanningValue);
     }
 
+    @Override
+    public void visitPlanningEntities(Consumer<Object> entityVisitor) {
+        entityVisitor.accept(entity);
+    }
+
+    @Override
+    public void visitPlanningValues(Consumer<Object> valueVisitor) {
+        valueVisitor.accept(toPlanningValue);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -27,6 +27,7 @@ import org.optaplanner.core.config.heuristic.selector.entity.EntitySelectorConfi
 import org.optaplanner.core.config.heuristic.selector.move.MoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListChangeMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.value.ValueSelectorConfig;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
@@ -64,6 +65,11 @@ public class ChangeMoveSelectorFactory<Solution_>
         ValueSelector<Solution_> valueSelector = valueSelectorFactory.buildValueSelector(configPolicy,
                 entitySelector.getEntityDescriptor(),
                 minimumCacheType, SelectionOrder.fromRandomSelectionBoolean(randomSelection));
+        if (valueSelector.getVariableDescriptor().isListVariable()) {
+            throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                    + ") cannot change a list variable (" + valueSelector.getVariableDescriptor() + ").\n"
+                    + "Maybe use a " + ListChangeMoveSelectorConfig.XML_ELEMENT_NAME + " instead.");
+        }
         return new ChangeMoveSelector<>(entitySelector, valueSelector, randomSelection);
     }
 
@@ -49,6 +49,10 @@ public class PillarChangeMove<Solution_> extends AbstractMove<Solution_> {
         this.toPlanningValue = toPlanningValue;
     }
 
+    public GenuineVariableDescriptor<Solution_> getVariableDescriptor() {
+        return variableDescriptor;
+    }
+
     public List<Object> getPillar() {
         return pillar;
     }
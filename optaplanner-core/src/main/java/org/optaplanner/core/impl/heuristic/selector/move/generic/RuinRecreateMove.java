@@ -0,0 +1,276 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.valuerange.CountableValueRange;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Unassigns all ruined entities and then reassigns them one by one, in order,
+ * to the value with the best score (like a first fit construction heuristic).
+ * The first value wins a tie.
+ * <p>
+ * The recreated values are remembered, so doing this move again (for example as the step)
+ * doesn't repeat the recreation, as long as the other entities haven't changed in the meantime.
+ * The undo move only reassigns the old values of the ruined entities.
+ * <p>
+ * The recreation nests score calculations inside the {@link #doMove(ScoreDirector)} of this move:
+ * for every ruined entity and variable, it triggers the variable listeners and calculates the score
+ * once per value in the value range (and once more for a nullable variable).
+ * So the first time this move is done, it costs about {@code ruinedEntityCount * valueCount} score calculations,
+ * which count towards the score calculation speed
+ * and towards the {@code DO_MOVE} stage of this move in the move evaluation trace.
+ * The next time, it only reassigns the recreated values.
+ * It doesn't evaluate the values through {@link InnerScoreDirector#doAndProcessMove(Move, boolean, Consumer)}
+ * because the move evaluation trace only times one move evaluation at a time,
+ * and because a move peeking score calculator never peeks while the ruined entities are uninitialized.
+ * See {@code cloudBalancingRuinRecreateBenchmarkConfig.xml} in the examples to weigh that cost
+ * against the local optima it escapes.
+ * <p>
+ * This {@link org.optaplanner.core.impl.heuristic.move.Move} is not cacheable.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class RuinRecreateMove<Solution_> extends AbstractMove<Solution_> {
+
+    protected final List<GenuineVariableDescriptor<Solution_>> variableDescriptorList;
+    protected final List<Object> ruinedEntityList;
+    /**
+     * Null for a ruin and recreate move, not null for its undo move.
+     * Indexed by entity index times variable count plus variable index.
+     */
+    protected final Object[] toPlanningValues;
+
+    /**
+     * Null until the first recreation, indexed like {@link #toPlanningValues}.
+     */
+    protected Object[] recreatedValues = null;
+
+    public RuinRecreateMove(List<GenuineVariableDescriptor<Solution_>> variableDescriptorList,
+            List<Object> ruinedEntityList) {
+        this(variableDescriptorList, ruinedEntityList, null);
+    }
+
+    protected RuinRecreateMove(List<GenuineVariableDescriptor<Solution_>> variableDescriptorList,
+            List<Object> ruinedEntityList, Object[] toPlanningValues) {
+        this.variableDescriptorList = variableDescriptorList;
+        this.ruinedEntityList = ruinedEntityList;
+        this.toPlanningValues = toPlanningValues;
+    }
+
+    public List<String> getVariableNameList() {
+        List<String> variableNameList = new ArrayList<>(variableDescriptorList.size());
+        for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
+            variableNameList.add(variableDescriptor.getVariableName());
+        }
+        return variableNameList;
+    }
+
+    public List<Object> getRuinedEntityList() {
+        return ruinedEntityList;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        return !ruinedEntityList.isEmpty();
+    }
+
+    @Override
+    public RuinRecreateMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        Object[] oldValues = new Object[ruinedEntityList.size() * variableDescriptorList.size()];
+        int i = 0;
+        for (Object entity : ruinedEntityList) {
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
+                oldValues[i] = variableDescriptor.getValue(entity);
+                i++;
+            }
+        }
+        return new RuinRecreateMove<>(variableDescriptorList, ruinedEntityList, oldValues);
+    }
+
+    @Override
+    protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        if (toPlanningValues != null) {
+            assignValues(innerScoreDirector, toPlanningValues);
+        } else if (recreatedValues != null) {
+            assignValues(innerScoreDirector, recreatedValues);
+        } else {
+            recreatedValues = ruinAndRecreate(innerScoreDirector);
+        }
+    }
+
+    private void assignValues(InnerScoreDirector<Solution_, ?> scoreDirector, Object[] values) {
+        int i = 0;
+        for (Object entity : ruinedEntityList) {
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
+                changeValue(scoreDirector, variableDescriptor, entity, values[i]);
+                i++;
+            }
+        }
+    }
+
+    private <Score_ extends Score<Score_>> Object[] ruinAndRecreate(InnerScoreDirector<Solution_, Score_> scoreDirector) {
+        for (Object entity : ruinedEntityList) {
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
+                changeValue(scoreDirector, variableDescriptor, entity, null);
+            }
+        }
+        Solution_ workingSolution = scoreDirector.getWorkingSolution();
+        Object[] values = new Object[ruinedEntityList.size() * variableDescriptorList.size()];
+        int i = 0;
+        for (Object entity : ruinedEntityList) {
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
+                values[i] = recreate(scoreDirector, workingSolution, variableDescriptor, entity);
+                i++;
+            }
+        }
+        return values;
+    }
+
+    private <Score_ extends Score<Score_>> Object recreate(InnerScoreDirector<Solution_, Score_> scoreDirector,
+            Solution_ workingSolution, GenuineVariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        Object bestValue = null;
+        Score_ bestScore = null;
+        if (variableDescriptor.isNullable()) {
+            scoreDirector.triggerVariableListeners();
+            bestScore = scoreDirector.calculateScore();
+        }
+        CountableValueRange<?> valueRange = (CountableValueRange<?>) variableDescriptor.getValueRangeDescriptor()
+                .extractValueRange(workingSolution, entity);
+        for (Iterator<?> it = valueRange.createOriginalIterator(); it.hasNext();) {
+            Object value = it.next();
+            changeValue(scoreDirector, variableDescriptor, entity, value);
+            scoreDirector.triggerVariableListeners();
+            Score_ score = scoreDirector.calculateScore();
+            if (bestScore == null || score.compareTo(bestScore) > 0) {
+                bestValue = value;
+                bestScore = score;
+            }
+        }
+        if (variableDescriptor.getValue(entity) != bestValue) {
+            changeValue(scoreDirector, variableDescriptor, entity, bestValue);
+        }
+        return bestValue;
+    }
+
+    private void changeValue(InnerScoreDirector<Solution_, ?> scoreDirector,
+            GenuineVariableDescriptor<Solution_> variableDescriptor, Object entity, Object value) {
+        scoreDirector.beforeVariableChanged(variableDescriptor, entity);
+        variableDescriptor.setValue(entity, value);
+        scoreDirector.afterVariableChanged(variableDescriptor, entity);
+    }
+
+    @Override
+    public RuinRecreateMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        RuinRecreateMove<Solution_> rebasedMove = new RuinRecreateMove<>(variableDescriptorList,
+                rebaseList(ruinedEntityList, destinationScoreDirector),
+                toPlanningValues == null ? null : rebaseArray(toPlanningValues, destinationScoreDirector));
+        if (recreatedValues != null) {
+            rebasedMove.recreatedValues = rebaseArray(recreatedValues, destinationScoreDirector);
+        }
+        return rebasedMove;
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public String getSimpleMoveTypeDescription() {
+        StringBuilder moveTypeDescription = new StringBuilder(20 * (variableDescriptorList.size() + 1));
+        moveTypeDescription.append(getClass().getSimpleName()).append("(");
+        String delimiter = "";
+        for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
+            moveTypeDescription.append(delimiter).append(variableDescriptor.getSimpleEntityAndVariableName());
+            delimiter = ", ";
+        }
+        moveTypeDescription.append(")");
+        return moveTypeDescription.toString();
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        return ruinedEntityList;
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        Object[] values = toPlanningValues != null ? toPlanningValues : recreatedValues;
+        return values == null ? Collections.emptyList() : Arrays.asList(values);
+    }
+
+    @Override
+    public void visitPlanningEntities(Consumer<Object> entityVisitor) {
+        ruinedEntityList.forEach(entityVisitor);
+    }
+
+    @Override
+    public void visitPlanningValues(Consumer<Object> valueVisitor) {
+        Object[] values = toPlanningValues != null ? toPlanningValues : recreatedValues;
+        if (values != null) {
+            for (Object value : values) {
+                valueVisitor.accept(value);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final RuinRecreateMove<?> other = (RuinRecreateMove<?>) o;
+        return Objects.equals(variableDescriptorList, other.variableDescriptorList)
+                && Objects.equals(ruinedEntityList, other.ruinedEntityList)
+                && Arrays.equals(toPlanningValues, other.toPlanningValues);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(variableDescriptorList, ruinedEntityList, Arrays.hashCode(toPlanningValues));
+    }
+
+    @Override
+    public String toString() {
+        Object[] values = toPlanningValues != null ? toPlanningValues : recreatedValues;
+        return ruinedEntityList + " {ruin -> " + (values == null ? "recreate" : Arrays.toString(values)) + "}";
+    }
+
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
+import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.config.heuristic.selector.move.generic.RuinType;
+import org.optaplanner.core.impl.domain.ordinal.OrdinalManager;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMatrix;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMatrixDemand;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Selects {@link RuinRecreateMove}s, which ruin a cluster of related entities, depending on the {@link RuinType}.
+ * Only supports random selection: it never ends.
+ * <p>
+ * With {@link RuinType#INDICTMENT}, the indictments are calculated once per step.
+ * If the working score director doesn't track constraint matches, that's a score calculation from scratch per step.
+ */
+public class RuinRecreateMoveSelector<Solution_> extends GenericMoveSelector<Solution_> {
+
+    protected final EntitySelector<Solution_> entitySelector;
+    protected final List<GenuineVariableDescriptor<Solution_>> variableDescriptorList;
+    protected final RuinType ruinType;
+    protected final int minimumRuinedEntityCount;
+    protected final int maximumRuinedEntityCount;
+    protected final NearbyDistanceMeter<Object, Object> nearbyDistanceMeter;
+    // Sometimes null, in which case only this selector reuses its nearby distance matrix
+    protected final Object entitySelectorConfigKey;
+
+    protected List<Object> entityList = null;
+    protected NearbyDistanceMatrix nearbyDistanceMatrix = null;
+    protected InnerScoreDirector<Solution_, ?> scoreDirector = null;
+    // Calculated lazily, at most once per step
+    protected List<Object> indictedEntityList = null;
+    protected Map<Object, List<Object>> indictedEntityToRelatedEntitiesMap = null;
+
+    public RuinRecreateMoveSelector(EntitySelector<Solution_> entitySelector,
+            List<GenuineVariableDescriptor<Solution_>> variableDescriptorList, RuinType ruinType,
+            int minimumRuinedEntityCount, int maximumRuinedEntityCount,
+            NearbyDistanceMeter<?, ?> nearbyDistanceMeter, Object entitySelectorConfigKey) {
+        this.entitySelector = entitySelector;
+        this.variableDescriptorList = variableDescriptorList;
+        this.ruinType = ruinType;
+        this.minimumRuinedEntityCount = minimumRuinedEntityCount;
+        this.maximumRuinedEntityCount = maximumRuinedEntityCount;
+        this.nearbyDistanceMeter = (NearbyDistanceMeter<Object, Object>) nearbyDistanceMeter;
+        this.entitySelectorConfigKey = entitySelectorConfigKey;
+        if (ruinType == RuinType.NEARBY && nearbyDistanceMeter == null) {
+            throw new IllegalArgumentException("The ruinType (" + ruinType + ") requires a nearbyDistanceMeter ("
+                    + nearbyDistanceMeter + ").");
+        }
+        phaseLifecycleSupport.addEventListener(entitySelector);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        scoreDirector = phaseScope.getScoreDirector();
+        entityList = new ArrayList<>((int) entitySelector.getSize());
+        entitySelector.endingIterator().forEachRemaining(entityList::add);
+        if (ruinType == RuinType.NEARBY) {
+            int entitySize = entityList.size();
+            // The origin itself is usually its own nearest destination
+            int destinationSize = Math.min(maximumRuinedEntityCount + 1, entitySize);
+            Function<Object, Iterator<Object>> destinationIteratorProvider = origin -> entityList.iterator();
+            ToIntFunction<Object> destinationSizeFunction = origin -> destinationSize;
+            OrdinalManager ordinalManager = scoreDirector.getOrdinalManager();
+            NearbyDistanceMatrixDemand<Solution_> demand = entitySelectorConfigKey == null
+                    ? NearbyDistanceMatrixDemand.ofEntitySelector(nearbyDistanceMeter, entitySelector,
+                            maximumRuinedEntityCount + 1)
+                    : NearbyDistanceMatrixDemand.ofSelectorConfig(nearbyDistanceMeter, entitySelectorConfigKey,
+                            maximumRuinedEntityCount + 1);
+            nearbyDistanceMatrix = scoreDirector.getSupplyManager().demand(demand)
+                    .read(ordinalManager, () -> new NearbyDistanceMatrix(nearbyDistanceMeter, entitySize,
+                            destinationIteratorProvider, destinationSizeFunction, true, ordinalManager));
+            nearbyDistanceMatrix.bindDestinations(destinationIteratorProvider, destinationSizeFunction);
+        }
+    }
+
+    @Override
+    public void stepStarted(AbstractStepScope<Solution_> stepScope) {
+        super.stepStarted(stepScope);
+        indictedEntityList = null;
+        indictedEntityToRelatedEntitiesMap = null;
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        scoreDirector = null;
+        entityList = null;
+        nearbyDistanceMatrix = null;
+        indictedEntityList = null;
+        indictedEntityToRelatedEntitiesMap = null;
+    }
+
+    @Override
+    public boolean isCountable() {
+        return entitySelector.isCountable();
+    }
+
+    @Override
+    public boolean isNeverEnding() {
+        return true;
+    }
+
+    /**
+     * @return the number of seed entities
+     */
+    @Override
+    public long getSize() {
+        return entitySelector.getSize();
+    }
+
+    @Override
+    public Iterator<Move<Solution_>> iterator() {
+        return new RandomRuinRecreateMoveIterator();
+    }
+
+    private class RandomRuinRecreateMoveIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            int entitySize = entityList.size();
+            if (entitySize == 0) {
+                return noUpcomingSelection();
+            }
+            int maximumCount = Math.min(maximumRuinedEntityCount, entitySize);
+            int minimumCount = Math.min(minimumRuinedEntityCount, maximumCount);
+            int ruinedEntityCount = minimumCount + workingRandom.nextInt(maximumCount - minimumCount + 1);
+            List<Object> ruinedEntityList = new ArrayList<>(ruinedEntityCount);
+            Set<Object> ruinedEntitySet = Collections.newSetFromMap(new IdentityHashMap<>(ruinedEntityCount));
+            switch (ruinType) {
+                case RANDOM:
+                    break;
+                case NEARBY:
+                    addNearbyEntities(ruinedEntityList, ruinedEntitySet, ruinedEntityCount);
+                    break;
+                case INDICTMENT:
+                    addIndictedEntities(ruinedEntityList, ruinedEntitySet, ruinedEntityCount);
+                    break;
+                default:
+                    throw new IllegalStateException("The ruinType (" + ruinType + ") is not implemented.");
+            }
+            addRandomEntities(ruinedEntityList, ruinedEntitySet, ruinedEntityCount);
+            return new RuinRecreateMove<>(variableDescriptorList, ruinedEntityList);
+        }
+
+    }
+
+    private void addNearbyEntities(List<Object> ruinedEntityList, Set<Object> ruinedEntitySet, int ruinedEntityCount) {
+        Object origin = entityList.get(workingRandom.nextInt(entityList.size()));
+        addEntity(ruinedEntityList, ruinedEntitySet, origin);
+        int destinationSize = Math.min(maximumRuinedEntityCount + 1, entityList.size());
+        for (int nearbyIndex = 0; nearbyIndex < destinationSize
+                && ruinedEntityList.size() < ruinedEntityCount; nearbyIndex++) {
+            addEntity(ruinedEntityList, ruinedEntitySet, nearbyDistanceMatrix.getDestination(origin, nearbyIndex));
+        }
+    }
+
+    private void addIndictedEntities(List<Object> ruinedEntityList, Set<Object> ruinedEntitySet,
+            int ruinedEntityCount) {
+        if (indictedEntityList == null) {
+            calculateIndictments();
+        }
+        if (indictedEntityList.isEmpty()) {
+            return;
+        }
+        Object seed = indictedEntityList.get(workingRandom.nextInt(indictedEntityList.size()));
+        addEntity(ruinedEntityList, ruinedEntitySet, seed);
+        List<Object> relatedEntityList = new ArrayList<>(indictedEntityToRelatedEntitiesMap.get(seed));
+        while (!relatedEntityList.isEmpty() && ruinedEntityList.size() < ruinedEntityCount) {
+            // Swap remove keeps the random selection without replacement O(1)
+            int index = workingRandom.nextInt(relatedEntityList.size());
+            int lastIndex = relatedEntityList.size() - 1;
+            Object relatedEntity = relatedEntityList.get(index);
+            relatedEntityList.set(index, relatedEntityList.get(lastIndex));
+            relatedEntityList.remove(lastIndex);
+            addEntity(ruinedEntityList, ruinedEntitySet, relatedEntity);
+        }
+    }
+
+    private void addRandomEntities(List<Object> ruinedEntityList, Set<Object> ruinedEntitySet, int ruinedEntityCount) {
+        while (ruinedEntityList.size() < ruinedEntityCount) {
+            addEntity(ruinedEntityList, ruinedEntitySet, entityList.get(workingRandom.nextInt(entityList.size())));
+        }
+    }
+
+    private static void addEntity(List<Object> ruinedEntityList, Set<Object> ruinedEntitySet, Object entity) {
+        if (ruinedEntitySet.add(entity)) {
+            ruinedEntityList.add(entity);
+        }
+    }
+
+    private <Score_ extends Score<Score_>> void calculateIndictments() {
+        InnerScoreDirector<Solution_, Score_> workingScoreDirector = (InnerScoreDirector<Solution_, Score_>) scoreDirector;
+        Score_ zeroScore = workingScoreDirector.getScoreDefinition().getZeroScore();
+        if (workingScoreDirector.isConstraintMatchEnabled()) {
+            collectIndictedEntities(workingScoreDirector.getIndictmentMap(), zeroScore);
+            return;
+        }
+        try (InnerScoreDirector<Solution_, Score_> indictmentScoreDirector =
+                workingScoreDirector.getScoreDirectorFactory().buildScoreDirector(false, true)) {
+            indictmentScoreDirector.setWorkingSolution(workingScoreDirector.getWorkingSolution());
+            indictmentScoreDirector.calculateScore();
+            if (!indictmentScoreDirector.isConstraintMatchEnabled()) {
+                throw new IllegalStateException("The ruinType (" + ruinType
+                        + ") requires a score director that supports constraint matches.\n"
+                        + "Maybe use a constraintProviderClass or scoreDrlList instead of an easyScoreCalculatorClass"
+                        + " or use a different ruinType.");
+            }
+            collectIndictedEntities(indictmentScoreDirector.getIndictmentMap(), zeroScore);
+        }
+    }
+
+    private <Score_ extends Score<Score_>> void collectIndictedEntities(Map<Object, Indictment<Score_>> indictmentMap,
+            Score_ zeroScore) {
+        Set<Object> entitySet = Collections.newSetFromMap(new IdentityHashMap<>(entityList.size()));
+        entitySet.addAll(entityList);
+        indictedEntityList = new ArrayList<>();
+        indictedEntityToRelatedEntitiesMap = new IdentityHashMap<>();
+        for (Object entity : entityList) {
+            Indictment<Score_> indictment = indictmentMap.get(entity);
+            if (indictment == null) {
+                continue;
+            }
+            if (indictment.getScore().compareTo(zeroScore) >= 0) {
+                continue;
+            }
+            Set<Object> relatedEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (ConstraintMatch<Score_> constraintMatch : indictment.getConstraintMatchSet()) {
+                if (constraintMatch.getScore().compareTo(zeroScore) >= 0) {
+                    continue;
+                }
+                for (Object justification : constraintMatch.getJustificationList()) {
+                    if (justification != entity && entitySet.contains(justification)) {
+                        relatedEntitySet.add(justification);
+                    }
+                }
+            }
+            indictedEntityList.add(entity);
+            indictedEntityToRelatedEntitiesMap.put(entity, new ArrayList<>(relatedEntitySet));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + entitySelector + ", " + ruinType + ")";
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic;
+
+import static org.apache.commons.lang3.ObjectUtils.defaultIfNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
+import org.optaplanner.core.config.heuristic.selector.entity.EntitySelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.RuinRecreateMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.RuinType;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelectorFactory;
+import org.optaplanner.core.impl.heuristic.selector.move.AbstractMoveSelectorFactory;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+
+public class RuinRecreateMoveSelectorFactory<Solution_>
+        extends AbstractMoveSelectorFactory<Solution_, RuinRecreateMoveSelectorConfig> {
+
+    private static final int DEFAULT_MINIMUM_RUINED_ENTITY_COUNT = 2;
+    private static final int DEFAULT_MAXIMUM_RUINED_ENTITY_COUNT = 10;
+
+    public RuinRecreateMoveSelectorFactory(RuinRecreateMoveSelectorConfig moveSelectorConfig) {
+        super(moveSelectorConfig);
+    }
+
+    @Override
+    protected MoveSelector<Solution_> buildBaseMoveSelector(HeuristicConfigPolicy<Solution_> configPolicy,
+            SelectionCacheType minimumCacheType, boolean randomSelection) {
+        if (!randomSelection) {
+            throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                    + ") has a selectionOrder (" + config.getSelectionOrder()
+                    + ") which is not supported: a ruin and recreate move selector only supports random selection.\n"
+                    + "Maybe remove the selectionOrder and the cacheType.");
+        }
+        EntitySelectorConfig entitySelectorConfig =
+                defaultIfNull(config.getEntitySelectorConfig(), new EntitySelectorConfig());
+        // The selector picks the ruined entities randomly itself
+        EntitySelector<Solution_> entitySelector = EntitySelectorFactory.<Solution_> create(entitySelectorConfig)
+                .buildEntitySelector(configPolicy, minimumCacheType, SelectionOrder.ORIGINAL);
+        List<GenuineVariableDescriptor<Solution_>> variableDescriptorList =
+                deduceVariableDescriptorList(entitySelector.getEntityDescriptor(), config.getVariableNameIncludeList());
+        for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
+            if (variableDescriptor.isChained() || variableDescriptor.isListVariable()) {
+                throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                        + ") cannot ruin and recreate the chained or list variable (" + variableDescriptor + ").\n"
+                        + "Maybe use a variableNameInclude to only include basic variables.");
+            }
+            if (!variableDescriptor.getValueRangeDescriptor().isCountable()) {
+                throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                        + ") cannot recreate the variable (" + variableDescriptor
+                        + ") because its valueRange is not countable.");
+            }
+        }
+        int minimumRuinedEntityCount =
+                defaultIfNull(config.getMinimumRuinedEntityCount(), DEFAULT_MINIMUM_RUINED_ENTITY_COUNT);
+        int maximumRuinedEntityCount =
+                defaultIfNull(config.getMaximumRuinedEntityCount(), DEFAULT_MAXIMUM_RUINED_ENTITY_COUNT);
+        if (minimumRuinedEntityCount < 1 || maximumRuinedEntityCount < minimumRuinedEntityCount) {
+            throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                    + ") has a minimumRuinedEntityCount (" + minimumRuinedEntityCount
+                    + ") which is lower than 1 or a maximumRuinedEntityCount (" + maximumRuinedEntityCount
+                    + ") which is lower than the minimumRuinedEntityCount.");
+        }
+        RuinType ruinType = defaultIfNull(config.getRuinType(), RuinType.RANDOM);
+        NearbyDistanceMeter<?, ?> nearbyDistanceMeter = null;
+        List<?> entitySelectorConfigKey = null;
+        if (ruinType == RuinType.NEARBY) {
+            if (config.getNearbyDistanceMeterClass() == null) {
+                throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                        + ") with ruinType (" + ruinType + ") lacks a nearbyDistanceMeterClass ("
+                        + config.getNearbyDistanceMeterClass() + ").");
+            }
+            nearbyDistanceMeter = ConfigUtils.newInstance(config, "nearbyDistanceMeterClass",
+                    config.getNearbyDistanceMeterClass());
+            if (entitySelectorConfig.getMimicSelectorRef() == null
+                    && entitySelectorConfig.getNearbySelectionConfig() == null) {
+                // Equal configs select the same entities, so every phase with such a config shares its distances
+                entitySelectorConfigKey = Arrays.asList(entitySelector.getEntityDescriptor(),
+                        entitySelectorConfig.getFilterClass(), entitySelectorConfig.getSelectedCountLimit());
+            }
+        } else if (config.getNearbyDistanceMeterClass() != null) {
+            throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                    + ") has a nearbyDistanceMeterClass (" + config.getNearbyDistanceMeterClass()
+                    + ") but its ruinType (" + ruinType + ") is not " + RuinType.NEARBY + ".");
+        }
+        return new RuinRecreateMoveSelector<>(entitySelector, variableDescriptorList, ruinType,
+                minimumRuinedEntityCount, maximumRuinedEntityCount, nearbyDistanceMeter, entitySelectorConfigKey);
+    }
+
+}
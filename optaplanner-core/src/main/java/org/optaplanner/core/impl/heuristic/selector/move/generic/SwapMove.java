@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.domain.valuerange.ValueRange;
@@ -46,6 +47,10 @@ public class SwapMove<Solution_> extends AbstractMove<Solution_> {
         this.rightEntity = rightEntity;
     }
 
+    public List<GenuineVariableDescriptor<Solution_>> getVariableDescriptorList() {
+        return variableDescriptorList;
+    }
+
     public List<String> getVariableNameList() {
         List<String> variableNameList = new ArrayList<>(variableDescriptorList.size());
         for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
@@ -152,6 +157,20 @@ public class SwapMove<Solution_> extends AbstractMove<Solution_> {
         return values;
     }
 
+    @Override
+    public void visitPlanningEntities(Consumer<Object> entityVisitor) {
+        entityVisitor.accept(leftEntity);
+        entityVisitor.accept(rightEntity);
+    }
+
+    @Override
+    public void visitPlanningValues(Consumer<Object> valueVisitor) {
+        for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
+            valueVisitor.accept(variableDescriptor.getValue(leftEntity));
+            valueVisitor.accept(variableDescriptor.getValue(rightEntity));
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Iterator;
+
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.index.ListVariableIndexDemand;
+import org.optaplanner.core.impl.domain.variable.index.ListVariableIndexSupply;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.GenericMoveSelector;
+import org.optaplanner.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+
+/**
+ * Abstract superclass for every {@link GenericMoveSelector} on a list variable.
+ * It selects the planning values through an {@link EntityIndependentValueSelector}
+ * and looks up their entity and index through a {@link ListVariableIndexSupply}.
+ */
+public abstract class AbstractListMoveSelector<Solution_> extends GenericMoveSelector<Solution_> {
+
+    protected final ListVariableDescriptor<Solution_> listVariableDescriptor;
+    protected final EntityIndependentValueSelector<Solution_> valueSelector;
+    protected final boolean randomSelection;
+
+    protected ListVariableIndexSupply listVariableIndexSupply;
+
+    public AbstractListMoveSelector(EntityIndependentValueSelector<Solution_> valueSelector, boolean randomSelection) {
+        if (!valueSelector.getVariableDescriptor().isListVariable()) {
+            throw new IllegalStateException("The selector (" + this
+                    + ") has a valueSelector (" + valueSelector
+                    + ") with a variableDescriptor (" + valueSelector.getVariableDescriptor()
+                    + ") which is not a list variable.");
+        }
+        this.listVariableDescriptor = (ListVariableDescriptor<Solution_>) valueSelector.getVariableDescriptor();
+        this.valueSelector = valueSelector;
+        this.randomSelection = randomSelection;
+        phaseLifecycleSupport.addEventListener(valueSelector);
+    }
+
+    @Override
+    public boolean supportsPhaseAndSolverCaching() {
+        // The indexes of the moves are stale after a step
+        return false;
+    }
+
+    @Override
+    public void solvingStarted(SolverScope<Solution_> solverScope) {
+        super.solvingStarted(solverScope);
+        listVariableIndexSupply = solverScope.getScoreDirector().getSupplyManager()
+                .demand(new ListVariableIndexDemand<>(listVariableDescriptor));
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        super.solvingEnded(solverScope);
+        listVariableIndexSupply = null;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isCountable() {
+        return true;
+    }
+
+    /**
+     * @param valueIterator never null, never ending
+     * @return null if no assigned planning value was found after as many tries as there are planning values
+     */
+    protected Object selectAssignedValue(Iterator<Object> valueIterator) {
+        long tryLimit = valueSelector.getSize();
+        for (long i = 0L; i < tryLimit && valueIterator.hasNext(); i++) {
+            Object value = valueIterator.next();
+            if (listVariableIndexSupply.getEntity(value) != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    protected long countAssignedValues() {
+        long count = 0L;
+        for (Iterator<Object> it = valueSelector.endingIterator(null); it.hasNext();) {
+            Object value = it.next();
+            if (listVariableIndexSupply.getEntity(value) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
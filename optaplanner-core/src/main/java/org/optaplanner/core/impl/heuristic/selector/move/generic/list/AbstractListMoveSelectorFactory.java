@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
+import org.optaplanner.core.config.heuristic.selector.entity.EntitySelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.MoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.value.ValueSelectorConfig;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelectorFactory;
+import org.optaplanner.core.impl.heuristic.selector.move.AbstractMoveSelectorFactory;
+import org.optaplanner.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
+import org.optaplanner.core.impl.heuristic.selector.value.ValueSelector;
+import org.optaplanner.core.impl.heuristic.selector.value.ValueSelectorFactory;
+
+public abstract class AbstractListMoveSelectorFactory<Solution_, MoveSelectorConfig_ extends MoveSelectorConfig<MoveSelectorConfig_>>
+        extends AbstractMoveSelectorFactory<Solution_, MoveSelectorConfig_> {
+
+    public AbstractListMoveSelectorFactory(MoveSelectorConfig_ moveSelectorConfig) {
+        super(moveSelectorConfig);
+    }
+
+    protected EntitySelector<Solution_> buildEntitySelector(HeuristicConfigPolicy<Solution_> configPolicy,
+            EntitySelectorConfig entitySelectorConfig, SelectionCacheType minimumCacheType, boolean randomSelection) {
+        EntitySelectorConfig entitySelectorConfig_ =
+                entitySelectorConfig == null ? new EntitySelectorConfig() : entitySelectorConfig;
+        return EntitySelectorFactory.<Solution_> create(entitySelectorConfig_)
+                .buildEntitySelector(configPolicy, minimumCacheType,
+                        SelectionOrder.fromRandomSelectionBoolean(randomSelection));
+    }
+
+    protected EntityIndependentValueSelector<Solution_> buildListValueSelector(
+            HeuristicConfigPolicy<Solution_> configPolicy, EntityDescriptor<Solution_> entityDescriptor,
+            ValueSelectorConfig valueSelectorConfig, SelectionCacheType minimumCacheType, boolean randomSelection) {
+        ValueSelectorConfig valueSelectorConfig_ =
+                valueSelectorConfig == null ? new ValueSelectorConfig() : valueSelectorConfig;
+        ValueSelector<Solution_> valueSelector = ValueSelectorFactory.<Solution_> create(valueSelectorConfig_)
+                .buildValueSelector(configPolicy, entityDescriptor, minimumCacheType,
+                        SelectionOrder.fromRandomSelectionBoolean(randomSelection));
+        if (!valueSelector.getVariableDescriptor().isListVariable()) {
+            throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                    + ") needs to be based on a variable (" + valueSelector.getVariableDescriptor()
+                    + ") with a @" + PlanningListVariable.class.getSimpleName() + " annotation.");
+        }
+        if (!(valueSelector instanceof EntityIndependentValueSelector)) {
+            throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                    + ") needs to be based on an EntityIndependentValueSelector (" + valueSelector + ")."
+                    + " Check your @" + ValueRangeProvider.class.getSimpleName() + " annotations.");
+        }
+        return (EntityIndependentValueSelector<Solution_>) valueSelector;
+    }
+}
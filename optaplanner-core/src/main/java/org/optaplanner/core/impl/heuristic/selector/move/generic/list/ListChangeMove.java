@@ -0,0 +1,197 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Moves a planning value from one index of a list variable to another index,
+ * in the same entity or in another entity.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class ListChangeMove<Solution_> extends AbstractMove<Solution_> {
+
+    protected final ListVariableDescriptor<Solution_> variableDescriptor;
+
+    protected final Object sourceEntity;
+    protected final int sourceIndex;
+    protected final Object destinationEntity;
+    protected final int destinationIndex;
+
+    protected final Object movedValue;
+
+    /**
+     * @param variableDescriptor never null
+     * @param sourceEntity never null
+     * @param sourceIndex {@code >= 0}, the index of the planning value in the list of the sourceEntity
+     * @param destinationEntity never null, can be the sourceEntity
+     * @param destinationIndex {@code >= 0}, the index of the planning value in the list of the destinationEntity
+     *        after the move
+     */
+    public ListChangeMove(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object sourceEntity, int sourceIndex, Object destinationEntity, int destinationIndex) {
+        this(variableDescriptor, sourceEntity, sourceIndex, destinationEntity, destinationIndex,
+                variableDescriptor.getElement(sourceEntity, sourceIndex));
+    }
+
+    protected ListChangeMove(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object sourceEntity, int sourceIndex, Object destinationEntity, int destinationIndex, Object movedValue) {
+        this.variableDescriptor = variableDescriptor;
+        this.sourceEntity = sourceEntity;
+        this.sourceIndex = sourceIndex;
+        this.destinationEntity = destinationEntity;
+        this.destinationIndex = destinationIndex;
+        this.movedValue = movedValue;
+    }
+
+    public Object getSourceEntity() {
+        return sourceEntity;
+    }
+
+    public int getSourceIndex() {
+        return sourceIndex;
+    }
+
+    public Object getDestinationEntity() {
+        return destinationEntity;
+    }
+
+    public int getDestinationIndex() {
+        return destinationIndex;
+    }
+
+    public Object getMovedValue() {
+        return movedValue;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        return sourceEntity != destinationEntity || sourceIndex != destinationIndex;
+    }
+
+    @Override
+    public ListChangeMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        return new ListChangeMove<>(variableDescriptor, destinationEntity, destinationIndex,
+                sourceEntity, sourceIndex, movedValue);
+    }
+
+    @Override
+    protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        if (destinationEntity == sourceEntity) {
+            int fromIndex = Math.min(sourceIndex, destinationIndex);
+            innerScoreDirector.beforeListVariableChanged(variableDescriptor, sourceEntity, fromIndex);
+            Object value = variableDescriptor.removeElement(sourceEntity, sourceIndex);
+            variableDescriptor.addElement(destinationEntity, destinationIndex, value);
+            innerScoreDirector.afterListVariableChanged(variableDescriptor, sourceEntity, fromIndex);
+        } else {
+            innerScoreDirector.beforeListVariableChanged(variableDescriptor, sourceEntity, sourceIndex);
+            innerScoreDirector.beforeListVariableChanged(variableDescriptor, destinationEntity, destinationIndex);
+            Object value = variableDescriptor.removeElement(sourceEntity, sourceIndex);
+            variableDescriptor.addElement(destinationEntity, destinationIndex, value);
+            innerScoreDirector.afterListVariableChanged(variableDescriptor, sourceEntity, sourceIndex);
+            innerScoreDirector.afterListVariableChanged(variableDescriptor, destinationEntity, destinationIndex);
+        }
+    }
+
+    @Override
+    public ListChangeMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        return new ListChangeMove<>(variableDescriptor,
+                destinationScoreDirector.lookUpWorkingObject(sourceEntity), sourceIndex,
+                destinationScoreDirector.lookUpWorkingObject(destinationEntity), destinationIndex,
+                destinationScoreDirector.lookUpWorkingObject(movedValue));
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public String getSimpleMoveTypeDescription() {
+        return getClass().getSimpleName() + "(" + variableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        if (sourceEntity == destinationEntity) {
+            return Collections.singletonList(sourceEntity);
+        }
+        return Arrays.asList(sourceEntity, destinationEntity);
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        return Collections.singletonList(movedValue);
+    }
+
+    @Override
+    public void visitPlanningEntities(Consumer<Object> entityVisitor) {
+        entityVisitor.accept(sourceEntity);
+        if (sourceEntity != destinationEntity) {
+            entityVisitor.accept(destinationEntity);
+        }
+    }
+
+    @Override
+    public void visitPlanningValues(Consumer<Object> valueVisitor) {
+        valueVisitor.accept(movedValue);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ListChangeMove<?> other = (ListChangeMove<?>) o;
+        return sourceIndex == other.sourceIndex && destinationIndex == other.destinationIndex
+                && Objects.equals(variableDescriptor, other.variableDescriptor)
+                && Objects.equals(sourceEntity, other.sourceEntity)
+                && Objects.equals(destinationEntity, other.destinationEntity)
+                && Objects.equals(movedValue, other.movedValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(variableDescriptor, sourceEntity, sourceIndex, destinationEntity, destinationIndex,
+                movedValue);
+    }
+
+    @Override
+    public String toString() {
+        return movedValue + " {" + sourceEntity + "[" + sourceIndex + "] -> "
+                + destinationEntity + "[" + destinationIndex + "]}";
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Collections;
+import java.util.Iterator;
+
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
+
+/**
+ * Moves a planning value to another position in the same or another list.
+ * An unassigned planning value is assigned with a {@link ListAssignMove} instead.
+ */
+public class ListChangeMoveSelector<Solution_> extends AbstractListMoveSelector<Solution_> {
+
+    protected final EntitySelector<Solution_> destinationEntitySelector;
+
+    public ListChangeMoveSelector(EntityIndependentValueSelector<Solution_> valueSelector,
+            EntitySelector<Solution_> destinationEntitySelector, boolean randomSelection) {
+        super(valueSelector, randomSelection);
+        this.destinationEntitySelector = destinationEntitySelector;
+        phaseLifecycleSupport.addEventListener(destinationEntitySelector);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isCountable() {
+        return valueSelector.isCountable() && destinationEntitySelector.isCountable();
+    }
+
+    @Override
+    public boolean isNeverEnding() {
+        return randomSelection || valueSelector.isNeverEnding() || destinationEntitySelector.isNeverEnding();
+    }
+
+    @Override
+    public long getSize() {
+        long entityCount = destinationEntitySelector.getSize();
+        long assignedValueCount = countAssignedValues();
+        long unassignedValueCount = valueSelector.getSize() - assignedValueCount;
+        // An assigned value can move to every position of every list except its own, counting each list end once.
+        long destinationCount = assignedValueCount + entityCount;
+        return assignedValueCount * (destinationCount - 2L) + unassignedValueCount * destinationCount;
+    }
+
+    @Override
+    public Iterator<Move<Solution_>> iterator() {
+        if (!randomSelection) {
+            return new OriginalListChangeIterator();
+        } else {
+            return new RandomListChangeIterator();
+        }
+    }
+
+    private Move<Solution_> buildMove(Object value, Object sourceEntity, int sourceIndex,
+            Object destinationEntity, int destinationIndex) {
+        if (sourceEntity == null) {
+            return new ListAssignMove<>(listVariableDescriptor, value, destinationEntity, destinationIndex);
+        }
+        return new ListChangeMove<>(listVariableDescriptor, sourceEntity, sourceIndex,
+                destinationEntity, destinationIndex);
+    }
+
+    /**
+     * @param sourceEntity null if the planning value is unassigned
+     * @param destinationEntity never null
+     * @return the number of destination indexes, after the planning value has been removed from its source list
+     */
+    private int countDestinationIndexes(Object sourceEntity, Object destinationEntity) {
+        int listSize = listVariableDescriptor.getListSize(destinationEntity);
+        return sourceEntity == destinationEntity ? listSize : listSize + 1;
+    }
+
+    private class OriginalListChangeIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        private final Iterator<Object> valueIterator;
+        private Iterator<Object> destinationEntityIterator = Collections.emptyIterator();
+
+        private Object upcomingValue;
+        private Object sourceEntity;
+        private int sourceIndex;
+        private Object destinationEntity;
+        private int destinationIndex;
+        private int destinationIndexCount = 0;
+
+        private OriginalListChangeIterator() {
+            valueIterator = valueSelector.iterator();
+        }
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            while (true) {
+                destinationIndex++;
+                if (destinationIndex < destinationIndexCount) {
+                    if (sourceEntity == destinationEntity && sourceIndex == destinationIndex) {
+                        // Not doable, skip it
+                        continue;
+                    }
+                    return buildMove(upcomingValue, sourceEntity, sourceIndex, destinationEntity, destinationIndex);
+                }
+                if (!destinationEntityIterator.hasNext()) {
+                    if (!valueIterator.hasNext()) {
+                        return noUpcomingSelection();
+                    }
+                    upcomingValue = valueIterator.next();
+                    sourceEntity = listVariableIndexSupply.getEntity(upcomingValue);
+                    sourceIndex = listVariableIndexSupply.getIndex(upcomingValue);
+                    destinationEntityIterator = destinationEntitySelector.iterator();
+                    destinationIndexCount = 0;
+                    continue;
+                }
+                destinationEntity = destinationEntityIterator.next();
+                destinationIndexCount = countDestinationIndexes(sourceEntity, destinationEntity);
+                destinationIndex = -1;
+            }
+        }
+
+    }
+
+    private class RandomListChangeIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        private final Iterator<Object> valueIterator;
+        private final Iterator<Object> destinationEntityIterator;
+
+        private RandomListChangeIterator() {
+            valueIterator = valueSelector.iterator();
+            destinationEntityIterator = destinationEntitySelector.iterator();
+        }
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            // Ideally, this code should have read:
+            //     Object value = valueIterator.next();
+            //     Object destinationEntity = destinationEntityIterator.next();
+            // But empty selectors and ending selectors (such as non-random or shuffled) make it more complex
+            if (!valueIterator.hasNext() || !destinationEntityIterator.hasNext()) {
+                return noUpcomingSelection();
+            }
+            Object value = valueIterator.next();
+            Object destinationEntity = destinationEntityIterator.next();
+            Object sourceEntity = listVariableIndexSupply.getEntity(value);
+            int sourceIndex = listVariableIndexSupply.getIndex(value);
+            int destinationIndex = workingRandom.nextInt(countDestinationIndexes(sourceEntity, destinationEntity));
+            return buildMove(value, sourceEntity, sourceIndex, destinationEntity, destinationIndex);
+        }
+
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + valueSelector + ", " + destinationEntitySelector + ")";
+    }
+
+}
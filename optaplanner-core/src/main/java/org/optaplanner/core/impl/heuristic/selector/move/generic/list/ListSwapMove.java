@@ -0,0 +1,189 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Swaps 2 planning values of a list variable, in the same entity or in 2 different entities.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class ListSwapMove<Solution_> extends AbstractMove<Solution_> {
+
+    protected final ListVariableDescriptor<Solution_> variableDescriptor;
+
+    protected final Object leftEntity;
+    protected final int leftIndex;
+    protected final Object rightEntity;
+    protected final int rightIndex;
+
+    protected final Object leftValue;
+    protected final Object rightValue;
+
+    public ListSwapMove(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object leftEntity, int leftIndex, Object rightEntity, int rightIndex) {
+        this(variableDescriptor, leftEntity, leftIndex, rightEntity, rightIndex,
+                variableDescriptor.getElement(leftEntity, leftIndex),
+                variableDescriptor.getElement(rightEntity, rightIndex));
+    }
+
+    protected ListSwapMove(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object leftEntity, int leftIndex, Object rightEntity, int rightIndex,
+            Object leftValue, Object rightValue) {
+        this.variableDescriptor = variableDescriptor;
+        this.leftEntity = leftEntity;
+        this.leftIndex = leftIndex;
+        this.rightEntity = rightEntity;
+        this.rightIndex = rightIndex;
+        this.leftValue = leftValue;
+        this.rightValue = rightValue;
+    }
+
+    public Object getLeftEntity() {
+        return leftEntity;
+    }
+
+    public int getLeftIndex() {
+        return leftIndex;
+    }
+
+    public Object getRightEntity() {
+        return rightEntity;
+    }
+
+    public int getRightIndex() {
+        return rightIndex;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        return leftEntity != rightEntity || leftIndex != rightIndex;
+    }
+
+    @Override
+    public ListSwapMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        return new ListSwapMove<>(variableDescriptor, leftEntity, leftIndex, rightEntity, rightIndex,
+                rightValue, leftValue);
+    }
+
+    @Override
+    protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        int leftFromIndex = rightEntity == leftEntity ? Math.min(leftIndex, rightIndex) : leftIndex;
+        innerScoreDirector.beforeListVariableChanged(variableDescriptor, leftEntity, leftFromIndex);
+        if (rightEntity != leftEntity) {
+            innerScoreDirector.beforeListVariableChanged(variableDescriptor, rightEntity, rightIndex);
+        }
+        Object oldLeftValue = variableDescriptor.setElement(leftEntity, leftIndex,
+                variableDescriptor.getElement(rightEntity, rightIndex));
+        variableDescriptor.setElement(rightEntity, rightIndex, oldLeftValue);
+        innerScoreDirector.afterListVariableChanged(variableDescriptor, leftEntity, leftFromIndex);
+        if (rightEntity != leftEntity) {
+            innerScoreDirector.afterListVariableChanged(variableDescriptor, rightEntity, rightIndex);
+        }
+    }
+
+    @Override
+    public ListSwapMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        return new ListSwapMove<>(variableDescriptor,
+                destinationScoreDirector.lookUpWorkingObject(leftEntity), leftIndex,
+                destinationScoreDirector.lookUpWorkingObject(rightEntity), rightIndex,
+                destinationScoreDirector.lookUpWorkingObject(leftValue),
+                destinationScoreDirector.lookUpWorkingObject(rightValue));
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public String getSimpleMoveTypeDescription() {
+        return getClass().getSimpleName() + "(" + variableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        if (leftEntity == rightEntity) {
+            return Collections.singletonList(leftEntity);
+        }
+        return Arrays.asList(leftEntity, rightEntity);
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        return Arrays.asList(leftValue, rightValue);
+    }
+
+    @Override
+    public void visitPlanningEntities(Consumer<Object> entityVisitor) {
+        entityVisitor.accept(leftEntity);
+        if (leftEntity != rightEntity) {
+            entityVisitor.accept(rightEntity);
+        }
+    }
+
+    @Override
+    public void visitPlanningValues(Consumer<Object> valueVisitor) {
+        valueVisitor.accept(leftValue);
+        valueVisitor.accept(rightValue);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ListSwapMove<?> other = (ListSwapMove<?>) o;
+        return leftIndex == other.leftIndex && rightIndex == other.rightIndex
+                && Objects.equals(variableDescriptor, other.variableDescriptor)
+                && Objects.equals(leftEntity, other.leftEntity)
+                && Objects.equals(rightEntity, other.rightEntity)
+                && Objects.equals(leftValue, other.leftValue)
+                && Objects.equals(rightValue, other.rightValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(variableDescriptor, leftEntity, leftIndex, rightEntity, rightIndex,
+                leftValue, rightValue);
+    }
+
+    @Override
+    public String toString() {
+        return leftValue + " {" + leftEntity + "[" + leftIndex + "]} <-> "
+                + rightValue + " {" + rightEntity + "[" + rightIndex + "]}";
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Collections;
+import java.util.Iterator;
+
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import org.optaplanner.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
+
+/**
+ * Swaps 2 assigned planning values, in the same list or in different lists.
+ * Unassigned planning values are never selected.
+ */
+public class ListSwapMoveSelector<Solution_> extends AbstractListMoveSelector<Solution_> {
+
+    protected final EntityIndependentValueSelector<Solution_> rightValueSelector;
+    protected final boolean leftEqualsRight;
+
+    public ListSwapMoveSelector(EntityIndependentValueSelector<Solution_> leftValueSelector,
+            EntityIndependentValueSelector<Solution_> rightValueSelector, boolean randomSelection) {
+        super(leftValueSelector, randomSelection);
+        this.rightValueSelector = rightValueSelector;
+        if (leftValueSelector.getVariableDescriptor() != rightValueSelector.getVariableDescriptor()) {
+            throw new IllegalStateException("The selector (" + this
+                    + ") has a leftValueSelector's variableDescriptor (" + leftValueSelector.getVariableDescriptor()
+                    + ") which is not equal to the rightValueSelector's variableDescriptor ("
+                    + rightValueSelector.getVariableDescriptor() + ").");
+        }
+        leftEqualsRight = leftValueSelector == rightValueSelector;
+        if (!leftEqualsRight) {
+            phaseLifecycleSupport.addEventListener(rightValueSelector);
+        }
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isCountable() {
+        return valueSelector.isCountable() && rightValueSelector.isCountable();
+    }
+
+    @Override
+    public boolean isNeverEnding() {
+        return randomSelection || valueSelector.isNeverEnding() || rightValueSelector.isNeverEnding();
+    }
+
+    @Override
+    public long getSize() {
+        long leftAssignedValueCount = countAssignedValues();
+        if (leftEqualsRight) {
+            return leftAssignedValueCount * (leftAssignedValueCount - 1L) / 2L;
+        }
+        long rightAssignedValueCount = 0L;
+        for (Iterator<Object> it = rightValueSelector.endingIterator(null); it.hasNext();) {
+            if (listVariableIndexSupply.getEntity(it.next()) != null) {
+                rightAssignedValueCount++;
+            }
+        }
+        return leftAssignedValueCount * rightAssignedValueCount;
+    }
+
+    @Override
+    public Iterator<Move<Solution_>> iterator() {
+        if (!randomSelection) {
+            return new OriginalListSwapIterator();
+        } else {
+            return new RandomListSwapIterator();
+        }
+    }
+
+    private Move<Solution_> buildMove(Object leftValue, Object rightValue) {
+        return new ListSwapMove<>(listVariableDescriptor,
+                listVariableIndexSupply.getEntity(leftValue), listVariableIndexSupply.getIndex(leftValue),
+                listVariableIndexSupply.getEntity(rightValue), listVariableIndexSupply.getIndex(rightValue));
+    }
+
+    private class OriginalListSwapIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        private final Iterator<Object> leftValueIterator;
+        private Iterator<Object> rightValueIterator = Collections.emptyIterator();
+        private Object leftValue;
+
+        private OriginalListSwapIterator() {
+            leftValueIterator = valueSelector.iterator();
+        }
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            while (true) {
+                while (rightValueIterator.hasNext()) {
+                    Object rightValue = rightValueIterator.next();
+                    if (rightValue != leftValue && listVariableIndexSupply.getEntity(rightValue) != null) {
+                        return buildMove(leftValue, rightValue);
+                    }
+                }
+                if (!nextAssignedLeftValue()) {
+                    return noUpcomingSelection();
+                }
+            }
+        }
+
+        private boolean nextAssignedLeftValue() {
+            while (leftValueIterator.hasNext()) {
+                leftValue = leftValueIterator.next();
+                if (listVariableIndexSupply.getEntity(leftValue) != null) {
+                    rightValueIterator = rightValueSelector.iterator();
+                    if (leftEqualsRight) {
+                        // Avoid selecting both A-B and B-A
+                        while (rightValueIterator.hasNext() && rightValueIterator.next() != leftValue) {
+                            // Skip the right values up to and including the left value
+                        }
+                    }
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+    private class RandomListSwapIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        private final Iterator<Object> leftValueIterator;
+        private final Iterator<Object> rightValueIterator;
+
+        private RandomListSwapIterator() {
+            leftValueIterator = valueSelector.iterator();
+            rightValueIterator = rightValueSelector.iterator();
+        }
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            Object leftValue = selectAssignedValue(leftValueIterator);
+            Object rightValue = selectAssignedValue(rightValueIterator);
+            if (leftValue == null || rightValue == null) {
+                return noUpcomingSelection();
+            }
+            return buildMove(leftValue, rightValue);
+        }
+
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + valueSelector + ", " + rightValueSelector + ")";
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListSwapMoveSelectorConfig;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
+
+public class ListSwapMoveSelectorFactory<Solution_>
+        extends AbstractListMoveSelectorFactory<Solution_, ListSwapMoveSelectorConfig> {
+
+    public ListSwapMoveSelectorFactory(ListSwapMoveSelectorConfig moveSelectorConfig) {
+        super(moveSelectorConfig);
+    }
+
+    @Override
+    protected MoveSelector<Solution_> buildBaseMoveSelector(HeuristicConfigPolicy<Solution_> configPolicy,
+            SelectionCacheType minimumCacheType, boolean randomSelection) {
+        EntityDescriptor<Solution_> entityDescriptor = deduceEntityDescriptor(configPolicy.getSolutionDescriptor());
+        EntityIndependentValueSelector<Solution_> leftValueSelector = buildListValueSelector(configPolicy,
+                entityDescriptor, config.getValueSelectorConfig(), minimumCacheType, randomSelection);
+        EntityIndependentValueSelector<Solution_> rightValueSelector = buildListValueSelector(configPolicy,
+                entityDescriptor,
+                config.getSecondaryValueSelectorConfig() == null ? config.getValueSelectorConfig()
+                        : config.getSecondaryValueSelectorConfig(),
+                minimumCacheType, randomSelection);
+        return new ListSwapMoveSelector<>(leftValueSelector, rightValueSelector, randomSelection);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Removes a planning value from the list variable of an entity, so it becomes unassigned.
+ * It is the undo move of a {@link ListAssignMove}.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class ListUnassignMove<Solution_> extends AbstractMove<Solution_> {
+
+    protected final ListVariableDescriptor<Solution_> variableDescriptor;
+
+    protected final Object sourceEntity;
+    protected final int sourceIndex;
+    protected final Object planningValue;
+
+    public ListUnassignMove(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object sourceEntity, int sourceIndex) {
+        this(variableDescriptor, sourceEntity, sourceIndex, variableDescriptor.getElement(sourceEntity, sourceIndex));
+    }
+
+    protected ListUnassignMove(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object sourceEntity, int sourceIndex, Object planningValue) {
+        this.variableDescriptor = variableDescriptor;
+        this.sourceEntity = sourceEntity;
+        this.sourceIndex = sourceIndex;
+        this.planningValue = planningValue;
+    }
+
+    public Object getSourceEntity() {
+        return sourceEntity;
+    }
+
+    public int getSourceIndex() {
+        return sourceIndex;
+    }
+
+    public Object getPlanningValue() {
+        return planningValue;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        return true;
+    }
+
+    @Override
+    public ListAssignMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        return new ListAssignMove<>(variableDescriptor, planningValue, sourceEntity, sourceIndex);
+    }
+
+    @Override
+    protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        innerScoreDirector.beforeListVariableChanged(variableDescriptor, sourceEntity, sourceIndex);
+        variableDescriptor.removeElement(sourceEntity, sourceIndex);
+        innerScoreDirector.afterListVariableChanged(variableDescriptor, sourceEntity, sourceIndex);
+    }
+
+    @Override
+    public ListUnassignMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        return new ListUnassignMove<>(variableDescriptor,
+                destinationScoreDirector.lookUpWorkingObject(sourceEntity), sourceIndex,
+                destinationScoreDirector.lookUpWorkingObject(planningValue));
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public String getSimpleMoveTypeDescription() {
+        return getClass().getSimpleName() + "(" + variableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        return Collections.singletonList(sourceEntity);
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        return Collections.singletonList(planningValue);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ListUnassignMove<?> other = (ListUnassignMove<?>) o;
+        return sourceIndex == other.sourceIndex
+                && Objects.equals(variableDescriptor, other.variableDescriptor)
+                && Objects.equals(sourceEntity, other.sourceEntity)
+                && Objects.equals(planningValue, other.planningValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(variableDescriptor, sourceEntity, sourceIndex, planningValue);
+    }
+
+    @Override
+    public String toString() {
+        return planningValue + " {" + sourceEntity + "[" + sourceIndex + "] -> null}";
+    }
+
+}
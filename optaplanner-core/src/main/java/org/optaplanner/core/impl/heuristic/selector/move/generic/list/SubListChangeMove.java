@@ -0,0 +1,191 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Moves a sublist of consecutive planning values of a list variable to another index,
+ * in the same entity or in another entity.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class SubListChangeMove<Solution_> extends AbstractMove<Solution_> {
+
+    protected final ListVariableDescriptor<Solution_> variableDescriptor;
+
+    protected final Object sourceEntity;
+    protected final int sourceIndex;
+    protected final int length;
+    protected final Object destinationEntity;
+    protected final int destinationIndex;
+
+    protected final List<Object> movedValueList;
+
+    /**
+     * @param variableDescriptor never null
+     * @param sourceEntity never null
+     * @param sourceIndex {@code >= 0}, the index of the first planning value of the sublist in the sourceEntity
+     * @param length {@code >= 1}, the number of planning values in the sublist
+     * @param destinationEntity never null, can be the sourceEntity
+     * @param destinationIndex {@code >= 0}, the index of the first planning value of the sublist
+     *        in the destinationEntity after the move
+     */
+    public SubListChangeMove(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object sourceEntity, int sourceIndex, int length, Object destinationEntity, int destinationIndex) {
+        this(variableDescriptor, sourceEntity, sourceIndex, length, destinationEntity, destinationIndex,
+                new ArrayList<>(variableDescriptor.getListVariable(sourceEntity)
+                        .subList(sourceIndex, sourceIndex + length)));
+    }
+
+    protected SubListChangeMove(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object sourceEntity, int sourceIndex, int length, Object destinationEntity, int destinationIndex,
+            List<Object> movedValueList) {
+        this.variableDescriptor = variableDescriptor;
+        this.sourceEntity = sourceEntity;
+        this.sourceIndex = sourceIndex;
+        this.length = length;
+        this.destinationEntity = destinationEntity;
+        this.destinationIndex = destinationIndex;
+        this.movedValueList = movedValueList;
+    }
+
+    public Object getSourceEntity() {
+        return sourceEntity;
+    }
+
+    public int getSourceIndex() {
+        return sourceIndex;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public Object getDestinationEntity() {
+        return destinationEntity;
+    }
+
+    public int getDestinationIndex() {
+        return destinationIndex;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        return sourceEntity != destinationEntity || sourceIndex != destinationIndex;
+    }
+
+    @Override
+    public SubListChangeMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        return new SubListChangeMove<>(variableDescriptor, destinationEntity, destinationIndex, length,
+                sourceEntity, sourceIndex, movedValueList);
+    }
+
+    @Override
+    protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        int sourceFromIndex = destinationEntity == sourceEntity ? Math.min(sourceIndex, destinationIndex) : sourceIndex;
+        innerScoreDirector.beforeListVariableChanged(variableDescriptor, sourceEntity, sourceFromIndex);
+        if (destinationEntity != sourceEntity) {
+            innerScoreDirector.beforeListVariableChanged(variableDescriptor, destinationEntity, destinationIndex);
+        }
+        List<Object> sourceSubList = variableDescriptor.getListVariable(sourceEntity)
+                .subList(sourceIndex, sourceIndex + length);
+        List<Object> valueList = new ArrayList<>(sourceSubList);
+        sourceSubList.clear();
+        variableDescriptor.getListVariable(destinationEntity).addAll(destinationIndex, valueList);
+        innerScoreDirector.afterListVariableChanged(variableDescriptor, sourceEntity, sourceFromIndex);
+        if (destinationEntity != sourceEntity) {
+            innerScoreDirector.afterListVariableChanged(variableDescriptor, destinationEntity, destinationIndex);
+        }
+    }
+
+    @Override
+    public SubListChangeMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        return new SubListChangeMove<>(variableDescriptor,
+                destinationScoreDirector.lookUpWorkingObject(sourceEntity), sourceIndex, length,
+                destinationScoreDirector.lookUpWorkingObject(destinationEntity), destinationIndex,
+                rebaseList(movedValueList, destinationScoreDirector));
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public String getSimpleMoveTypeDescription() {
+        return getClass().getSimpleName() + "(" + variableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        if (sourceEntity == destinationEntity) {
+            return Collections.singletonList(sourceEntity);
+        }
+        return Arrays.asList(sourceEntity, destinationEntity);
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        return movedValueList;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SubListChangeMove<?> other = (SubListChangeMove<?>) o;
+        return sourceIndex == other.sourceIndex && length == other.length
+                && destinationIndex == other.destinationIndex
+                && Objects.equals(variableDescriptor, other.variableDescriptor)
+                && Objects.equals(sourceEntity, other.sourceEntity)
+                && Objects.equals(destinationEntity, other.destinationEntity)
+                && Objects.equals(movedValueList, other.movedValueList);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(variableDescriptor, sourceEntity, sourceIndex, length, destinationEntity, destinationIndex,
+                movedValueList);
+    }
+
+    @Override
+    public String toString() {
+        return movedValueList + " {" + sourceEntity + "[" + sourceIndex + ".." + (sourceIndex + length) + ") -> "
+                + destinationEntity + "[" + destinationIndex + "]}";
+    }
+
+}
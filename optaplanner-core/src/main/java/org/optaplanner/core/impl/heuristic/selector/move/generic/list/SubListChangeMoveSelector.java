@@ -0,0 +1,134 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Iterator;
+
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
+
+/**
+ * Moves a sublist that starts at an assigned planning value to a random index of the same or another list.
+ * Only supports random selection.
+ */
+public class SubListChangeMoveSelector<Solution_> extends AbstractListMoveSelector<Solution_> {
+
+    protected final EntitySelector<Solution_> destinationEntitySelector;
+    protected final int minimumSubListSize;
+    protected final int maximumSubListSize;
+
+    public SubListChangeMoveSelector(EntityIndependentValueSelector<Solution_> valueSelector,
+            EntitySelector<Solution_> destinationEntitySelector,
+            int minimumSubListSize, int maximumSubListSize, boolean randomSelection) {
+        super(valueSelector, randomSelection);
+        this.destinationEntitySelector = destinationEntitySelector;
+        this.minimumSubListSize = minimumSubListSize;
+        this.maximumSubListSize = maximumSubListSize;
+        if (!randomSelection) {
+            throw new UnsupportedOperationException(
+                    "Non randomSelection (such as original selection) is not supported on "
+                            + SubListChangeMoveSelector.class.getSimpleName() + ".");
+        }
+        phaseLifecycleSupport.addEventListener(destinationEntitySelector);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isCountable() {
+        return valueSelector.isCountable() && destinationEntitySelector.isCountable();
+    }
+
+    @Override
+    public boolean isNeverEnding() {
+        return true;
+    }
+
+    /**
+     * The size is approximated: every sublist is assumed to fit at every position of every list.
+     *
+     * @return {@code >= 0}
+     */
+    @Override
+    public long getSize() {
+        long subListCount = 0L;
+        long assignedValueCount = 0L;
+        for (Iterator<Object> it = valueSelector.endingIterator(null); it.hasNext();) {
+            Object value = it.next();
+            Object entity = listVariableIndexSupply.getEntity(value);
+            if (entity != null) {
+                assignedValueCount++;
+                int availableSize = listVariableDescriptor.getListSize(entity) - listVariableIndexSupply.getIndex(value);
+                subListCount += Math.max(0, Math.min(maximumSubListSize, availableSize) - minimumSubListSize + 1);
+            }
+        }
+        return subListCount * (assignedValueCount + destinationEntitySelector.getSize());
+    }
+
+    @Override
+    public Iterator<Move<Solution_>> iterator() {
+        return new RandomSubListChangeIterator();
+    }
+
+    private class RandomSubListChangeIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        private final Iterator<Object> valueIterator;
+        private final Iterator<Object> destinationEntityIterator;
+
+        private RandomSubListChangeIterator() {
+            valueIterator = valueSelector.iterator();
+            destinationEntityIterator = destinationEntitySelector.iterator();
+        }
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            Object value = selectAssignedValue(valueIterator);
+            if (value == null || !destinationEntityIterator.hasNext()) {
+                return noUpcomingSelection();
+            }
+            Object destinationEntity = destinationEntityIterator.next();
+            Object sourceEntity = listVariableIndexSupply.getEntity(value);
+            int sourceIndex = listVariableIndexSupply.getIndex(value);
+            int availableSize = listVariableDescriptor.getListSize(sourceEntity) - sourceIndex;
+            int maximumLength = Math.min(maximumSubListSize, availableSize);
+            if (maximumLength < minimumSubListSize) {
+                // Not doable, but the value iterator is never ending
+                return new SubListChangeMove<>(listVariableDescriptor, sourceEntity, sourceIndex, 1,
+                        sourceEntity, sourceIndex);
+            }
+            int length = minimumSubListSize + workingRandom.nextInt(maximumLength - minimumSubListSize + 1);
+            int destinationListSize = listVariableDescriptor.getListSize(destinationEntity);
+            if (destinationEntity == sourceEntity) {
+                destinationListSize -= length;
+            }
+            int destinationIndex = workingRandom.nextInt(destinationListSize + 1);
+            return new SubListChangeMove<>(listVariableDescriptor, sourceEntity, sourceIndex, length,
+                    destinationEntity, destinationIndex);
+        }
+
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + valueSelector + ", " + destinationEntitySelector + ")";
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Reverses a sublist of the list variable of an entity.
+ * In a route, that replaces the edges before and after the sublist by 2 other edges, like 2-opt does.
+ * It is its own undo move.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class TwoOptListMove<Solution_> extends AbstractMove<Solution_> {
+
+    protected final ListVariableDescriptor<Solution_> variableDescriptor;
+
+    protected final Object entity;
+    protected final int fromIndex; // Inclusive
+    protected final int toIndex; // Exclusive
+
+    /**
+     * @param variableDescriptor never null
+     * @param entity never null
+     * @param fromIndex {@code >= 0}, inclusive
+     * @param toIndex {@code > fromIndex}, exclusive
+     */
+    public TwoOptListMove(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object entity, int fromIndex, int toIndex) {
+        this.variableDescriptor = variableDescriptor;
+        this.entity = entity;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+    }
+
+    public Object getEntity() {
+        return entity;
+    }
+
+    public int getFromIndex() {
+        return fromIndex;
+    }
+
+    public int getToIndex() {
+        return toIndex;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        return toIndex - fromIndex >= 2;
+    }
+
+    @Override
+    public TwoOptListMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        return new TwoOptListMove<>(variableDescriptor, entity, fromIndex, toIndex);
+    }
+
+    @Override
+    protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        innerScoreDirector.beforeListVariableChanged(variableDescriptor, entity, fromIndex);
+        Collections.reverse(variableDescriptor.getListVariable(entity).subList(fromIndex, toIndex));
+        innerScoreDirector.afterListVariableChanged(variableDescriptor, entity, fromIndex);
+    }
+
+    @Override
+    public TwoOptListMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        return new TwoOptListMove<>(variableDescriptor,
+                destinationScoreDirector.lookUpWorkingObject(entity), fromIndex, toIndex);
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public String getSimpleMoveTypeDescription() {
+        return getClass().getSimpleName() + "(" + variableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        return Collections.singletonList(entity);
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        List<Object> list = variableDescriptor.getListVariable(entity);
+        return new ArrayList<>(list.subList(fromIndex, toIndex));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final TwoOptListMove<?> other = (TwoOptListMove<?>) o;
+        return fromIndex == other.fromIndex && toIndex == other.toIndex
+                && Objects.equals(variableDescriptor, other.variableDescriptor)
+                && Objects.equals(entity, other.entity);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(variableDescriptor, entity, fromIndex, toIndex);
+    }
+
+    @Override
+    public String toString() {
+        return entity + " {reverse [" + fromIndex + ".." + toIndex + ")}";
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Iterator;
+
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import org.optaplanner.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
+
+/**
+ * Reverses the sublist between 2 assigned planning values of the same list (both inclusive),
+ * which reconnects the list like a 2-opt move on a tour.
+ */
+public class TwoOptListMoveSelector<Solution_> extends AbstractListMoveSelector<Solution_> {
+
+    public TwoOptListMoveSelector(EntityIndependentValueSelector<Solution_> valueSelector, boolean randomSelection) {
+        super(valueSelector, randomSelection);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isCountable() {
+        return valueSelector.isCountable();
+    }
+
+    @Override
+    public boolean isNeverEnding() {
+        return randomSelection || valueSelector.isNeverEnding();
+    }
+
+    @Override
+    public long getSize() {
+        long size = 0L;
+        for (Iterator<Object> it = valueSelector.endingIterator(null); it.hasNext();) {
+            Object value = it.next();
+            Object entity = listVariableIndexSupply.getEntity(value);
+            if (entity != null) {
+                size += listVariableDescriptor.getListSize(entity) - listVariableIndexSupply.getIndex(value) - 1;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public Iterator<Move<Solution_>> iterator() {
+        if (!randomSelection) {
+            return new OriginalTwoOptListIterator();
+        } else {
+            return new RandomTwoOptListIterator();
+        }
+    }
+
+    private class OriginalTwoOptListIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        private final Iterator<Object> valueIterator;
+        private Object entity;
+        private int fromIndex;
+        private int toIndex;
+        private int listSize = 0;
+
+        private OriginalTwoOptListIterator() {
+            valueIterator = valueSelector.iterator();
+        }
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            while (true) {
+                toIndex++;
+                if (toIndex <= listSize) {
+                    return new TwoOptListMove<>(listVariableDescriptor, entity, fromIndex, toIndex);
+                }
+                if (!valueIterator.hasNext()) {
+                    return noUpcomingSelection();
+                }
+                Object value = valueIterator.next();
+                entity = listVariableIndexSupply.getEntity(value);
+                if (entity == null) {
+                    listSize = 0;
+                    continue;
+                }
+                fromIndex = listVariableIndexSupply.getIndex(value);
+                // Reversing a sublist of 1 element does nothing
+                toIndex = fromIndex + 1;
+                listSize = listVariableDescriptor.getListSize(entity);
+            }
+        }
+
+    }
+
+    private class RandomTwoOptListIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        private final Iterator<Object> valueIterator;
+
+        private RandomTwoOptListIterator() {
+            valueIterator = valueSelector.iterator();
+        }
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            Object value = selectAssignedValue(valueIterator);
+            if (value == null) {
+                return noUpcomingSelection();
+            }
+            Object entity = listVariableIndexSupply.getEntity(value);
+            int index = listVariableIndexSupply.getIndex(value);
+            int listSize = listVariableDescriptor.getListSize(entity);
+            if (listSize < 2) {
+                // Not doable, but the value iterator might be never ending
+                return new TwoOptListMove<>(listVariableDescriptor, entity, index, index + 1);
+            }
+            int otherIndex = workingRandom.nextInt(listSize - 1);
+            if (otherIndex >= index) {
+                otherIndex++;
+            }
+            return new TwoOptListMove<>(listVariableDescriptor, entity,
+                    Math.min(index, otherIndex), Math.max(index, otherIndex) + 1);
+        }
+
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + valueSelector + ")";
+    }
+
+}
@@ -114,7 +114,7 @@ public class ValueSelectorFactory<Solution_>
             SelectionOrder inheritedSelectionOrder, boolean applyReinitializeVariableFiltering) {
         if (config.getMimicSelectorRef() != null) {
             ValueSelector<Solution_> valueSelector = buildMimicReplaying(configPolicy);
-            if (applyReinitializeVariableFiltering) {
+            if (applyReinitializeVariableFiltering && !valueSelector.getVariableDescriptor().isListVariable()) {
                 valueSelector = new ReinitializeVariableValueSelector<>(valueSelector);
             }
             valueSelector = applyDowncasting(valueSelector);
@@ -153,7 +153,8 @@ public class ValueSelectorFactory<Solution_>
         valueSelector = applyCaching(resolvedCacheType, resolvedSelectionOrder, valueSelector);
         valueSelector = applySelectedLimit(valueSelector);
         valueSelector = applyMimicRecording(configPolicy, valueSelector);
-        if (applyReinitializeVariableFiltering) {
+        // A list variable is never reinitialized, its moves only assign the unassigned values
+        if (applyReinitializeVariableFiltering && !variableDescriptor.isListVariable()) {
             valueSelector = new ReinitializeVariableValueSelector<>(valueSelector);
         }
         valueSelector = applyDowncasting(valueSelector);
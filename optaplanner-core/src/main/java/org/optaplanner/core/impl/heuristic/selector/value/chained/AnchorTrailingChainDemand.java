@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.value.chained;
+
+import java.util.Objects;
+
+import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableDemand;
+import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableSupply;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableDemand;
+import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
+import org.optaplanner.core.impl.domain.variable.supply.Demand;
+import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+public class AnchorTrailingChainDemand<Solution_> implements Demand<Solution_, AnchorTrailingChainSupply<Solution_>> {
+
+    protected final VariableDescriptor<Solution_> sourceVariableDescriptor;
+
+    public AnchorTrailingChainDemand(VariableDescriptor<Solution_> sourceVariableDescriptor) {
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+    }
+
+    public VariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return sourceVariableDescriptor;
+    }
+
+    // ************************************************************************
+    // Creation method
+    // ************************************************************************
+
+    @Override
+    public AnchorTrailingChainSupply<Solution_> createExternalizedSupply(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        // Demanded first, so they are updated before the AnchorTrailingChainSupply is notified
+        SupplyManager<Solution_> supplyManager = scoreDirector.getSupplyManager();
+        SingletonInverseVariableSupply inverseVariableSupply = supplyManager
+                .demand(new SingletonInverseVariableDemand<>(sourceVariableDescriptor));
+        AnchorVariableSupply anchorVariableSupply = supplyManager
+                .demand(new AnchorVariableDemand<>(sourceVariableDescriptor));
+        return new AnchorTrailingChainSupply<>(sourceVariableDescriptor, inverseVariableSupply, anchorVariableSupply);
+    }
+
+    // ************************************************************************
+    // Equals/hashCode method
+    // ************************************************************************
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AnchorTrailingChainDemand)) {
+            return false;
+        }
+        AnchorTrailingChainDemand<Solution_> other = (AnchorTrailingChainDemand<Solution_>) o;
+        return sourceVariableDescriptor.equals(other.sourceVariableDescriptor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(AnchorTrailingChainDemand.class.getName(), sourceVariableDescriptor);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.value.chained;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableSupply;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
+import org.optaplanner.core.impl.domain.variable.listener.SourcedVariableListener;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Caches the trailing chain of every anchor of a chained variable.
+ * Only the chains of the anchors of which an entity changed are walked again,
+ * instead of walking every chain every step.
+ * <p>
+ * Changes while {@link InnerScoreDirector#isAllChangesWillBeUndoneBeforeStepEnds()} are ignored,
+ * because every evaluated move is undone before the step ends.
+ * So only the step itself invalidates chains, not every move (and undo move) evaluated during that step.
+ * Therefore, {@link #getAnchorTrailingChain(Object)} must not be called while such changes are done,
+ * which holds for the step cache of a {@link DefaultSubChainSelector}.
+ * <p>
+ * To get an instance, demand an {@link AnchorTrailingChainDemand} from {@link InnerScoreDirector#getSupplyManager()}.
+ */
+public class AnchorTrailingChainSupply<Solution_> implements SourcedVariableListener<Solution_, Object> {
+
+    protected final VariableDescriptor<Solution_> sourceVariableDescriptor;
+    protected final SingletonInverseVariableSupply inverseVariableSupply;
+    protected final AnchorVariableSupply anchorVariableSupply;
+
+    protected Map<Object, List<Object>> anchorToTrailingChainMap = null;
+
+    public AnchorTrailingChainSupply(VariableDescriptor<Solution_> sourceVariableDescriptor,
+            SingletonInverseVariableSupply inverseVariableSupply, AnchorVariableSupply anchorVariableSupply) {
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+        this.inverseVariableSupply = inverseVariableSupply;
+        this.anchorVariableSupply = anchorVariableSupply;
+    }
+
+    @Override
+    public VariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return sourceVariableDescriptor;
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+        anchorToTrailingChainMap = new IdentityHashMap<>();
+    }
+
+    @Override
+    public void close() {
+        anchorToTrailingChainMap = null;
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        invalidateAnchor(scoreDirector, entity);
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // The AnchorVariableSupply still returns the old anchor
+        invalidateAnchor(scoreDirector, entity);
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // The AnchorVariableSupply already returns the new anchor, because it was notified first
+        invalidateAnchor(scoreDirector, entity);
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        invalidateAnchor(scoreDirector, entity);
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    protected void invalidateAnchor(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        if (scoreDirector instanceof InnerScoreDirector
+                && ((InnerScoreDirector<Solution_, ?>) scoreDirector).isAllChangesWillBeUndoneBeforeStepEnds()) {
+            // An evaluated move, undone before the step ends, so its chains are the same again by then
+            return;
+        }
+        Object anchor = anchorVariableSupply.getAnchor(entity);
+        if (anchor != null) {
+            anchorToTrailingChainMap.remove(anchor);
+        }
+    }
+
+    /**
+     * @param anchor never null
+     * @return never null, the entities that follow the anchor, in order, not to be modified
+     */
+    public List<Object> getAnchorTrailingChain(Object anchor) {
+        return anchorToTrailingChainMap.computeIfAbsent(anchor, this::walkAnchorTrailingChain);
+    }
+
+    private List<Object> walkAnchorTrailingChain(Object anchor) {
+        Object trailingEntity = inverseVariableSupply.getInverseSingleton(anchor);
+        if (trailingEntity == null) {
+            return Collections.emptyList();
+        }
+        List<Object> anchorTrailingChain = new ArrayList<>();
+        while (trailingEntity != null) {
+            anchorTrailingChain.add(trailingEntity);
+            trailingEntity = inverseVariableSupply.getInverseSingleton(trailingEntity);
+        }
+        return anchorTrailingChain;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getVariableName() + ")";
+    }
+
+}
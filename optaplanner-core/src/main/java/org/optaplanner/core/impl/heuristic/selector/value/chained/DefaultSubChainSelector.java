@@ -24,15 +24,12 @@ import java.util.ListIterator;
 
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
-import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableDemand;
-import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.selector.AbstractSelector;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleBridge;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleListener;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
 import org.optaplanner.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
-import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.random.RandomUtils;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
@@ -47,7 +44,7 @@ public class DefaultSubChainSelector<Solution_> extends AbstractSelector<Solutio
     protected final EntityIndependentValueSelector<Solution_> valueSelector;
     protected final boolean randomSelection;
 
-    protected SingletonInverseVariableSupply inverseVariableSupply;
+    protected AnchorTrailingChainSupply<Solution_> anchorTrailingChainSupply;
 
     // The sub selection here is a sequence. For example from ABCDE, it can select BCD, but not ACD.
     protected final int minimumSubChainSize;
@@ -100,13 +97,13 @@ public class DefaultSubChainSelector<Solution_> extends AbstractSelector<Solutio
         super.solvingStarted(solverScope);
         SupplyManager<Solution_> supplyManager = solverScope.getScoreDirector().getSupplyManager();
         GenuineVariableDescriptor<Solution_> variableDescriptor = valueSelector.getVariableDescriptor();
-        inverseVariableSupply = supplyManager.demand(new SingletonInverseVariableDemand<>(variableDescriptor));
+        anchorTrailingChainSupply = supplyManager.demand(new AnchorTrailingChainDemand<>(variableDescriptor));
     }
 
     @Override
     public void solvingEnded(SolverScope<Solution_> solverScope) {
         super.solvingEnded(solverScope);
-        inverseVariableSupply = null;
+        anchorTrailingChainSupply = null;
     }
 
     // ************************************************************************
@@ -115,7 +112,6 @@ public class DefaultSubChainSelector<Solution_> extends AbstractSelector<Solutio
 
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
-        InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
         GenuineVariableDescriptor<Solution_> variableDescriptor = valueSelector.getVariableDescriptor();
         long valueSize = valueSelector.getSize();
         // Fail-fast when anchorTrailingChainList.size() could ever be too big
@@ -125,24 +121,14 @@ public class DefaultSubChainSelector<Solution_> extends AbstractSelector<Solutio
                     + ") with valueSize (" + valueSize
                     + ") which is higher than Integer.MAX_VALUE.");
         }
-        List<Object> anchorList = new ArrayList<>();
+        anchorTrailingChainList = new ArrayList<>();
         for (Object value : valueSelector) {
             if (variableDescriptor.isValuePotentialAnchor(value)) {
-                anchorList.add(value);
-            }
-        }
-        int anchorListSize = Math.max(anchorList.size(), 1);
-        anchorTrailingChainList = new ArrayList<>(anchorListSize);
-        int anchorChainInitialCapacity = ((int) valueSize / anchorListSize) + 1;
-        for (Object anchor : anchorList) {
-            List<Object> anchorChain = new ArrayList<>(anchorChainInitialCapacity);
-            Object trailingEntity = inverseVariableSupply.getInverseSingleton(anchor);
-            while (trailingEntity != null) {
-                anchorChain.add(trailingEntity);
-                trailingEntity = inverseVariableSupply.getInverseSingleton(trailingEntity);
-            }
-            if (anchorChain.size() >= minimumSubChainSize) {
-                anchorTrailingChainList.add(new SubChain(anchorChain));
+                // Only the chains that changed since the previous step are walked again
+                List<Object> anchorChain = anchorTrailingChainSupply.getAnchorTrailingChain(value);
+                if (anchorChain.size() >= minimumSubChainSize) {
+                    anchorTrailingChainList.add(new SubChain(anchorChain));
+                }
             }
         }
     }
@@ -311,21 +297,36 @@ public class DefaultSubChainSelector<Solution_> extends AbstractSelector<Solutio
             // A random fromIndex and random toIndex would not be fair.
             long selectionSize = calculateSubChainSelectionSize(anchorTrailingChain);
             long selectionIndex = RandomUtils.nextLong(workingRandom, selectionSize);
-            // Black magic to translate selectionIndex into fromIndex and toIndex
-            long fromIndex = selectionIndex;
-            long subChainSize = minimumSubChainSize;
-            long countInThatSize = anchorTrailingChain.getSize() - subChainSize + 1;
-            while (fromIndex >= countInThatSize) {
-                fromIndex -= countInThatSize;
-                subChainSize++;
-                countInThatSize--;
-                if (countInThatSize <= 0) {
-                    throw new IllegalStateException("Impossible if calculateSubChainSelectionSize() works correctly.");
-                }
-            }
+            // Translate selectionIndex into fromIndex and toIndex
+            long countInMinimumSize = anchorTrailingChain.getSize() - minimumSubChainSize + 1;
+            long sizeOffset = calculateSubChainSizeOffset(countInMinimumSize, selectionIndex);
+            long subChainSize = minimumSubChainSize + sizeOffset;
+            long fromIndex = selectionIndex - (sizeOffset * countInMinimumSize - sizeOffset * (sizeOffset - 1L) / 2L);
             return anchorTrailingChain.subChain((int) fromIndex, (int) (fromIndex + subChainSize));
         }
 
+        /**
+         * There are countInMinimumSize subchains of the minimumSubChainSize, one less of the next size, and so on.
+         * Returns, in constant time, how many sizes above the minimumSubChainSize the selectionIndex lies.
+         */
+        private long calculateSubChainSizeOffset(long countInMinimumSize, long selectionIndex) {
+            // The largest k for which the first k sizes hold at most selectionIndex subchains:
+            // k * countInMinimumSize - k * (k - 1) / 2 <= selectionIndex
+            double b = countInMinimumSize + 0.5;
+            long k = (long) Math.floor(b - Math.sqrt(b * b - 2.0 * selectionIndex));
+            // Correct the floating point rounding
+            while (k > 0L && k * countInMinimumSize - k * (k - 1L) / 2L > selectionIndex) {
+                k--;
+            }
+            while ((k + 1L) * countInMinimumSize - (k + 1L) * k / 2L <= selectionIndex) {
+                k++;
+            }
+            if (k >= countInMinimumSize) {
+                throw new IllegalStateException("Impossible if calculateSubChainSelectionSize() works correctly.");
+            }
+            return k;
+        }
+
         private SubChain selectAnchorTrailingChain() {
             // Known issue/compromise: Every SubChain should have same probability, but doesn't.
             // Instead, every anchorTrailingChain has the same probability.
@@ -16,10 +16,9 @@
 
 package org.optaplanner.core.impl.heuristic.selector.value.decorator;
 
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
+import java.util.List;
 
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
@@ -29,7 +28,7 @@ import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecyc
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import org.optaplanner.core.impl.heuristic.selector.value.AbstractValueSelector;
 import org.optaplanner.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
-import org.optaplanner.core.impl.solver.random.RandomUtils;
+import org.optaplanner.core.impl.solver.random.AliasMethodSampler;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 public class ProbabilityValueSelector<Solution_> extends AbstractValueSelector<Solution_>
@@ -39,8 +38,8 @@ public class ProbabilityValueSelector<Solution_> extends AbstractValueSelector<S
     protected final SelectionCacheType cacheType;
     protected final SelectionProbabilityWeightFactory<Solution_, Object> probabilityWeightFactory;
 
-    protected NavigableMap<Double, Object> cachedEntityMap = null;
-    protected double probabilityWeightTotal = -1.0;
+    protected final List<Object> cachedValueList = new ArrayList<>();
+    protected final AliasMethodSampler probabilitySampler = new AliasMethodSampler();
 
     public ProbabilityValueSelector(EntityIndependentValueSelector<Solution_> childValueSelector,
             SelectionCacheType cacheType,
@@ -72,21 +71,24 @@ public class ProbabilityValueSelector<Solution_> extends AbstractValueSelector<S
 
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
-        cachedEntityMap = new TreeMap<>();
+        cachedValueList.clear();
         ScoreDirector<Solution_> scoreDirector = solverScope.getScoreDirector();
-        double probabilityWeightOffset = 0L;
         // TODO Fail-faster if a non FromSolutionPropertyValueSelector is used
         for (Object value : childValueSelector) {
-            double probabilityWeight = probabilityWeightFactory.createProbabilityWeight(scoreDirector, value);
-            cachedEntityMap.put(probabilityWeightOffset, value);
-            probabilityWeightOffset += probabilityWeight;
+            cachedValueList.add(value);
+        }
+        // The alias table is only rebuilt if a weight differs from the previous cache, for example the previous step
+        probabilitySampler.setSize(cachedValueList.size());
+        for (int i = 0; i < cachedValueList.size(); i++) {
+            double probabilityWeight = probabilityWeightFactory.createProbabilityWeight(scoreDirector,
+                    cachedValueList.get(i));
+            probabilitySampler.setWeight(i, probabilityWeight);
         }
-        probabilityWeightTotal = probabilityWeightOffset;
     }
 
     @Override
     public void disposeCache(SolverScope<Solution_> solverScope) {
-        probabilityWeightTotal = -1.0;
+        // Keep the weights, to compare them with those of the next cache
     }
 
     @Override
@@ -111,7 +113,7 @@ public class ProbabilityValueSelector<Solution_> extends AbstractValueSelector<S
 
     @Override
     public long getSize() {
-        return cachedEntityMap.size();
+        return cachedValueList.size();
     }
 
     @Override
@@ -129,10 +131,7 @@ public class ProbabilityValueSelector<Solution_> extends AbstractValueSelector<S
 
             @Override
             public Object next() {
-                double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-                Map.Entry<Double, Object> entry = cachedEntityMap.floorEntry(randomOffset);
-                // entry is never null because randomOffset < probabilityWeightTotal
-                return entry.getValue();
+                return cachedValueList.get(probabilitySampler.sample(workingRandom));
             }
 
             @Override
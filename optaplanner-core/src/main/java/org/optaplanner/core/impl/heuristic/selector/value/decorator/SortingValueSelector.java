@@ -41,7 +41,7 @@ public class SortingValueSelector<Solution_> extends AbstractCachingValueSelecto
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
         super.constructCache(solverScope);
-        sorter.sort(solverScope.getScoreDirector(), cachedValueList);
+        sorter.sortCache(solverScope, cachedValueList);
         logger.trace("    Sorted cachedValueList: size ({}), valueSelector ({}).",
                 cachedValueList.size(), this);
     }
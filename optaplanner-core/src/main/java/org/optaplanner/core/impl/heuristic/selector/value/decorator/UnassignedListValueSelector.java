@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.value.decorator;
+
+import java.util.Collections;
+
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.index.ListVariableIndexDemand;
+import org.optaplanner.core.impl.domain.variable.index.ListVariableIndexSupply;
+import org.optaplanner.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+
+/**
+ * Only selects the planning values of a list variable that are not in any entity's list yet.
+ * <p>
+ * Used by Construction Heuristics, the list variable equivalent of {@link ReinitializeVariableValueSelector}.
+ */
+public class UnassignedListValueSelector<Solution_> extends EntityIndependentFilteringValueSelector<Solution_> {
+
+    protected final ListVariableDescriptor<Solution_> listVariableDescriptor;
+
+    protected ListVariableIndexSupply listVariableIndexSupply;
+
+    public UnassignedListValueSelector(EntityIndependentValueSelector<Solution_> childValueSelector) {
+        super(childValueSelector, Collections.emptyList());
+        if (!childValueSelector.getVariableDescriptor().isListVariable()) {
+            throw new IllegalArgumentException("The selector (" + this
+                    + ") has a childValueSelector (" + childValueSelector
+                    + ") with a variableDescriptor (" + childValueSelector.getVariableDescriptor()
+                    + ") which is not a list variable.");
+        }
+        listVariableDescriptor = (ListVariableDescriptor<Solution_>) childValueSelector.getVariableDescriptor();
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void solvingStarted(SolverScope<Solution_> solverScope) {
+        super.solvingStarted(solverScope);
+        listVariableIndexSupply = solverScope.getScoreDirector().getSupplyManager()
+                .demand(new ListVariableIndexDemand<>(listVariableDescriptor));
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        super.solvingEnded(solverScope);
+        listVariableIndexSupply = null;
+    }
+
+    @Override
+    protected boolean accept(ScoreDirector<Solution_> scoreDirector, Object value) {
+        return listVariableIndexSupply.getEntity(value) == null;
+    }
+
+    @Override
+    public String toString() {
+        return "Unassigned(" + childValueSelector + ")";
+    }
+
+}
@@ -18,9 +18,11 @@ package org.optaplanner.core.impl.heuristic.selector.value.nearby;
 
 import java.util.Iterator;
 
+import org.optaplanner.core.impl.domain.ordinal.OrdinalManager;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.SelectionIterator;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMatrix;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMatrixDemand;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyRandom;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
@@ -28,6 +30,7 @@ import org.optaplanner.core.impl.heuristic.selector.entity.mimic.MimicReplayingE
 import org.optaplanner.core.impl.heuristic.selector.value.AbstractValueSelector;
 import org.optaplanner.core.impl.heuristic.selector.value.ValueSelector;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
 public final class NearEntityNearbyValueSelector<Solution_> extends AbstractValueSelector<Solution_> {
 
@@ -78,28 +81,39 @@ public final class NearEntityNearbyValueSelector<Solution_> extends AbstractValu
                     + ") has an entitySize (" + originSize
                     + ") which is higher than Integer.MAX_VALUE.");
         }
-        nearbyDistanceMatrix = new NearbyDistanceMatrix(nearbyDistanceMeter, (int) originSize);
-        for (Iterator<Object> originIt = replayingOriginEntitySelector.endingIterator(); originIt.hasNext();) {
-            final Object origin = originIt.next();
-            long childSize = childValueSelector.getSize(origin);
-            if (childSize > (long) Integer.MAX_VALUE) {
-                throw new IllegalStateException("The childEntitySelector (" + childValueSelector
-                        + ") has an entitySize (" + childSize
-                        + ") which is higher than Integer.MAX_VALUE.");
+        // Each origin's destinations are sorted lazily, when that origin is first selected,
+        // and kept for the next phases until the working objects change
+        InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
+        OrdinalManager ordinalManager = scoreDirector.getOrdinalManager();
+        int destinationSizeMaximum = randomSelection ? nearbyRandom.getOverallSizeMaximum() : Integer.MAX_VALUE;
+        nearbyDistanceMatrix = scoreDirector.getSupplyManager()
+                .demand(NearbyDistanceMatrixDemand.ofValueSelector(nearbyDistanceMeter, childValueSelector,
+                        destinationSizeMaximum))
+                .read(ordinalManager, () -> new NearbyDistanceMatrix(nearbyDistanceMeter, (int) originSize,
+                        childValueSelector::endingIterator, this::computeDestinationSize,
+                        childValueSelector.getVariableDescriptor().isValueRangeEntityIndependent(), ordinalManager));
+        nearbyDistanceMatrix.bindDestinations(childValueSelector::endingIterator, this::computeDestinationSize);
+    }
+
+    private int computeDestinationSize(Object origin) {
+        long childSize = childValueSelector.getSize(origin);
+        if (childSize > (long) Integer.MAX_VALUE) {
+            throw new IllegalStateException("The childEntitySelector (" + childValueSelector
+                    + ") has an entitySize (" + childSize
+                    + ") which is higher than Integer.MAX_VALUE.");
+        }
+        int destinationSize = (int) childSize;
+        if (randomSelection) {
+            // Reduce RAM memory usage by reducing destinationSize if nearbyRandom will never select a higher value
+            int overallSizeMaximum = nearbyRandom.getOverallSizeMaximum();
+            if (discardNearbyIndexZero && overallSizeMaximum < Integer.MAX_VALUE) {
+                overallSizeMaximum++;
             }
-            int destinationSize = (int) childSize;
-            if (randomSelection) {
-                // Reduce RAM memory usage by reducing destinationSize if nearbyRandom will never select a higher value
-                int overallSizeMaximum = nearbyRandom.getOverallSizeMaximum();
-                if (discardNearbyIndexZero && overallSizeMaximum < Integer.MAX_VALUE) {
-                    overallSizeMaximum++;
-                }
-                if (destinationSize > overallSizeMaximum) {
-                    destinationSize = overallSizeMaximum;
-                }
+            if (destinationSize > overallSizeMaximum) {
+                destinationSize = overallSizeMaximum;
             }
-            nearbyDistanceMatrix.addAllDestinations(origin, childValueSelector.endingIterator(origin), destinationSize);
         }
+        return destinationSize;
     }
 
     @Override
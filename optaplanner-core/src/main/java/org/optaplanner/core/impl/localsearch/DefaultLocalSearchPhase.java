@@ -68,7 +68,7 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
             LocalSearchStepScope<Solution_> stepScope = new LocalSearchStepScope<>(phaseScope);
             stepScope.setTimeGradient(termination.calculatePhaseTimeGradient(phaseScope));
             stepStarted(stepScope);
-            decider.decideNextStep(stepScope);
+            decideNextStep(stepScope);
             if (stepScope.getStep() == null) {
                 if (termination.isPhaseTerminated(phaseScope)) {
                     logger.trace("{}    Step index ({}), time spent ({}) terminated without picking a nextStep.",
@@ -97,6 +97,10 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
         phaseEnded(phaseScope);
     }
 
+    protected void decideNextStep(LocalSearchStepScope<Solution_> stepScope) {
+        decider.decideNextStep(stepScope);
+    }
+
     protected void doStep(LocalSearchStepScope<Solution_> stepScope) {
         Move<Solution_> step = stepScope.getStep();
         Move<Solution_> undoStep = step.doMove(stepScope.getScoreDirector());
@@ -27,8 +27,12 @@ import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
 import org.optaplanner.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
 import org.optaplanner.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListSwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.TwoOptListMoveSelectorConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchType;
+import org.optaplanner.core.config.localsearch.PerturbationType;
 import org.optaplanner.core.config.localsearch.decider.acceptor.AcceptorType;
 import org.optaplanner.core.config.localsearch.decider.acceptor.LocalSearchAcceptorConfig;
 import org.optaplanner.core.config.localsearch.decider.forager.LocalSearchForagerConfig;
@@ -40,10 +44,14 @@ import org.optaplanner.core.impl.heuristic.selector.move.MoveSelectorFactory;
 import org.optaplanner.core.impl.heuristic.selector.move.composite.UnionMoveSelectorFactory;
 import org.optaplanner.core.impl.localsearch.decider.LocalSearchDecider;
 import org.optaplanner.core.impl.localsearch.decider.MultiThreadedLocalSearchDecider;
+import org.optaplanner.core.impl.localsearch.decider.VariableNeighborhoodDescentDecider;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.AcceptorFactory;
 import org.optaplanner.core.impl.localsearch.decider.forager.LocalSearchForager;
 import org.optaplanner.core.impl.localsearch.decider.forager.LocalSearchForagerFactory;
+import org.optaplanner.core.impl.localsearch.island.IslandExchange;
+import org.optaplanner.core.impl.localsearch.island.IslandLocalSearchPhase;
+import org.optaplanner.core.impl.localsearch.island.IslandModelLocalSearchPhase;
 import org.optaplanner.core.impl.phase.AbstractPhaseFactory;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
 import org.optaplanner.core.impl.solver.termination.Termination;
@@ -59,10 +67,44 @@ public class DefaultLocalSearchPhaseFactory<Solution_>
     @Override
     public LocalSearchPhase<Solution_> buildPhase(int phaseIndex, HeuristicConfigPolicy<Solution_> solverConfigPolicy,
             BestSolutionRecaller<Solution_> bestSolutionRecaller, Termination<Solution_> solverTermination) {
+        if (phaseConfig.getIslandCount() != null) {
+            return buildIslandModelPhase(phaseIndex, solverConfigPolicy, bestSolutionRecaller, solverTermination);
+        }
+        if (phaseConfig.getIslandExchangeStepCount() != null) {
+            throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                    + ") with islandExchangeStepCount (" + phaseConfig.getIslandExchangeStepCount()
+                    + ") requires an islandCount (" + phaseConfig.getIslandCount() + ").");
+        }
         HeuristicConfigPolicy<Solution_> phaseConfigPolicy = solverConfigPolicy.createPhaseConfigPolicy();
         DefaultLocalSearchPhase<Solution_> phase =
                 new DefaultLocalSearchPhase<>(phaseIndex, solverConfigPolicy.getLogIndentation(), bestSolutionRecaller,
                         buildPhaseTermination(phaseConfigPolicy, solverTermination));
+        configurePhase(phase, phaseConfigPolicy);
+        return phase;
+    }
+
+    /**
+     * Builds the local search that runs on 1 island thread of an {@link IslandModelLocalSearchPhase}.
+     *
+     * @param islandConfigPolicy never null
+     * @param islandSolverTermination never null, the termination of the island's child thread solver
+     * @return never null
+     */
+    public IslandLocalSearchPhase<Solution_> buildIslandPhase(int phaseIndex,
+            HeuristicConfigPolicy<Solution_> islandConfigPolicy, BestSolutionRecaller<Solution_> bestSolutionRecaller,
+            Termination<Solution_> islandSolverTermination, int islandIndex, IslandExchange<Solution_> islandExchange,
+            int exchangeStepCount) {
+        HeuristicConfigPolicy<Solution_> phaseConfigPolicy = islandConfigPolicy.createPhaseConfigPolicy();
+        IslandLocalSearchPhase<Solution_> phase =
+                new IslandLocalSearchPhase<>(phaseIndex, islandConfigPolicy.getLogIndentation(), bestSolutionRecaller,
+                        buildPhaseTermination(phaseConfigPolicy, islandSolverTermination),
+                        islandIndex, islandExchange, exchangeStepCount);
+        configurePhase(phase, phaseConfigPolicy);
+        return phase;
+    }
+
+    private void configurePhase(DefaultLocalSearchPhase<Solution_> phase,
+            HeuristicConfigPolicy<Solution_> phaseConfigPolicy) {
         phase.setDecider(buildDecider(phaseConfigPolicy,
                 phase.getTermination()));
         EnvironmentMode environmentMode = phaseConfigPolicy.getEnvironmentMode();
@@ -73,12 +115,60 @@ public class DefaultLocalSearchPhaseFactory<Solution_>
             phase.setAssertExpectedStepScore(true);
             phase.setAssertShadowVariablesAreNotStaleAfterStep(true);
         }
+    }
+
+    private IslandModelLocalSearchPhase<Solution_> buildIslandModelPhase(int phaseIndex,
+            HeuristicConfigPolicy<Solution_> solverConfigPolicy, BestSolutionRecaller<Solution_> bestSolutionRecaller,
+            Termination<Solution_> solverTermination) {
+        int islandCount = phaseConfig.getIslandCount();
+        if (islandCount < 1) {
+            throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                    + ") has an islandCount (" + islandCount + ") which is lower than 1.");
+        }
+        int exchangeStepCount = defaultIfNull(phaseConfig.getIslandExchangeStepCount(), 100);
+        if (exchangeStepCount < 1) {
+            throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                    + ") has an islandExchangeStepCount (" + exchangeStepCount + ") which is lower than 1.");
+        }
+        if (solverConfigPolicy.getMoveThreadCount() != null) {
+            throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                    + ") with islandCount (" + islandCount
+                    + ") does not support a moveThreadCount (" + solverConfigPolicy.getMoveThreadCount() + ").\n"
+                    + "Maybe remove the moveThreadCount, because the islands already run in parallel.");
+        }
+        if (solverConfigPolicy.getSolutionDescriptor().hasListVariable()) {
+            throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                    + ") with islandCount (" + islandCount + ") does not support list variables yet.");
+        }
+        HeuristicConfigPolicy<Solution_> phaseConfigPolicy = solverConfigPolicy.createPhaseConfigPolicy();
+        ThreadFactory threadFactory = solverConfigPolicy.buildThreadFactory(ChildThreadType.ISLAND_THREAD);
+        IslandModelLocalSearchPhase<Solution_> phase = new IslandModelLocalSearchPhase<>(phaseIndex,
+                solverConfigPolicy.getLogIndentation(), bestSolutionRecaller,
+                buildPhaseTermination(phaseConfigPolicy, solverTermination), solverTermination,
+                islandCount, exchangeStepCount, threadFactory);
+        // Every island is a local search phase with the same termination
+        LocalSearchPhaseConfig islandPhaseConfig = phaseConfig.copyConfig()
+                .withIslandCount(null)
+                .withIslandExchangeStepCount(null);
+        phase.setIslandPhaseFactory(new DefaultLocalSearchPhaseFactory<>(islandPhaseConfig));
+        phase.setConfigPolicy(phaseConfigPolicy.createChildThreadConfigPolicy(ChildThreadType.ISLAND_THREAD));
+        EnvironmentMode environmentMode = phaseConfigPolicy.getEnvironmentMode();
+        if (environmentMode.isNonIntrusiveFullAsserted()) {
+            phase.setAssertStepScoreFromScratch(true);
+        }
+        if (environmentMode.isIntrusiveFastAsserted()) {
+            phase.setAssertExpectedStepScore(true);
+            phase.setAssertShadowVariablesAreNotStaleAfterStep(true);
+        }
         return phase;
     }
 
     private LocalSearchDecider<Solution_> buildDecider(HeuristicConfigPolicy<Solution_> configPolicy,
             Termination<Solution_> termination) {
-        MoveSelector<Solution_> moveSelector = buildMoveSelector(configPolicy);
+        boolean variableNeighborhoodDescent =
+                phaseConfig.getLocalSearchType() == LocalSearchType.VARIABLE_NEIGHBORHOOD_DESCENT;
+        MoveSelector<Solution_> moveSelector = buildMoveSelector(configPolicy,
+                variableNeighborhoodDescent ? SelectionOrder.ORIGINAL : SelectionOrder.RANDOM);
         Acceptor<Solution_> acceptor = buildAcceptor(configPolicy);
         LocalSearchForager<Solution_> forager = buildForager(configPolicy);
         if (moveSelector.isNeverEnding() && !forager.supportsNeverEndingMoveSelector()) {
@@ -91,7 +181,33 @@ public class DefaultLocalSearchPhaseFactory<Solution_>
         Integer moveThreadCount = configPolicy.getMoveThreadCount();
         EnvironmentMode environmentMode = configPolicy.getEnvironmentMode();
         LocalSearchDecider<Solution_> decider;
-        if (moveThreadCount == null) {
+        boolean levelWiseScoreCalculation_ = Boolean.TRUE.equals(phaseConfig.getLevelWiseScoreCalculation());
+        if (levelWiseScoreCalculation_ && moveThreadCount != null) {
+            throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                    + ") with levelWiseScoreCalculation (" + levelWiseScoreCalculation_
+                    + ") does not support a moveThreadCount (" + moveThreadCount + ").\n"
+                    + "Maybe remove the levelWiseScoreCalculation or the moveThreadCount.");
+        }
+        boolean perturbationConfigured = phaseConfig.getPerturbationType() != null
+                || phaseConfig.getPerturbationMoveCount() != null;
+        if (perturbationConfigured && (!variableNeighborhoodDescent || moveThreadCount != null)) {
+            throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                    + ") with perturbationType (" + phaseConfig.getPerturbationType()
+                    + ") and perturbationMoveCount (" + phaseConfig.getPerturbationMoveCount()
+                    + ") requires the localSearchType (" + LocalSearchType.VARIABLE_NEIGHBORHOOD_DESCENT
+                    + ") and no moveThreadCount (" + moveThreadCount + ").");
+        }
+        if (moveThreadCount == null && perturbationConfigured) {
+            // Without perturbation, variable neighborhood descent is a plain local search that steps as it improves
+            // Separate config policy, so the mimic selectors of the move selector config can be built twice
+            MoveSelector<Solution_> perturbationMoveSelector = buildMoveSelector(
+                    configPolicy.createPhaseConfigPolicy(), SelectionOrder.RANDOM);
+            PerturbationType perturbationType_ =
+                    defaultIfNull(phaseConfig.getPerturbationType(), PerturbationType.FIXED);
+            int perturbationMoveCount_ = defaultIfNull(phaseConfig.getPerturbationMoveCount(), 3);
+            decider = new VariableNeighborhoodDescentDecider<>(configPolicy.getLogIndentation(), termination,
+                    moveSelector, acceptor, forager, perturbationMoveSelector, perturbationType_, perturbationMoveCount_);
+        } else if (moveThreadCount == null) {
             decider = new LocalSearchDecider<>(configPolicy.getLogIndentation(), termination, moveSelector, acceptor, forager);
         } else {
             Integer moveThreadBufferSize = configPolicy.getMoveThreadBufferSize();
@@ -121,6 +237,7 @@ public class DefaultLocalSearchPhaseFactory<Solution_>
         if (environmentMode.isIntrusiveFastAsserted()) {
             decider.setAssertExpectedUndoMoveScore(true);
         }
+        decider.setLevelWiseScoreCalculation(levelWiseScoreCalculation_);
         return decider;
     }
 
@@ -201,16 +318,19 @@ public class DefaultLocalSearchPhaseFactory<Solution_>
         return LocalSearchForagerFactory.<Solution_> create(foragerConfig_).buildForager();
     }
 
-    protected MoveSelector<Solution_> buildMoveSelector(HeuristicConfigPolicy<Solution_> configPolicy) {
+    protected MoveSelector<Solution_> buildMoveSelector(HeuristicConfigPolicy<Solution_> configPolicy,
+            SelectionOrder defaultSelectionOrder) {
         MoveSelector<Solution_> moveSelector;
         SelectionCacheType defaultCacheType = SelectionCacheType.JUST_IN_TIME;
-        SelectionOrder defaultSelectionOrder;
-        if (phaseConfig.getLocalSearchType() == LocalSearchType.VARIABLE_NEIGHBORHOOD_DESCENT) {
-            defaultSelectionOrder = SelectionOrder.ORIGINAL;
-        } else {
-            defaultSelectionOrder = SelectionOrder.RANDOM;
-        }
-        if (phaseConfig.getMoveSelectorConfig() == null) {
+        if (phaseConfig.getMoveSelectorConfig() == null
+                && configPolicy.getSolutionDescriptor().hasListVariable()) {
+            // Default to listChangeMoveSelector, listSwapMoveSelector and twoOptListMoveSelector
+            UnionMoveSelectorConfig unionMoveSelectorConfig = new UnionMoveSelectorConfig();
+            unionMoveSelectorConfig.setMoveSelectorConfigList(Arrays.asList(new ListChangeMoveSelectorConfig(),
+                    new ListSwapMoveSelectorConfig(), new TwoOptListMoveSelectorConfig()));
+            moveSelector = new UnionMoveSelectorFactory<Solution_>(unionMoveSelectorConfig)
+                    .buildMoveSelector(configPolicy, defaultCacheType, defaultSelectionOrder);
+        } else if (phaseConfig.getMoveSelectorConfig() == null) {
             // Default to changeMoveSelector and swapMoveSelector
             UnionMoveSelectorConfig unionMoveSelectorConfig = new UnionMoveSelectorConfig();
             unionMoveSelectorConfig.setMoveSelectorConfigList(Arrays.asList(new ChangeMoveSelectorConfig(),
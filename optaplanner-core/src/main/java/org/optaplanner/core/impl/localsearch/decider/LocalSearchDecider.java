@@ -28,6 +28,7 @@ import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.solver.trace.MoveEvaluationTracer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,6 +47,7 @@ public class LocalSearchDecider<Solution_> {
 
     protected boolean assertMoveScoreFromScratch = false;
     protected boolean assertExpectedUndoMoveScore = false;
+    protected boolean levelWiseScoreCalculation = false;
 
     public LocalSearchDecider(String logIndentation, Termination<Solution_> termination,
             MoveSelector<Solution_> moveSelector, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager) {
@@ -80,6 +82,10 @@ public class LocalSearchDecider<Solution_> {
         this.assertExpectedUndoMoveScore = assertExpectedUndoMoveScore;
     }
 
+    public void setLevelWiseScoreCalculation(boolean levelWiseScoreCalculation) {
+        this.levelWiseScoreCalculation = levelWiseScoreCalculation;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -94,6 +100,10 @@ public class LocalSearchDecider<Solution_> {
         moveSelector.phaseStarted(phaseScope);
         acceptor.phaseStarted(phaseScope);
         forager.phaseStarted(phaseScope);
+        MoveEvaluationTracer<Solution_> moveEvaluationTracer = phaseScope.getSolverScope().getMoveEvaluationTracer();
+        if (moveEvaluationTracer != null) {
+            moveEvaluationTracer.setMoveSelector(moveSelector);
+        }
     }
 
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
@@ -130,11 +140,25 @@ public class LocalSearchDecider<Solution_> {
 
     protected <Score_ extends Score<Score_>> void doMove(LocalSearchMoveScope<Solution_> moveScope) {
         InnerScoreDirector<Solution_, Score_> scoreDirector = moveScope.getScoreDirector();
-        scoreDirector.doAndProcessMove(moveScope.getMove(), assertMoveScoreFromScratch, score -> {
+        Score_ rejectionThreshold = null;
+        if (levelWiseScoreCalculation && forager.isUnacceptedMoveIgnored()) {
+            rejectionThreshold = (Score_) acceptor.getRejectionThreshold(moveScope);
+        }
+        Score_ finalRejectionThreshold = rejectionThreshold;
+        scoreDirector.doAndProcessMove(moveScope.getMove(), assertMoveScoreFromScratch, rejectionThreshold, score -> {
             moveScope.setScore(score);
             boolean accepted = acceptor.isAccepted(moveScope);
+            if (accepted && finalRejectionThreshold != null && score.compareTo(finalRejectionThreshold) < 0) {
+                throw new IllegalStateException("The acceptor (" + acceptor + ") accepted the move ("
+                        + moveScope.getMove() + ") with score (" + score
+                        + ") which is worse than its rejectionThreshold (" + finalRejectionThreshold + ").");
+            }
             moveScope.setAccepted(accepted);
             forager.addMove(moveScope);
+        }, () -> {
+            // The score is worse than the rejectionThreshold, so the acceptor would reject it anyway
+            moveScope.setAccepted(false);
+            forager.addMove(moveScope);
         });
         if (assertExpectedUndoMoveScore) {
             scoreDirector.assertExpectedUndoMoveScore(moveScope.getMove(),
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.decider;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.config.localsearch.PerturbationType;
+import org.optaplanner.core.impl.heuristic.move.CompositeMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
+import org.optaplanner.core.impl.localsearch.decider.forager.LocalSearchForager;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.solver.termination.Termination;
+
+/**
+ * Variable neighborhood descent with iterated local search.
+ * <p>
+ * The neighborhoods are the child move selectors of a union move selector in original order,
+ * so every step is the first improving move of the first neighborhood that has one.
+ * If no neighborhood has an improving move, the working solution is a local optimum of all neighborhoods,
+ * so that step is a perturbation instead: a few random moves, regardless of their score.
+ * The descent then starts again from the first neighborhood.
+ * <p>
+ * Because all of this happens in 1 phase, the move selector caches and the score director state
+ * survive every neighborhood switch and every perturbation.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class VariableNeighborhoodDescentDecider<Solution_> extends LocalSearchDecider<Solution_> {
+
+    protected final MoveSelector<Solution_> perturbationMoveSelector;
+    protected final PerturbationType perturbationType;
+    protected final int perturbationMoveCount;
+
+    protected Score<?> lastLocalOptimumBestScore;
+    protected int unimprovedLocalOptimumCount;
+
+    /**
+     * @param perturbationMoveSelector never null, should do random selection
+     * @param perturbationMoveCount {@code >= 1}
+     */
+    public VariableNeighborhoodDescentDecider(String logIndentation, Termination<Solution_> termination,
+            MoveSelector<Solution_> moveSelector, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager,
+            MoveSelector<Solution_> perturbationMoveSelector, PerturbationType perturbationType,
+            int perturbationMoveCount) {
+        super(logIndentation, termination, moveSelector, acceptor, forager);
+        this.perturbationMoveSelector = perturbationMoveSelector;
+        this.perturbationType = perturbationType;
+        this.perturbationMoveCount = perturbationMoveCount;
+        if (perturbationMoveCount < 1) {
+            throw new IllegalArgumentException("The perturbationMoveCount (" + perturbationMoveCount
+                    + ") cannot be negative or zero.");
+        }
+    }
+
+    public MoveSelector<Solution_> getPerturbationMoveSelector() {
+        return perturbationMoveSelector;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void solvingStarted(SolverScope<Solution_> solverScope) {
+        super.solvingStarted(solverScope);
+        perturbationMoveSelector.solvingStarted(solverScope);
+    }
+
+    @Override
+    public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        perturbationMoveSelector.phaseStarted(phaseScope);
+        lastLocalOptimumBestScore = null;
+        unimprovedLocalOptimumCount = 0;
+    }
+
+    @Override
+    public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
+        super.stepStarted(stepScope);
+        perturbationMoveSelector.stepStarted(stepScope);
+    }
+
+    @Override
+    public void decideNextStep(LocalSearchStepScope<Solution_> stepScope) {
+        super.decideNextStep(stepScope);
+        LocalSearchPhaseScope<Solution_> phaseScope = stepScope.getPhaseScope();
+        if (stepScope.getSelectedMoveCount() == 0L || termination.isPhaseTerminated(phaseScope)) {
+            return;
+        }
+        if (stepScope.getStep() != null) {
+            Score lastStepScore = phaseScope.getLastCompletedStepScope().getScore();
+            if (((Score) stepScope.getScore()).compareTo(lastStepScore) > 0) {
+                return;
+            }
+        }
+        // The forager picks early on an improving move, so every neighborhood has been searched entirely
+        perturb(stepScope);
+    }
+
+    protected <Score_ extends Score<Score_>> void perturb(LocalSearchStepScope<Solution_> stepScope) {
+        InnerScoreDirector<Solution_, Score_> scoreDirector = stepScope.getScoreDirector();
+        int moveCount = calculatePerturbationMoveCount(stepScope);
+        List<Move<Solution_>> moveList = new ArrayList<>(moveCount);
+        Deque<Move<Solution_>> undoMoveDeque = new ArrayDeque<>(moveCount);
+        scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(true);
+        Iterator<Move<Solution_>> moveIterator = perturbationMoveSelector.iterator();
+        // Limit the attempts, in case (almost) no selected move is doable
+        long attemptCountLimit = moveCount * 10L;
+        for (long attemptCount = 0L; moveList.size() < moveCount && attemptCount < attemptCountLimit
+                && moveIterator.hasNext(); attemptCount++) {
+            Move<Solution_> move = moveIterator.next();
+            if (move.isMoveDoable(scoreDirector)) {
+                undoMoveDeque.push(move.doMove(scoreDirector));
+                moveList.add(move);
+            }
+        }
+        if (moveList.isEmpty()) {
+            scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(false);
+            logger.trace("{}        No doable perturbation move, keeping the picked move ({}).",
+                    logIndentation, stepScope.getStep());
+            return;
+        }
+        Score_ score = scoreDirector.calculateScore();
+        while (!undoMoveDeque.isEmpty()) {
+            undoMoveDeque.pop().doMove(scoreDirector);
+        }
+        scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(false);
+        Move<Solution_> step = CompositeMove.buildMove(moveList);
+        logger.trace("{}        Local optimum ({}) reached, perturbing with {} random moves ({}).",
+                logIndentation, stepScope.getPhaseScope().getLastCompletedStepScope().getScore(),
+                moveList.size(), step);
+        stepScope.setStep(step);
+        if (logger.isDebugEnabled()) {
+            stepScope.setStepString(step.toString());
+        }
+        stepScope.setScore(score);
+    }
+
+    protected int calculatePerturbationMoveCount(LocalSearchStepScope<Solution_> stepScope) {
+        Score bestScore = stepScope.getPhaseScope().getBestScore();
+        if (lastLocalOptimumBestScore == null || bestScore.compareTo(lastLocalOptimumBestScore) > 0) {
+            unimprovedLocalOptimumCount = 0;
+        } else {
+            unimprovedLocalOptimumCount++;
+        }
+        lastLocalOptimumBestScore = bestScore;
+        switch (perturbationType) {
+            case FIXED:
+                return perturbationMoveCount;
+            case ESCALATING:
+                long moveCount = (long) perturbationMoveCount * (unimprovedLocalOptimumCount + 1);
+                int moveCountLimit = Math.max(perturbationMoveCount,
+                        stepScope.getScoreDirector().getWorkingEntityCount());
+                return (int) Math.min(moveCount, moveCountLimit);
+            default:
+                throw new IllegalStateException("The perturbationType (" + perturbationType
+                        + ") is not implemented.");
+        }
+    }
+
+    @Override
+    public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        perturbationMoveSelector.stepEnded(stepScope);
+    }
+
+    @Override
+    public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        perturbationMoveSelector.phaseEnded(phaseScope);
+        lastLocalOptimumBestScore = null;
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        super.solvingEnded(solverScope);
+        perturbationMoveSelector.solvingEnded(solverScope);
+    }
+
+}
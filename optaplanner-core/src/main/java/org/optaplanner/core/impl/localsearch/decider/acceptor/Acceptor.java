@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.localsearch.decider.acceptor;
 
+import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.localsearch.decider.forager.LocalSearchForager;
 import org.optaplanner.core.impl.localsearch.event.LocalSearchPhaseLifecycleListener;
@@ -35,4 +36,18 @@ public interface Acceptor<Solution_> extends LocalSearchPhaseLifecycleListener<S
      */
     boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope);
 
+    /**
+     * Called before the move is done, so before its score is calculated.
+     * Every move with a score worse than the returned threshold must be rejected by {@link #isAccepted},
+     * which allows the score calculation to stop early for such a move.
+     * <p>
+     * The default implementation returns null.
+     *
+     * @param moveScope not null, its score is not yet calculated
+     * @return null if any move might be accepted
+     */
+    default Score<?> getRejectionThreshold(LocalSearchMoveScope<Solution_> moveScope) {
+        return null;
+    }
+
 }
@@ -19,6 +19,7 @@ package org.optaplanner.core.impl.localsearch.decider.acceptor;
 import java.util.Arrays;
 import java.util.List;
 
+import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
@@ -77,6 +78,19 @@ public class CompositeAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
         return true;
     }
 
+    @Override
+    public Score<?> getRejectionThreshold(LocalSearchMoveScope<Solution_> moveScope) {
+        // A move is rejected if any acceptor rejects it
+        Score rejectionThreshold = null;
+        for (Acceptor<Solution_> acceptor : acceptorList) {
+            Score threshold = acceptor.getRejectionThreshold(moveScope);
+            if (threshold != null && (rejectionThreshold == null || threshold.compareTo(rejectionThreshold) > 0)) {
+                rejectionThreshold = threshold;
+            }
+        }
+        return rejectionThreshold;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         for (Acceptor<Solution_> acceptor : acceptorList) {
@@ -91,6 +91,12 @@ public class GreatDelugeAcceptor<Solution_> extends AbstractAcceptor<Solution_>
         return false;
     }
 
+    @Override
+    public Score<?> getRejectionThreshold(LocalSearchMoveScope<Solution_> moveScope) {
+        Score lastStepScore = moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore();
+        return currentWaterLevel.compareTo(lastStepScore) <= 0 ? currentWaterLevel : lastStepScore;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
@@ -33,4 +33,9 @@ public class HillClimbingAcceptor<Solution_> extends AbstractAcceptor<Solution_>
         return moveScore.compareTo(lastStepScore) >= 0;
     }
 
+    @Override
+    public Score<?> getRejectionThreshold(LocalSearchMoveScope<Solution_> moveScope) {
+        return moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore();
+    }
+
 }
@@ -16,20 +16,30 @@
 
 package org.optaplanner.core.impl.localsearch.decider.acceptor.lateacceptance;
 
+import java.util.Arrays;
+
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 
 public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
 
     protected int lateAcceptanceSize = -1;
     protected boolean hillClimbingEnabled = true;
 
-    protected Score[] previousScores;
     protected int lateScoreIndex = -1;
 
+    protected ScoreDefinition scoreDefinition;
+    // Only one of both late score buffers is used during a phase.
+    // The packed one avoids generic score comparisons in the hot path of isAccepted().
+    protected boolean packedScoresEnabled;
+    protected Score[] previousScores;
+    protected long[] previousPackedScores;
+    protected long lastStepPackedScore;
+
     public void setLateAcceptanceSize(int lateAcceptanceSize) {
         this.lateAcceptanceSize = lateAcceptanceSize;
     }
@@ -46,10 +56,19 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
         validate();
-        previousScores = new Score[lateAcceptanceSize];
         Score initialScore = phaseScope.getBestScore();
-        for (int i = 0; i < previousScores.length; i++) {
-            previousScores[i] = initialScore;
+        scoreDefinition = phaseScope.getScoreDefinition();
+        packedScoresEnabled = scoreDefinition.isScorePackable() && initialScore.isSolutionInitialized();
+        if (packedScoresEnabled) {
+            previousPackedScores = new long[lateAcceptanceSize];
+            Arrays.fill(previousPackedScores, scoreDefinition.packScore(initialScore));
+            Score lastStepScore = phaseScope.getLastCompletedStepScope().getScore();
+            lastStepPackedScore = lastStepScore.isSolutionInitialized()
+                    ? scoreDefinition.packScore(lastStepScore)
+                    : Long.MIN_VALUE;
+        } else {
+            previousScores = new Score[lateAcceptanceSize];
+            Arrays.fill(previousScores, initialScore);
         }
         lateScoreIndex = 0;
     }
@@ -64,6 +83,15 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
     @Override
     public boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope) {
         Score moveScore = moveScope.getScore();
+        if (packedScoresEnabled) {
+            if (!moveScore.isSolutionInitialized()) {
+                // Every previous score is initialized, so an uninitialized score is always worse
+                return false;
+            }
+            long moveScorePacked = scoreDefinition.packScore(moveScore);
+            return moveScorePacked >= previousPackedScores[lateScoreIndex]
+                    || (hillClimbingEnabled && moveScorePacked >= lastStepPackedScore);
+        }
         Score lateScore = previousScores[lateScoreIndex];
         if (moveScore.compareTo(lateScore) >= 0) {
             return true;
@@ -77,18 +105,48 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
         return false;
     }
 
+    @Override
+    public Score<?> getRejectionThreshold(LocalSearchMoveScope<Solution_> moveScope) {
+        Score lateScore = packedScoresEnabled
+                ? scoreDefinition.unpackScore(previousPackedScores[lateScoreIndex])
+                : previousScores[lateScoreIndex];
+        if (hillClimbingEnabled) {
+            Score lastStepScore = moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore();
+            return lateScore.compareTo(lastStepScore) <= 0 ? lateScore : lastStepScore;
+        }
+        return lateScore;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
-        previousScores[lateScoreIndex] = stepScope.getScore();
+        Score stepScore = stepScope.getScore();
+        if (packedScoresEnabled && !stepScore.isSolutionInitialized()) {
+            // Fall back to the generic score comparisons for the rest of the phase
+            previousScores = new Score[lateAcceptanceSize];
+            for (int i = 0; i < previousScores.length; i++) {
+                previousScores[i] = scoreDefinition.unpackScore(previousPackedScores[i]);
+            }
+            packedScoresEnabled = false;
+            previousPackedScores = null;
+        }
+        if (packedScoresEnabled) {
+            lastStepPackedScore = scoreDefinition.packScore(stepScore);
+            previousPackedScores[lateScoreIndex] = lastStepPackedScore;
+        } else {
+            previousScores[lateScoreIndex] = stepScore;
+        }
         lateScoreIndex = (lateScoreIndex + 1) % lateAcceptanceSize;
     }
 
     @Override
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
-        previousScores = null;
         lateScoreIndex = -1;
+        scoreDefinition = null;
+        packedScoresEnabled = false;
+        previousScores = null;
+        previousPackedScores = null;
     }
 
 }
@@ -66,6 +66,12 @@ public class StepCountingHillClimbingAcceptor<Solution_> extends AbstractAccepto
         return moveScore.compareTo(thresholdScore) >= 0;
     }
 
+    @Override
+    public Score<?> getRejectionThreshold(LocalSearchMoveScope<Solution_> moveScope) {
+        Score lastStepScore = moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore();
+        return lastStepScore.compareTo(thresholdScore) <= 0 ? lastStepScore : thresholdScore;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
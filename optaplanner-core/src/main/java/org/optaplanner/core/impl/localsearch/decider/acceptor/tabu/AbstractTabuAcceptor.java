@@ -17,12 +17,16 @@
 package org.optaplanner.core.impl.localsearch.decider.acceptor.tabu;
 
 import java.util.ArrayDeque;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.function.Consumer;
 
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.domain.ordinal.OrdinalManager;
+import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.size.TabuSizeStrategy;
@@ -32,6 +36,20 @@ import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 
 /**
  * Abstract superclass for all Tabu Acceptors.
+ * <p>
+ * A tabu with an {@link OrdinalManager ordinal}, such as a planning entity or a problem fact value,
+ * is tracked in arrays indexed by its ordinal and in a ring buffer of ordinals.
+ * Its ordinal is found through the identity hash table of the {@link OrdinalManager},
+ * so checking a move still hashes the tabu, but with {@link System#identityHashCode(Object)}
+ * instead of {@link Object#hashCode()}, without boxing the tabu step index and without allocating memory.
+ * Other tabus, such as moves or values that aren't a problem fact, are tracked in a {@link Map}.
+ * <p>
+ * Because of that, a tabu with an ordinal is only tabu for the same instance ({@code ==}),
+ * while another tabu is tabu for any instance that {@link Object#equals(Object) equals} it.
+ * Both are the same for working objects that don't override {@link Object#equals(Object)},
+ * but 2 distinct working objects that are equal are no longer each other's tabu.
+ * With {@code assertTabuHashCodeCorrectness}, the {@link Object#hashCode()} and {@link Object#equals(Object)} contract
+ * is still checked for every tabu, including those with an ordinal.
  *
  * @see Acceptor
  */
@@ -45,9 +63,22 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
 
     protected boolean assertTabuHashCodeCorrectness = false;
 
+    protected OrdinalManager ordinalManager;
+    // Indexed by ordinal, -1 if that ordinal isn't tabu
+    protected int[] ordinalTabuStepIndexes;
+    // Ring buffer in tabu step index order, an entry is stale if its ordinal has a later tabu step index
+    protected int[] tabuOrdinalRing;
+    protected int[] tabuStepIndexRing;
+    protected int tabuRingStart;
+    protected int tabuRingSize;
+
     protected Map<Object, Integer> tabuToStepIndexMap;
     protected Deque<Object> tabuSequenceDeque;
 
+    private final Consumer<Object> checkingTabuVisitor = this::checkTabu;
+    private final Consumer<Object> newTabuVisitor = this::addTabu;
+    private int newTabuStepIndex;
+    private int checkedTabuStepIndex;
     protected int workingTabuSize = -1;
     protected int workingFadingTabuSize = -1;
 
@@ -84,6 +115,15 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
         workingFadingTabuSize = fadingTabuSizeStrategy == null ? 0
                 : fadingTabuSizeStrategy.determineTabuSize(lastCompletedStepScope);
         int totalTabuListSize = workingTabuSize + workingFadingTabuSize; // is at least 1
+        ordinalManager = phaseScope.getScoreDirector().getOrdinalManager();
+        if (ordinalManager != null) {
+            ordinalTabuStepIndexes = new int[ordinalManager.getOrdinalCount()];
+            Arrays.fill(ordinalTabuStepIndexes, -1);
+        }
+        tabuOrdinalRing = new int[Math.max(totalTabuListSize, 16)];
+        tabuStepIndexRing = new int[tabuOrdinalRing.length];
+        tabuRingStart = 0;
+        tabuRingSize = 0;
         tabuToStepIndexMap = new HashMap<>(totalTabuListSize);
         tabuSequenceDeque = new ArrayDeque<>();
     }
@@ -91,6 +131,10 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
     @Override
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
+        ordinalManager = null;
+        ordinalTabuStepIndexes = null;
+        tabuOrdinalRing = null;
+        tabuStepIndexRing = null;
         tabuToStepIndexMap = null;
         tabuSequenceDeque = null;
         workingTabuSize = -1;
@@ -103,12 +147,27 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
         // Tabu sizes do not change during stepStarted(), because they must be in sync with the tabuSequenceList.size()
         workingTabuSize = tabuSizeStrategy == null ? 0 : tabuSizeStrategy.determineTabuSize(stepScope);
         workingFadingTabuSize = fadingTabuSizeStrategy == null ? 0 : fadingTabuSizeStrategy.determineTabuSize(stepScope);
-        adjustTabuList(stepScope.getStepIndex(), findNewTabu(stepScope));
+        adjustTabuList(stepScope);
     }
 
-    protected void adjustTabuList(int tabuStepIndex, Collection<? extends Object> tabus) {
+    protected void adjustTabuList(LocalSearchStepScope<Solution_> stepScope) {
+        int tabuStepIndex = stepScope.getStepIndex();
         int totalTabuListSize = workingTabuSize + workingFadingTabuSize; // is at least 1
         // Remove the oldest tabu(s)
+        while (tabuRingSize > 0) {
+            int oldTabuOrdinal = tabuOrdinalRing[tabuRingStart];
+            int oldTabuStepIndex = tabuStepIndexRing[tabuRingStart];
+            boolean stale = ordinalTabuStepIndexes[oldTabuOrdinal] != oldTabuStepIndex;
+            if (!stale) {
+                int oldTabuStepCount = tabuStepIndex - oldTabuStepIndex; // at least 1
+                if (oldTabuStepCount < totalTabuListSize) {
+                    break;
+                }
+                ordinalTabuStepIndexes[oldTabuOrdinal] = -1;
+            }
+            tabuRingStart = (tabuRingStart + 1) % tabuOrdinalRing.length;
+            tabuRingSize--;
+        }
         for (Iterator<Object> it = tabuSequenceDeque.iterator(); it.hasNext();) {
             Object oldTabu = it.next();
             Integer oldTabuStepIndexInteger = tabuToStepIndexMap.get(oldTabu);
@@ -125,15 +184,49 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
             tabuToStepIndexMap.remove(oldTabu);
         }
         // Add the new tabu(s)
-        for (Object tabu : tabus) {
-            // Push tabu to the end of the line
-            if (tabuToStepIndexMap.containsKey(tabu)) {
-                tabuToStepIndexMap.remove(tabu);
-                tabuSequenceDeque.remove(tabu);
+        newTabuStepIndex = tabuStepIndex;
+        visitNewTabus(stepScope, newTabuVisitor);
+    }
+
+    private void addTabu(Object tabu) {
+        int ordinal = ordinalManager == null ? OrdinalManager.NO_ORDINAL : ordinalManager.getOrdinal(tabu);
+        if (ordinal != OrdinalManager.NO_ORDINAL) {
+            if (ordinal >= ordinalTabuStepIndexes.length) {
+                int oldLength = ordinalTabuStepIndexes.length;
+                ordinalTabuStepIndexes = Arrays.copyOf(ordinalTabuStepIndexes, Math.max(ordinal + 1, oldLength * 2));
+                Arrays.fill(ordinalTabuStepIndexes, oldLength, ordinalTabuStepIndexes.length, -1);
+            }
+            // Push tabu to the end of the line, its older ring entry becomes stale
+            ordinalTabuStepIndexes[ordinal] = newTabuStepIndex;
+            if (tabuRingSize == tabuOrdinalRing.length) {
+                growTabuRing();
             }
-            tabuToStepIndexMap.put(tabu, tabuStepIndex);
-            tabuSequenceDeque.add(tabu);
+            int end = (tabuRingStart + tabuRingSize) % tabuOrdinalRing.length;
+            tabuOrdinalRing[end] = ordinal;
+            tabuStepIndexRing[end] = newTabuStepIndex;
+            tabuRingSize++;
+            return;
+        }
+        // Push tabu to the end of the line
+        if (tabuToStepIndexMap.containsKey(tabu)) {
+            tabuToStepIndexMap.remove(tabu);
+            tabuSequenceDeque.remove(tabu);
+        }
+        tabuToStepIndexMap.put(tabu, newTabuStepIndex);
+        tabuSequenceDeque.add(tabu);
+    }
+
+    private void growTabuRing() {
+        int[] newTabuOrdinalRing = new int[tabuOrdinalRing.length * 2];
+        int[] newTabuStepIndexRing = new int[newTabuOrdinalRing.length];
+        for (int i = 0; i < tabuRingSize; i++) {
+            int index = (tabuRingStart + i) % tabuOrdinalRing.length;
+            newTabuOrdinalRing[i] = tabuOrdinalRing[index];
+            newTabuStepIndexRing[i] = tabuStepIndexRing[index];
         }
+        tabuOrdinalRing = newTabuOrdinalRing;
+        tabuStepIndexRing = newTabuStepIndexRing;
+        tabuRingStart = 0;
     }
 
     @Override
@@ -173,34 +266,82 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
         return accepted;
     }
 
+    @Override
+    public Score<?> getRejectionThreshold(LocalSearchMoveScope<Solution_> moveScope) {
+        // The move isn't done yet, so its planning entities and values can't be visited.
+        // isAccepted() only runs after the move is scored, so the threshold would come too late to reuse its tabus.
+        if (!areTabusKnownBeforeMove()) {
+            return null;
+        }
+        int maximumTabuStepIndex = locateMaximumTabStepIndex(moveScope);
+        if (maximumTabuStepIndex < 0) {
+            return null;
+        }
+        int tabuStepCount = moveScope.getStepScope().getStepIndex() - maximumTabuStepIndex; // at least 1
+        if (tabuStepCount > workingTabuSize) {
+            // Fading tabu can accept any move
+            return null;
+        }
+        // Only aspiration can accept a tabu move, which requires a score better than the best score
+        return moveScope.getStepScope().getPhaseScope().getBestScore();
+    }
+
     private int locateMaximumTabStepIndex(LocalSearchMoveScope<Solution_> moveScope) {
-        Collection<? extends Object> checkingTabus = findTabu(moveScope);
-        int maximumTabuStepIndex = -1;
-        for (Object checkingTabu : checkingTabus) {
-            Integer tabuStepIndexInteger = tabuToStepIndexMap.get(checkingTabu);
-            if (tabuStepIndexInteger != null) {
-                maximumTabuStepIndex = Math.max(tabuStepIndexInteger, maximumTabuStepIndex);
+        checkedTabuStepIndex = -1;
+        visitTabus(moveScope, checkingTabuVisitor);
+        return checkedTabuStepIndex;
+    }
+
+    private void checkTabu(Object checkingTabu) {
+        int ordinal = ordinalManager == null ? OrdinalManager.NO_ORDINAL : ordinalManager.getOrdinal(checkingTabu);
+        if (ordinal != OrdinalManager.NO_ORDINAL) {
+            if (ordinal < ordinalTabuStepIndexes.length) {
+                checkedTabuStepIndex = Math.max(ordinalTabuStepIndexes[ordinal], checkedTabuStepIndex);
             }
             if (assertTabuHashCodeCorrectness) {
-                for (Object tabu : tabuSequenceDeque) {
-                    // tabu and checkingTabu can be null with a nullable planning variable
-                    if (tabu != null && tabu.equals(checkingTabu)) {
-                        if (tabu.hashCode() != checkingTabu.hashCode()) {
-                            throw new IllegalStateException("HashCode/equals contract violation: tabu (" + tabu
-                                    + ") of class (" + tabu.getClass()
-                                    + ") and checkingTabu (" + checkingTabu
-                                    + ") are equals() but have a different hashCode().");
-                        }
-                        if (tabuStepIndexInteger == null) {
-                            throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
-                                    + tabu + ") of class (" + tabu.getClass()
-                                    + ") changed during planning, since it was inserted in the tabu Map or Set.");
-                        }
+                assertOrdinalTabuHashCodeCorrectness(checkingTabu);
+            }
+            return;
+        }
+        Integer tabuStepIndexInteger = tabuToStepIndexMap.get(checkingTabu);
+        if (tabuStepIndexInteger != null) {
+            checkedTabuStepIndex = Math.max(tabuStepIndexInteger, checkedTabuStepIndex);
+        }
+        if (assertTabuHashCodeCorrectness) {
+            for (Object tabu : tabuSequenceDeque) {
+                // tabu and checkingTabu can be null with a nullable planning variable
+                if (tabu != null && tabu.equals(checkingTabu)) {
+                    if (tabu.hashCode() != checkingTabu.hashCode()) {
+                        throw new IllegalStateException("HashCode/equals contract violation: tabu (" + tabu
+                                + ") of class (" + tabu.getClass()
+                                + ") and checkingTabu (" + checkingTabu
+                                + ") are equals() but have a different hashCode().");
+                    }
+                    if (tabuStepIndexInteger == null) {
+                        throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
+                                + tabu + ") of class (" + tabu.getClass()
+                                + ") changed during planning, since it was inserted in the tabu Map or Set.");
                     }
                 }
             }
         }
-        return maximumTabuStepIndex;
+    }
+
+    private void assertOrdinalTabuHashCodeCorrectness(Object checkingTabu) {
+        for (int i = 0; i < tabuRingSize; i++) {
+            int index = (tabuRingStart + i) % tabuOrdinalRing.length;
+            int tabuOrdinal = tabuOrdinalRing[index];
+            if (ordinalTabuStepIndexes[tabuOrdinal] != tabuStepIndexRing[index]) {
+                continue; // Stale
+            }
+            Object tabu = ordinalManager.getWorkingObject(tabuOrdinal);
+            if (tabu != null && tabu.equals(checkingTabu) && tabu.hashCode() != checkingTabu.hashCode()) {
+                throw new IllegalStateException("HashCode/equals contract violation: tabu (" + tabu
+                        + ") of class (" + tabu.getClass()
+                        + ") and checkingTabu (" + checkingTabu
+                        + ") are equals() but have a different hashCode().");
+            }
+        }
     }
 
     /**
@@ -213,8 +354,29 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
         return ((double) (workingFadingTabuSize - fadingTabuStepCount)) / ((double) (workingFadingTabuSize + 1));
     }
 
-    protected abstract Collection<? extends Object> findTabu(LocalSearchMoveScope<Solution_> moveScope);
+    /**
+     * Only {@link MoveTabuAcceptor} knows its tabus before the move is done.
+     * The entity and value tabu acceptors rely on {@link Move#visitPlanningEntities(Consumer)}
+     * and {@link Move#visitPlanningValues(Consumer)}, which are only valid after {@link Move#doMove}.
+     * Supporting them would require moves to expose their planning entities and values up front.
+     *
+     * @return true if {@link #visitTabus(LocalSearchMoveScope, Consumer)} can be called before the move is done,
+     *         because it doesn't visit the planning entities or values of the move
+     */
+    protected boolean areTabusKnownBeforeMove() {
+        return false;
+    }
+
+    /**
+     * @param moveScope never null
+     * @param tabuVisitor never null, must be called for every tabu of the evaluated move
+     */
+    protected abstract void visitTabus(LocalSearchMoveScope<Solution_> moveScope, Consumer<Object> tabuVisitor);
 
-    protected abstract Collection<? extends Object> findNewTabu(LocalSearchStepScope<Solution_> stepScope);
+    /**
+     * @param stepScope never null
+     * @param tabuVisitor never null, must be called for every new tabu of the step
+     */
+    protected abstract void visitNewTabus(LocalSearchStepScope<Solution_> stepScope, Consumer<Object> tabuVisitor);
 
 }
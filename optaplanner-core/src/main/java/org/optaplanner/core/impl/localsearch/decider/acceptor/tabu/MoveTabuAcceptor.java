@@ -16,8 +16,7 @@
 
 package org.optaplanner.core.impl.localsearch.decider.acceptor.tabu;
 
-import java.util.Collection;
-import java.util.Collections;
+import java.util.function.Consumer;
 
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
@@ -40,19 +39,25 @@ public class MoveTabuAcceptor<Solution_> extends AbstractTabuAcceptor<Solution_>
     // ************************************************************************
 
     @Override
-    protected Collection<? extends Object> findTabu(LocalSearchMoveScope<Solution_> moveScope) {
-        return Collections.singletonList(moveScope.getMove());
+    protected boolean areTabusKnownBeforeMove() {
+        // The move itself is the tabu
+        return true;
     }
 
     @Override
-    protected Collection<? extends Object> findNewTabu(LocalSearchStepScope<Solution_> stepScope) {
+    protected void visitTabus(LocalSearchMoveScope<Solution_> moveScope, Consumer<Object> tabuVisitor) {
+        tabuVisitor.accept(moveScope.getMove());
+    }
+
+    @Override
+    protected void visitNewTabus(LocalSearchStepScope<Solution_> stepScope, Consumer<Object> tabuVisitor) {
         Move<?> tabuMove;
         if (useUndoMoveAsTabuMove) {
             tabuMove = stepScope.getUndoStep();
         } else {
             tabuMove = stepScope.getStep();
         }
-        return Collections.singletonList(tabuMove);
+        tabuVisitor.accept(tabuMove);
     }
 
 }
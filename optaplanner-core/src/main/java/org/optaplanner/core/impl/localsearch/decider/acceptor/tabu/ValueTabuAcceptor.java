@@ -16,7 +16,7 @@
 
 package org.optaplanner.core.impl.localsearch.decider.acceptor.tabu;
 
-import java.util.Collection;
+import java.util.function.Consumer;
 
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
@@ -32,13 +32,13 @@ public class ValueTabuAcceptor<Solution_> extends AbstractTabuAcceptor<Solution_
     // ************************************************************************
 
     @Override
-    protected Collection<? extends Object> findTabu(LocalSearchMoveScope<Solution_> moveScope) {
-        return moveScope.getMove().getPlanningValues();
+    protected void visitTabus(LocalSearchMoveScope<Solution_> moveScope, Consumer<Object> tabuVisitor) {
+        moveScope.getMove().visitPlanningValues(tabuVisitor);
     }
 
     @Override
-    protected Collection<? extends Object> findNewTabu(LocalSearchStepScope<Solution_> stepScope) {
-        return stepScope.getStep().getPlanningValues();
+    protected void visitNewTabus(LocalSearchStepScope<Solution_> stepScope, Consumer<Object> tabuVisitor) {
+        stepScope.getStep().visitPlanningValues(tabuVisitor);
     }
 
 }
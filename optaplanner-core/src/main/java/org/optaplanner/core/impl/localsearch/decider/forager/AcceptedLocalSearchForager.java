@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.localsearch.decider.forager;
 
+import java.time.Clock;
 import java.util.List;
 
 import org.optaplanner.core.api.score.Score;
@@ -26,6 +27,7 @@ import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.solver.termination.CoarseClock;
 
 /**
  * A {@link LocalSearchForager} which forages accepted moves and ignores unaccepted moves.
@@ -35,17 +37,44 @@ import org.optaplanner.core.impl.solver.scope.SolverScope;
  */
 public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchForager<Solution_> {
 
+    /**
+     * The clock only measures whole ticks, so a best improving move found within the first tick
+     * would otherwise quit the step as soon as the clock ticks once.
+     */
+    protected static final long DIMINISHING_IMPROVEMENT_RATE_MINIMUM_MILLIS = 5L * CoarseClock.TICK_MILLIS;
+
     protected final FinalistPodium<Solution_> finalistPodium;
     protected final LocalSearchPickEarlyType pickEarlyType;
     protected final int acceptedCountLimit;
+    protected final long stepMillisecondsSpentLimit;
     protected final boolean breakTieRandomly;
+    private final Clock clock;
+    private final boolean timed;
 
     protected long selectedMoveCount;
     protected long acceptedMoveCount;
     protected LocalSearchMoveScope<Solution_> earlyPickedMoveScope;
 
+    protected long stepStartingMillis;
+    protected Score bestImprovingScore;
+    protected long bestImprovingMillisSpent;
+    protected boolean timeSpentQuitEarly;
+
     public AcceptedLocalSearchForager(FinalistPodium<Solution_> finalistPodium,
             LocalSearchPickEarlyType pickEarlyType, int acceptedCountLimit, boolean breakTieRandomly) {
+        this(finalistPodium, pickEarlyType, acceptedCountLimit, Long.MAX_VALUE, breakTieRandomly);
+    }
+
+    public AcceptedLocalSearchForager(FinalistPodium<Solution_> finalistPodium,
+            LocalSearchPickEarlyType pickEarlyType, int acceptedCountLimit, long stepMillisecondsSpentLimit,
+            boolean breakTieRandomly) {
+        this(finalistPodium, pickEarlyType, acceptedCountLimit, stepMillisecondsSpentLimit, breakTieRandomly,
+                CoarseClock.getInstance());
+    }
+
+    protected AcceptedLocalSearchForager(FinalistPodium<Solution_> finalistPodium,
+            LocalSearchPickEarlyType pickEarlyType, int acceptedCountLimit, long stepMillisecondsSpentLimit,
+            boolean breakTieRandomly, Clock clock) {
         this.finalistPodium = finalistPodium;
         this.pickEarlyType = pickEarlyType;
         this.acceptedCountLimit = acceptedCountLimit;
@@ -53,7 +82,16 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
             throw new IllegalArgumentException("The acceptedCountLimit (" + acceptedCountLimit
                     + ") cannot be negative or zero.");
         }
+        this.stepMillisecondsSpentLimit = stepMillisecondsSpentLimit;
+        if (stepMillisecondsSpentLimit < 1L) {
+            throw new IllegalArgumentException("The stepMillisecondsSpentLimit (" + stepMillisecondsSpentLimit
+                    + ") cannot be negative or zero.");
+        }
         this.breakTieRandomly = breakTieRandomly;
+        this.clock = clock;
+        // Avoid reading the clock for every move if no time based option is used
+        timed = stepMillisecondsSpentLimit < Long.MAX_VALUE
+                || pickEarlyType == LocalSearchPickEarlyType.DIMINISHING_IMPROVEMENT_RATE;
     }
 
     // ************************************************************************
@@ -70,6 +108,10 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
         finalistPodium.phaseStarted(phaseScope);
+        // The time spent is checked for every evaluated move, so it must not be a system call
+        if (timed && clock instanceof CoarseClock) {
+            phaseScope.getSolverScope().acquireCoarseClock((CoarseClock) clock);
+        }
     }
 
     @Override
@@ -79,12 +121,18 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
         selectedMoveCount = 0L;
         acceptedMoveCount = 0L;
         earlyPickedMoveScope = null;
+        if (timed) {
+            stepStartingMillis = clock.millis();
+        }
+        bestImprovingScore = null;
+        bestImprovingMillisSpent = 0L;
+        timeSpentQuitEarly = false;
     }
 
     @Override
     public boolean supportsNeverEndingMoveSelector() {
         // TODO FIXME magical value Integer.MAX_VALUE coming from ForagerConfig
-        return acceptedCountLimit < Integer.MAX_VALUE;
+        return acceptedCountLimit < Integer.MAX_VALUE || stepMillisecondsSpentLimit < Long.MAX_VALUE;
     }
 
     @Override
@@ -95,6 +143,9 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
             checkPickEarly(moveScope);
         }
         finalistPodium.addMove(moveScope);
+        if (timed) {
+            checkTimeSpent(moveScope);
+        }
     }
 
     protected void checkPickEarly(LocalSearchMoveScope<Solution_> moveScope) {
@@ -114,14 +165,47 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
                     earlyPickedMoveScope = moveScope;
                 }
                 break;
+            case DIMINISHING_IMPROVEMENT_RATE:
+                // Checked in checkTimeSpent(), because unaccepted moves spend time too
+                break;
             default:
                 throw new IllegalStateException("The pickEarlyType (" + pickEarlyType + ") is not implemented.");
         }
     }
 
+    protected void checkTimeSpent(LocalSearchMoveScope<Solution_> moveScope) {
+        long millisSpent = clock.millis() - stepStartingMillis;
+        if (pickEarlyType == LocalSearchPickEarlyType.DIMINISHING_IMPROVEMENT_RATE && moveScope.getAccepted()) {
+            Score score = moveScope.getScore();
+            Score lastStepScore = moveScope.getStepScope().getPhaseScope()
+                    .getLastCompletedStepScope().getScore();
+            if (score.compareTo(lastStepScore) > 0
+                    && (bestImprovingScore == null || score.compareTo(bestImprovingScore) > 0)) {
+                bestImprovingScore = score;
+                bestImprovingMillisSpent = millisSpent;
+            }
+        }
+        if (acceptedMoveCount > 0L) {
+            if (millisSpent >= stepMillisecondsSpentLimit) {
+                timeSpentQuitEarly = true;
+            } else if (bestImprovingScore != null
+                    && millisSpent - bestImprovingMillisSpent > Math.max(bestImprovingMillisSpent,
+                            DIMINISHING_IMPROVEMENT_RATE_MINIMUM_MILLIS)) {
+                // The improvement per millisecond has at least halved since the best improving move
+                timeSpentQuitEarly = true;
+            }
+        }
+    }
+
     @Override
     public boolean isQuitEarly() {
-        return earlyPickedMoveScope != null || acceptedMoveCount >= acceptedCountLimit;
+        return earlyPickedMoveScope != null || acceptedMoveCount >= acceptedCountLimit || timeSpentQuitEarly;
+    }
+
+    @Override
+    public boolean isUnacceptedMoveIgnored() {
+        // The finalistPodium only falls back to an unaccepted move if no move is accepted
+        return acceptedMoveCount > 0L;
     }
 
     @Override
@@ -155,6 +239,11 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
         selectedMoveCount = 0L;
         acceptedMoveCount = 0L;
         earlyPickedMoveScope = null;
+        bestImprovingScore = null;
+        timeSpentQuitEarly = false;
+        if (timed && clock instanceof CoarseClock) {
+            phaseScope.getSolverScope().releaseCoarseClock((CoarseClock) clock);
+        }
     }
 
     @Override
@@ -165,7 +254,8 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
 
     @Override
     public String toString() {
-        return getClass().getSimpleName() + "(" + pickEarlyType + ", " + acceptedCountLimit + ")";
+        return getClass().getSimpleName() + "(" + pickEarlyType + ", " + acceptedCountLimit
+                + (stepMillisecondsSpentLimit < Long.MAX_VALUE ? ", " + stepMillisecondsSpentLimit + "ms" : "") + ")";
     }
 
 }
@@ -18,6 +18,7 @@ package org.optaplanner.core.impl.localsearch.decider.forager;
 
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
 import org.optaplanner.core.impl.localsearch.decider.LocalSearchDecider;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
 import org.optaplanner.core.impl.localsearch.event.LocalSearchPhaseLifecycleListener;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
@@ -44,6 +45,17 @@ public interface LocalSearchForager<Solution_> extends LocalSearchPhaseLifecycle
      */
     boolean isQuitEarly();
 
+    /**
+     * Used to stop calculating the score of a move early if the {@link Acceptor} will reject it anyway.
+     * <p>
+     * The default implementation returns false.
+     *
+     * @return true if the moves added from now on for this step are ignored if they aren't accepted
+     */
+    default boolean isUnacceptedMoveIgnored() {
+        return false;
+    }
+
     /**
      * @param stepScope never null
      * @return sometimes null, for example if no move is selected
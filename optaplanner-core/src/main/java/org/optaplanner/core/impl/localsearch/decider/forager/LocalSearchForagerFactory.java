@@ -38,11 +38,13 @@ public class LocalSearchForagerFactory<Solution_> {
         LocalSearchPickEarlyType pickEarlyType_ =
                 defaultIfNull(foragerConfig.getPickEarlyType(), LocalSearchPickEarlyType.NEVER);
         int acceptedCountLimit_ = defaultIfNull(foragerConfig.getAcceptedCountLimit(), Integer.MAX_VALUE);
+        long stepMillisecondsSpentLimit_ =
+                defaultIfNull(foragerConfig.getStepMillisecondsSpentLimit(), Long.MAX_VALUE);
         FinalistPodiumType finalistPodiumType_ =
                 defaultIfNull(foragerConfig.getFinalistPodiumType(), FinalistPodiumType.HIGHEST_SCORE);
         // Breaking ties randomly leads statistically to much better results
         boolean breakTieRandomly_ = defaultIfNull(foragerConfig.getBreakTieRandomly(), true);
         return new AcceptedLocalSearchForager<>(finalistPodiumType_.buildFinalistPodium(), pickEarlyType_,
-                acceptedCountLimit_, breakTieRandomly_);
+                acceptedCountLimit_, stepMillisecondsSpentLimit_, breakTieRandomly_);
     }
 }
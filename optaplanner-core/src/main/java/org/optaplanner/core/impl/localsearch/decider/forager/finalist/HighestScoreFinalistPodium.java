@@ -20,6 +20,7 @@ import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 
 /**
  * Default implementation of {@link FinalistPodium}.
@@ -28,12 +29,26 @@ import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
  */
 public class HighestScoreFinalistPodium<Solution_> extends AbstractFinalistPodium<Solution_> {
 
+    protected ScoreDefinition scoreDefinition;
+    // Only one of both finalist scores is used during a phase.
+    // The packed one avoids generic score comparisons in the hot path of addMove().
+    protected boolean packedScoresEnabled;
     protected Score finalistScore;
+    protected boolean finalistPackedScorePresent;
+    protected long finalistPackedScore;
+
+    @Override
+    public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        scoreDefinition = phaseScope.getScoreDefinition();
+        packedScoresEnabled = scoreDefinition.isScorePackable();
+    }
 
     @Override
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
         super.stepStarted(stepScope);
         finalistScore = null;
+        finalistPackedScorePresent = false;
     }
 
     @Override
@@ -45,8 +60,27 @@ public class HighestScoreFinalistPodium<Solution_> extends AbstractFinalistPodiu
         if (accepted && !finalistIsAccepted) {
             finalistIsAccepted = true;
             finalistScore = null;
+            finalistPackedScorePresent = false;
         }
         Score moveScore = moveScope.getScore();
+        if (packedScoresEnabled && !moveScore.isSolutionInitialized()) {
+            // Fall back to the generic score comparisons for the rest of the phase
+            packedScoresEnabled = false;
+            finalistScore = finalistPackedScorePresent ? scoreDefinition.unpackScore(finalistPackedScore) : null;
+            finalistPackedScorePresent = false;
+        }
+        if (packedScoresEnabled) {
+            long movePackedScore = scoreDefinition.packScore(moveScore);
+            int scoreComparison = finalistPackedScorePresent ? Long.compare(movePackedScore, finalistPackedScore) : 1;
+            if (scoreComparison > 0) {
+                finalistPackedScorePresent = true;
+                finalistPackedScore = movePackedScore;
+                clearAndAddFinalist(moveScope);
+            } else if (scoreComparison == 0) {
+                addFinalist(moveScope);
+            }
+            return;
+        }
         int scoreComparison = doComparison(moveScore);
         if (scoreComparison > 0) {
             finalistScore = moveScore;
@@ -66,7 +100,10 @@ public class HighestScoreFinalistPodium<Solution_> extends AbstractFinalistPodiu
     @Override
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
+        scoreDefinition = null;
+        packedScoresEnabled = false;
         finalistScore = null;
+        finalistPackedScorePresent = false;
     }
 
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.island;
+
+import java.util.Iterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+
+/**
+ * Exchanges best solutions between the islands and the parent solver thread.
+ * The islands send every new best solution to the parent solver thread, which iterates them.
+ * The parent solver thread publishes the global best solution, which the islands poll.
+ * <p>
+ * Only the latest best solution of each island is kept, so a slow parent solver thread skips the older ones.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class IslandExchange<Solution_> implements Iterable<Pair<Score<?>, IslandMigrationMove<Solution_>>> {
+
+    private final BlockingQueue<IslandEvent> queue;
+    // Only the latest best solution per island, the older ones are obsolete
+    private final AtomicReferenceArray<Pair<Score<?>, IslandMigrationMove<Solution_>>> islandBestArray;
+    private final AtomicReference<Pair<Score<?>, IslandMigrationMove<Solution_>>> globalBest;
+
+    // Only used by the parent solver thread
+    private int openIslandCount;
+    private long islandsCalculationCount;
+
+    public IslandExchange(int islandCount) {
+        queue = new LinkedBlockingQueue<>();
+        islandBestArray = new AtomicReferenceArray<>(islandCount);
+        globalBest = new AtomicReference<>(null);
+        openIslandCount = islandCount;
+        islandsCalculationCount = 0L;
+    }
+
+    /**
+     * This method is thread-safe.
+     * The previous best solution of this island (if it hasn't been consumed yet), will be skipped during iteration.
+     *
+     * @param islandIndex {@code 0 <= islandIndex < islandCount}
+     * @param score never null, the score of the move's solution
+     * @param move never null, already rebased to the parent solver thread
+     */
+    public void addIslandBestSolution(int islandIndex, Score<?> score, IslandMigrationMove<Solution_> move) {
+        islandBestArray.set(islandIndex, Pair.of(score, move));
+        queue.add(new IslandEvent(IslandEventType.BEST_SOLUTION, islandIndex, 0L, null));
+    }
+
+    /**
+     * This method is thread-safe.
+     *
+     * @param islandIndex {@code 0 <= islandIndex < islandCount}
+     * @param islandCalculationCount at least 0
+     */
+    public void addFinish(int islandIndex, long islandCalculationCount) {
+        queue.add(new IslandEvent(IslandEventType.FINISHED, islandIndex, islandCalculationCount, null));
+    }
+
+    /**
+     * This method is thread-safe.
+     *
+     * @param islandIndex {@code 0 <= islandIndex < islandCount}
+     * @param throwable never null
+     */
+    public void addExceptionThrown(int islandIndex, Throwable throwable) {
+        queue.add(new IslandEvent(IslandEventType.EXCEPTION_THROWN, islandIndex, 0L, throwable));
+    }
+
+    /**
+     * This method is thread-safe.
+     * Only called by the parent solver thread.
+     *
+     * @param score never null, the score of the move's solution
+     * @param move never null, created from the parent solver thread's working solution
+     */
+    public void publishGlobalBestSolution(Score<?> score, IslandMigrationMove<Solution_> move) {
+        globalBest.set(Pair.of(score, move));
+    }
+
+    /**
+     * This method is thread-safe.
+     *
+     * @return null if no global best solution has been published yet,
+     *         otherwise the move must still be rebased to the island's score director
+     */
+    public Pair<Score<?>, IslandMigrationMove<Solution_>> getGlobalBestSolution() {
+        return globalBest.get();
+    }
+
+    @Override
+    public Iterator<Pair<Score<?>, IslandMigrationMove<Solution_>>> iterator() {
+        return new IslandExchangeIterator();
+    }
+
+    private class IslandExchangeIterator extends UpcomingSelectionIterator<Pair<Score<?>, IslandMigrationMove<Solution_>>> {
+
+        @Override
+        protected Pair<Score<?>, IslandMigrationMove<Solution_>> createUpcomingSelection() {
+            while (true) {
+                IslandEvent event;
+                try {
+                    event = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Solver thread was interrupted in the island model.", e);
+                }
+                switch (event.type) {
+                    case BEST_SOLUTION:
+                        Pair<Score<?>, IslandMigrationMove<Solution_>> islandBest =
+                                islandBestArray.getAndSet(event.islandIndex, null);
+                        if (islandBest == null) {
+                            // Already consumed by an earlier event of the same island
+                            continue;
+                        }
+                        return islandBest;
+                    case FINISHED:
+                        openIslandCount--;
+                        islandsCalculationCount += event.islandCalculationCount;
+                        if (openIslandCount <= 0) {
+                            return noUpcomingSelection();
+                        } else {
+                            continue;
+                        }
+                    case EXCEPTION_THROWN:
+                        throw new IllegalStateException("The island child thread with islandIndex ("
+                                + event.islandIndex + ") has thrown an exception."
+                                + " Relayed here in the parent thread.",
+                                event.throwable);
+                    default:
+                        throw new IllegalStateException("The islandEventType (" + event.type
+                                + ") is not implemented.");
+                }
+            }
+        }
+
+    }
+
+    public long getIslandsCalculationCount() {
+        return islandsCalculationCount;
+    }
+
+    private static final class IslandEvent {
+
+        private final IslandEventType type;
+        private final int islandIndex;
+        private final long islandCalculationCount;
+        private final Throwable throwable;
+
+        private IslandEvent(IslandEventType type, int islandIndex, long islandCalculationCount, Throwable throwable) {
+            this.type = type;
+            this.islandIndex = islandIndex;
+            this.islandCalculationCount = islandCalculationCount;
+            this.throwable = throwable;
+        }
+
+    }
+
+    private enum IslandEventType {
+        BEST_SOLUTION,
+        FINISHED,
+        EXCEPTION_THROWN;
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.island;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.localsearch.DefaultLocalSearchPhase;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
+import org.optaplanner.core.impl.solver.termination.Termination;
+
+/**
+ * A {@link DefaultLocalSearchPhase} that runs on an island thread of an {@link IslandModelLocalSearchPhase}.
+ * Every {@link #exchangeStepCount} steps, it adopts the global best solution as its step,
+ * if that is better than its own best solution.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class IslandLocalSearchPhase<Solution_> extends DefaultLocalSearchPhase<Solution_> {
+
+    protected final int islandIndex;
+    protected final IslandExchange<Solution_> islandExchange;
+    protected final int exchangeStepCount;
+
+    public IslandLocalSearchPhase(int phaseIndex, String logIndentation,
+            BestSolutionRecaller<Solution_> bestSolutionRecaller, Termination<Solution_> termination,
+            int islandIndex, IslandExchange<Solution_> islandExchange, int exchangeStepCount) {
+        super(phaseIndex, logIndentation, bestSolutionRecaller, termination);
+        this.islandIndex = islandIndex;
+        this.islandExchange = islandExchange;
+        this.exchangeStepCount = exchangeStepCount;
+        if (exchangeStepCount < 1) {
+            throw new IllegalArgumentException("The exchangeStepCount (" + exchangeStepCount
+                    + ") cannot be negative or zero.");
+        }
+    }
+
+    public int getIslandIndex() {
+        return islandIndex;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    protected void decideNextStep(LocalSearchStepScope<Solution_> stepScope) {
+        int stepIndex = stepScope.getStepIndex();
+        if (stepIndex > 0 && stepIndex % exchangeStepCount == 0) {
+            Pair<Score<?>, IslandMigrationMove<Solution_>> globalBest = islandExchange.getGlobalBestSolution();
+            if (globalBest != null
+                    && ((Score) globalBest.getKey()).compareTo(stepScope.getPhaseScope().getBestScore()) > 0) {
+                IslandMigrationMove<Solution_> step = globalBest.getValue().rebase(stepScope.getScoreDirector());
+                logger.trace("{}        Island ({}) adopts the global best solution ({}).",
+                        logIndentation, islandIndex, globalBest.getKey());
+                stepScope.setStep(step);
+                if (logger.isDebugEnabled()) {
+                    stepScope.setStepString(step.toString());
+                }
+                stepScope.setScore(globalBest.getKey());
+                return;
+            }
+        }
+        super.decideNextStep(stepScope);
+    }
+
+}
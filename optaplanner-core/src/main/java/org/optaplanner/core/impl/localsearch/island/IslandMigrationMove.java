@@ -0,0 +1,182 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.island;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.solution.ProblemFactCollectionProperty;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Copies the planning variables of an entire solution into the working solution of another solver thread,
+ * either from an island to the parent solver or from the parent solver to an island.
+ * <p>
+ * It changes every entity, so it's not a neighborhood move: it makes no entity or value tabu.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class IslandMigrationMove<Solution_> extends AbstractMove<Solution_> {
+
+    /**
+     * @param scoreDirector never null, its working solution is the solution to migrate
+     * @param islandIndex {@code 0 <= islandIndex < islandCount} or -1 if it's the parent solver
+     * @return never null
+     */
+    public static <Solution_> IslandMigrationMove<Solution_> createMove(InnerScoreDirector<Solution_, ?> scoreDirector,
+            int islandIndex) {
+        SolutionDescriptor<Solution_> solutionDescriptor = scoreDirector.getSolutionDescriptor();
+        Solution_ workingSolution = scoreDirector.getWorkingSolution();
+
+        int entityCount = solutionDescriptor.getEntityCount(workingSolution);
+        Map<GenuineVariableDescriptor<Solution_>, List<Pair<Object, Object>>> changeMap = new LinkedHashMap<>(
+                solutionDescriptor.getEntityDescriptors().size() * 3);
+        for (EntityDescriptor<Solution_> entityDescriptor : solutionDescriptor.getEntityDescriptors()) {
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                    .getDeclaredGenuineVariableDescriptors()) {
+                changeMap.put(variableDescriptor, new ArrayList<>(entityCount));
+            }
+        }
+        for (Iterator<Object> it = solutionDescriptor.extractAllEntitiesIterator(workingSolution); it.hasNext();) {
+            Object entity = it.next();
+            EntityDescriptor<Solution_> entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(
+                    entity.getClass());
+            if (entityDescriptor.isMovable(scoreDirector, entity)) {
+                for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                        .getGenuineVariableDescriptors()) {
+                    Object value = variableDescriptor.getValue(entity);
+                    changeMap.get(variableDescriptor).add(Pair.of(entity, value));
+                }
+            }
+        }
+        return new IslandMigrationMove<>(changeMap, islandIndex);
+    }
+
+    private final Map<GenuineVariableDescriptor<Solution_>, List<Pair<Object, Object>>> changeMap;
+    private final int islandIndex;
+
+    public IslandMigrationMove(Map<GenuineVariableDescriptor<Solution_>, List<Pair<Object, Object>>> changeMap,
+            int islandIndex) {
+        this.changeMap = changeMap;
+        this.islandIndex = islandIndex;
+    }
+
+    public int getIslandIndex() {
+        return islandIndex;
+    }
+
+    @Override
+    protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        for (Map.Entry<GenuineVariableDescriptor<Solution_>, List<Pair<Object, Object>>> entry : changeMap.entrySet()) {
+            GenuineVariableDescriptor<Solution_> variableDescriptor = entry.getKey();
+            for (Pair<Object, Object> pair : entry.getValue()) {
+                Object entity = pair.getKey();
+                Object value = pair.getValue();
+                // Most variables of 2 good solutions are equal, so skip those to avoid needless score calculation
+                if (!Objects.equals(variableDescriptor.getValue(entity), value)) {
+                    innerScoreDirector.changeVariableFacade(variableDescriptor, entity, value);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        return true;
+    }
+
+    @Override
+    protected IslandMigrationMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        Map<GenuineVariableDescriptor<Solution_>, List<Pair<Object, Object>>> undoChangeMap = new LinkedHashMap<>(
+                changeMap.size());
+        for (Map.Entry<GenuineVariableDescriptor<Solution_>, List<Pair<Object, Object>>> entry : changeMap.entrySet()) {
+            GenuineVariableDescriptor<Solution_> variableDescriptor = entry.getKey();
+            List<Pair<Object, Object>> pairList = entry.getValue();
+            List<Pair<Object, Object>> undoPairList = new ArrayList<>(pairList.size());
+            for (Pair<Object, Object> pair : pairList) {
+                Object entity = pair.getKey();
+                undoPairList.add(Pair.of(entity, variableDescriptor.getValue(entity)));
+            }
+            undoChangeMap.put(variableDescriptor, undoPairList);
+        }
+        return new IslandMigrationMove<>(undoChangeMap, islandIndex);
+    }
+
+    @Override
+    public IslandMigrationMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        Map<GenuineVariableDescriptor<Solution_>, List<Pair<Object, Object>>> destinationChangeMap = new LinkedHashMap<>(
+                changeMap.size());
+        for (Map.Entry<GenuineVariableDescriptor<Solution_>, List<Pair<Object, Object>>> entry : changeMap.entrySet()) {
+            GenuineVariableDescriptor<Solution_> variableDescriptor = entry.getKey();
+            List<Pair<Object, Object>> originPairList = entry.getValue();
+            List<Pair<Object, Object>> destinationPairList = new ArrayList<>(originPairList.size());
+            for (Pair<Object, Object> pair : originPairList) {
+                Object originEntity = pair.getKey();
+                Object destinationEntity = destinationScoreDirector.lookUpWorkingObject(originEntity);
+                if (destinationEntity == null && originEntity != null) {
+                    throw new IllegalStateException("The destinationEntity (" + destinationEntity
+                            + ") cannot be null if the originEntity (" + originEntity + ") is not null.");
+                }
+                Object originValue = pair.getValue();
+                Object destinationValue = destinationScoreDirector.lookUpWorkingObject(originValue);
+                if (destinationValue == null && originValue != null) {
+                    throw new IllegalStateException("The destinationEntity (" + destinationEntity
+                            + ")'s destinationValue (" + destinationValue
+                            + ") cannot be null if the originEntity (" + originEntity
+                            + ")'s originValue (" + originValue + ") is not null.\n"
+                            + "Maybe add the originValue (" + originValue + ") of class (" + originValue.getClass()
+                            + ") as problem fact in the planning solution with a "
+                            + ProblemFactCollectionProperty.class.getSimpleName() + " annotation.");
+                }
+                destinationPairList.add(Pair.of(destinationEntity, destinationValue));
+            }
+            destinationChangeMap.put(variableDescriptor, destinationPairList);
+        }
+        return new IslandMigrationMove<>(destinationChangeMap, islandIndex);
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public String toString() {
+        int changeCount = changeMap.values().stream().mapToInt(List::size).sum();
+        return (islandIndex < 0 ? "parent" : "island-" + islandIndex) + " {" + changeCount + " variables migrated}";
+    }
+
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.island;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.localsearch.DefaultLocalSearchPhaseFactory;
+import org.optaplanner.core.impl.localsearch.LocalSearchPhase;
+import org.optaplanner.core.impl.localsearch.event.LocalSearchPhaseLifecycleListener;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.partitionedsearch.PartitionSolver;
+import org.optaplanner.core.impl.phase.AbstractPhase;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
+import org.optaplanner.core.impl.solver.recaller.BestSolutionRecallerFactory;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.solver.termination.ChildThreadPlumbingTermination;
+import org.optaplanner.core.impl.solver.termination.OrCompositeTermination;
+import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.solver.thread.ChildThreadType;
+import org.optaplanner.core.impl.solver.thread.ThreadUtils;
+
+/**
+ * A {@link LocalSearchPhase} that runs independent local searches (islands) in parallel,
+ * each on its own thread and its own clone of the working solution.
+ * Unlike move threads, the islands don't synchronize per step.
+ * <p>
+ * Every new best solution of an island is applied as a step on the parent solver thread,
+ * if it's better than the global best solution, so the {@link BestSolutionRecaller} of the solver handles it.
+ * That global best solution is then published for the other islands,
+ * which adopt it at their next exchange if it's better than their own best solution.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see IslandLocalSearchPhase
+ */
+public class IslandModelLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
+        implements LocalSearchPhase<Solution_>, LocalSearchPhaseLifecycleListener<Solution_> {
+
+    protected final Termination<Solution_> solverTermination;
+    protected final int islandCount;
+    protected final int exchangeStepCount;
+    protected final ThreadFactory threadFactory;
+
+    protected DefaultLocalSearchPhaseFactory<Solution_> islandPhaseFactory;
+    protected HeuristicConfigPolicy<Solution_> configPolicy;
+
+    public IslandModelLocalSearchPhase(int phaseIndex, String logIndentation,
+            BestSolutionRecaller<Solution_> bestSolutionRecaller, Termination<Solution_> termination,
+            Termination<Solution_> solverTermination, int islandCount, int exchangeStepCount,
+            ThreadFactory threadFactory) {
+        super(phaseIndex, logIndentation, bestSolutionRecaller, termination);
+        this.solverTermination = solverTermination;
+        this.islandCount = islandCount;
+        this.exchangeStepCount = exchangeStepCount;
+        this.threadFactory = threadFactory;
+    }
+
+    public void setIslandPhaseFactory(DefaultLocalSearchPhaseFactory<Solution_> islandPhaseFactory) {
+        this.islandPhaseFactory = islandPhaseFactory;
+    }
+
+    public void setConfigPolicy(HeuristicConfigPolicy<Solution_> configPolicy) {
+        this.configPolicy = configPolicy;
+    }
+
+    @Override
+    public String getPhaseTypeString() {
+        return "Island Model Local Search";
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void solve(SolverScope<Solution_> solverScope) {
+        LocalSearchPhaseScope<Solution_> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        phaseStarted(phaseScope);
+        InnerScoreDirector<Solution_, ?> parentScoreDirector = solverScope.getScoreDirector();
+        // The island score directors start from this calculationCount too
+        long startingCalculationCount = parentScoreDirector.getCalculationCount();
+        ExecutorService executor = Executors.newFixedThreadPool(islandCount, threadFactory);
+        ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination =
+                new ChildThreadPlumbingTermination<>();
+        IslandExchange<Solution_> islandExchange = new IslandExchange<>(islandCount);
+        try {
+            for (int i = 0; i < islandCount; i++) {
+                int islandIndex = i;
+                Solution_ island = parentScoreDirector.cloneWorkingSolution();
+                // Each island gets its own working random, seeded by the solver's working random
+                SolverScope<Solution_> islandSolverScope =
+                        solverScope.createChildThreadSolverScope(ChildThreadType.ISLAND_THREAD);
+                PartitionSolver<Solution_> islandSolver = buildIslandSolver(childThreadPlumbingTermination,
+                        islandIndex, islandExchange, solverScope, islandSolverScope);
+                islandSolver.addEventListener(event -> {
+                    InnerScoreDirector<Solution_, ?> childScoreDirector = islandSolverScope.getScoreDirector();
+                    IslandMigrationMove<Solution_> move = IslandMigrationMove.createMove(childScoreDirector,
+                            islandIndex);
+                    move = move.rebase(parentScoreDirector);
+                    islandExchange.addIslandBestSolution(islandIndex, event.getNewBestScore(), move);
+                });
+                executor.submit(() -> {
+                    try {
+                        islandSolver.solve(island);
+                        long islandCalculationCount = islandSolver.getScoreCalculationCount()
+                                - startingCalculationCount;
+                        islandExchange.addFinish(islandIndex, islandCalculationCount);
+                    } catch (Throwable throwable) {
+                        // Any Exception or even Error that happens here (on an island thread) must be stored
+                        // in the islandExchange in order to be propagated to the solver thread.
+                        logger.trace("{}            Island thread ({}) exception that will be propagated to the solver thread.",
+                                logIndentation, islandIndex, throwable);
+                        islandExchange.addExceptionThrown(islandIndex, throwable);
+                    }
+                });
+            }
+            for (Pair<Score<?>, IslandMigrationMove<Solution_>> islandBest : islandExchange) {
+                if (((Score) islandBest.getKey()).compareTo(phaseScope.getBestScore()) <= 0) {
+                    // Another island already found a solution that is at least as good
+                    logger.trace("{}        Skipped the best solution ({}) of island ({}).",
+                            logIndentation, islandBest.getKey(), islandBest.getValue().getIslandIndex());
+                    continue;
+                }
+                LocalSearchStepScope<Solution_> stepScope = new LocalSearchStepScope<>(phaseScope);
+                stepStarted(stepScope);
+                IslandMigrationMove<Solution_> step = islandBest.getValue();
+                stepScope.setStep(step);
+                if (logger.isDebugEnabled()) {
+                    stepScope.setStepString(step.toString());
+                }
+                doStep(stepScope);
+                stepEnded(stepScope);
+                phaseScope.setLastCompletedStepScope(stepScope);
+                islandExchange.publishGlobalBestSolution(stepScope.getScore(),
+                        IslandMigrationMove.createMove(parentScoreDirector, -1));
+            }
+            phaseScope.addChildThreadsScoreCalculationCount(islandExchange.getIslandsCalculationCount());
+        } finally {
+            // In case one of the island threads threw an Exception, it is propagated here
+            // but the other island threads are not aware of the failure and may continue solving for a long time,
+            // so we need to ask them to terminate. In case no exception was thrown, this does nothing.
+            childThreadPlumbingTermination.terminateChildren();
+            ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Island Model Local Search");
+        }
+        phaseEnded(phaseScope);
+    }
+
+    public PartitionSolver<Solution_> buildIslandSolver(
+            ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination, int islandIndex,
+            IslandExchange<Solution_> islandExchange, SolverScope<Solution_> solverScope,
+            SolverScope<Solution_> islandSolverScope) {
+        BestSolutionRecaller<Solution_> islandBestSolutionRecaller =
+                BestSolutionRecallerFactory.create().buildBestSolutionRecaller(configPolicy.getEnvironmentMode());
+        // The island phase adds the phase termination again
+        Termination<Solution_> islandTermination = new OrCompositeTermination<>(childThreadPlumbingTermination,
+                solverTermination.createChildThreadTermination(solverScope, ChildThreadType.ISLAND_THREAD));
+        IslandLocalSearchPhase<Solution_> islandPhase = islandPhaseFactory.buildIslandPhase(0, configPolicy,
+                islandBestSolutionRecaller, islandTermination, islandIndex, islandExchange, exchangeStepCount);
+        return new PartitionSolver<>(islandBestSolutionRecaller, islandTermination,
+                Collections.singletonList(islandPhase), islandSolverScope);
+    }
+
+    protected void doStep(LocalSearchStepScope<Solution_> stepScope) {
+        Move<Solution_> step = stepScope.getStep();
+        step.doMove(stepScope.getScoreDirector());
+        calculateWorkingStepScore(stepScope, step);
+        bestSolutionRecaller.processWorkingSolutionDuringStep(stepScope);
+    }
+
+    @Override
+    public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        assertWorkingSolutionInitialized(phaseScope);
+    }
+
+    @Override
+    public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
+        super.stepStarted(stepScope);
+    }
+
+    @Override
+    public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        LocalSearchPhaseScope<Solution_> phaseScope = stepScope.getPhaseScope();
+        if (logger.isDebugEnabled()) {
+            logger.debug("{}    IM step ({}), time spent ({}), score ({}), {} best score ({}), picked move ({}).",
+                    logIndentation,
+                    stepScope.getStepIndex(),
+                    phaseScope.calculateSolverTimeMillisSpentUpToNow(),
+                    stepScope.getScore(),
+                    (stepScope.getBestScoreImproved() ? "new" : "   "), phaseScope.getBestScore(),
+                    stepScope.getStepString());
+        }
+    }
+
+    @Override
+    public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        phaseScope.endingNow();
+        logger.info("{}Island Model Local Search phase ({}) ended: time spent ({}), best score ({}),"
+                + " score calculation speed ({}/sec), step total ({}), islandCount ({}).",
+                logIndentation,
+                phaseIndex,
+                phaseScope.calculateSolverTimeMillisSpentUpToNow(),
+                phaseScope.getBestScore(),
+                phaseScope.getPhaseScoreCalculationSpeed(),
+                phaseScope.getNextStepIndex(),
+                islandCount);
+    }
+
+}
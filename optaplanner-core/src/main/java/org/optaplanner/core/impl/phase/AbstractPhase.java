@@ -23,6 +23,7 @@ import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.localsearch.DefaultLocalSearchPhase;
 import org.optaplanner.core.impl.phase.event.PhaseLifecycleListener;
 import org.optaplanner.core.impl.phase.event.PhaseLifecycleSupport;
@@ -33,6 +34,7 @@ import org.optaplanner.core.impl.solver.DefaultSolver;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.solver.trace.MoveEvaluationTracer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -129,6 +131,10 @@ public abstract class AbstractPhase<Solution_> implements Phase<Solution_> {
     public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
         phaseScope.startingNow();
         phaseScope.reset();
+        MoveEvaluationTracer<Solution_> moveEvaluationTracer = phaseScope.getSolverScope().getMoveEvaluationTracer();
+        if (moveEvaluationTracer != null) {
+            moveEvaluationTracer.phaseStarted(phaseIndex, getPhaseTypeString(), phaseScope.getScoreDirector());
+        }
         bestSolutionRecaller.phaseStarted(phaseScope);
         solverPhaseLifecycleSupport.firePhaseStarted(phaseScope);
         termination.phaseStarted(phaseScope);
@@ -186,6 +192,10 @@ public abstract class AbstractPhase<Solution_> implements Phase<Solution_> {
         solverPhaseLifecycleSupport.firePhaseEnded(phaseScope);
         termination.phaseEnded(phaseScope);
         phaseLifecycleSupport.firePhaseEnded(phaseScope);
+        MoveEvaluationTracer<Solution_> moveEvaluationTracer = phaseScope.getSolverScope().getMoveEvaluationTracer();
+        if (moveEvaluationTracer != null) {
+            moveEvaluationTracer.phaseEnded(phaseScope);
+        }
     }
 
     @Override
@@ -227,6 +237,17 @@ public abstract class AbstractPhase<Solution_> implements Phase<Solution_> {
                             + "Or maybe the getter/setters of your planning variables in your domain classes aren't implemented correctly.");
                 }
             }
+            for (ListVariableDescriptor<Solution_> listVariableDescriptor : solutionDescriptor
+                    .getListVariableDescriptors()) {
+                long unassignedValueCount = listVariableDescriptor.countUnassignedValues(workingSolution);
+                if (unassignedValueCount > 0L) {
+                    throw new IllegalStateException(getPhaseTypeString() + " phase (" + phaseIndex
+                            + ") needs to start from an initialized solution, but the list variable ("
+                            + listVariableDescriptor.getSimpleEntityAndVariableName() + ") has " + unassignedValueCount
+                            + " unassigned values.\n"
+                            + "Maybe there is no Construction Heuristic configured before this phase to initialize the solution.");
+                }
+            }
         }
     }
 
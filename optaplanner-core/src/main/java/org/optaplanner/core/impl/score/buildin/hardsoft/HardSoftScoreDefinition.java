@@ -53,6 +53,22 @@ public class HardSoftScoreDefinition extends AbstractScoreDefinition<HardSoftSco
         return HardSoftScore.ONE_SOFT;
     }
 
+    @Override
+    public boolean isScorePackable() {
+        return true;
+    }
+
+    @Override
+    public long packScore(HardSoftScore score) {
+        // The hard score takes the signed upper half, the soft score is shifted to the unsigned lower half
+        return ((long) score.getHardScore() << 32) | ((long) score.getSoftScore() - Integer.MIN_VALUE);
+    }
+
+    @Override
+    public HardSoftScore unpackScore(long packedScore) {
+        return HardSoftScore.of((int) (packedScore >> 32), (int) ((packedScore & 0xFFFFFFFFL) + Integer.MIN_VALUE));
+    }
+
     @Override
     public HardSoftScore parseScore(String scoreString) {
         return HardSoftScore.parseScore(scoreString);
@@ -58,6 +58,21 @@ public class SimpleScoreDefinition extends AbstractScoreDefinition<SimpleScore>
         return SimpleScore.ONE;
     }
 
+    @Override
+    public boolean isScorePackable() {
+        return true;
+    }
+
+    @Override
+    public long packScore(SimpleScore score) {
+        return score.getScore();
+    }
+
+    @Override
+    public SimpleScore unpackScore(long packedScore) {
+        return SimpleScore.of((int) packedScore);
+    }
+
     @Override
     public SimpleScore parseScore(String scoreString) {
         return SimpleScore.parseScore(scoreString);
@@ -53,6 +53,21 @@ public class SimpleLongScoreDefinition extends AbstractScoreDefinition<SimpleLon
         return SimpleLongScore.ONE;
     }
 
+    @Override
+    public boolean isScorePackable() {
+        return true;
+    }
+
+    @Override
+    public long packScore(SimpleLongScore score) {
+        return score.getScore();
+    }
+
+    @Override
+    public SimpleLongScore unpackScore(long packedScore) {
+        return SimpleLongScore.of(packedScore);
+    }
+
     @Override
     public SimpleLongScore parseScore(String scoreString) {
         return SimpleLongScore.parseScore(scoreString);
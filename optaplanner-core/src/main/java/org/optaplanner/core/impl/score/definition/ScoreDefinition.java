@@ -108,6 +108,45 @@ public interface ScoreDefinition<Score_ extends Score<Score_>> {
         return score.compareTo(getZeroScore()) <= 0;
     }
 
+    /**
+     * Returns true if every {@link Score#isSolutionInitialized() initialized} {@link Score} of this definition
+     * can be packed into a single primitive long by {@link #packScore(Score)}.
+     * For example: returns true on {@link HardSoftScoreDefinition}, because both levels are ints.
+     *
+     * @return true if {@link #packScore(Score)} is supported
+     */
+    default boolean isScorePackable() {
+        return false;
+    }
+
+    /**
+     * Packs an {@link Score#isSolutionInitialized() initialized} {@link Score} into a single primitive long,
+     * such that {@link Long#compare(long, long)} on 2 packed scores
+     * returns the same sign as {@link Score#compareTo(Object)} on the original scores.
+     * This allows acceptors and foragers to store and compare scores in their hot path
+     * without walking the score levels generically.
+     *
+     * @param score never null, {@link Score#isSolutionInitialized()} must be true
+     * @return the packed score, only comparable with other packed scores of this definition
+     * @throws UnsupportedOperationException if {@link #isScorePackable()} returns false
+     */
+    default long packScore(Score_ score) {
+        throw new UnsupportedOperationException("The scoreDefinition (" + getClass().getSimpleName()
+                + ") does not support packing a score (" + score + ") into a long.");
+    }
+
+    /**
+     * The inverse of {@link #packScore(Score)}.
+     *
+     * @param packedScore a value returned by {@link #packScore(Score)} of this definition
+     * @return never null, the initialized {@link Score} that was packed
+     * @throws UnsupportedOperationException if {@link #isScorePackable()} returns false
+     */
+    default Score_ unpackScore(long packedScore) {
+        throw new UnsupportedOperationException("The scoreDefinition (" + getClass().getSimpleName()
+                + ") does not support unpacking a score from a long (" + packedScore + ").");
+    }
+
     /**
      * Returns a {@link String} representation of the {@link Score}.
      *
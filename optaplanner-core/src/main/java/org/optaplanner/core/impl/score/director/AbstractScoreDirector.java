@@ -22,6 +22,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
@@ -46,7 +47,10 @@ import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.lookup.ClassAndPlanningIdComparator;
 import org.optaplanner.core.impl.domain.lookup.LookUpManager;
+import org.optaplanner.core.impl.domain.ordinal.OrdinalManager;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.listener.support.VariableListenerSupport;
@@ -54,6 +58,8 @@ import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
+import org.optaplanner.core.impl.solver.trace.MoveEvaluationStage;
+import org.optaplanner.core.impl.solver.trace.MoveEvaluationTracer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -77,6 +83,8 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     protected final Factory_ scoreDirectorFactory;
     protected final boolean lookUpEnabled;
     protected final LookUpManager lookUpManager;
+    // Null until something uses ordinals, so a score director that never does (such as a move thread's) skips them
+    protected OrdinalManager ordinalManager = null;
     protected boolean constraintMatchEnabledPreference;
     protected final VariableListenerSupport<Solution_> variableListenerSupport;
 
@@ -85,9 +93,13 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     protected Integer workingInitScore = null;
 
     protected boolean allChangesWillBeUndoneBeforeStepEnds = false;
+    // Only set during beforeListVariableChanged()
+    private int listVariableChangeFromIndex = 0;
 
     protected long calculationCount = 0L;
 
+    protected MoveEvaluationTracer<Solution_> moveEvaluationTracer = null;
+
     protected AbstractScoreDirector(Factory_ scoreDirectorFactory,
             boolean lookUpEnabled, boolean constraintMatchEnabledPreference) {
         this.scoreDirectorFactory = scoreDirectorFactory;
@@ -138,6 +150,12 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         return workingEntityListRevision;
     }
 
+    @Override
+    public void setMoveEvaluationTracer(MoveEvaluationTracer<Solution_> moveEvaluationTracer) {
+        this.moveEvaluationTracer = moveEvaluationTracer;
+    }
+
+    @Override
     public boolean isAllChangesWillBeUndoneBeforeStepEnds() {
         return allChangesWillBeUndoneBeforeStepEnds;
     }
@@ -162,6 +180,16 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         return variableListenerSupport;
     }
 
+    @Override
+    public OrdinalManager getOrdinalManager() {
+        if (ordinalManager == null) {
+            ordinalManager = new OrdinalManager();
+            ordinalManager.resetWorkingObjects(workingSolution == null ? Collections.emptyList()
+                    : getSolutionDescriptor().getAllFacts(workingSolution));
+        }
+        return ordinalManager;
+    }
+
     // ************************************************************************
     // Complex methods
     // ************************************************************************
@@ -175,6 +203,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (lookUpEnabled) {
             lookUpManager.resetWorkingObjects(allFacts);
         }
+        if (ordinalManager != null) {
+            ordinalManager.resetWorkingObjects(allFacts);
+        }
         assertNonNullPlanningIds(allFacts);
         variableListenerSupport.resetWorkingSolution();
         setWorkingEntityListDirty();
@@ -210,24 +241,56 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public Score_ doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch) {
+        MoveEvaluationTracer<Solution_> tracer = moveEvaluationTracer;
+        if (tracer != null) {
+            tracer.moveStarted();
+        }
         Move<Solution_> undoMove = move.doMove(this);
+        if (tracer != null) {
+            tracer.stageEnded(MoveEvaluationStage.DO_MOVE);
+        }
         Score_ score = calculateScore();
+        if (tracer != null) {
+            tracer.stageEnded(MoveEvaluationStage.SCORE_CALCULATION);
+        }
         if (assertMoveScoreFromScratch) {
             assertWorkingScoreFromScratch(score, move);
         }
+        if (tracer != null) {
+            tracer.stageEnded(MoveEvaluationStage.MOVE_PROCESSING);
+        }
         undoMove.doMove(this);
+        if (tracer != null) {
+            tracer.moveEnded(move);
+        }
         return score;
     }
 
     @Override
     public void doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch, Consumer<Score_> moveProcessor) {
+        MoveEvaluationTracer<Solution_> tracer = moveEvaluationTracer;
+        if (tracer != null) {
+            tracer.moveStarted();
+        }
         Move<Solution_> undoMove = move.doMove(this);
+        if (tracer != null) {
+            tracer.stageEnded(MoveEvaluationStage.DO_MOVE);
+        }
         Score_ score = calculateScore();
+        if (tracer != null) {
+            tracer.stageEnded(MoveEvaluationStage.SCORE_CALCULATION);
+        }
         if (assertMoveScoreFromScratch) {
             assertWorkingScoreFromScratch(score, move);
         }
         moveProcessor.accept(score);
+        if (tracer != null) {
+            tracer.stageEnded(MoveEvaluationStage.MOVE_PROCESSING);
+        }
         undoMove.doMove(this);
+        if (tracer != null) {
+            tracer.moveEnded(move);
+        }
     }
 
     @Override
@@ -293,7 +356,14 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void triggerVariableListeners() {
-        variableListenerSupport.triggerVariableListenersInNotificationQueues();
+        MoveEvaluationTracer<Solution_> tracer = moveEvaluationTracer;
+        if (tracer == null) {
+            variableListenerSupport.triggerVariableListenersInNotificationQueues();
+        } else {
+            long startNanos = System.nanoTime();
+            variableListenerSupport.triggerVariableListenersInNotificationQueues();
+            tracer.variableListenersTriggered(System.nanoTime() - startNanos);
+        }
     }
 
     protected void setCalculatedScore(Score_ score) {
@@ -314,12 +384,12 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public InnerScoreDirector<Solution_, Score_> createChildThreadScoreDirector(ChildThreadType childThreadType) {
-        if (childThreadType == ChildThreadType.PART_THREAD) {
+        if (childThreadType == ChildThreadType.PART_THREAD || childThreadType == ChildThreadType.ISLAND_THREAD) {
             AbstractScoreDirector<Solution_, Score_, Factory_> childThreadScoreDirector =
                     (AbstractScoreDirector<Solution_, Score_, Factory_>) scoreDirectorFactory
                             .buildScoreDirector(isLookUpEnabled(), constraintMatchEnabledPreference);
             // ScoreCalculationCountTermination takes into account previous phases
-            // but the calculationCount of partitions is maxed, not summed.
+            // but the calculationCount of partitions and islands is maxed, not summed.
             childThreadScoreDirector.calculationCount = calculationCount;
             return childThreadScoreDirector;
         } else if (childThreadType == ChildThreadType.MOVE_THREAD) {
@@ -342,6 +412,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (lookUpEnabled) {
             lookUpManager.clearWorkingObjects();
         }
+        if (ordinalManager != null) {
+            ordinalManager.clearWorkingObjects();
+        }
         variableListenerSupport.clearWorkingSolution();
     }
 
@@ -389,9 +462,13 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     public void afterEntityAdded(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
         workingInitScore -= entityDescriptor.countUninitializedVariables(entity);
+        workingInitScore += countListVariableValues(entityDescriptor, entity);
         if (lookUpEnabled) {
             lookUpManager.addWorkingObject(entity);
         }
+        if (ordinalManager != null) {
+            ordinalManager.addWorkingObject(entity);
+        }
         variableListenerSupport.afterEntityAdded(entityDescriptor, entity);
         if (!allChangesWillBeUndoneBeforeStepEnds) {
             setWorkingEntityListDirty();
@@ -402,18 +479,41 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     public void beforeVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
         if (variableDescriptor.isGenuineAndUninitialized(entity)) {
             workingInitScore++;
+        } else if (variableDescriptor instanceof ListVariableDescriptor) {
+            // Until afterVariableChanged(), the planning values in the list count as unassigned
+            workingInitScore -= ((ListVariableDescriptor<Solution_>) variableDescriptor).getListSize(entity);
         }
-        variableListenerSupport.beforeVariableChanged(variableDescriptor, entity);
+        variableListenerSupport.beforeVariableChanged(variableDescriptor, entity, listVariableChangeFromIndex);
     }
 
     @Override
     public void afterVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
         if (variableDescriptor.isGenuineAndUninitialized(entity)) {
             workingInitScore--;
+        } else if (variableDescriptor instanceof ListVariableDescriptor) {
+            workingInitScore += ((ListVariableDescriptor<Solution_>) variableDescriptor).getListSize(entity);
         }
         variableListenerSupport.afterVariableChanged(variableDescriptor, entity);
     }
 
+    @Override
+    public void beforeListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex) {
+        // Through beforeVariableChanged(), which the subclasses override to notify their score calculation
+        listVariableChangeFromIndex = fromIndex;
+        try {
+            beforeVariableChanged(variableDescriptor, entity);
+        } finally {
+            listVariableChangeFromIndex = 0;
+        }
+    }
+
+    @Override
+    public void afterListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex) {
+        afterVariableChanged(variableDescriptor, entity);
+    }
+
     @Override
     public void changeVariableFacade(VariableDescriptor<Solution_> variableDescriptor, Object entity, Object newValue) {
         beforeVariableChanged(variableDescriptor, entity);
@@ -423,14 +523,32 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     public void beforeEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
         workingInitScore += entityDescriptor.countUninitializedVariables(entity);
+        workingInitScore -= countListVariableValues(entityDescriptor, entity);
         variableListenerSupport.beforeEntityRemoved(entityDescriptor, entity);
     }
 
+    private int countListVariableValues(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        if (!entityDescriptor.hasAnyListVariables()) {
+            return 0;
+        }
+        int count = 0;
+        for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor.getGenuineVariableDescriptors()) {
+            if (variableDescriptor.isListVariable()) {
+                count += ((ListVariableDescriptor<Solution_>) variableDescriptor).getListSize(entity);
+            }
+        }
+        return count;
+    }
+
     public void afterEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
         if (lookUpEnabled) {
             lookUpManager.removeWorkingObject(entity);
         }
         variableListenerSupport.afterEntityRemoved(entityDescriptor, entity);
+        // After the variable listeners, so they can still use the removed entity's ordinal
+        if (ordinalManager != null) {
+            ordinalManager.removeWorkingObject(entity);
+        }
         if (!allChangesWillBeUndoneBeforeStepEnds) {
             setWorkingEntityListDirty();
         }
@@ -450,6 +568,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (lookUpEnabled) {
             lookUpManager.addWorkingObject(problemFact);
         }
+        if (ordinalManager != null) {
+            ordinalManager.addWorkingObject(problemFact);
+        }
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
     }
 
@@ -460,6 +581,10 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void afterProblemPropertyChanged(Object problemFactOrEntity) {
+        if (ordinalManager != null) {
+            // For example a nearby distance matrix that measured the old property values
+            ordinalManager.markWorkingObjectChanged();
+        }
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
     }
 
@@ -473,6 +598,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (lookUpEnabled) {
             lookUpManager.removeWorkingObject(problemFact);
         }
+        if (ordinalManager != null) {
+            ordinalManager.removeWorkingObject(problemFact);
+        }
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
     }
 
@@ -32,12 +32,17 @@ import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.impl.domain.ordinal.OrdinalManager;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.ListVariableListener;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
+import org.optaplanner.core.impl.solver.trace.MoveEvaluationStage;
+import org.optaplanner.core.impl.solver.trace.MoveEvaluationTracer;
 
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
@@ -112,6 +117,12 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     long getWorkingEntityListRevision();
 
+    /**
+     * @param moveEvaluationTracer null to disable tracing,
+     *        otherwise it is notified of the {@link MoveEvaluationStage}s of every {@link #doAndProcessMove} call
+     */
+    void setMoveEvaluationTracer(MoveEvaluationTracer<Solution_> moveEvaluationTracer);
+
     /**
      * @param move never null
      * @param assertMoveScoreFromScratch true will hurt performance
@@ -126,6 +137,25 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     void doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch, Consumer<Score_> moveProcessor);
 
+    /**
+     * Like {@link #doAndProcessMove(Move, boolean, Consumer)},
+     * but the score calculation can stop early (for example after the hard constraints)
+     * if the score is known to be worse than the rejectionThreshold.
+     * <p>
+     * The default implementation always calculates the entire score.
+     *
+     * @param move never null
+     * @param assertMoveScoreFromScratch true will hurt performance, true also disables the early rejection
+     * @param rejectionThreshold sometimes null, if null the entire score is always calculated
+     * @param moveProcessor never null, use this to store the score as well as call the acceptor and forager
+     * @param rejectedMoveProcessor never null, called instead of the moveProcessor
+     *        if the score calculation stopped early because the score is worse than the rejectionThreshold
+     */
+    default void doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch, Score_ rejectionThreshold,
+            Consumer<Score_> moveProcessor, Runnable rejectedMoveProcessor) {
+        doAndProcessMove(move, assertMoveScoreFromScratch, moveProcessor);
+    }
+
     /**
      * @param expectedWorkingEntityListRevision an
      * @return true if the entityList might have a different set of instances now
@@ -191,6 +221,13 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     SupplyManager<Solution_> getSupplyManager();
 
+    /**
+     * Created (and filled) on the first call, so a score director that never uses ordinals doesn't maintain them.
+     *
+     * @return never null, the dense ordinals of the planning entities and problem facts of the working solution
+     */
+    OrdinalManager getOrdinalManager();
+
     /**
      * Clones this {@link ScoreDirector} and its {@link PlanningSolution working solution}.
      * Use {@link #getWorkingSolution()} to retrieve the {@link PlanningSolution working solution} of that clone.
@@ -211,6 +248,12 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     void setAllChangesWillBeUndoneBeforeStepEnds(boolean allChangesWillBeUndoneBeforeStepEnds);
 
+    /**
+     * @return true if the current changes are evaluated moves, which will be undone before the step ends,
+     *         so step (or higher) mechanisms can ignore them
+     */
+    boolean isAllChangesWillBeUndoneBeforeStepEnds();
+
     /**
      * Asserts that if the {@link Score} is calculated for the current {@link PlanningSolution working solution}
      * in the current {@link ScoreDirector} (with possibly incremental calculation residue),
@@ -295,6 +338,24 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
 
     void afterVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity);
 
+    /**
+     * Like {@link #beforeVariableChanged(VariableDescriptor, Object)},
+     * but the elements of the entity's list before the fromIndex do not change,
+     * so a {@link ListVariableListener} only needs to update the rest of the list.
+     *
+     * @param variableDescriptor never null
+     * @param entity never null
+     * @param fromIndex {@code >= 0}, the lowest index of the list that changes
+     */
+    void beforeListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity, int fromIndex);
+
+    /**
+     * @param variableDescriptor never null
+     * @param entity never null
+     * @param fromIndex {@code >= 0}, the same as in {@link #beforeListVariableChanged}
+     */
+    void afterListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity, int fromIndex);
+
     void changeVariableFacade(VariableDescriptor<Solution_> variableDescriptor, Object entity, Object newValue);
 
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.kie.api.KieBase;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+/**
+ * Holds the parts of a {@link InnerScoreDirectorFactory} which are expensive to build and immutable once built,
+ * such as the {@link SolutionDescriptor} and a compiled {@link KieBase},
+ * so all {@link Solver}s of the same {@link SolverFactory} share them.
+ * Every {@link Solver} still builds its own {@link InnerScoreDirectorFactory}, with its own score calculator instance.
+ * <p>
+ * Every part is keyed by the configuration it is built from,
+ * so a configuration that changed since the previous {@link SolverFactory#buildSolver()} builds that part again.
+ * Only the latest part of each kind is kept.
+ */
+public final class ScoreDirectorFactoryCache {
+
+    private final Map<String, KeyedPart> partMap = new HashMap<>(4);
+
+    /**
+     * @param partName never null, the kind of part
+     * @param key never null, the configuration the part is built from, compared with {@link List#equals(Object)}
+     * @param partBuilder never null, only called if this kind of part isn't cached yet for that key
+     * @param <Part_> the part type
+     * @return never null
+     */
+    public synchronized <Part_> Part_ computeIfAbsent(String partName, List<?> key, Supplier<Part_> partBuilder) {
+        KeyedPart keyedPart = partMap.get(partName);
+        if (keyedPart == null || !keyedPart.key.equals(key)) {
+            keyedPart = new KeyedPart(key, partBuilder.get());
+            partMap.put(partName, keyedPart);
+        }
+        return (Part_) keyedPart.part;
+    }
+
+    private static final class KeyedPart {
+
+        private final List<?> key;
+        private final Object part;
+
+        private KeyedPart(List<?> key, Object part) {
+            this.key = key;
+            this.part = part;
+        }
+
+    }
+
+}
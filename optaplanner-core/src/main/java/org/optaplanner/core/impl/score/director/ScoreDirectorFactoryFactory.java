@@ -20,6 +20,8 @@ import static org.apache.commons.lang3.ObjectUtils.defaultIfNull;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -57,9 +59,19 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
     private static final String GENERATE_DROOLS_TEST_ON_ERROR_PROPERTY_NAME = "optaplanner.drools.generateTestOnError";
 
     private final ScoreDirectorFactoryConfig config;
+    private final ScoreDirectorFactoryCache cache;
 
     public ScoreDirectorFactoryFactory(ScoreDirectorFactoryConfig config) {
+        this(config, null);
+    }
+
+    /**
+     * @param config never null
+     * @param cache sometimes null, shares the expensive immutable parts with other score director factories
+     */
+    public ScoreDirectorFactoryFactory(ScoreDirectorFactoryConfig config, ScoreDirectorFactoryCache cache) {
         this.config = config;
+        this.cache = cache;
     }
 
     public InnerScoreDirectorFactory<Solution_, Score_> buildScoreDirectorFactory(ClassLoader classLoader,
@@ -191,13 +203,29 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
                         "The constraintProviderClass (" + config.getConstraintProviderClass()
                                 + ") does not implement " + ConstraintProvider.class.getSimpleName() + ".");
             }
-            ConstraintProvider constraintProvider = ConfigUtils.newInstance(config,
-                    "constraintProviderClass", config.getConstraintProviderClass());
-            ConfigUtils.applyCustomProperties(constraintProvider, "constraintProviderClass",
-                    config.getConstraintProviderCustomProperties(), "constraintProviderCustomProperties");
+            // Bavet updates the whole entity of a changed list, so it recalculates every constraint on that entity
             ConstraintStreamImplType constraintStreamImplType_ = defaultIfNull(config.getConstraintStreamImplType(),
-                    ConstraintStreamImplType.DROOLS);
-            return new ConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider,
+                    solutionDescriptor.hasListVariable() ? ConstraintStreamImplType.BAVET
+                            : ConstraintStreamImplType.DROOLS);
+            if (solutionDescriptor.hasListVariable() && constraintStreamImplType_ != ConstraintStreamImplType.BAVET) {
+                throw new UnsupportedOperationException("The constraintProviderClass ("
+                        + config.getConstraintProviderClass() + ") with a constraintStreamImplType ("
+                        + constraintStreamImplType_
+                        + ") does not support a planning solution with a list variable ("
+                        + solutionDescriptor.getListVariableDescriptors() + ") yet.\n"
+                        + "Maybe use the constraintStreamImplType (" + ConstraintStreamImplType.BAVET + ") instead.");
+            }
+            if (cache != null && constraintStreamImplType_ == ConstraintStreamImplType.DROOLS) {
+                // The constraints are compiled into a KieBase, which is too expensive to build for every solver
+                List<?> key = Arrays.asList(solutionDescriptor, config.getConstraintProviderClass(),
+                        copyMap(config.getConstraintProviderCustomProperties()));
+                ConstraintStreamScoreDirectorFactory<Solution_, Score_> sharedScoreDirectorFactory =
+                        cache.computeIfAbsent("constraintStreams", key,
+                                () -> new ConstraintStreamScoreDirectorFactory<>(solutionDescriptor,
+                                        buildConstraintProvider(), constraintStreamImplType_));
+                return new ConstraintStreamScoreDirectorFactory<>(sharedScoreDirectorFactory);
+            }
+            return new ConstraintStreamScoreDirectorFactory<>(solutionDescriptor, buildConstraintProvider(),
                     constraintStreamImplType_);
         } else {
             if (config.getConstraintProviderCustomProperties() != null) {
@@ -209,6 +237,14 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
         }
     }
 
+    private ConstraintProvider buildConstraintProvider() {
+        ConstraintProvider constraintProvider = ConfigUtils.newInstance(config,
+                "constraintProviderClass", config.getConstraintProviderClass());
+        ConfigUtils.applyCustomProperties(constraintProvider, "constraintProviderClass",
+                config.getConstraintProviderCustomProperties(), "constraintProviderCustomProperties");
+        return constraintProvider;
+    }
+
     protected IncrementalScoreDirectorFactory<Solution_, Score_> buildIncrementalScoreDirectorFactory(
             SolutionDescriptor<Solution_> solutionDescriptor) {
         if (config.getIncrementalScoreCalculatorClass() != null) {
@@ -252,6 +288,27 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
             return null;
         }
 
+        KieBase kieBase;
+        if (cache != null) {
+            List<?> key = Arrays.asList(classLoader, copyList(config.getScoreDrlList()),
+                    copyList(config.getScoreDrlFileList()));
+            kieBase = cache.computeIfAbsent("scoreDrl", key, () -> buildKieBase(classLoader));
+        } else {
+            kieBase = buildKieBase(classLoader);
+        }
+        try {
+            if (generateDroolsTestOnError) {
+                return new TestGenDroolsScoreDirectorFactory<>(solutionDescriptor, kieBase, config.getScoreDrlList(),
+                        config.getScoreDrlFileList());
+            } else {
+                return new DroolsScoreDirectorFactory<>(solutionDescriptor, kieBase);
+            }
+        } catch (Exception ex) {
+            throw new IllegalStateException("There is an error in a scoreDrl or scoreDrlFile.", ex);
+        }
+    }
+
+    private KieBase buildKieBase(ClassLoader classLoader) {
         KieHelper kieHelper = new KieHelper(PropertySpecificOption.ALLOWED)
                 .setClassLoader(classLoader);
         if (!ConfigUtils.isEmptyCollection(config.getScoreDrlList())) {
@@ -269,18 +326,20 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
         }
 
         try {
-            KieBase kieBase = kieHelper.build(ExecutableModelProject.class, KieBaseMutabilityOption.DISABLED);
-            if (generateDroolsTestOnError) {
-                return new TestGenDroolsScoreDirectorFactory<>(solutionDescriptor, kieBase, config.getScoreDrlList(),
-                        config.getScoreDrlFileList());
-            } else {
-                return new DroolsScoreDirectorFactory<>(solutionDescriptor, kieBase);
-            }
+            return kieHelper.build(ExecutableModelProject.class, KieBaseMutabilityOption.DISABLED);
         } catch (Exception ex) {
             throw new IllegalStateException("There is an error in a scoreDrl or scoreDrlFile.", ex);
         }
     }
 
+    private static <E> List<E> copyList(List<E> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    private static <K, V> Map<K, V> copyMap(Map<K, V> map) {
+        return map == null ? null : new HashMap<>(map);
+    }
+
     protected KieBaseConfiguration buildKieBaseConfiguration(KieServices kieServices) {
         KieBaseConfiguration kieBaseConfiguration = kieServices.newKieBaseConfiguration();
         if (config.getKieBaseConfigurationProperties() != null) {
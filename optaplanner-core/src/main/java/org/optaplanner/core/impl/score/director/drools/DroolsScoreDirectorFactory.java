@@ -121,6 +121,10 @@ public class DroolsScoreDirectorFactory<Solution_, Score_ extends Score<Score_>>
         }
     }
 
+    public KieBase getKieBase() {
+        return kieBase;
+    }
+
     public Map<Rule, Function<Solution_, Score_>> getRuleToConstraintWeightExtractorMap() {
         return ruleToConstraintWeightExtractorMap;
     }
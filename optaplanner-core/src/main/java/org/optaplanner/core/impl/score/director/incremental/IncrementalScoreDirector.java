@@ -20,20 +20,30 @@ import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.calculator.ConstraintMatchAwareIncrementalScoreCalculator;
 import org.optaplanner.core.api.score.calculator.IncrementalScoreCalculator;
+import org.optaplanner.core.api.score.calculator.MovePeekingIncrementalScoreCalculator;
 import org.optaplanner.core.api.score.constraint.ConstraintMatch;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.PillarChangeMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.SwapMove;
 import org.optaplanner.core.impl.score.constraint.DefaultIndictment;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirector;
+import org.optaplanner.core.impl.solver.trace.MoveEvaluationStage;
+import org.optaplanner.core.impl.solver.trace.MoveEvaluationTracer;
 
 /**
  * Incremental java implementation of {@link ScoreDirector}, which only recalculates the {@link Score}
@@ -95,6 +105,127 @@ public class IncrementalScoreDirector<Solution_, Score_ extends Score<Score_>>
         return score;
     }
 
+    @Override
+    public Score_ doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch) {
+        MoveEvaluationTracer<Solution_> tracer = moveEvaluationTracer;
+        if (tracer != null) {
+            // Restarted by the super method if the move is done after all
+            tracer.moveStarted();
+        }
+        Score_ peekedScore = peekMoveScore(move);
+        if (peekedScore == null) {
+            return super.doAndProcessMove(move, assertMoveScoreFromScratch);
+        }
+        if (assertMoveScoreFromScratch) {
+            Score_ score = super.doAndProcessMove(move, true);
+            assertPeekedMoveScore(move, peekedScore, score);
+            return score;
+        }
+        if (tracer != null) {
+            tracer.stageEnded(MoveEvaluationStage.SCORE_CALCULATION);
+        }
+        setCalculatedScore(peekedScore);
+        if (tracer != null) {
+            tracer.stageEnded(MoveEvaluationStage.MOVE_PROCESSING);
+            tracer.movePeekEnded(move);
+        }
+        return peekedScore;
+    }
+
+    @Override
+    public void doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch,
+            Consumer<Score_> moveProcessor) {
+        MoveEvaluationTracer<Solution_> tracer = moveEvaluationTracer;
+        if (tracer != null) {
+            // Restarted by the super method if the move is done after all
+            tracer.moveStarted();
+        }
+        Score_ peekedScore = peekMoveScore(move);
+        if (peekedScore == null) {
+            super.doAndProcessMove(move, assertMoveScoreFromScratch, moveProcessor);
+        } else if (assertMoveScoreFromScratch) {
+            super.doAndProcessMove(move, true, score -> {
+                assertPeekedMoveScore(move, peekedScore, score);
+                moveProcessor.accept(score);
+            });
+        } else {
+            if (tracer != null) {
+                tracer.stageEnded(MoveEvaluationStage.SCORE_CALCULATION);
+            }
+            setCalculatedScore(peekedScore);
+            moveProcessor.accept(peekedScore);
+            if (tracer != null) {
+                tracer.stageEnded(MoveEvaluationStage.MOVE_PROCESSING);
+                tracer.movePeekEnded(move);
+            }
+        }
+    }
+
+    /**
+     * @param move never null
+     * @return null if the {@link IncrementalScoreCalculator} isn't a {@link MovePeekingIncrementalScoreCalculator}
+     *         or if it cannot predict the score of that move, in which case the move must be done and undone
+     */
+    protected Score_ peekMoveScore(Move<Solution_> move) {
+        if (!(incrementalScoreCalculator instanceof MovePeekingIncrementalScoreCalculator) || workingInitScore != 0) {
+            return null;
+        }
+        MovePeekingIncrementalScoreCalculator<Solution_, Score_> peekingScoreCalculator =
+                (MovePeekingIncrementalScoreCalculator<Solution_, Score_>) incrementalScoreCalculator;
+        Class<?> moveClass = move.getClass();
+        Score_ score;
+        // Subclasses, such as ChainedChangeMove, might do more than the generic move, so they are not peeked
+        if (moveClass == ChangeMove.class) {
+            ChangeMove<Solution_> changeMove = (ChangeMove<Solution_>) move;
+            if (!isPeekable(changeMove.getVariableDescriptor())) {
+                return null;
+            }
+            score = peekingScoreCalculator.peekChangeMove(changeMove.getEntity(),
+                    changeMove.getVariableName(), changeMove.getToPlanningValue());
+        } else if (moveClass == SwapMove.class) {
+            SwapMove<Solution_> swapMove = (SwapMove<Solution_>) move;
+            List<GenuineVariableDescriptor<Solution_>> variableDescriptorList = swapMove.getVariableDescriptorList();
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
+                if (!isPeekable(variableDescriptor)) {
+                    return null;
+                }
+            }
+            score = peekingScoreCalculator.peekSwapMove(swapMove.getLeftEntity(), swapMove.getRightEntity(),
+                    swapMove.getVariableNameList());
+        } else if (moveClass == PillarChangeMove.class) {
+            PillarChangeMove<Solution_> pillarChangeMove = (PillarChangeMove<Solution_>) move;
+            if (!isPeekable(pillarChangeMove.getVariableDescriptor())) {
+                return null;
+            }
+            score = peekingScoreCalculator.peekPillarChangeMove(pillarChangeMove.getPillar(),
+                    pillarChangeMove.getVariableName(), pillarChangeMove.getToPlanningValue());
+        } else {
+            return null;
+        }
+        if (score != null && !score.isSolutionInitialized()) {
+            throw new IllegalStateException("The score (" + score + ")'s initScore (" + score.getInitScore()
+                    + ") should be 0.\n"
+                    + "Maybe the score calculator (" + incrementalScoreCalculator.getClass() + ") is calculating "
+                    + "the initScore too, although it's the score director's responsibility.");
+        }
+        return score;
+    }
+
+    private boolean isPeekable(GenuineVariableDescriptor<Solution_> variableDescriptor) {
+        // A shadow variable would have to be updated by its variable listener before the score can be calculated
+        return !variableDescriptor.isChained() && variableDescriptor.getSinkVariableDescriptorList().isEmpty();
+    }
+
+    private void assertPeekedMoveScore(Move<Solution_> move, Score_ peekedScore, Score_ score) {
+        if (!peekedScore.equals(score)) {
+            throw new IllegalStateException("Score corruption (" + peekedScore.subtract(score).toShortString()
+                    + "): the peekedScore (" + peekedScore + ") is not the workingScore (" + score
+                    + ") after doing the move (" + move + ").\n"
+                    + "Check the peek methods of the score calculator (" + incrementalScoreCalculator.getClass()
+                    + ") for that move type (" + move.getClass().getSimpleName() + ").");
+        }
+    }
+
     @Override
     public boolean isConstraintMatchEnabled() {
         return constraintMatchEnabledPreference
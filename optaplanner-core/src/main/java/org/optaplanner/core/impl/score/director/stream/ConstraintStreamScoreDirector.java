@@ -18,6 +18,7 @@ package org.optaplanner.core.impl.score.director.stream;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
@@ -26,8 +27,11 @@ import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirector;
 import org.optaplanner.core.impl.score.stream.ConstraintSession;
+import org.optaplanner.core.impl.solver.trace.MoveEvaluationStage;
+import org.optaplanner.core.impl.solver.trace.MoveEvaluationTracer;
 
 /**
  * FP streams implementation of {@link ScoreDirector}, which only recalculates the {@link Score}
@@ -76,6 +80,43 @@ public class ConstraintStreamScoreDirector<Solution_, Score_ extends Score<Score
         return score;
     }
 
+    @Override
+    public void doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch, Score_ rejectionThreshold,
+            Consumer<Score_> moveProcessor, Runnable rejectedMoveProcessor) {
+        if (rejectionThreshold == null || assertMoveScoreFromScratch) {
+            doAndProcessMove(move, assertMoveScoreFromScratch, moveProcessor);
+            return;
+        }
+        MoveEvaluationTracer<Solution_> tracer = moveEvaluationTracer;
+        if (tracer != null) {
+            tracer.moveStarted();
+        }
+        Move<Solution_> undoMove = move.doMove(this);
+        if (tracer != null) {
+            tracer.stageEnded(MoveEvaluationStage.DO_MOVE);
+        }
+        variableListenerSupport.assertNotificationQueuesAreEmpty();
+        Score_ score = session.calculateScore(workingInitScore, rejectionThreshold);
+        if (tracer != null) {
+            tracer.stageEnded(MoveEvaluationStage.SCORE_CALCULATION);
+        }
+        if (score == null) {
+            // The working solution keeps its previous score, which is correct again after the undo move
+            calculationCount++;
+            rejectedMoveProcessor.run();
+        } else {
+            setCalculatedScore(score);
+            moveProcessor.accept(score);
+        }
+        if (tracer != null) {
+            tracer.stageEnded(MoveEvaluationStage.MOVE_PROCESSING);
+        }
+        undoMove.doMove(this);
+        if (tracer != null) {
+            tracer.moveEnded(move);
+        }
+    }
+
     @Override
     public boolean isConstraintMatchEnabled() {
         return constraintMatchEnabledPreference;
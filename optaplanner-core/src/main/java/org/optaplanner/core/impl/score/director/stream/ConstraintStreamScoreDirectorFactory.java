@@ -77,6 +77,19 @@ public class ConstraintStreamScoreDirectorFactory<Solution_, Score_ extends Scor
                 (ConstraintSessionFactory<Solution_, Score_>) constraintFactory.buildSessionFactory(constraints);
     }
 
+    /**
+     * Shares the {@link Constraint}s and the {@link ConstraintSessionFactory} of another instance,
+     * for example to reuse its compiled rules, but none of the other settings of that instance.
+     *
+     * @param sharedScoreDirectorFactory never null
+     */
+    public ConstraintStreamScoreDirectorFactory(
+            ConstraintStreamScoreDirectorFactory<Solution_, Score_> sharedScoreDirectorFactory) {
+        super(sharedScoreDirectorFactory.getSolutionDescriptor());
+        this.constraintSessionFactory = sharedScoreDirectorFactory.constraintSessionFactory;
+        this.constraints = sharedScoreDirectorFactory.constraints;
+    }
+
     // ************************************************************************
     // Complex methods
     // ************************************************************************
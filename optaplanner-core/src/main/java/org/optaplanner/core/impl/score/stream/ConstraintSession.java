@@ -36,6 +36,21 @@ public interface ConstraintSession<Solution_, Score_ extends Score<Score_>> exte
 
     Score_ calculateScore(int initScore);
 
+    /**
+     * Like {@link #calculateScore(int)}, but an implementation can stop calculating
+     * as soon as the score is known to be worse than the rejectionThreshold.
+     * If it stops, the remaining changes are processed by the next score calculation.
+     * <p>
+     * The default implementation always calculates the entire score.
+     *
+     * @param initScore {@code <= 0}
+     * @param rejectionThreshold never null
+     * @return null if the score is worse than the rejectionThreshold, otherwise the same as {@link #calculateScore(int)}
+     */
+    default Score_ calculateScore(int initScore, Score_ rejectionThreshold) {
+        return calculateScore(initScore);
+    }
+
     /**
      * As defined by {@link InnerScoreDirector#getConstraintMatchTotalMap()}.
      *
@@ -57,6 +57,11 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
     private final Map<Class<?>, List<BavetFromUniNode<Object>>> effectiveClassToNodeListMap;
 
     private final List<Queue<BavetAbstractTuple>> nodeIndexToDirtyTupleQueueMap;
+    /**
+     * Null if there are too many score levels to calculate the score level by level.
+     */
+    private final long[] nodeIndexToLevelMask;
+    private final int levelsSize;
     private final Map<Object, List<BavetFromUniTuple<Object>>> fromTupleListMap;
 
     public BavetConstraintSession(boolean constraintMatchEnabled, ScoreDefinition<Score_> scoreDefinition,
@@ -66,7 +71,9 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
         scoreInliner = scoreDefinition.buildScoreInliner(constraintMatchEnabled);
         declaredClassToNodeMap = new HashMap<>(50);
         BavetNodeBuildPolicy<Solution_> buildPolicy = new BavetNodeBuildPolicy<>(this, constraintToWeightMap.size());
+        levelsSize = scoreDefinition.getLevelsSize();
         constraintToWeightMap.forEach((constraint, constraintWeight) -> {
+            buildPolicy.setCurrentLevelMask(buildLevelMask(constraintWeight));
             constraint.createNodes(buildPolicy, declaredClassToNodeMap, constraintWeight);
         });
         nodeIndexedNodeMap = buildPolicy.getCreatedNodes();
@@ -77,10 +84,38 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
         for (int i = 0; i < nodeCount; i++) {
             nodeIndexToDirtyTupleQueueMap.add(new ArrayDeque<>(1000));
         }
+        if (levelsSize <= Long.SIZE) {
+            nodeIndexToLevelMask = new long[nodeCount];
+            for (int i = 0; i < nodeCount; i++) {
+                nodeIndexToLevelMask[i] = buildPolicy.getLevelMask(i);
+            }
+        } else {
+            nodeIndexToLevelMask = null;
+        }
         fromTupleListMap = new IdentityHashMap<>(1000);
     }
 
+    private long buildLevelMask(Score_ constraintWeight) {
+        if (levelsSize > Long.SIZE) {
+            return 0L;
+        }
+        Number[] levelNumbers = constraintWeight.toLevelNumbers();
+        Number[] zeroLevelNumbers = zeroScore.toLevelNumbers();
+        long levelMask = 0L;
+        for (int i = 0; i < levelNumbers.length; i++) {
+            if (((Comparable) levelNumbers[i]).compareTo(zeroLevelNumbers[i]) != 0) {
+                levelMask |= 1L << i;
+            }
+        }
+        return levelMask;
+    }
+
     private static void refreshTuple(BavetAbstractTuple tuple) {
+        if (tuple.getState() == BavetTupleState.ABORTING) {
+            // It died before it was ever refreshed, so it has nothing to clean up
+            tuple.setState(BavetTupleState.DEAD);
+            return;
+        }
         tuple.getNode().refresh(tuple);
         switch (tuple.getState()) {
             case CREATING:
@@ -165,6 +200,8 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
                     tuple.setState(BavetTupleState.ABORTING);
                 } else if ((tuple.getState() == BavetTupleState.UPDATING && newState == BavetTupleState.DYING)) {
                     tuple.setState(BavetTupleState.DYING);
+                } else if ((tuple.getState() == BavetTupleState.CREATING && newState == BavetTupleState.UPDATING)) {
+                    // A level-wise score calculation can leave a created tuple dirty, its creation reads the latest facts
                 } else {
                     throw new IllegalStateException("The tuple (" + tuple
                             + ") already has a dirty state (" + tuple.getState()
@@ -181,16 +218,59 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
     @Override
     public Score_ calculateScore(int initScore) {
         for (int i = 0; i < nodeCount; i++) {
-            Queue<BavetAbstractTuple> queue = nodeIndexToDirtyTupleQueueMap.get(i);
-            BavetAbstractTuple tuple = queue.poll();
-            while (tuple != null) {
-                refreshTuple(tuple);
-                tuple = queue.poll();
-            }
+            refreshDirtyTuples(i);
         }
         return scoreInliner.extractScore(initScore);
     }
 
+    /**
+     * Refreshes the nodes of 1 score level at a time, starting with the highest level (for example the hard level),
+     * and stops as soon as a level is worse than the same level of the rejectionThreshold.
+     * <p>
+     * A node only feeds nodes with a higher node index and a subset of its level mask,
+     * so after refreshing all nodes that impact the levels {@code 0..i},
+     * those levels of the extracted score are exact, even if the other nodes still have dirty tuples.
+     * Those dirty tuples are refreshed by the next score calculation.
+     *
+     * @param initScore {@code <= 0}
+     * @param rejectionThreshold never null
+     * @return null if the score is worse than the rejectionThreshold
+     */
+    @Override
+    public Score_ calculateScore(int initScore, Score_ rejectionThreshold) {
+        if (nodeIndexToLevelMask == null || initScore > rejectionThreshold.getInitScore()) {
+            return calculateScore(initScore);
+        } else if (initScore < rejectionThreshold.getInitScore()) {
+            return null;
+        }
+        Number[] thresholdLevelNumbers = rejectionThreshold.toLevelNumbers();
+        for (int level = 0; level < levelsSize; level++) {
+            long levelBit = 1L << level;
+            for (int i = 0; i < nodeCount; i++) {
+                if ((nodeIndexToLevelMask[i] & levelBit) != 0L) {
+                    refreshDirtyTuples(i);
+                }
+            }
+            Number levelNumber = scoreInliner.extractScore(initScore).toLevelNumbers()[level];
+            int comparison = ((Comparable) levelNumber).compareTo(thresholdLevelNumbers[level]);
+            if (comparison < 0) {
+                return null;
+            } else if (comparison > 0) {
+                break;
+            }
+        }
+        return calculateScore(initScore);
+    }
+
+    private void refreshDirtyTuples(int nodeIndex) {
+        Queue<BavetAbstractTuple> queue = nodeIndexToDirtyTupleQueueMap.get(nodeIndex);
+        BavetAbstractTuple tuple = queue.poll();
+        while (tuple != null) {
+            refreshTuple(tuple);
+            tuple = queue.poll();
+        }
+    }
+
     @Override
     public Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalMap() {
         Map<String, ConstraintMatchTotal<Score_>> constraintMatchTotalMap =
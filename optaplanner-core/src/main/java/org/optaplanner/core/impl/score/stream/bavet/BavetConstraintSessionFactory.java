@@ -20,12 +20,25 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.stream.ConstraintSession;
 import org.optaplanner.core.impl.score.stream.ConstraintSessionFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetSingleEqualsIndex;
 
+/**
+ * Builds a {@link BavetConstraintSession} that interprets the node network of the constraint streams at runtime.
+ * <p>
+ * There is no ahead-of-time code generation of that node network into a specialized score calculator class:
+ * the filters, mappings and joiners are user lambdas, so generated code would still call them through
+ * their functional interfaces, without direct field accesses.
+ * Instead, the interpreted nodes are specialized for the common cases, such as {@link BavetSingleEqualsIndex}.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <Score_> the score type to go with the solution
+ */
 public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score<Score_>>
         implements ConstraintSessionFactory<Solution_, Score_> {
 
@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.bi;
 
+import java.util.Arrays;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
@@ -54,13 +55,22 @@ public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
         BavetJoinBridgeBiTuple<A, B> tuple = (BavetJoinBridgeBiTuple<A, B>) uncastTuple;
         A a = tuple.getFactA();
         B b = tuple.getFactB();
-        if (tuple.getState() != BavetTupleState.CREATING) {
-            // Clean up index
-            index.remove(tuple);
-        }
-        if (tuple.isActive()) {
+        if (tuple.getState() == BavetTupleState.UPDATING) {
             Object[] indexProperties = mapping.apply(a, b);
-            index.put(indexProperties, tuple);
+            // Most updates don't change the join key, so don't churn the index for them
+            if (!Arrays.equals(indexProperties, tuple.getIndexProperties())) {
+                index.remove(tuple);
+                index.put(indexProperties, tuple);
+            }
+        } else {
+            if (tuple.getState() != BavetTupleState.CREATING) {
+                // Clean up index
+                index.remove(tuple);
+            }
+            if (tuple.isActive()) {
+                Object[] indexProperties = mapping.apply(a, b);
+                index.put(indexProperties, tuple);
+            }
         }
         childTupleRefresher.accept(tuple);
     }
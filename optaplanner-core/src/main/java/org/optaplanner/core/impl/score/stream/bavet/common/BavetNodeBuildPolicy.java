@@ -37,6 +37,8 @@ public class BavetNodeBuildPolicy<Solution_> {
     private Map<BavetJoinConstraintStream<Solution_>, BavetJoinBridgeNode> joinConstraintStreamToJoinBridgeNodeMap =
             new HashMap<>();
     private Map<BavetAbstractNode, BavetAbstractNode> sharableNodeMap = new HashMap<>();
+    private long currentLevelMask = 0L;
+    private Map<Integer, Long> nodeIndexToLevelMaskMap = new HashMap<>();
 
     public BavetNodeBuildPolicy(BavetConstraintSession session, int constraintCount) {
         this.session = session;
@@ -49,6 +51,7 @@ public class BavetNodeBuildPolicy<Solution_> {
             // We are throwing away the new instance; throw away the new index, too.
             nextNodeIndex = node.getNodeIndex();
         }
+        nodeIndexToLevelMaskMap.merge(sharedNode.getNodeIndex(), currentLevelMask, (a, b) -> a | b);
         return sharedNode;
     }
 
@@ -64,6 +67,22 @@ public class BavetNodeBuildPolicy<Solution_> {
         return session;
     }
 
+    /**
+     * @param currentLevelMask a bit mask of the score levels impacted by the constraint whose nodes are created next,
+     *        bit {@code i} is set if the constraint weight is non-zero on score level {@code i}
+     */
+    public void setCurrentLevelMask(long currentLevelMask) {
+        this.currentLevelMask = currentLevelMask;
+    }
+
+    /**
+     * @param nodeIndex {@code 0 <= nodeIndex < }{@link #getCreatedNodes()}{@code .size()}
+     * @return the union of the level masks of all constraints that share that node
+     */
+    public long getLevelMask(int nodeIndex) {
+        return nodeIndexToLevelMaskMap.getOrDefault(nodeIndex, 0L);
+    }
+
     public int nextNodeIndex() {
         return nextNodeIndex++;
     }
@@ -45,6 +45,9 @@ public class BavetIndexFactory {
         }
         JoinerType lastJoinerType = joinerTypes[joinerTypes.length - 1];
         if (lastJoinerType == JoinerType.EQUAL) {
+            if (joinerTypes.length == 1) {
+                return new BavetSingleEqualsIndex<>();
+            }
             return new BavetEqualsIndex<>();
         } else {
             // Use flip() to model A < B as B > A
@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.uni;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
@@ -60,13 +61,22 @@ public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
     public void refresh(BavetAbstractTuple uncastTuple) {
         BavetJoinBridgeUniTuple<A> tuple = (BavetJoinBridgeUniTuple<A>) uncastTuple;
         A a = tuple.getFactA();
-        if (tuple.getState() != BavetTupleState.CREATING) {
-            // Clean up index
-            index.remove(tuple);
-        }
-        if (tuple.isActive()) {
+        if (tuple.getState() == BavetTupleState.UPDATING) {
             Object[] indexProperties = mapping.apply(a);
-            index.put(indexProperties, tuple);
+            // Most updates don't change the join key, so don't churn the index for them
+            if (!Arrays.equals(indexProperties, tuple.getIndexProperties())) {
+                index.remove(tuple);
+                index.put(indexProperties, tuple);
+            }
+        } else {
+            if (tuple.getState() != BavetTupleState.CREATING) {
+                // Clean up index
+                index.remove(tuple);
+            }
+            if (tuple.isActive()) {
+                Object[] indexProperties = mapping.apply(a);
+                index.put(indexProperties, tuple);
+            }
         }
         childTupleRefresher.accept(tuple);
     }
@@ -19,6 +19,8 @@ package org.optaplanner.core.impl.score.stream.drools;
 import static java.util.stream.Collectors.toMap;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
@@ -46,22 +48,38 @@ import org.optaplanner.core.impl.score.stream.ConstraintSessionFactory;
 public final class DroolsConstraintSessionFactory<Solution_, Score_ extends Score<Score_>>
         implements ConstraintSessionFactory<Solution_, Score_> {
 
+    /**
+     * Every {@link KieBase} holds its own compiled network, so only the most recently used ones are kept.
+     */
+    static final int KIE_BASE_CACHE_SIZE = 8;
+
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final Model originalModel;
     private final KieBase originalKieBase;
     private final Map<Rule, DroolsConstraint<Solution_>> compiledRuleToConstraintMap;
     private final Map<String, org.drools.model.Rule> constraintToModelRuleMap;
-    private KieBase currentKieBase;
-    private Set<String> currentlyDisabledConstraintIdSet = null;
+    /**
+     * Shared by all solvers of the same solver factory, so solvers with the same disabled constraints
+     * (for example all solvers of a {@link org.optaplanner.core.api.solver.SolverManager})
+     * don't each compile their own {@link KieBase}.
+     * A solver factory can outlive many problems with different constraint weights,
+     * so it evicts the least recently used {@link KieBase} beyond {@link #KIE_BASE_CACHE_SIZE}.
+     */
+    private final Map<Set<String>, KieBase> disabledConstraintIdSetToKieBaseMap = Collections.synchronizedMap(
+            new LinkedHashMap<Set<String>, KieBase>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Set<String>, KieBase> eldest) {
+                    return size() > KIE_BASE_CACHE_SIZE;
+                }
+            });
 
     public DroolsConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor, Model model,
             DroolsConstraint<Solution_>[] constraints) {
         this.solutionDescriptor = solutionDescriptor;
         this.originalModel = model;
         this.originalKieBase = buildKieBaseFromModel(model);
-        this.currentKieBase = originalKieBase;
         this.compiledRuleToConstraintMap = Arrays.stream(constraints)
-                .collect(toMap(constraint -> currentKieBase.getRule(constraint.getConstraintPackage(),
+                .collect(toMap(constraint -> originalKieBase.getRule(constraint.getConstraintPackage(),
                         constraint.getConstraintName()), Function.identity()));
         this.constraintToModelRuleMap = Arrays.stream(constraints)
                 .collect(toMap(Constraint::getConstraintId, constraint -> model.getRules().stream()
@@ -90,12 +108,19 @@ public final class DroolsConstraintSessionFactory<Solution_, Score_ extends Scor
                 disabledConstraintIdSet.add(constraint.getConstraintId());
             }
         });
-        // Determine the KieBase to use.
+        // Create the session itself.
+        KieSession kieSession = determineKieBase(disabledConstraintIdSet).newKieSession();
+        ((RuleEventManager) kieSession).addEventListener(new OptaPlannerRuleEventListener()); // Enables undo in rules.
+        kieSession.setGlobal(DroolsScoreDirector.GLOBAL_SCORE_HOLDER_KEY, scoreHolder);
+        return new DroolsConstraintSession<>(solutionDescriptor, kieSession, scoreHolder);
+    }
+
+    private KieBase determineKieBase(Set<String> disabledConstraintIdSet) {
         if (disabledConstraintIdSet.isEmpty()) { // Shortcut; don't change the original KieBase.
-            currentKieBase = originalKieBase;
-            currentlyDisabledConstraintIdSet = null;
-        } else if (!disabledConstraintIdSet.equals(currentlyDisabledConstraintIdSet)) {
-            // Only rebuild the active KieBase when the set of disabled constraints changed.
+            return originalKieBase;
+        }
+        // Only build another KieBase when this set of disabled constraints hasn't been seen recently.
+        return disabledConstraintIdSetToKieBaseMap.computeIfAbsent(disabledConstraintIdSet, key -> {
             ModelImpl model = new ModelImpl().withGlobals(originalModel.getGlobals());
             constraintToModelRuleMap.forEach((constraintId, modelRule) -> {
                 if (disabledConstraintIdSet.contains(constraintId)) {
@@ -103,14 +128,8 @@ public final class DroolsConstraintSessionFactory<Solution_, Score_ extends Scor
                 }
                 model.addRule(modelRule);
             });
-            currentKieBase = buildKieBaseFromModel(model);
-            currentlyDisabledConstraintIdSet = disabledConstraintIdSet;
-        }
-        // Create the session itself.
-        KieSession kieSession = currentKieBase.newKieSession();
-        ((RuleEventManager) kieSession).addEventListener(new OptaPlannerRuleEventListener()); // Enables undo in rules.
-        kieSession.setGlobal(DroolsScoreDirector.GLOBAL_SCORE_HOLDER_KEY, scoreHolder);
-        return new DroolsConstraintSession<>(solutionDescriptor, kieSession, scoreHolder);
+            return buildKieBaseFromModel(model);
+        });
     }
 
 }
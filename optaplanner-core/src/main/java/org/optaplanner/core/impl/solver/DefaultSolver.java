@@ -25,6 +25,7 @@ import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.ProblemFactChange;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheExecutor;
 import org.optaplanner.core.impl.phase.Phase;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
@@ -33,6 +34,8 @@ import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.solver.termination.BasicPlumbingTermination;
 import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.solver.trace.MoveEvaluationTraceListener;
+import org.optaplanner.core.impl.solver.trace.MoveEvaluationTracer;
 
 /**
  * Default implementation for {@link Solver}.
@@ -146,6 +149,38 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         return basicPlumbingTermination.isEveryProblemFactChangeProcessed();
     }
 
+    /**
+     * Enables the tracing of the move evaluations, which has a small overhead per move.
+     * Call this before {@link #solve(Object)}.
+     *
+     * @param moveEvaluationTraceListener never null
+     */
+    public void addMoveEvaluationTraceListener(MoveEvaluationTraceListener<Solution_> moveEvaluationTraceListener) {
+        MoveEvaluationTracer<Solution_> moveEvaluationTracer = solverScope.getMoveEvaluationTracer();
+        if (moveEvaluationTracer == null) {
+            moveEvaluationTracer = new MoveEvaluationTracer<>();
+            solverScope.setMoveEvaluationTracer(moveEvaluationTracer);
+        }
+        moveEvaluationTracer.addEventListener(moveEvaluationTraceListener);
+    }
+
+    /**
+     * Disables the tracing of the move evaluations when the last listener is removed.
+     *
+     * @param moveEvaluationTraceListener never null
+     * @see #addMoveEvaluationTraceListener(MoveEvaluationTraceListener)
+     */
+    public void removeMoveEvaluationTraceListener(MoveEvaluationTraceListener<Solution_> moveEvaluationTraceListener) {
+        MoveEvaluationTracer<Solution_> moveEvaluationTracer = solverScope.getMoveEvaluationTracer();
+        if (moveEvaluationTracer == null) {
+            return;
+        }
+        moveEvaluationTracer.removeEventListener(moveEvaluationTraceListener);
+        if (!moveEvaluationTracer.hasEventListeners()) {
+            solverScope.setMoveEvaluationTracer(null);
+        }
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -156,15 +191,24 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
             throw new IllegalArgumentException("The problem (" + problem + ") must not be null.");
         }
         solverScope.setBestSolution(problem);
-        outerSolvingStarted(solverScope);
-        boolean restartSolver = true;
-        while (restartSolver) {
-            solvingStarted(solverScope);
-            runPhases(solverScope);
-            solvingEnded(solverScope);
-            restartSolver = checkProblemFactChanges();
+        try {
+            outerSolvingStarted(solverScope);
+            boolean restartSolver = true;
+            while (restartSolver) {
+                solvingStarted(solverScope);
+                runPhases(solverScope);
+                solvingEnded(solverScope);
+                restartSolver = checkProblemFactChanges();
+            }
+            outerSolvingEnded(solverScope);
+        } finally {
+            // Also if solving fails, so no worker or clock thread outlives the solve() call
+            solverScope.releaseCoarseClocks();
+            SelectionCacheExecutor selectionCacheExecutor = solverScope.getSelectionCacheExecutor();
+            if (selectionCacheExecutor != null) {
+                selectionCacheExecutor.shutdown("");
+            }
         }
-        outerSolvingEnded(solverScope);
         return solverScope.getBestSolution();
     }
 
@@ -36,9 +36,11 @@ import org.optaplanner.core.config.solver.termination.TerminationConfig;
 import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
+import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheExecutor;
 import org.optaplanner.core.impl.phase.Phase;
 import org.optaplanner.core.impl.phase.PhaseFactory;
 import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
+import org.optaplanner.core.impl.score.director.ScoreDirectorFactoryCache;
 import org.optaplanner.core.impl.score.director.ScoreDirectorFactoryFactory;
 import org.optaplanner.core.impl.solver.random.DefaultRandomFactory;
 import org.optaplanner.core.impl.solver.random.RandomFactory;
@@ -48,6 +50,7 @@ import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.solver.termination.BasicPlumbingTermination;
 import org.optaplanner.core.impl.solver.termination.Termination;
 import org.optaplanner.core.impl.solver.termination.TerminationFactory;
+import org.optaplanner.core.impl.solver.thread.ChildThreadType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,6 +64,12 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
     private static final long DEFAULT_RANDOM_SEED = 0L;
 
     private final SolverConfig solverConfig;
+    /**
+     * Building a {@link InnerScoreDirectorFactory} can be expensive (for example compiling the Drools rules),
+     * so its immutable parts are shared by all {@link Solver}s of this factory,
+     * as long as the {@link SolverConfig} they are built from doesn't change.
+     */
+    private final ScoreDirectorFactoryCache scoreDirectorFactoryCache = new ScoreDirectorFactoryCache();
 
     public DefaultSolverFactory(SolverConfig solverConfig) {
         if (solverConfig == null) {
@@ -90,6 +99,10 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         HeuristicConfigPolicy<Solution_> configPolicy = new HeuristicConfigPolicy<>(environmentMode_,
                 moveThreadCount_, solverConfig.getMoveThreadBufferSize(), solverConfig.getThreadFactoryClass(),
                 scoreDirectorFactory);
+        if (moveThreadCount_ != null) {
+            solverScope.setSelectionCacheExecutor(new SelectionCacheExecutor(
+                    configPolicy.buildThreadFactory(ChildThreadType.MOVE_THREAD), moveThreadCount_));
+        }
         TerminationConfig terminationConfig_ = solverConfig.getTerminationConfig() == null
                 ? new TerminationConfig()
                 : solverConfig.getTerminationConfig();
@@ -104,15 +117,19 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
 
     /**
      * @param environmentMode never null
-     * @return never null
+     * @return never null, a new instance for every call, which might share immutable parts with earlier instances
      */
     public InnerScoreDirectorFactory<Solution_, ?> buildScoreDirectorFactory(EnvironmentMode environmentMode) {
-        SolutionDescriptor<Solution_> solutionDescriptor = buildSolutionDescriptor();
+        List<?> solutionDescriptorKey = Arrays.asList(solverConfig.determineDomainAccessType(),
+                solverConfig.getSolutionClass(),
+                solverConfig.getEntityClassList() == null ? null : new ArrayList<>(solverConfig.getEntityClassList()));
+        SolutionDescriptor<Solution_> solutionDescriptor = scoreDirectorFactoryCache.computeIfAbsent(
+                "solutionDescriptor", solutionDescriptorKey, this::buildSolutionDescriptor);
         ScoreDirectorFactoryConfig scoreDirectorFactoryConfig_ = solverConfig.getScoreDirectorFactoryConfig() == null
                 ? new ScoreDirectorFactoryConfig()
                 : solverConfig.getScoreDirectorFactoryConfig();
         ScoreDirectorFactoryFactory<Solution_, ?> scoreDirectorFactoryFactory =
-                new ScoreDirectorFactoryFactory<>(scoreDirectorFactoryConfig_);
+                new ScoreDirectorFactoryFactory<>(scoreDirectorFactoryConfig_, scoreDirectorFactoryCache);
         return scoreDirectorFactoryFactory.buildScoreDirectorFactory(solverConfig.getClassLoader(), environmentMode,
                 solutionDescriptor);
     }
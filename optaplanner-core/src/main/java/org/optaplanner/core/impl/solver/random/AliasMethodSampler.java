@@ -0,0 +1,172 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.random;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Samples an index in proportion to its weight in {@code O(1)}, with Vose's alias method.
+ * <p>
+ * The weights can be changed one by one with {@link #setWeight(int, double)}.
+ * The alias table is only rebuilt (in {@code O(n)}) on the next {@link #sample(Random)}
+ * if at least one weight actually changed.
+ * <p>
+ * If all weights are {@code 0.0}, it always samples the last index,
+ * just like the cumulative weight {@link java.util.NavigableMap} that the probability selectors used before,
+ * in which every item overwrote the previous one at offset {@code 0.0}.
+ */
+public final class AliasMethodSampler {
+
+    private int size = 0;
+    private double[] weights = new double[0];
+    private double weightTotal = 0.0;
+    private double[] probabilities = new double[0];
+    private int[] aliases = new int[0];
+    private boolean dirty = false;
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Grows or shrinks the number of weights.
+     * New weights are {@code 0.0} until {@link #setWeight(int, double)} is called.
+     *
+     * @param size {@code >= 0}
+     */
+    public void setSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The size (" + size + ") must be positive.");
+        }
+        if (size > weights.length) {
+            int capacity = Math.max(size, weights.length + (weights.length >> 1));
+            weights = Arrays.copyOf(weights, capacity);
+            probabilities = new double[capacity];
+            aliases = new int[capacity];
+        }
+        if (size < this.size) {
+            Arrays.fill(weights, size, this.size, 0.0);
+        }
+        if (size != this.size) {
+            this.size = size;
+            dirty = true;
+        }
+    }
+
+    public double getWeight(int index) {
+        return weights[index];
+    }
+
+    /**
+     * @param index {@code 0 <= index < size}
+     * @param weight {@code >= 0.0}
+     */
+    public void setWeight(int index, double weight) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("The index (" + index + ") must be lower than the size (" + size + ").");
+        }
+        if (!(weight >= 0.0)) {
+            throw new IllegalArgumentException("The weight (" + weight + ") for index (" + index
+                    + ") must be positive or zero.");
+        }
+        if (weights[index] != weight) {
+            weights[index] = weight;
+            dirty = true;
+        }
+    }
+
+    /**
+     * @param workingRandom never null
+     * @return {@code 0 <= index < size}, never an index with weight {@code 0.0},
+     *         unless all weights are {@code 0.0}, in which case the last index
+     */
+    public int sample(Random workingRandom) {
+        if (size == 0) {
+            throw new IllegalStateException("The size (" + size + ") must be positive to sample.");
+        }
+        if (dirty) {
+            rebuild();
+        }
+        if (weightTotal == 0.0) {
+            return size - 1;
+        }
+        // A single random double selects both the column and the coin flip within that column
+        double offset = workingRandom.nextDouble() * size;
+        int index = (int) offset;
+        if (index >= size) {
+            index = size - 1;
+        }
+        return (offset - index) < probabilities[index] ? index : aliases[index];
+    }
+
+    private void rebuild() {
+        dirty = false;
+        weightTotal = 0.0;
+        int largestIndex = -1;
+        for (int i = 0; i < size; i++) {
+            weightTotal += weights[i];
+            if (largestIndex < 0 || weights[i] > weights[largestIndex]) {
+                largestIndex = i;
+            }
+        }
+        if (!(weightTotal > 0.0)) {
+            return;
+        }
+        // The probabilities array doubles as the scaled weights: the average scaled weight is 1.0
+        int[] small = new int[size];
+        int[] large = new int[size];
+        int smallSize = 0;
+        int largeSize = 0;
+        for (int i = 0; i < size; i++) {
+            probabilities[i] = weights[i] * size / weightTotal;
+            if (probabilities[i] < 1.0) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+        while (smallSize > 0 && largeSize > 0) {
+            int lessIndex = small[--smallSize];
+            int moreIndex = large[--largeSize];
+            aliases[lessIndex] = moreIndex;
+            probabilities[moreIndex] = (probabilities[moreIndex] + probabilities[lessIndex]) - 1.0;
+            if (probabilities[moreIndex] < 1.0) {
+                small[smallSize++] = moreIndex;
+            } else {
+                large[largeSize++] = moreIndex;
+            }
+        }
+        while (largeSize > 0) {
+            int moreIndex = large[--largeSize];
+            probabilities[moreIndex] = 1.0;
+            aliases[moreIndex] = moreIndex;
+        }
+        // Only rounding errors leave small indexes behind
+        while (smallSize > 0) {
+            int lessIndex = small[--smallSize];
+            if (weights[lessIndex] > 0.0) {
+                probabilities[lessIndex] = 1.0;
+                aliases[lessIndex] = lessIndex;
+            } else {
+                probabilities[lessIndex] = 0.0;
+                aliases[lessIndex] = largestIndex;
+            }
+        }
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.solver.scope;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.Semaphore;
@@ -24,11 +25,15 @@ import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheExecutor;
+import org.optaplanner.core.impl.heuristic.selector.move.composite.AdaptiveUnionMoveSelector;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.termination.CoarseClock;
 import org.optaplanner.core.impl.solver.termination.Termination;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
+import org.optaplanner.core.impl.solver.trace.MoveEvaluationTracer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,6 +62,26 @@ public class SolverScope<Solution_> {
     protected volatile Score bestScore;
     protected Long bestSolutionTimeMillis;
 
+    /**
+     * The {@link AdaptiveUnionMoveSelector}s of the running phase, to monitor what they learned.
+     */
+    protected final List<AdaptiveUnionMoveSelector<Solution_>> adaptiveUnionMoveSelectorList = new ArrayList<>(0);
+
+    /**
+     * Null unless the move evaluations are traced.
+     */
+    protected MoveEvaluationTracer<Solution_> moveEvaluationTracer = null;
+
+    /**
+     * Null unless a moveThreadCount is configured.
+     */
+    protected SelectionCacheExecutor selectionCacheExecutor = null;
+
+    /**
+     * The {@link CoarseClock}s that are acquired at the moment, so they are released even if solving fails.
+     */
+    protected final List<CoarseClock> acquiredCoarseClockList = new ArrayList<>(0);
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -175,10 +200,63 @@ public class SolverScope<Solution_> {
         this.bestSolutionTimeMillis = bestSolutionTimeMillis;
     }
 
+    public List<AdaptiveUnionMoveSelector<Solution_>> getAdaptiveUnionMoveSelectorList() {
+        return adaptiveUnionMoveSelectorList;
+    }
+
+    public MoveEvaluationTracer<Solution_> getMoveEvaluationTracer() {
+        return moveEvaluationTracer;
+    }
+
+    public void setMoveEvaluationTracer(MoveEvaluationTracer<Solution_> moveEvaluationTracer) {
+        this.moveEvaluationTracer = moveEvaluationTracer;
+    }
+
+    public SelectionCacheExecutor getSelectionCacheExecutor() {
+        return selectionCacheExecutor;
+    }
+
+    public void setSelectionCacheExecutor(SelectionCacheExecutor selectionCacheExecutor) {
+        this.selectionCacheExecutor = selectionCacheExecutor;
+    }
+
     // ************************************************************************
     // Calculated methods
     // ************************************************************************
 
+    /**
+     * Every call must be followed by a call to {@link #releaseCoarseClock(CoarseClock)},
+     * unless solving fails, in which case {@link #releaseCoarseClocks()} releases it.
+     *
+     * @param coarseClock never null
+     */
+    public void acquireCoarseClock(CoarseClock coarseClock) {
+        coarseClock.acquire();
+        acquiredCoarseClockList.add(coarseClock);
+    }
+
+    /**
+     * Does nothing if the coarseClock isn't acquired through this solver scope (anymore).
+     *
+     * @param coarseClock never null
+     */
+    public void releaseCoarseClock(CoarseClock coarseClock) {
+        if (acquiredCoarseClockList.remove(coarseClock)) {
+            coarseClock.release();
+        }
+    }
+
+    /**
+     * Called in a finally block when solving ends, also if solving fails,
+     * so no {@link CoarseClock} keeps ticking for a solver that no longer runs.
+     */
+    public void releaseCoarseClocks() {
+        for (CoarseClock coarseClock : acquiredCoarseClockList) {
+            coarseClock.release();
+        }
+        acquiredCoarseClockList.clear();
+    }
+
     public void startingNow() {
         startingSystemTimeMillis = System.currentTimeMillis();
         endingSystemTimeMillis = null;
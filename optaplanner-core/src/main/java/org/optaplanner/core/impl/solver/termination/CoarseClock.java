@@ -0,0 +1,142 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.termination;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+
+/**
+ * A {@link Clock} that is ticked by a single shared daemon thread,
+ * so reading it is a volatile read instead of a system call.
+ * <p>
+ * Time-based {@link Termination}s are checked after every evaluated move,
+ * so they read this clock instead of {@link System#currentTimeMillis()}
+ * in exchange for an imprecision of about {@link #TICK_MILLIS} milliseconds.
+ * <p>
+ * The ticking thread only runs while at least 1 {@link Termination} has {@link #acquire() acquired} it.
+ * Otherwise {@link #millis()} falls back to {@link System#currentTimeMillis()}.
+ * A {@link Termination} (or another check that reads it for every move) acquires it
+ * through {@link SolverScope#acquireCoarseClock(CoarseClock)},
+ * so the solver releases it in a finally block, also if solving fails.
+ */
+public final class CoarseClock extends Clock {
+
+    public static final long TICK_MILLIS = 1L;
+
+    private static final CoarseClock INSTANCE = new CoarseClock();
+
+    public static CoarseClock getInstance() {
+        return INSTANCE;
+    }
+
+    // -1L if the tickThread is not running
+    private volatile long currentTimeMillis = -1L;
+
+    private int acquireCount = 0;
+    private Thread tickThread = null;
+
+    /**
+     * Use {@link #getInstance()} instead, so all {@link Termination}s share 1 ticking thread.
+     */
+    CoarseClock() {
+    }
+
+    /**
+     * Starts the ticking thread, unless it is already running.
+     * Every call must be followed by a call to {@link #release()}.
+     */
+    public synchronized void acquire() {
+        acquireCount++;
+        if (tickThread == null) {
+            currentTimeMillis = System.currentTimeMillis();
+            tickThread = new Thread(this::tick, "OptaPlannerCoarseClock");
+            tickThread.setDaemon(true);
+            tickThread.start();
+        }
+    }
+
+    /**
+     * Stops the ticking thread when nothing else has it {@link #acquire() acquired}.
+     */
+    public synchronized void release() {
+        if (acquireCount <= 0) {
+            throw new IllegalStateException("Impossible state: the " + getClass().getSimpleName()
+                    + " is released more often than it is acquired.");
+        }
+        acquireCount--;
+        if (acquireCount == 0) {
+            Thread stoppingThread = tickThread;
+            tickThread = null;
+            stoppingThread.interrupt();
+            // Join uninterruptibly, so a last tick can never overwrite the fallback marker
+            boolean interrupted = false;
+            while (stoppingThread.isAlive()) {
+                try {
+                    stoppingThread.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            currentTimeMillis = -1L;
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public synchronized boolean isTicking() {
+        return tickThread != null;
+    }
+
+    private void tick() {
+        while (!Thread.currentThread().isInterrupted()) {
+            currentTimeMillis = System.currentTimeMillis();
+            try {
+                Thread.sleep(TICK_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public long millis() {
+        long millis = currentTimeMillis;
+        return millis >= 0L ? millis : System.currentTimeMillis();
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis());
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        throw new UnsupportedOperationException("The " + getClass().getSimpleName()
+                + " does not support changing the zone (" + zone + ").");
+    }
+
+}
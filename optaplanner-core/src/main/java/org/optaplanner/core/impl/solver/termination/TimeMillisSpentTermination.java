@@ -16,6 +16,8 @@
 
 package org.optaplanner.core.impl.solver.termination;
 
+import java.time.Clock;
+
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
@@ -24,31 +26,57 @@ public class TimeMillisSpentTermination<Solution_> extends AbstractTermination<S
 
     private final long timeMillisSpentLimit;
 
+    private final Clock clock;
+
     public TimeMillisSpentTermination(long timeMillisSpentLimit) {
+        this(timeMillisSpentLimit, CoarseClock.getInstance());
+    }
+
+    protected TimeMillisSpentTermination(long timeMillisSpentLimit, Clock clock) {
         this.timeMillisSpentLimit = timeMillisSpentLimit;
         if (timeMillisSpentLimit < 0L) {
             throw new IllegalArgumentException("The timeMillisSpentLimit (" + timeMillisSpentLimit
                     + ") cannot be negative.");
         }
+        this.clock = clock;
     }
 
     public long getTimeMillisSpentLimit() {
         return timeMillisSpentLimit;
     }
 
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void solvingStarted(SolverScope<Solution_> solverScope) {
+        if (clock instanceof CoarseClock) {
+            solverScope.acquireCoarseClock((CoarseClock) clock);
+        }
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        if (clock instanceof CoarseClock) {
+            solverScope.releaseCoarseClock((CoarseClock) clock);
+        }
+    }
+
     // ************************************************************************
     // Terminated methods
     // ************************************************************************
 
     @Override
     public boolean isSolverTerminated(SolverScope<Solution_> solverScope) {
-        long solverTimeMillisSpent = solverScope.calculateTimeMillisSpentUpToNow();
+        // Called for every evaluated move, so it reads the (coarse) clock instead of the system time
+        long solverTimeMillisSpent = clock.millis() - solverScope.getStartingSystemTimeMillis();
         return isTerminated(solverTimeMillisSpent);
     }
 
     @Override
     public boolean isPhaseTerminated(AbstractPhaseScope<Solution_> phaseScope) {
-        long phaseTimeMillisSpent = phaseScope.calculatePhaseTimeMillisSpentUpToNow();
+        long phaseTimeMillisSpent = clock.millis() - phaseScope.getStartingSystemTimeMillis();
         return isTerminated(phaseTimeMillisSpent);
     }
 
@@ -43,7 +43,7 @@ public class UnimprovedTimeMillisSpentScoreDifferenceThresholdTermination<Soluti
     public UnimprovedTimeMillisSpentScoreDifferenceThresholdTermination(
             long unimprovedTimeMillisSpentLimit,
             Score unimprovedScoreDifferenceThreshold) {
-        this(unimprovedTimeMillisSpentLimit, unimprovedScoreDifferenceThreshold, Clock.systemUTC());
+        this(unimprovedTimeMillisSpentLimit, unimprovedScoreDifferenceThreshold, CoarseClock.getInstance());
     }
 
     protected UnimprovedTimeMillisSpentScoreDifferenceThresholdTermination(
@@ -71,12 +71,18 @@ public class UnimprovedTimeMillisSpentScoreDifferenceThresholdTermination<Soluti
     public void solvingStarted(SolverScope<Solution_> solverScope) {
         bestScoreImprovementHistoryQueue = new ArrayDeque<>();
         solverSafeTimeMillis = solverScope.getBestSolutionTimeMillis() + unimprovedTimeMillisSpentLimit;
+        if (clock instanceof CoarseClock) {
+            solverScope.acquireCoarseClock((CoarseClock) clock);
+        }
     }
 
     @Override
     public void solvingEnded(SolverScope<Solution_> solverScope) {
         bestScoreImprovementHistoryQueue = null;
         solverSafeTimeMillis = -1L;
+        if (clock instanceof CoarseClock) {
+            solverScope.releaseCoarseClock((CoarseClock) clock);
+        }
     }
 
     @Override
@@ -29,7 +29,7 @@ public class UnimprovedTimeMillisSpentTermination<Solution_> extends AbstractTer
     private final Clock clock;
 
     public UnimprovedTimeMillisSpentTermination(long unimprovedTimeMillisSpentLimit) {
-        this(unimprovedTimeMillisSpentLimit, Clock.systemUTC());
+        this(unimprovedTimeMillisSpentLimit, CoarseClock.getInstance());
     }
 
     protected UnimprovedTimeMillisSpentTermination(long unimprovedTimeMillisSpentLimit, Clock clock) {
@@ -45,6 +45,24 @@ public class UnimprovedTimeMillisSpentTermination<Solution_> extends AbstractTer
         return unimprovedTimeMillisSpentLimit;
     }
 
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void solvingStarted(SolverScope<Solution_> solverScope) {
+        if (clock instanceof CoarseClock) {
+            solverScope.acquireCoarseClock((CoarseClock) clock);
+        }
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        if (clock instanceof CoarseClock) {
+            solverScope.releaseCoarseClock((CoarseClock) clock);
+        }
+    }
+
     // ************************************************************************
     // Terminated methods
     // ************************************************************************
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.trace;
+
+import java.util.Arrays;
+
+/**
+ * A histogram of latencies in nanoseconds, in the style of an HDR histogram:
+ * the buckets grow exponentially, but every power of 2 is split into {@link #SUB_BUCKET_HALF_COUNT} linear sub buckets,
+ * so every recorded value is known up to a relative error below 1/{@link #SUB_BUCKET_HALF_COUNT}.
+ * <p>
+ * Recording a value is an array increment and never allocates unless the histogram needs to grow.
+ * This class is not thread-safe.
+ */
+public class LatencyHistogram {
+
+    protected static final int SUB_BUCKET_HALF_COUNT_MAGNITUDE = 6;
+    protected static final int SUB_BUCKET_HALF_COUNT = 1 << SUB_BUCKET_HALF_COUNT_MAGNITUDE;
+    protected static final int SUB_BUCKET_COUNT = SUB_BUCKET_HALF_COUNT * 2;
+
+    private long[] counts = new long[SUB_BUCKET_COUNT];
+    private long totalCount = 0L;
+    private long totalValue = 0L;
+    private long minValue = Long.MAX_VALUE;
+    private long maxValue = 0L;
+
+    /**
+     * @param value at least 0, in nanoseconds
+     */
+    public void recordValue(long value) {
+        if (value < 0L) {
+            // System.nanoTime() is not guaranteed to be monotonic on every platform
+            value = 0L;
+        }
+        int index = bucketIndex(value);
+        if (index >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(index + 1, counts.length + SUB_BUCKET_HALF_COUNT));
+        }
+        counts[index]++;
+        totalCount++;
+        totalValue += value;
+        if (value < minValue) {
+            minValue = value;
+        }
+        if (value > maxValue) {
+            maxValue = value;
+        }
+    }
+
+    /**
+     * @param other never null, its values are added to this histogram
+     */
+    public void add(LatencyHistogram other) {
+        if (other.counts.length > counts.length) {
+            counts = Arrays.copyOf(counts, other.counts.length);
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        totalValue += other.totalValue;
+        minValue = Math.min(minValue, other.minValue);
+        maxValue = Math.max(maxValue, other.maxValue);
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * @return 0 if nothing was recorded
+     */
+    public long getMinValue() {
+        return totalCount == 0L ? 0L : minValue;
+    }
+
+    public long getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * @return 0.0 if nothing was recorded
+     */
+    public double getMean() {
+        return totalCount == 0L ? 0.0 : ((double) totalValue) / ((double) totalCount);
+    }
+
+    /**
+     * @param percentile {@code 0.0 <= percentile <= 100.0}
+     * @return the highest value that is equivalent to the value at that percentile,
+     *         never higher than {@link #getMaxValue()}, 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("The percentile (" + percentile + ") must be between 0 and 100.");
+        }
+        if (totalCount == 0L) {
+            return 0L;
+        }
+        long countAtPercentile = Math.max(1L, (long) Math.ceil((percentile / 100.0) * totalCount));
+        long count = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            count += counts[i];
+            if (count >= countAtPercentile) {
+                return Math.max(getMinValue(), Math.min(maxValue, highestEquivalentValue(i)));
+            }
+        }
+        return maxValue;
+    }
+
+    protected static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        // The magnitude shifts the value into the upper half of the sub buckets
+        int magnitude = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_HALF_COUNT_MAGNITUDE;
+        return magnitude * SUB_BUCKET_HALF_COUNT + (int) (value >>> magnitude);
+    }
+
+    protected static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int magnitude = (index / SUB_BUCKET_HALF_COUNT) - 1;
+        long subBucket = index - ((long) magnitude * SUB_BUCKET_HALF_COUNT);
+        return ((subBucket + 1L) << magnitude) - 1L;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram(count: " + totalCount
+                + ", p50: " + getValueAtPercentile(50.0)
+                + ", p99: " + getValueAtPercentile(99.0)
+                + ", max: " + maxValue + ")";
+    }
+
+}
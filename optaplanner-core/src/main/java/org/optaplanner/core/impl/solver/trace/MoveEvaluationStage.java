@@ -0,0 +1,52 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.trace;
+
+import org.optaplanner.core.api.domain.variable.VariableListener;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.impl.heuristic.move.Move;
+
+/**
+ * The parts of the evaluation of 1 {@link Move} that a {@link MoveEvaluationTracer} measures separately.
+ */
+public enum MoveEvaluationStage {
+    /**
+     * {@link Move#doMove} without the {@link #VARIABLE_LISTENERS}.
+     */
+    DO_MOVE,
+    /**
+     * The {@link VariableListener}s triggered by both the move and its undo move.
+     */
+    VARIABLE_LISTENERS,
+    /**
+     * The score calculation after the move.
+     */
+    SCORE_CALCULATION,
+    /**
+     * What the decider does with the score, such as calling the acceptor and the forager.
+     * In an asserting {@link EnvironmentMode}, this also includes the score assertions.
+     */
+    MOVE_PROCESSING,
+    /**
+     * {@link Move#doMove} of the undo move without the {@link #VARIABLE_LISTENERS}.
+     */
+    UNDO_MOVE,
+    /**
+     * The entire evaluation of the move, the sum of all other stages.
+     */
+    TOTAL;
+}
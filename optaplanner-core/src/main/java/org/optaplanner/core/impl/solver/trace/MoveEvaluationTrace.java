@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.trace;
+
+import org.optaplanner.core.impl.heuristic.move.Move;
+
+/**
+ * The {@link LatencyHistogram}s of the {@link Move}s of 1 move type,
+ * evaluated by 1 move selector in 1 phase.
+ */
+public class MoveEvaluationTrace {
+
+    private static final MoveEvaluationStage[] STAGES = MoveEvaluationStage.values();
+
+    private final int phaseIndex;
+    private final String moveSelector;
+    private final String moveType;
+    private final LatencyHistogram[] histograms;
+
+    public MoveEvaluationTrace(int phaseIndex, String moveSelector, String moveType) {
+        this.phaseIndex = phaseIndex;
+        this.moveSelector = moveSelector;
+        this.moveType = moveType;
+        histograms = new LatencyHistogram[STAGES.length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    public int getPhaseIndex() {
+        return phaseIndex;
+    }
+
+    /**
+     * @return never null, the {@link Object#toString()} of the move selector
+     *         (of the child move selector for a union of move selectors),
+     *         or the phase type if the phase has no move selector
+     */
+    public String getMoveSelector() {
+        return moveSelector;
+    }
+
+    /**
+     * @return never null, see {@link Move#getSimpleMoveTypeDescription()}
+     */
+    public String getMoveType() {
+        return moveType;
+    }
+
+    /**
+     * @param stage never null
+     * @return never null
+     */
+    public LatencyHistogram getHistogram(MoveEvaluationStage stage) {
+        return histograms[stage.ordinal()];
+    }
+
+    /**
+     * @return the number of evaluated moves
+     */
+    public long getMoveCount() {
+        return getHistogram(MoveEvaluationStage.TOTAL).getTotalCount();
+    }
+
+    /**
+     * @param stageNanos never null, indexed by {@link MoveEvaluationStage#ordinal()}
+     */
+    protected void record(long[] stageNanos) {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i].recordValue(stageNanos[i]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return moveType + " of " + moveSelector + " in phase (" + phaseIndex + ")";
+    }
+
+}
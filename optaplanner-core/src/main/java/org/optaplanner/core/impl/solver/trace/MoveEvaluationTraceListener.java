@@ -0,0 +1,44 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.trace;
+
+import java.util.EventListener;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+
+/**
+ * Receives the move evaluation latencies of every phase.
+ * Adding this listener enables the {@link MoveEvaluationTracer}, which has a small overhead per move.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see DefaultSolver#addMoveEvaluationTraceListener(MoveEvaluationTraceListener)
+ */
+public interface MoveEvaluationTraceListener<Solution_> extends EventListener {
+
+    /**
+     * Called at the end of every phase, even if it evaluated no moves.
+     *
+     * @param phaseScope never null
+     * @param traceList never null, 1 per move selector and move type of that phase,
+     *        in the order of their first evaluated move, not reused by later phases
+     */
+    void phaseTraced(AbstractPhaseScope<Solution_> phaseScope, List<MoveEvaluationTrace> traceList);
+
+}
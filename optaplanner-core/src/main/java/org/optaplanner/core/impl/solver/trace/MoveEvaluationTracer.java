@@ -0,0 +1,204 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.trace;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.composite.UnionMoveSelector;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.event.AbstractEventSupport;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+
+/**
+ * Measures how long each {@link MoveEvaluationStage} of every evaluated {@link Move} takes
+ * and records it in the {@link LatencyHistogram}s of a {@link MoveEvaluationTrace}
+ * per phase, move selector and move type.
+ * <p>
+ * It only exists on the {@link SolverScope} while a {@link MoveEvaluationTraceListener} is registered,
+ * so an untraced solver only pays a null check per move.
+ * During a phase, it is set on the {@link InnerScoreDirector},
+ * which reports the stages from {@link InnerScoreDirector#doAndProcessMove(Move, boolean)} and its overloads.
+ * A move whose score is peeked without doing it is traced separately, as its move type with a " (peeked)" suffix.
+ * Moves evaluated by move threads are not traced.
+ * <p>
+ * A {@link UnionMoveSelector} sets its child move selector before every move it selects,
+ * so the moves are traced per child move selector.
+ * Within a move selector, the moves are traced per move class,
+ * labeled by the {@link Move#getSimpleMoveTypeDescription()} of the first move of that class.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class MoveEvaluationTracer<Solution_> extends AbstractEventSupport<MoveEvaluationTraceListener<Solution_>> {
+
+    private static final int VARIABLE_LISTENERS_INDEX = MoveEvaluationStage.VARIABLE_LISTENERS.ordinal();
+    private static final int TOTAL_INDEX = MoveEvaluationStage.TOTAL.ordinal();
+
+    private InnerScoreDirector<Solution_, ?> scoreDirector = null;
+    private int phaseIndex = -1;
+    private Object moveSelector = null;
+    private List<MoveEvaluationTrace> phaseTraceList = null;
+    private Map<Object, SelectorTraces> selectorTracesMap = null;
+    private SelectorTraces selectorTraces = null;
+
+    private final long[] stageNanos = new long[MoveEvaluationStage.values().length];
+    private long moveStartNanos;
+    private long lapStartNanos;
+    private long lapVariableListenerNanos;
+
+    public boolean hasEventListeners() {
+        return !eventListenerSet.isEmpty();
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    /**
+     * @param phaseIndex {@code >= 0}
+     * @param phaseType never null, used as the move selector until {@link #setMoveSelector(String)} is called
+     * @param scoreDirector never null
+     */
+    public void phaseStarted(int phaseIndex, String phaseType, InnerScoreDirector<Solution_, ?> scoreDirector) {
+        this.phaseIndex = phaseIndex;
+        this.scoreDirector = scoreDirector;
+        phaseTraceList = new ArrayList<>();
+        selectorTracesMap = new IdentityHashMap<>();
+        moveSelector = null;
+        setMoveSelector(phaseType);
+        scoreDirector.setMoveEvaluationTracer(this);
+    }
+
+    /**
+     * Called before every move that a {@link UnionMoveSelector} selects, so it must be cheap.
+     *
+     * @param moveSelector never null, the move selector of the following move evaluations,
+     *        labeled by its {@link Object#toString()}
+     */
+    public void setMoveSelector(Object moveSelector) {
+        if (this.moveSelector == moveSelector) {
+            return;
+        }
+        this.moveSelector = moveSelector;
+        selectorTraces = selectorTracesMap.computeIfAbsent(moveSelector,
+                key -> new SelectorTraces(key.toString()));
+    }
+
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        scoreDirector.setMoveEvaluationTracer(null);
+        List<MoveEvaluationTrace> traceList = Collections.unmodifiableList(phaseTraceList);
+        for (MoveEvaluationTraceListener<Solution_> listener : eventListenerSet) {
+            listener.phaseTraced(phaseScope, traceList);
+        }
+        scoreDirector = null;
+        moveSelector = null;
+        phaseTraceList = null;
+        selectorTracesMap = null;
+        selectorTraces = null;
+    }
+
+    // ************************************************************************
+    // Move evaluation methods
+    // ************************************************************************
+
+    public void moveStarted() {
+        Arrays.fill(stageNanos, 0L);
+        moveStartNanos = System.nanoTime();
+        lapStartNanos = moveStartNanos;
+        lapVariableListenerNanos = 0L;
+    }
+
+    /**
+     * The variable listener time is subtracted from the stage during which they are triggered.
+     *
+     * @param nanos {@code >= 0}
+     */
+    public void variableListenersTriggered(long nanos) {
+        lapVariableListenerNanos += nanos;
+    }
+
+    /**
+     * @param stage never null, not {@link MoveEvaluationStage#VARIABLE_LISTENERS} nor {@link MoveEvaluationStage#TOTAL}
+     */
+    public void stageEnded(MoveEvaluationStage stage) {
+        long now = System.nanoTime();
+        stageNanos[stage.ordinal()] += now - lapStartNanos - lapVariableListenerNanos;
+        stageNanos[VARIABLE_LISTENERS_INDEX] += lapVariableListenerNanos;
+        lapStartNanos = now;
+        lapVariableListenerNanos = 0L;
+    }
+
+    /**
+     * Ends the {@link MoveEvaluationStage#UNDO_MOVE} stage and records all stages.
+     *
+     * @param move never null
+     */
+    public void moveEnded(Move<Solution_> move) {
+        stageEnded(MoveEvaluationStage.UNDO_MOVE);
+        stageNanos[TOTAL_INDEX] = lapStartNanos - moveStartNanos;
+        record(selectorTraces.moveClassToTraceMap, move, "");
+    }
+
+    /**
+     * Records a move whose score was peeked instead of doing and undoing it,
+     * after its {@link MoveEvaluationStage#SCORE_CALCULATION} and {@link MoveEvaluationStage#MOVE_PROCESSING}.
+     * It has no {@link MoveEvaluationStage#DO_MOVE} nor {@link MoveEvaluationStage#UNDO_MOVE}.
+     *
+     * @param move never null
+     */
+    public void movePeekEnded(Move<Solution_> move) {
+        stageNanos[TOTAL_INDEX] = lapStartNanos - moveStartNanos;
+        record(selectorTraces.moveClassToPeekedTraceMap, move, " (peeked)");
+    }
+
+    private void record(Map<Class<?>, MoveEvaluationTrace> moveClassToTraceMap, Move<Solution_> move,
+            String moveTypeSuffix) {
+        Class<?> moveClass = move.getClass();
+        MoveEvaluationTrace trace = moveClassToTraceMap.get(moveClass);
+        if (trace == null) {
+            // Only once per move class, to avoid building a description string for every move
+            trace = new MoveEvaluationTrace(phaseIndex, selectorTraces.moveSelectorLabel,
+                    move.getSimpleMoveTypeDescription() + moveTypeSuffix);
+            moveClassToTraceMap.put(moveClass, trace);
+            phaseTraceList.add(trace);
+        }
+        trace.record(stageNanos);
+    }
+
+    private static final class SelectorTraces {
+
+        private final String moveSelectorLabel;
+        private final Map<Class<?>, MoveEvaluationTrace> moveClassToTraceMap = new HashMap<>();
+        private final Map<Class<?>, MoveEvaluationTrace> moveClassToPeekedTraceMap = new HashMap<>();
+
+        private SelectorTraces(String moveSelectorLabel) {
+            this.moveSelectorLabel = moveSelectorLabel;
+        }
+
+    }
+
+}
@@ -17,14 +17,24 @@
 package org.optaplanner.core.impl.constructionheuristic;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicType;
+import org.optaplanner.core.config.constructionheuristic.decider.forager.ConstructionHeuristicForagerConfig;
+import org.optaplanner.core.config.constructionheuristic.decider.forager.ConstructionHeuristicPickEarlyType;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.testutil.calculator.TestdataDifferentValuesCalculator;
+import org.optaplanner.core.impl.solver.DefaultSolver;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -111,4 +121,151 @@ public class DefaultConstructionHeuristicPhaseTest {
         assertThat(solution.getEntityList().size()).isEqualTo(0);
     }
 
+    @Test
+    public void incrementalPlacementEvaluationRequiresPooledEntityPlacer() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withIncrementalPlacementEvaluation(true)));
+
+        TestdataSolution solution = PlannerTestUtils.generateTestdataSolution("s1", 5);
+        solution.getEntityList().forEach(entity -> entity.setValue(null));
+        assertThatIllegalArgumentException().isThrownBy(() -> PlannerTestUtils.solve(solverConfig, solution))
+                .withMessageContaining("PooledEntityPlacer");
+    }
+
+    @Test
+    public void solveWithIncrementalPlacementEvaluationFromPool() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withConstructionHeuristicType(ConstructionHeuristicType.ALLOCATE_FROM_POOL)
+                .withIncrementalPlacementEvaluation(true)));
+
+        TestdataSolution solution = PlannerTestUtils.generateTestdataSolution("s1", 5);
+        solution.getEntityList().forEach(entity -> entity.setValue(null));
+
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getEntityList()).allSatisfy(entity -> assertThat(entity.getValue()).isNotNull());
+        assertThat(solution.getScore().getInitScore()).isEqualTo(0);
+    }
+
+    @Test
+    public void incrementalPlacementEvaluationReusesScoresForSameResult() {
+        TestdataSolution incrementalSolution = PlannerTestUtils.generateTestdataSolution("s1", 8);
+        incrementalSolution.getEntityList().forEach(entity -> entity.setValue(null));
+        TestdataSolution solution = PlannerTestUtils.generateTestdataSolution("s1", 8);
+        solution.getEntityList().forEach(entity -> entity.setValue(null));
+
+        long incrementalScoreCalculationCount = solveFromPool(incrementalSolution, true);
+        long scoreCalculationCount = solveFromPool(solution, false);
+        assertThat(incrementalSolution.getScore()).isEqualTo(solution.getScore());
+        assertThat(incrementalSolution.getEntityList())
+                .extracting(entity -> entity.getValue().getCode())
+                .containsExactlyElementsOf(solution.getEntityList().stream()
+                        .map(entity -> entity.getValue().getCode())
+                        .collect(Collectors.toList()));
+        assertThat(incrementalScoreCalculationCount).isLessThan(scoreCalculationCount);
+    }
+
+    private static long solveFromPool(TestdataSolution solution, boolean incrementalPlacementEvaluation) {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.getScoreDirectorFactoryConfig()
+                .setEasyScoreCalculatorClass(TestdataDifferentValuesCalculator.class);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withConstructionHeuristicType(ConstructionHeuristicType.ALLOCATE_FROM_POOL)
+                .withIncrementalPlacementEvaluation(incrementalPlacementEvaluation)));
+        DefaultSolver<TestdataSolution> solver =
+                (DefaultSolver<TestdataSolution>) SolverFactory.create(solverConfig).buildSolver();
+        TestdataSolution bestSolution = solver.solve(solution);
+        solution.setScore(bestSolution.getScore());
+        solution.setEntityList(bestSolution.getEntityList());
+        return solver.getSolverScope().getScoreCalculationCount();
+    }
+
+    @Test
+    public void incrementalPlacementEvaluationWithPickEarly() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        ConstructionHeuristicForagerConfig foragerConfig = new ConstructionHeuristicForagerConfig();
+        foragerConfig.setPickEarlyType(ConstructionHeuristicPickEarlyType.FIRST_NON_DETERIORATING_SCORE);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withIncrementalPlacementEvaluation(true)
+                .withForagerConfig(foragerConfig)));
+
+        TestdataSolution solution = PlannerTestUtils.generateTestdataSolution("s1", 5);
+        assertThatIllegalArgumentException().isThrownBy(() -> PlannerTestUtils.solve(solverConfig, solution))
+                .withMessageContaining("pickEarlyType");
+    }
+
+    @Test
+    public void solveWithParallelBatches() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.setMoveThreadCount("2");
+        solverConfig.getScoreDirectorFactoryConfig()
+                .setEasyScoreCalculatorClass(TestdataDifferentValuesCalculator.class);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withParallelBatchSize(3)));
+
+        TestdataSolution solution = PlannerTestUtils.generateTestdataSolution("s1", 10);
+        solution.getEntityList().forEach(entity -> entity.setValue(null));
+
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getEntityList()).allSatisfy(entity -> assertThat(entity.getValue()).isNotNull());
+        assertThat(solution.getScore().getInitScore()).isEqualTo(0);
+    }
+
+    @Test
+    public void solveWithParallelBatchesReconcilesSteps() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setMoveThreadCount("2");
+        solverConfig.getScoreDirectorFactoryConfig()
+                .setEasyScoreCalculatorClass(TestdataDifferentValuesCalculator.class);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withParallelBatchSize(3)));
+
+        TestdataSolution solution = PlannerTestUtils.generateTestdataSolution("s1", 10);
+        solution.getEntityList().forEach(entity -> entity.setValue(null));
+
+        // Within a batch, the 2nd placement (batch thread 1) doesn't see the 1st and 3rd placements (batch thread 0),
+        // but the next batch sees every placement of the previous batches
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution.getEntityList())
+                .extracting(entity -> entity.getValue().getCode())
+                .containsExactly("v1", "v1", "v2", "v3", "v3", "v4", "v5", "v5", "v6", "v7");
+        assertThat(solution.getScore()).isEqualTo(SimpleScore.of(-3));
+    }
+
+    @Test
+    public void solveWithParallelBatchesOfOne() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setMoveThreadCount("2");
+        solverConfig.getScoreDirectorFactoryConfig()
+                .setEasyScoreCalculatorClass(TestdataDifferentValuesCalculator.class);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withParallelBatchSize(1)));
+
+        TestdataSolution solution = PlannerTestUtils.generateTestdataSolution("s1", 5);
+        solution.getEntityList().forEach(entity -> entity.setValue(null));
+
+        // Every placement is reconciled before the next one, so no value is used twice
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution.getScore().getInitScore()).isEqualTo(0);
+        assertThat(solution.getScore().getScore()).isEqualTo(0);
+    }
+
+    @Test
+    public void parallelBatchesWithoutQueuedEntityPlacer() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setMoveThreadCount("2");
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withConstructionHeuristicType(ConstructionHeuristicType.ALLOCATE_FROM_POOL)
+                .withParallelBatchSize(3)));
+
+        TestdataSolution solution = PlannerTestUtils.generateTestdataSolution("s1", 5);
+        assertThatIllegalArgumentException().isThrownBy(() -> PlannerTestUtils.solve(solverConfig, solution))
+                .withMessageContaining("QueuedEntityPlacer");
+    }
+
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.constructionheuristic.decider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.config.solver.testutil.calculator.TestdataDifferentValuesCalculator;
+import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.easy.EasyScoreDirectorFactory;
+import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+public class BatchConstructionHeuristicDeciderTest {
+
+    @Test
+    public void stopPlacingWhenPhaseTerminated() {
+        TestdataSolution solution = PlannerTestUtils.generateTestdataSolution("s1", 4);
+        solution.getEntityList().forEach(entity -> entity.setValue(null));
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                new EasyScoreDirectorFactory<TestdataSolution, SimpleScore>(TestdataSolution.buildSolutionDescriptor(),
+                        new TestdataDifferentValuesCalculator()).buildScoreDirector(true, false);
+        scoreDirector.setWorkingSolution(solution);
+        ConstructionHeuristicPhaseScope<TestdataSolution> phaseScope = mock(ConstructionHeuristicPhaseScope.class);
+        when(phaseScope.getScoreDirector()).thenReturn((InnerScoreDirector) scoreDirector);
+        Termination<TestdataSolution> termination = mock(Termination.class);
+        // Terminates before the third placement of the batch
+        when(termination.isPhaseTerminated(phaseScope)).thenReturn(false, false, true);
+        // A single batch thread, so the placements are checked in order
+        BatchConstructionHeuristicDecider<TestdataSolution> decider = new BatchConstructionHeuristicDecider<>("",
+                termination, mock(ConstructionHeuristicForager.class), Executors.defaultThreadFactory(), 1, 4);
+
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = scoreDirector.getSolutionDescriptor()
+                .findEntityDescriptorOrFail(TestdataEntity.class).getGenuineVariableDescriptor("value");
+
+        decider.phaseStarted(phaseScope);
+        List<Move<TestdataSolution>> stepList = decider.decideNextSteps(phaseScope,
+                solution.getEntityList().stream()
+                        .map(entity -> buildPlacementMoveList(variableDescriptor, entity, solution.getValueList()))
+                        .collect(Collectors.toList()));
+        decider.phaseEnded(phaseScope);
+
+        // The second placement builds on the first one of the same batch thread
+        assertThat(stepList).hasSize(2);
+        assertThat(((ChangeMove<TestdataSolution>) stepList.get(0)).getEntity())
+                .isSameAs(solution.getEntityList().get(0));
+        assertThat(((ChangeMove<TestdataSolution>) stepList.get(0)).getToPlanningValue())
+                .isSameAs(solution.getValueList().get(0));
+        assertThat(((ChangeMove<TestdataSolution>) stepList.get(1)).getEntity())
+                .isSameAs(solution.getEntityList().get(1));
+        assertThat(((ChangeMove<TestdataSolution>) stepList.get(1)).getToPlanningValue())
+                .isSameAs(solution.getValueList().get(1));
+    }
+
+    private static List<Move<TestdataSolution>> buildPlacementMoveList(
+            GenuineVariableDescriptor<TestdataSolution> variableDescriptor, TestdataEntity entity,
+            List<TestdataValue> valueList) {
+        List<Move<TestdataSolution>> moveList = new ArrayList<>(valueList.size());
+        for (TestdataValue value : valueList) {
+            moveList.add(new ChangeMove<>(entity, variableDescriptor, value));
+        }
+        return moveList;
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.ordinal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+public class OrdinalManagerTest {
+
+    @Test
+    public void resetWorkingObjects() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        OrdinalManager ordinalManager = new OrdinalManager();
+        ordinalManager.resetWorkingObjects(Arrays.asList(v1, v2, e1, v1));
+
+        assertThat(ordinalManager.getOrdinalCount()).isEqualTo(3);
+        assertThat(ordinalManager.getOrdinal(v1)).isEqualTo(0);
+        assertThat(ordinalManager.getOrdinal(v2)).isEqualTo(1);
+        assertThat(ordinalManager.getOrdinal(e1)).isEqualTo(2);
+        assertThat(ordinalManager.getWorkingObject(2)).isSameAs(e1);
+        assertThat(ordinalManager.getOrdinal(new TestdataValue("v1"))).isEqualTo(OrdinalManager.NO_ORDINAL);
+        assertThat(ordinalManager.getOrdinal(null)).isEqualTo(OrdinalManager.NO_ORDINAL);
+    }
+
+    @Test
+    public void removeAndAddReusesOrdinal() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        OrdinalManager ordinalManager = new OrdinalManager();
+        ordinalManager.resetWorkingObjects(Arrays.asList(v1, v2));
+
+        ordinalManager.removeWorkingObject(v1);
+        assertThat(ordinalManager.getOrdinal(v1)).isEqualTo(OrdinalManager.NO_ORDINAL);
+        assertThat(ordinalManager.getWorkingObject(0)).isNull();
+        ordinalManager.addWorkingObject(v3);
+        assertThat(ordinalManager.getOrdinal(v3)).isEqualTo(0);
+        assertThat(ordinalManager.getOrdinalCount()).isEqualTo(2);
+        ordinalManager.addWorkingObject(v1);
+        assertThat(ordinalManager.getOrdinal(v1)).isEqualTo(2);
+        assertThat(ordinalManager.getOrdinalCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void growBeyondInitialCapacity() {
+        OrdinalManager ordinalManager = new OrdinalManager();
+        ordinalManager.resetWorkingObjects(Arrays.asList());
+        TestdataValue[] values = new TestdataValue[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = new TestdataValue("v" + i);
+            ordinalManager.addWorkingObject(values[i]);
+        }
+        for (int i = 0; i < values.length; i++) {
+            assertThat(ordinalManager.getOrdinal(values[i])).isEqualTo(i);
+            assertThat(ordinalManager.getWorkingObject(i)).isSameAs(values[i]);
+        }
+    }
+
+    @Test
+    public void removeManyKeepsOthersFindable() {
+        OrdinalManager ordinalManager = new OrdinalManager();
+        TestdataValue[] values = new TestdataValue[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = new TestdataValue("v" + i);
+        }
+        ordinalManager.resetWorkingObjects(Arrays.asList(values));
+        for (int i = 0; i < values.length; i += 3) {
+            ordinalManager.removeWorkingObject(values[i]);
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (i % 3 == 0) {
+                assertThat(ordinalManager.getOrdinal(values[i])).isEqualTo(OrdinalManager.NO_ORDINAL);
+            } else {
+                assertThat(ordinalManager.getOrdinal(values[i])).isEqualTo(i);
+            }
+        }
+        for (int i = 0; i < values.length; i += 3) {
+            ordinalManager.addWorkingObject(values[i]);
+        }
+        assertThat(ordinalManager.getOrdinalCount()).isEqualTo(values.length);
+        for (int i = 0; i < values.length; i++) {
+            assertThat(ordinalManager.getWorkingObject(ordinalManager.getOrdinal(values[i]))).isSameAs(values[i]);
+        }
+    }
+
+}
@@ -59,6 +59,9 @@ import org.optaplanner.core.impl.testdata.domain.extended.TestdataUnannotatedExt
 import org.optaplanner.core.impl.testdata.domain.extended.thirdparty.TestdataExtendedThirdPartyEntity;
 import org.optaplanner.core.impl.testdata.domain.extended.thirdparty.TestdataExtendedThirdPartySolution;
 import org.optaplanner.core.impl.testdata.domain.extended.thirdparty.TestdataThirdPartyEntityPojo;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
 import org.optaplanner.core.impl.testdata.domain.reflect.accessmodifier.TestdataAccessModifierSolution;
 import org.optaplanner.core.impl.testdata.domain.reflect.field.TestdataFieldAnnotatedEntity;
 import org.optaplanner.core.impl.testdata.domain.reflect.field.TestdataFieldAnnotatedSolution;
@@ -390,6 +393,39 @@ public abstract class AbstractSolutionClonerTest {
         assertThat(cloneEntity.getChainedObject()).isSameAs(value);
     }
 
+    @Test
+    public void cloneListVariableSolution() {
+        SolutionDescriptor<TestdataListSolution> solutionDescriptor = TestdataListSolution.buildSolutionDescriptor();
+        SolutionCloner<TestdataListSolution> cloner = createSolutionCloner(solutionDescriptor);
+
+        TestdataListValue v1 = new TestdataListValue("v1");
+        TestdataListValue v2 = new TestdataListValue("v2");
+        TestdataListValue v3 = new TestdataListValue("v3");
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2);
+        TestdataListEntity b = new TestdataListEntity("b", v3);
+
+        TestdataListSolution original = new TestdataListSolution("solution");
+        List<TestdataListValue> valueList = Arrays.asList(v1, v2, v3);
+        original.setValueList(valueList);
+        original.setEntityList(Arrays.asList(a, b));
+
+        TestdataListSolution clone = cloner.cloneSolution(original);
+        assertThat(clone).isNotSameAs(original);
+        assertThat(clone.getValueList()).isSameAs(valueList);
+        TestdataListEntity cloneA = clone.getEntityList().get(0);
+        TestdataListEntity cloneB = clone.getEntityList().get(1);
+        assertThat(cloneA).isNotSameAs(a);
+        assertThat(cloneA.getValueList()).isNotSameAs(a.getValueList()).containsExactly(v1, v2);
+        assertThat(cloneB.getValueList()).isNotSameAs(b.getValueList()).containsExactly(v3);
+
+        // The list moves change the list in place
+        a.getValueList().remove(v2);
+        b.getValueList().add(0, v2);
+        // Clone remains unchanged
+        assertThat(cloneA.getValueList()).containsExactly(v1, v2);
+        assertThat(cloneB.getValueList()).containsExactly(v3);
+    }
+
     @Test
     public void cloneSetBasedSolution() {
         SolutionDescriptor<TestdataSetBasedSolution> solutionDescriptor =
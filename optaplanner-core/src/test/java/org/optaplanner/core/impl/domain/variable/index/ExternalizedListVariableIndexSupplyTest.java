@@ -0,0 +1,149 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
+
+public class ExternalizedListVariableIndexSupplyTest {
+
+    @Test
+    public void indexTracksListChanges() {
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                TestdataListEntity.buildVariableDescriptorForValueList();
+        ScoreDirector<TestdataListSolution> scoreDirector = mock(ScoreDirector.class);
+        ExternalizedListVariableIndexSupply<TestdataListSolution> supply =
+                new ExternalizedListVariableIndexSupply<>(variableDescriptor);
+
+        TestdataListValue v1 = new TestdataListValue("v1");
+        TestdataListValue v2 = new TestdataListValue("v2");
+        TestdataListValue v3 = new TestdataListValue("v3");
+        TestdataListValue v4 = new TestdataListValue("v4");
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2);
+        TestdataListEntity b = new TestdataListEntity("b", v3);
+
+        TestdataListSolution solution = new TestdataListSolution("solution");
+        solution.setValueList(Arrays.asList(v1, v2, v3, v4));
+        solution.setEntityList(new ArrayList<>(Arrays.asList(a, b)));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+
+        assertThat(supply.getEntity(v1)).isSameAs(a);
+        assertThat(supply.getIndex(v1)).isEqualTo(0);
+        assertThat(supply.getEntity(v2)).isSameAs(a);
+        assertThat(supply.getIndex(v2)).isEqualTo(1);
+        assertThat(supply.getEntity(v3)).isSameAs(b);
+        assertThat(supply.getIndex(v3)).isEqualTo(0);
+        assertThat(supply.getEntity(v4)).isNull();
+        assertThat(supply.getIndex(v4)).isEqualTo(-1);
+
+        // Move v1 to the end of b
+        supply.beforeVariableChanged(scoreDirector, a);
+        supply.beforeVariableChanged(scoreDirector, b);
+        a.getValueList().remove(v1);
+        b.getValueList().add(v1);
+        supply.afterVariableChanged(scoreDirector, a);
+        supply.afterVariableChanged(scoreDirector, b);
+
+        assertThat(supply.getEntity(v1)).isSameAs(b);
+        assertThat(supply.getIndex(v1)).isEqualTo(1);
+        assertThat(supply.getEntity(v2)).isSameAs(a);
+        assertThat(supply.getIndex(v2)).isEqualTo(0);
+
+        // Assign v4 to the start of a
+        supply.beforeVariableChanged(scoreDirector, a);
+        a.getValueList().add(0, v4);
+        supply.afterVariableChanged(scoreDirector, a);
+
+        assertThat(supply.getEntity(v4)).isSameAs(a);
+        assertThat(supply.getIndex(v4)).isEqualTo(0);
+        assertThat(supply.getIndex(v2)).isEqualTo(1);
+
+        // Remove b
+        supply.beforeEntityRemoved(scoreDirector, b);
+        solution.getEntityList().remove(b);
+        supply.afterEntityRemoved(scoreDirector, b);
+
+        assertThat(supply.getEntity(v1)).isNull();
+        assertThat(supply.getEntity(v3)).isNull();
+        assertThat(supply.getIndex(v3)).isEqualTo(-1);
+
+        supply.close();
+    }
+
+    @Test
+    public void listChangeOnlyReindexesFromIndex() {
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                TestdataListEntity.buildVariableDescriptorForValueList();
+        ScoreDirector<TestdataListSolution> scoreDirector = mock(ScoreDirector.class);
+        ExternalizedListVariableIndexSupply<TestdataListSolution> supply =
+                new ExternalizedListVariableIndexSupply<>(variableDescriptor);
+
+        TestdataListValue v1 = new TestdataListValue("v1");
+        TestdataListValue v2 = new TestdataListValue("v2");
+        TestdataListValue v3 = new TestdataListValue("v3");
+        TestdataListValue v4 = new TestdataListValue("v4");
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2, v3, v4);
+
+        TestdataListSolution solution = new TestdataListSolution("solution");
+        solution.setValueList(Arrays.asList(v1, v2, v3, v4));
+        solution.setEntityList(new ArrayList<>(Arrays.asList(a)));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+
+        // Swap v3 and v4: the elements before index 2 are not retracted
+        supply.beforeListVariableChanged(scoreDirector, a, 2);
+        assertThat(supply.getEntity(v2)).isSameAs(a);
+        assertThat(supply.getEntity(v3)).isNull();
+        a.getValueList().set(2, v4);
+        a.getValueList().set(3, v3);
+        supply.afterVariableChanged(scoreDirector, a);
+        assertThat(supply.getIndex(v1)).isEqualTo(0);
+        assertThat(supply.getIndex(v2)).isEqualTo(1);
+        assertThat(supply.getIndex(v4)).isEqualTo(2);
+        assertThat(supply.getIndex(v3)).isEqualTo(3);
+
+        // A second change of the same entity with a lower fromIndex widens the retracted part
+        supply.beforeListVariableChanged(scoreDirector, a, 3);
+        supply.beforeListVariableChanged(scoreDirector, a, 1);
+        assertThat(supply.getEntity(v1)).isSameAs(a);
+        assertThat(supply.getEntity(v2)).isNull();
+        a.getValueList().remove(v2);
+        supply.afterVariableChanged(scoreDirector, a);
+        assertThat(supply.getIndex(v1)).isEqualTo(0);
+        assertThat(supply.getEntity(v2)).isNull();
+        assertThat(supply.getIndex(v2)).isEqualTo(-1);
+        assertThat(supply.getIndex(v4)).isEqualTo(1);
+        assertThat(supply.getIndex(v3)).isEqualTo(2);
+
+        supply.close();
+    }
+
+}
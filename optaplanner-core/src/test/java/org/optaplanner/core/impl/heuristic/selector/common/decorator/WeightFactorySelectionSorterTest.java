@@ -16,15 +16,24 @@
 
 package org.optaplanner.core.impl.heuristic.selector.common.decorator;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.Mockito.mock;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCodesOfIterator;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.heuristic.selector.common.decorator.SelectionSorterOrder;
+import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheExecutor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 
@@ -62,4 +71,72 @@ public class WeightFactorySelectionSorterTest {
         assertCodesOfIterator(selectionList.iterator(), "D", "C", "B", "A");
     }
 
+    @Test
+    public void sortLargeCacheWithSelectionCacheExecutor() {
+        Set<Thread> weightThreadSet = ConcurrentHashMap.newKeySet();
+        SelectionSorterWeightFactory<TestdataSolution, TestdataEntity> weightFactory = (solution, selection) -> {
+            weightThreadSet.add(Thread.currentThread());
+            return Integer.valueOf(selection.getCode());
+        };
+        WeightFactorySelectionSorter<TestdataSolution, TestdataEntity> selectionSorter = new WeightFactorySelectionSorter<>(
+                weightFactory, SelectionSorterOrder.DESCENDING);
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(scoreDirector);
+        SelectionCacheExecutor selectionCacheExecutor = new SelectionCacheExecutor(Executors.defaultThreadFactory(), 3);
+        solverScope.setSelectionCacheExecutor(selectionCacheExecutor);
+        int size = SelectionCacheExecutor.PARALLEL_CACHE_SIZE_THRESHOLD * 3;
+        List<TestdataEntity> selectionList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // A permutation of 0 until size, because size is not a multiple of 7
+            selectionList.add(new TestdataEntity(Integer.toString((i * 7) % size)));
+        }
+        try {
+            selectionSorter.sortCache(solverScope, selectionList);
+        } finally {
+            selectionCacheExecutor.shutdown("");
+        }
+        for (int i = 0; i < size; i++) {
+            assertThat(selectionList.get(i).getCode()).isEqualTo(Integer.toString(size - 1 - i));
+        }
+        assertThat(weightThreadSet).doesNotContain(Thread.currentThread());
+    }
+
+    @Test
+    public void sortLargeCacheWithoutSelectionCacheExecutor() {
+        Set<Thread> weightThreadSet = ConcurrentHashMap.newKeySet();
+        SelectionSorterWeightFactory<TestdataSolution, TestdataEntity> weightFactory = (solution, selection) -> {
+            weightThreadSet.add(Thread.currentThread());
+            return Integer.valueOf(selection.getCode());
+        };
+        WeightFactorySelectionSorter<TestdataSolution, TestdataEntity> selectionSorter = new WeightFactorySelectionSorter<>(
+                weightFactory, SelectionSorterOrder.ASCENDING);
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(scoreDirector);
+        int size = SelectionCacheExecutor.PARALLEL_CACHE_SIZE_THRESHOLD * 3;
+        List<TestdataEntity> selectionList = new ArrayList<>(size);
+        for (int i = size - 1; i >= 0; i--) {
+            selectionList.add(new TestdataEntity(Integer.toString(i)));
+        }
+        selectionSorter.sortCache(solverScope, selectionList);
+        for (int i = 0; i < size; i++) {
+            assertThat(selectionList.get(i).getCode()).isEqualTo(Integer.toString(i));
+        }
+        assertThat(weightThreadSet).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    public void sameWeightFails() {
+        SelectionSorterWeightFactory<TestdataSolution, TestdataEntity> weightFactory = (solution, selection) -> 0;
+        WeightFactorySelectionSorter<TestdataSolution, TestdataEntity> selectionSorter = new WeightFactorySelectionSorter<>(
+                weightFactory, SelectionSorterOrder.ASCENDING);
+        ScoreDirector<TestdataSolution> scoreDirector = mock(ScoreDirector.class);
+        List<TestdataEntity> selectionList = new ArrayList<>();
+        selectionList.add(new TestdataEntity("A"));
+        selectionList.add(new TestdataEntity("B"));
+        assertThatIllegalStateException().isThrownBy(() -> selectionSorter.sort(scoreDirector, selectionList))
+                .withMessageContaining("2 times the same selection");
+    }
+
 }
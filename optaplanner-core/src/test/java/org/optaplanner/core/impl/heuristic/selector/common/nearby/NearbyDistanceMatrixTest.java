@@ -18,11 +18,20 @@ package org.optaplanner.core.impl.heuristic.selector.common.nearby;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.ordinal.OrdinalManager;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataObject;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 
 public class NearbyDistanceMatrixTest {
 
@@ -94,6 +103,186 @@ public class NearbyDistanceMatrixTest {
         assertThat(nearbyDistanceMatrix.getDestination(d, 3)).isSameAs(c);
     }
 
+    @Test
+    public void lazilySortedDestinations() {
+        final MatrixTestdataObject a = new MatrixTestdataObject("a", 0, new double[] { 0.0, 4.0, 2.0, 6.0 });
+        final MatrixTestdataObject b = new MatrixTestdataObject("b", 1, new double[] { 4.0, 0.0, 5.0, 10.0 });
+        final MatrixTestdataObject c = new MatrixTestdataObject("c", 2, new double[] { 2.0, 5.0, 0.0, 7.0 });
+        final MatrixTestdataObject d = new MatrixTestdataObject("d", 3, new double[] { 6.0, 10.0, 7.0, 0.0 });
+        List<Object> entityList = Arrays.asList(a, b, c, d);
+        List<Object> measuredOriginList = new ArrayList<>();
+        NearbyDistanceMeter<MatrixTestdataObject, MatrixTestdataObject> meter = (origin, destination) -> {
+            measuredOriginList.add(origin);
+            return origin.distances[destination.index];
+        };
+
+        NearbyDistanceMatrix nearbyDistanceMatrix = new NearbyDistanceMatrix(meter, 4,
+                origin -> entityList.iterator(), origin -> 3, true, null);
+        assertThat(measuredOriginList).isEmpty();
+
+        assertThat(nearbyDistanceMatrix.getDestination(b, 0)).isSameAs(b);
+        assertThat(nearbyDistanceMatrix.getDestination(b, 1)).isSameAs(a);
+        assertThat(nearbyDistanceMatrix.getDestination(b, 2)).isSameAs(c);
+        assertThat(measuredOriginList).containsOnly(b).hasSize(4);
+        assertThat(nearbyDistanceMatrix.getDestination(d, 1)).isSameAs(a);
+        assertThat(nearbyDistanceMatrix.getDestination(d, 2)).isSameAs(c);
+        assertThat(nearbyDistanceMatrix.getDestination(b, 1)).isSameAs(a);
+        // Each origin is measured only once
+        assertThat(measuredOriginList).containsOnly(b, d).hasSize(8);
+    }
+
+    @Test
+    public void ordinalIndexedDestinations() {
+        final MatrixTestdataObject a = new MatrixTestdataObject("a", 0, new double[] { 0.0, 4.0, 2.0, 6.0 });
+        final MatrixTestdataObject b = new MatrixTestdataObject("b", 1, new double[] { 4.0, 0.0, 5.0, 10.0 });
+        final MatrixTestdataObject c = new MatrixTestdataObject("c", 2, new double[] { 2.0, 5.0, 0.0, 7.0 });
+        final MatrixTestdataObject d = new MatrixTestdataObject("d", 3, new double[] { 6.0, 10.0, 7.0, 0.0 });
+        List<Object> entityList = Arrays.asList(a, b, c, d);
+        List<Object> measuredOriginList = new ArrayList<>();
+        NearbyDistanceMeter<MatrixTestdataObject, MatrixTestdataObject> meter = (origin, destination) -> {
+            measuredOriginList.add(origin);
+            return origin.distances[destination.index];
+        };
+        OrdinalManager ordinalManager = new OrdinalManager();
+        ordinalManager.resetWorkingObjects(Arrays.asList(a, b, c));
+
+        NearbyDistanceMatrix nearbyDistanceMatrix = new NearbyDistanceMatrix(meter, 4,
+                origin -> entityList.iterator(), origin -> 3, true, ordinalManager);
+        assertThat(nearbyDistanceMatrix.getDestination(b, 1)).isSameAs(a);
+        assertThat(nearbyDistanceMatrix.getDestination(b, 2)).isSameAs(c);
+        // An origin without an ordinal
+        assertThat(nearbyDistanceMatrix.getDestination(d, 1)).isSameAs(a);
+        assertThat(nearbyDistanceMatrix.getDestination(d, 2)).isSameAs(c);
+        assertThat(measuredOriginList).containsOnly(b, d).hasSize(8);
+        // The reused ordinal of b doesn't return the destinations of b
+        ordinalManager.removeWorkingObject(b);
+        ordinalManager.addWorkingObject(d);
+        assertThat(ordinalManager.getOrdinal(d)).isEqualTo(1);
+        assertThat(nearbyDistanceMatrix.getDestination(d, 0)).isSameAs(d);
+        assertThat(nearbyDistanceMatrix.getDestination(d, 1)).isSameAs(a);
+        assertThat(measuredOriginList).containsOnly(b, d).hasSize(12);
+    }
+
+    @Test
+    public void supplyReusesMatrixUntilWorkingObjectsChange() {
+        final MatrixTestdataObject a = new MatrixTestdataObject("a", 0, new double[] { 0.0, 4.0, 2.0, 6.0 });
+        final MatrixTestdataObject b = new MatrixTestdataObject("b", 1, new double[] { 4.0, 0.0, 5.0, 10.0 });
+        final MatrixTestdataObject c = new MatrixTestdataObject("c", 2, new double[] { 2.0, 5.0, 0.0, 7.0 });
+        final MatrixTestdataObject d = new MatrixTestdataObject("d", 3, new double[] { 6.0, 10.0, 7.0, 0.0 });
+        List<Object> entityList = Arrays.asList(a, b, c, d);
+        List<Object> measuredOriginList = new ArrayList<>();
+        NearbyDistanceMeter<MatrixTestdataObject, MatrixTestdataObject> meter = (origin, destination) -> {
+            measuredOriginList.add(origin);
+            return origin.distances[destination.index];
+        };
+        OrdinalManager ordinalManager = new OrdinalManager();
+        ordinalManager.resetWorkingObjects(entityList);
+        Supplier<NearbyDistanceMatrix> nearbyDistanceMatrixFactory = () -> new NearbyDistanceMatrix(meter, 4,
+                origin -> entityList.iterator(), origin -> 3, true, ordinalManager);
+        NearbyDistanceMatrixSupply supply = new NearbyDistanceMatrixSupply();
+
+        NearbyDistanceMatrix nearbyDistanceMatrix = supply.read(ordinalManager, nearbyDistanceMatrixFactory);
+        assertThat(nearbyDistanceMatrix.getDestination(b, 1)).isSameAs(a);
+        assertThat(measuredOriginList).hasSize(4);
+        // The next phase reuses the matrix with destinations that are bound to its own selectors
+        List<Object> nextPhaseEntityList = new ArrayList<>(entityList);
+        assertThat(supply.read(ordinalManager, nearbyDistanceMatrixFactory)).isSameAs(nearbyDistanceMatrix);
+        nearbyDistanceMatrix.bindDestinations(origin -> nextPhaseEntityList.iterator(), origin -> 3);
+        nextPhaseEntityList.clear();
+        assertThat(nearbyDistanceMatrix.getDestination(b, 2)).isSameAs(c);
+        assertThat(measuredOriginList).hasSize(4);
+        nextPhaseEntityList.addAll(entityList);
+        assertThat(nearbyDistanceMatrix.getDestination(d, 1)).isSameAs(a);
+        assertThat(measuredOriginList).hasSize(8);
+
+        // A problem fact change that removes a working object
+        ordinalManager.removeWorkingObject(d);
+        NearbyDistanceMatrix changedNearbyDistanceMatrix = supply.read(ordinalManager, nearbyDistanceMatrixFactory);
+        assertThat(changedNearbyDistanceMatrix).isNotSameAs(nearbyDistanceMatrix);
+        assertThat(supply.read(ordinalManager, nearbyDistanceMatrixFactory)).isSameAs(changedNearbyDistanceMatrix);
+        // A problem fact change that edits a problem property, such as a location
+        ordinalManager.markWorkingObjectChanged();
+        NearbyDistanceMatrix editedNearbyDistanceMatrix = supply.read(ordinalManager, nearbyDistanceMatrixFactory);
+        assertThat(editedNearbyDistanceMatrix).isNotSameAs(changedNearbyDistanceMatrix);
+        changedNearbyDistanceMatrix = editedNearbyDistanceMatrix;
+        // A new working solution
+        ordinalManager.resetWorkingObjects(entityList);
+        assertThat(supply.read(ordinalManager, nearbyDistanceMatrixFactory)).isNotSameAs(changedNearbyDistanceMatrix);
+        // Without ordinals, a stale matrix can't be detected
+        assertThat(supply.read(null, nearbyDistanceMatrixFactory))
+                .isNotSameAs(supply.read(null, nearbyDistanceMatrixFactory));
+    }
+
+    @Test
+    public void demandOfEqualSelectorConfigs() {
+        NearbyDistanceMeter<MatrixTestdataObject, MatrixTestdataObject> meter =
+                (origin, destination) -> origin.distances[destination.index];
+        EntityDescriptor<TestdataSolution> entityDescriptor = TestdataEntity.buildEntityDescriptor();
+        NearbyDistanceMatrixDemand<TestdataSolution> demand = NearbyDistanceMatrixDemand.ofSelectorConfig(meter,
+                Arrays.asList(entityDescriptor, SelectionFilter.class, null), 3);
+        // Another phase builds another (filtered) selector from an equal config
+        assertThat(NearbyDistanceMatrixDemand.ofSelectorConfig(meter,
+                Arrays.asList(entityDescriptor, SelectionFilter.class, null), 3))
+                        .isEqualTo(demand)
+                        .hasSameHashCodeAs(demand);
+        assertThat(NearbyDistanceMatrixDemand.ofSelectorConfig(meter,
+                Arrays.asList(entityDescriptor, null, null), 3))
+                        .isNotEqualTo(demand);
+        assertThat(NearbyDistanceMatrixDemand.ofSelectorConfig(meter,
+                Arrays.asList(entityDescriptor, SelectionFilter.class, null), 4))
+                        .isNotEqualTo(demand);
+    }
+
+    @Test
+    public void spatialIndexMatchesSortedDestinations() {
+        Random random = new Random(37);
+        List<Object> pointList = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            // Integer coordinates on a small grid cause many destinations at the same distance
+            pointList.add(new double[] { random.nextInt(20), random.nextInt(20) });
+        }
+        CoordinateNearbyDistanceMeter<double[], double[]> meter = new CoordinateNearbyDistanceMeter<double[], double[]>() {
+            @Override
+            public double[] getOriginCoordinates(double[] origin) {
+                return origin;
+            }
+
+            @Override
+            public double[] getDestinationCoordinates(double[] destination) {
+                return destination;
+            }
+        };
+        for (int destinationSize : new int[] { 1, 7, 300 }) {
+            NearbyDistanceMatrix spatialIndexMatrix = new NearbyDistanceMatrix(meter, pointList.size(),
+                    origin -> pointList.iterator(), origin -> destinationSize, true, null);
+            NearbyDistanceMatrix sortingMatrix = new NearbyDistanceMatrix(meter, pointList.size(),
+                    origin -> pointList.iterator(), origin -> destinationSize, false, null);
+            for (Object origin : pointList) {
+                for (int nearbyIndex = 0; nearbyIndex < destinationSize; nearbyIndex++) {
+                    assertThat(spatialIndexMatrix.getDestination(origin, nearbyIndex))
+                            .isSameAs(sortingMatrix.getDestination(origin, nearbyIndex));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void spatialIndexWithoutDestinations() {
+        CoordinateNearbyDistanceMeter<Object, Object> meter = new CoordinateNearbyDistanceMeter<Object, Object>() {
+            @Override
+            public double[] getOriginCoordinates(Object origin) {
+                return (double[]) origin;
+            }
+
+            @Override
+            public double[] getDestinationCoordinates(Object destination) {
+                return (double[]) destination;
+            }
+        };
+        NearbyKdTree kdTree = new NearbyKdTree(meter, Collections.emptyList());
+        assertThat(kdTree.findNearestDestinations(new double[] { 1.0, 2.0 }, 0)).isEmpty();
+    }
+
     private static class MatrixTestdataObject extends TestdataObject {
         private int index;
         private double[] distances;
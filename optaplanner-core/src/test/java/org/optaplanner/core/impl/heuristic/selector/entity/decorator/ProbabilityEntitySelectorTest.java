@@ -66,7 +66,8 @@ public class ProbabilityEntitySelectorTest {
                 probabilityWeightFactory);
 
         Random workingRandom = mock(Random.class);
-        when(workingRandom.nextDouble()).thenReturn(1222.0 / 1234.0, 111.0 / 1234.0, 0.0, 1230.0 / 1234.0, 1199.0 / 1234.0);
+        // The alias table has the columns e1 (1.0), e2 (0.648 or else e1), e3 (0.097 or else e1) and e4 (0.013 or else e1)
+        when(workingRandom.nextDouble()).thenReturn(2.05 / 4.0, 0.5 / 4.0, 0.0, 3.01 / 4.0, 1.5 / 4.0);
 
         SolverScope solverScope = mock(SolverScope.class);
         when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
@@ -104,6 +105,38 @@ public class ProbabilityEntitySelectorTest {
         verify(childEntitySelector, times(1)).iterator();
     }
 
+    @Test
+    public void zeroProbabilityWeights() {
+        EntitySelector childEntitySelector = SelectorTestUtils.mockEntitySelector(TestdataEntity.class,
+                new TestdataEntity("e1"), new TestdataEntity("e2"), new TestdataEntity("e3"));
+        SelectionProbabilityWeightFactory<TestdataSolution, TestdataEntity> probabilityWeightFactory =
+                (scoreDirector, entity) -> 0.0;
+        EntitySelector entitySelector = new ProbabilityEntitySelector(childEntitySelector, SelectionCacheType.STEP,
+                probabilityWeightFactory);
+
+        Random workingRandom = new Random(37);
+        SolverScope solverScope = mock(SolverScope.class);
+        when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
+        entitySelector.solvingStarted(solverScope);
+        AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
+        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        when(phaseScopeA.getWorkingRandom()).thenReturn(workingRandom);
+        entitySelector.phaseStarted(phaseScopeA);
+        AbstractStepScope stepScopeA1 = mock(AbstractStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        when(stepScopeA1.getWorkingRandom()).thenReturn(workingRandom);
+        entitySelector.stepStarted(stepScopeA1);
+
+        // Like before the alias method, a zero weight total selects the last entity instead of failing
+        Iterator<Object> iterator = entitySelector.iterator();
+        assertCode("e3", iterator.next());
+        assertCode("e3", iterator.next());
+
+        entitySelector.stepEnded(stepScopeA1);
+        entitySelector.phaseEnded(phaseScopeA);
+        entitySelector.solvingEnded(solverScope);
+    }
+
     @Test
     public void isCountable() {
         EntitySelector childEntitySelector = SelectorTestUtils.mockEntitySelector(TestdataEntity.class);
@@ -17,6 +17,7 @@
 package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -25,20 +26,30 @@ import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCodesO
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.verifyPhaseLifecycle;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Random;
 
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.config.heuristic.selector.entity.pillar.SubPillarConfigPolicy;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.entity.FromSolutionEntitySelector;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataObject;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.extended.TestdataAnnotatedExtendedEntity;
+import org.optaplanner.core.impl.testdata.domain.extended.TestdataAnnotatedExtendedSolution;
 
 public class DefaultPillarSelectorTest {
 
@@ -192,6 +203,101 @@ public class DefaultPillarSelectorTest {
         verifyPhaseLifecycle(entitySelector, 1, 2, 3);
     }
 
+    @Test
+    public void pillarSupplyOfSubclassEntitiesKeepsEntityListOrder() {
+        EntityDescriptor<TestdataAnnotatedExtendedSolution> entityDescriptor = TestdataAnnotatedExtendedSolution
+                .buildExtendedSolutionDescriptor().findEntityDescriptorOrFail(TestdataAnnotatedExtendedEntity.class);
+        // The variable is declared on the superclass, so its entity descriptor is the one of TestdataEntity
+        GenuineVariableDescriptor<TestdataAnnotatedExtendedSolution> variableDescriptor =
+                entityDescriptor.getGenuineVariableDescriptor("value");
+        assertThat(variableDescriptor.getEntityDescriptor()).isNotSameAs(entityDescriptor);
+
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataValue val3 = new TestdataValue("3");
+        TestdataEntity x = new TestdataEntity("x", val1);
+        TestdataAnnotatedExtendedEntity a = new TestdataAnnotatedExtendedEntity("a", val1);
+        TestdataAnnotatedExtendedEntity b = new TestdataAnnotatedExtendedEntity("b", val2);
+        TestdataAnnotatedExtendedEntity c = new TestdataAnnotatedExtendedEntity("c", val1);
+        TestdataAnnotatedExtendedEntity d = new TestdataAnnotatedExtendedEntity("d", val2);
+        TestdataAnnotatedExtendedEntity e = new TestdataAnnotatedExtendedEntity("e", val3);
+
+        TestdataAnnotatedExtendedSolution solution = new TestdataAnnotatedExtendedSolution("solution");
+        solution.setValueList(Arrays.asList(val1, val2, val3));
+        solution.setEntityList(Collections.singletonList(x));
+        solution.setSubValueList(Collections.emptyList());
+        solution.setSubEntityList(Arrays.asList(a, b, c, d, e));
+
+        InnerScoreDirector<TestdataAnnotatedExtendedSolution, ?> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        SupplyManager<TestdataAnnotatedExtendedSolution> supplyManager = mock(SupplyManager.class);
+        when(scoreDirector.getSupplyManager()).thenReturn(supplyManager);
+        when(supplyManager.demand(any(PillarDemand.class))).thenAnswer(invocation -> {
+            PillarSupply<TestdataAnnotatedExtendedSolution> supply =
+                    ((PillarDemand<TestdataAnnotatedExtendedSolution>) invocation.getArgument(0))
+                            .createExternalizedSupply(scoreDirector);
+            supply.resetWorkingSolution(scoreDirector);
+            return supply;
+        });
+
+        DefaultPillarSelector<TestdataAnnotatedExtendedSolution> pillarSelector = new DefaultPillarSelector<>(
+                new FromSolutionEntitySelector<>(entityDescriptor, SelectionCacheType.JUST_IN_TIME, false),
+                Collections.singletonList(variableDescriptor), false, SubPillarConfigPolicy.withoutSubpillars());
+        // Without the pillar supply, the pillars are grouped from the entity selector on every step
+        DefaultPillarSelector<TestdataAnnotatedExtendedSolution> fallbackPillarSelector = new DefaultPillarSelector<>(
+                SelectorTestUtils.mockEntitySelector(entityDescriptor, a, b, c, d, e),
+                Collections.singletonList(variableDescriptor), false, SubPillarConfigPolicy.withoutSubpillars());
+
+        SolverScope<TestdataAnnotatedExtendedSolution> solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(scoreDirector);
+        pillarSelector.solvingStarted(solverScope);
+        fallbackPillarSelector.solvingStarted(solverScope);
+        assertThat(pillarSelector.pillarSupply).isNotNull();
+        assertThat(fallbackPillarSelector.pillarSupply).isNull();
+
+        LocalSearchPhaseScope<TestdataAnnotatedExtendedSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        pillarSelector.phaseStarted(phaseScope);
+        fallbackPillarSelector.phaseStarted(phaseScope);
+
+        // The entity x is not a subclass entity, so it is never in a pillar
+        assertStepCodesOfPillarSelectors(phaseScope, pillarSelector, fallbackPillarSelector,
+                "[a, c]", "[b, d]", "[e]");
+
+        changeValue(pillarSelector.pillarSupply, a, val2);
+        changeValue(pillarSelector.pillarSupply, x, val3);
+        assertStepCodesOfPillarSelectors(phaseScope, pillarSelector, fallbackPillarSelector,
+                "[a, b, d]", "[c]", "[e]");
+
+        changeValue(pillarSelector.pillarSupply, e, val1);
+        changeValue(pillarSelector.pillarSupply, a, val1);
+        assertStepCodesOfPillarSelectors(phaseScope, pillarSelector, fallbackPillarSelector,
+                "[a, c, e]", "[b, d]");
+
+        pillarSelector.phaseEnded(phaseScope);
+        fallbackPillarSelector.phaseEnded(phaseScope);
+        pillarSelector.solvingEnded(solverScope);
+        fallbackPillarSelector.solvingEnded(solverScope);
+    }
+
+    private void changeValue(PillarSupply<TestdataAnnotatedExtendedSolution> pillarSupply, TestdataEntity entity,
+            TestdataValue value) {
+        pillarSupply.beforeVariableChanged(null, entity);
+        entity.setValue(value);
+        pillarSupply.afterVariableChanged(null, entity);
+    }
+
+    private void assertStepCodesOfPillarSelectors(LocalSearchPhaseScope<TestdataAnnotatedExtendedSolution> phaseScope,
+            PillarSelector<TestdataAnnotatedExtendedSolution> pillarSelector,
+            PillarSelector<TestdataAnnotatedExtendedSolution> fallbackPillarSelector, String... codes) {
+        LocalSearchStepScope<TestdataAnnotatedExtendedSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        pillarSelector.stepStarted(stepScope);
+        fallbackPillarSelector.stepStarted(stepScope);
+        assertAllCodesOfPillarSelector(pillarSelector, codes);
+        assertAllCodesOfPillarSelector(fallbackPillarSelector, codes);
+        pillarSelector.stepEnded(stepScope);
+        fallbackPillarSelector.stepEnded(stepScope);
+    }
+
     @Test
     public void randomWithSubs() {
         TestdataValue val1 = new TestdataValue("1");
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.multivar.TestdataMultiVarEntity;
+import org.optaplanner.core.impl.testdata.domain.multivar.TestdataMultiVarSolution;
+
+public class PillarSupplyTest {
+
+    @Test
+    public void singleVariable() {
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor =
+                TestdataEntity.buildVariableDescriptorForValue();
+        ScoreDirector<TestdataSolution> scoreDirector = mock(ScoreDirector.class);
+        PillarSupply<TestdataSolution> supply = new PillarSupply<>(variableDescriptor.getEntityDescriptor(),
+                Collections.singletonList(variableDescriptor));
+
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v2);
+        TestdataEntity c = new TestdataEntity("c", v1);
+        TestdataEntity d = new TestdataEntity("d", v1);
+        TestdataEntity e = new TestdataEntity("e", null);
+
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(a, b, c, d, e));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+        List<List<Object>> pillarList = supply.getPillarList();
+        assertThat(pillarList).containsExactly(Arrays.asList(a, c, d), Arrays.asList(b), Arrays.asList(e));
+
+        supply.beforeVariableChanged(scoreDirector, a);
+        a.setValue(v2);
+        supply.afterVariableChanged(scoreDirector, a);
+        supply.beforeVariableChanged(scoreDirector, e);
+        e.setValue(v2);
+        supply.afterVariableChanged(scoreDirector, e);
+
+        assertThat(supply.getPillarList()).containsExactly(Arrays.asList(a, b, e), Arrays.asList(c, d));
+        // An earlier pillar list is a snapshot
+        assertThat(pillarList).containsExactly(Arrays.asList(a, c, d), Arrays.asList(b), Arrays.asList(e));
+
+        supply.beforeEntityRemoved(scoreDirector, c);
+        supply.afterEntityRemoved(scoreDirector, c);
+        assertThat(supply.getPillarList()).containsExactly(Arrays.asList(a, b, e), Arrays.asList(d));
+
+        supply.close();
+    }
+
+    @Test
+    public void multipleVariables() {
+        EntityDescriptor<TestdataMultiVarSolution> entityDescriptor = TestdataMultiVarEntity.buildEntityDescriptor();
+        List<GenuineVariableDescriptor<TestdataMultiVarSolution>> variableDescriptors = Arrays.asList(
+                entityDescriptor.getGenuineVariableDescriptor("primaryValue"),
+                entityDescriptor.getGenuineVariableDescriptor("secondaryValue"));
+        ScoreDirector<TestdataMultiVarSolution> scoreDirector = mock(ScoreDirector.class);
+        PillarSupply<TestdataMultiVarSolution> supply = new PillarSupply<>(entityDescriptor, variableDescriptors);
+        assertThat(supply.getSourceVariableDescriptorList()).containsExactlyElementsOf(variableDescriptors);
+
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataMultiVarEntity a = new TestdataMultiVarEntity("a", v1, v1, null);
+        TestdataMultiVarEntity b = new TestdataMultiVarEntity("b", v1, v2, null);
+        TestdataMultiVarEntity c = new TestdataMultiVarEntity("c", v1, v1, null);
+
+        TestdataMultiVarSolution solution = new TestdataMultiVarSolution("solution");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setMultiVarEntityList(Arrays.asList(a, b, c));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+        assertThat(supply.getPillarList()).containsExactly(Arrays.asList(a, c), Arrays.asList(b));
+
+        // Both variables change, but the supply is notified only once
+        supply.beforeVariableChanged(scoreDirector, b);
+        b.setPrimaryValue(v2);
+        b.setSecondaryValue(v1);
+        supply.afterVariableChanged(scoreDirector, b);
+        supply.beforeVariableChanged(scoreDirector, c);
+        c.setSecondaryValue(v2);
+        supply.afterVariableChanged(scoreDirector, c);
+        assertThat(supply.getPillarList()).containsExactly(Arrays.asList(a), Arrays.asList(b), Arrays.asList(c));
+
+        supply.close();
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.composite;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.config.heuristic.selector.move.composite.AdaptiveSelectionPolicy;
+import org.optaplanner.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.heuristic.move.DummyMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+public class AdaptiveUnionMoveSelectorTest {
+
+    @Test
+    public void probabilityMatching() {
+        AdaptiveUnionMoveSelector<TestdataSolution> moveSelector = buildMoveSelector(
+                AdaptiveSelectionPolicy.PROBABILITY_MATCHING);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = startPhase(moveSelector);
+        assertThat(moveSelector.getProbability(0)).isEqualTo(0.5, offset(0.0001));
+        assertThat(moveSelector.getProbability(1)).isEqualTo(0.5, offset(0.0001));
+
+        doImprovingStepOfSecondChild(moveSelector, phaseScope);
+        // Only the second child yielded an improvement, so the first child drops to the minimum probability
+        assertThat(moveSelector.getProbability(0)).isEqualTo(0.1, offset(0.0001));
+        assertThat(moveSelector.getProbability(1)).isEqualTo(0.9, offset(0.0001));
+        assertThat(moveSelector.getSelectedMoveCount(0)).isEqualTo(1L);
+        assertThat(moveSelector.getSelectedMoveCount(1)).isEqualTo(1L);
+        assertThat(moveSelector.getStepCount(0)).isEqualTo(0L);
+        assertThat(moveSelector.getStepCount(1)).isEqualTo(1L);
+        assertThat(moveSelector.getImprovingStepCount(1)).isEqualTo(1L);
+
+        moveSelector.phaseEnded(phaseScope);
+        assertThat(phaseScope.getSolverScope().getAdaptiveUnionMoveSelectorList()).isEmpty();
+    }
+
+    @Test
+    public void adaptivePursuit() {
+        AdaptiveUnionMoveSelector<TestdataSolution> moveSelector = buildMoveSelector(
+                AdaptiveSelectionPolicy.ADAPTIVE_PURSUIT);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = startPhase(moveSelector);
+
+        doImprovingStepOfSecondChild(moveSelector, phaseScope);
+        // The second child pursues the maximum probability (0.9) at the learning rate (0.5)
+        assertThat(moveSelector.getProbability(0)).isEqualTo(0.3, offset(0.0001));
+        assertThat(moveSelector.getProbability(1)).isEqualTo(0.7, offset(0.0001));
+
+        moveSelector.phaseEnded(phaseScope);
+    }
+
+    @Test
+    public void solveWithAdaptiveUnion() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        UnionMoveSelectorConfig unionMoveSelectorConfig = new UnionMoveSelectorConfig(
+                Arrays.asList(new ChangeMoveSelectorConfig(), new SwapMoveSelectorConfig()));
+        unionMoveSelectorConfig.setAdaptiveSelectionPolicy(AdaptiveSelectionPolicy.ADAPTIVE_PURSUIT);
+        LocalSearchPhaseConfig localSearchPhaseConfig = new LocalSearchPhaseConfig()
+                .withMoveSelectorConfig(unionMoveSelectorConfig);
+        localSearchPhaseConfig.setTerminationConfig(
+                new TerminationConfig().withStepCountLimit(PlannerTestUtils.TERMINATION_STEP_COUNT_LIMIT));
+        solverConfig.getPhaseConfigList().set(1, localSearchPhaseConfig);
+
+        TestdataSolution solution = PlannerTestUtils.generateTestdataSolution("s1", 4);
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+    }
+
+    @Test
+    public void adaptiveUnionWithMoveThreadCount_throwsException() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setMoveThreadCount("2");
+        UnionMoveSelectorConfig unionMoveSelectorConfig = new UnionMoveSelectorConfig(
+                Arrays.asList(new ChangeMoveSelectorConfig(), new SwapMoveSelectorConfig()));
+        unionMoveSelectorConfig.setAdaptiveSelectionPolicy(AdaptiveSelectionPolicy.PROBABILITY_MATCHING);
+        solverConfig.getPhaseConfigList().set(1, new LocalSearchPhaseConfig()
+                .withMoveSelectorConfig(unionMoveSelectorConfig));
+
+        TestdataSolution solution = PlannerTestUtils.generateTestdataSolution("s1", 4);
+        assertThatIllegalArgumentException().isThrownBy(() -> PlannerTestUtils.solve(solverConfig, solution))
+                .withMessageContaining("adaptiveSelectionPolicy")
+                .withMessageContaining("moveThreadCount");
+    }
+
+    private static AdaptiveUnionMoveSelector<TestdataSolution> buildMoveSelector(
+            AdaptiveSelectionPolicy adaptiveSelectionPolicy) {
+        List<MoveSelector<TestdataSolution>> childMoveSelectorList = new ArrayList<>();
+        childMoveSelectorList.add(SelectorTestUtils.mockMoveSelector(DummyMove.class,
+                new DummyMove("a1"), new DummyMove("a2")));
+        childMoveSelectorList.add(SelectorTestUtils.mockMoveSelector(DummyMove.class,
+                new DummyMove("b1"), new DummyMove("b2")));
+        return new AdaptiveUnionMoveSelector<>(childMoveSelectorList, new double[] { 1.0, 1.0 },
+                adaptiveSelectionPolicy, 0.5, 0.1);
+    }
+
+    private static LocalSearchPhaseScope<TestdataSolution> startPhase(
+            AdaptiveUnionMoveSelector<TestdataSolution> moveSelector) {
+        Random workingRandom = mock(Random.class);
+        // Select a1, then b1
+        when(workingRandom.nextDouble()).thenReturn(0.0, 0.99);
+        SolverScope<TestdataSolution> solverScope = mock(SolverScope.class);
+        when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
+        when(solverScope.getAdaptiveUnionMoveSelectorList()).thenReturn(new ArrayList<>());
+        moveSelector.solvingStarted(solverScope);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = mock(LocalSearchPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        when(phaseScope.getWorkingRandom()).thenReturn(workingRandom);
+        LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = mock(LocalSearchStepScope.class);
+        Score lastStepScore = SimpleScore.of(0);
+        when(lastCompletedStepScope.getScore()).thenReturn(lastStepScore);
+        when(phaseScope.getLastCompletedStepScope()).thenReturn(lastCompletedStepScope);
+        moveSelector.phaseStarted(phaseScope);
+        assertThat(solverScope.getAdaptiveUnionMoveSelectorList()).containsExactly(moveSelector);
+        return phaseScope;
+    }
+
+    private static void doImprovingStepOfSecondChild(AdaptiveUnionMoveSelector<TestdataSolution> moveSelector,
+            LocalSearchPhaseScope<TestdataSolution> phaseScope) {
+        LocalSearchStepScope<TestdataSolution> stepScope = mock(LocalSearchStepScope.class);
+        when(stepScope.getPhaseScope()).thenReturn(phaseScope);
+        Random workingRandom = phaseScope.getWorkingRandom();
+        when(stepScope.getWorkingRandom()).thenReturn(workingRandom);
+        moveSelector.stepStarted(stepScope);
+        Iterator<Move<TestdataSolution>> moveIterator = moveSelector.iterator();
+        assertThat(moveIterator.next()).hasToString("a1");
+        Move<TestdataSolution> step = moveIterator.next();
+        assertThat(step).hasToString("b1");
+        when(stepScope.getStep()).thenReturn(step);
+        Score stepScore = SimpleScore.of(1);
+        when(stepScope.getScore()).thenReturn(stepScore);
+        moveSelector.stepEnded(stepScope);
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.decorator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.domain.ordinal.OrdinalManager;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.DummyMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.SwapMove;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+public class CompactMoveListTest {
+
+    private final GenuineVariableDescriptor<TestdataSolution> variableDescriptor =
+            TestdataEntity.buildVariableDescriptorForValue();
+    private final TestdataEntity a = new TestdataEntity("a");
+    private final TestdataEntity b = new TestdataEntity("b");
+    private final TestdataValue v1 = new TestdataValue("v1");
+    private final TestdataValue v2 = new TestdataValue("v2");
+    private final OrdinalManager ordinalManager = buildOrdinalManager(a, b, v1, v2);
+
+    @Test
+    public void changeMoves() {
+        CompactMoveList<TestdataSolution> moveList = new CompactMoveList<>(ordinalManager, 2);
+        moveList.add(new ChangeMove<>(a, variableDescriptor, v1));
+        moveList.add(new ChangeMove<>(a, variableDescriptor, v2));
+        moveList.add(new ChangeMove<>(b, variableDescriptor, v1));
+        moveList.add(new ChangeMove<>(b, variableDescriptor, null));
+        assertThat(moveList.isEncoded()).isTrue();
+        assertThat(moveList).containsExactly(
+                new ChangeMove<>(a, variableDescriptor, v1),
+                new ChangeMove<>(a, variableDescriptor, v2),
+                new ChangeMove<>(b, variableDescriptor, v1),
+                new ChangeMove<>(b, variableDescriptor, null));
+        ChangeMove<TestdataSolution> move = (ChangeMove<TestdataSolution>) moveList.get(1);
+        assertThat(move.getEntity()).isSameAs(a);
+        assertThat(move.getToPlanningValue()).isSameAs(v2);
+
+        moveList.swap(0, 3);
+        assertThat(moveList.get(0)).isEqualTo(new ChangeMove<>(b, variableDescriptor, null));
+        assertThat(moveList.get(3)).isEqualTo(new ChangeMove<>(a, variableDescriptor, v1));
+
+        // Sorting decodes, sorts and encodes the moves again
+        moveList.sort(Comparator.comparing(Move::toString));
+        assertThat(moveList.isEncoded()).isTrue();
+        assertThat(moveList).extracting(Move::toString).isSorted();
+    }
+
+    @Test
+    public void decodedMovesAreReused() {
+        CompactMoveList<TestdataSolution> moveList = new CompactMoveList<>(ordinalManager, 2);
+        moveList.add(new ChangeMove<>(a, variableDescriptor, v1));
+        moveList.add(new ChangeMove<>(b, variableDescriptor, v2));
+        Move<TestdataSolution> move = moveList.get(1);
+        assertThat(moveList.get(1)).isSameAs(move);
+        Iterator<Move<TestdataSolution>> moveIterator = moveList.iterator();
+        moveIterator.next();
+        assertThat(moveIterator.next()).isSameAs(move);
+
+        moveList.swap(0, 1);
+        assertThat(moveList.get(1)).isNotSameAs(move).isEqualTo(new ChangeMove<>(a, variableDescriptor, v1));
+        assertThat(moveList.get(0)).isEqualTo(move);
+    }
+
+    @Test
+    public void swapMoves() {
+        List<GenuineVariableDescriptor<TestdataSolution>> variableDescriptorList =
+                Collections.singletonList(variableDescriptor);
+        CompactMoveList<TestdataSolution> moveList = new CompactMoveList<>(ordinalManager, 0);
+        moveList.add(new SwapMove<>(variableDescriptorList, a, b));
+        moveList.add(new SwapMove<>(variableDescriptorList, b, a));
+        assertThat(moveList.isEncoded()).isTrue();
+        assertThat(moveList).containsExactly(
+                new SwapMove<>(variableDescriptorList, a, b),
+                new SwapMove<>(variableDescriptorList, b, a));
+    }
+
+    @Test
+    public void fallBackToMoveInstances() {
+        CompactMoveList<TestdataSolution> moveList = new CompactMoveList<>(ordinalManager, 2);
+        moveList.add(new ChangeMove<>(a, variableDescriptor, v1));
+        DummyMove dummyMove = new DummyMove("dummy");
+        moveList.add(dummyMove);
+        assertThat(moveList.isEncoded()).isFalse();
+        assertThat(moveList).containsExactly(new ChangeMove<>(a, variableDescriptor, v1), dummyMove);
+        assertThat(moveList.get(1)).isSameAs(dummyMove);
+
+        moveList.clear();
+        assertThat(moveList).isEmpty();
+        moveList.add(new ChangeMove<>(b, variableDescriptor, v2));
+        assertThat(moveList.isEncoded()).isTrue();
+        assertThat(moveList).containsExactly(new ChangeMove<>(b, variableDescriptor, v2));
+    }
+
+    @Test
+    public void fallBackToMoveInstancesWithoutOrdinal() {
+        TestdataValue unknownValue = new TestdataValue("unknown");
+        CompactMoveList<TestdataSolution> moveList = new CompactMoveList<>(ordinalManager, 2);
+        moveList.add(new ChangeMove<>(a, variableDescriptor, v1));
+        moveList.add(new ChangeMove<>(a, variableDescriptor, unknownValue));
+        assertThat(moveList.isEncoded()).isFalse();
+        assertThat(moveList).containsExactly(
+                new ChangeMove<>(a, variableDescriptor, v1),
+                new ChangeMove<>(a, variableDescriptor, unknownValue));
+
+        CompactMoveList<TestdataSolution> withoutOrdinalManager = new CompactMoveList<>(null, 2);
+        withoutOrdinalManager.add(new ChangeMove<>(a, variableDescriptor, v1));
+        assertThat(withoutOrdinalManager.isEncoded()).isFalse();
+        assertThat(withoutOrdinalManager).containsExactly(new ChangeMove<>(a, variableDescriptor, v1));
+    }
+
+    @Test
+    public void changedWorkingObjects() {
+        OrdinalManager changingOrdinalManager = buildOrdinalManager(a, b, v1, v2);
+        CompactMoveList<TestdataSolution> moveList = new CompactMoveList<>(changingOrdinalManager, 2);
+        moveList.add(new ChangeMove<>(a, variableDescriptor, v1));
+        changingOrdinalManager.removeWorkingObject(v1);
+        changingOrdinalManager.addWorkingObject(new TestdataValue("v3"));
+        assertThatIllegalStateException().isThrownBy(() -> moveList.get(0));
+    }
+
+    private static OrdinalManager buildOrdinalManager(Object... workingObjects) {
+        OrdinalManager ordinalManager = new OrdinalManager();
+        ordinalManager.resetWorkingObjects(Arrays.asList(workingObjects));
+        return ordinalManager;
+    }
+
+}
@@ -62,7 +62,8 @@ public class ProbabilityMoveSelectorTest {
                 SelectionCacheType.STEP, probabilityWeightFactory);
 
         Random workingRandom = mock(Random.class);
-        when(workingRandom.nextDouble()).thenReturn(1222.0 / 1234.0, 111.0 / 1234.0, 0.0, 1230.0 / 1234.0, 1199.0 / 1234.0);
+        // The alias table has the columns e1 (1.0), e2 (0.648 or else e1), e3 (0.097 or else e1) and e4 (0.013 or else e1)
+        when(workingRandom.nextDouble()).thenReturn(2.05 / 4.0, 0.5 / 4.0, 0.0, 3.01 / 4.0, 1.5 / 4.0);
 
         SolverScope<TestdataSolution> solverScope = mock(SolverScope.class);
         when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
+import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.api.score.stream.Joiners;
+import org.optaplanner.core.config.heuristic.selector.move.generic.RuinRecreateMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.RuinType;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.config.solver.testutil.calculator.TestdataDifferentValuesCalculator;
+import org.optaplanner.core.impl.domain.variable.listener.support.VariableListenerSupport;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreDefinition;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+public class RuinRecreateMoveSelectorTest {
+
+    private final TestdataEntity e1 = new TestdataEntity("1");
+    private final TestdataEntity e2 = new TestdataEntity("2");
+    private final TestdataEntity e3 = new TestdataEntity("3");
+    private final TestdataEntity e4 = new TestdataEntity("4");
+    private final TestdataEntity e5 = new TestdataEntity("5");
+
+    @Test
+    public void randomRuin() {
+        RuinRecreateMoveSelector<TestdataSolution> moveSelector = buildMoveSelector(RuinType.RANDOM, 2, 3, null);
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        // A ruined count of 3, then e1, e1 again, e5 and e3
+        Random workingRandom = mockRandom(1, 0, 0, 4, 2);
+        startStep(moveSelector, scoreDirector, workingRandom);
+
+        Iterator<Move<TestdataSolution>> moveIterator = moveSelector.iterator();
+        assertThat(moveIterator.hasNext()).isTrue();
+        RuinRecreateMove<TestdataSolution> move = (RuinRecreateMove<TestdataSolution>) moveIterator.next();
+        assertThat(move.getRuinedEntityList()).containsExactly(e1, e5, e3);
+        assertThat(moveSelector.isNeverEnding()).isTrue();
+        assertThat(moveSelector.getSize()).isEqualTo(5L);
+    }
+
+    @Test
+    public void nearbyRuin() {
+        RuinRecreateMoveSelector<TestdataSolution> moveSelector = buildMoveSelector(RuinType.NEARBY, 3, 3,
+                new TestdataEntityCodeDistanceMeter());
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        // A ruined count of 3, then e3 as the seed
+        Random workingRandom = mockRandom(0, 2);
+        startStep(moveSelector, scoreDirector, workingRandom);
+
+        RuinRecreateMove<TestdataSolution> move = (RuinRecreateMove<TestdataSolution>) moveSelector.iterator().next();
+        assertThat(move.getRuinedEntityList()).containsExactly(e3, e2, e4);
+    }
+
+    @Test
+    public void indictmentRuin() {
+        RuinRecreateMoveSelector<TestdataSolution> moveSelector = buildMoveSelector(RuinType.INDICTMENT, 3, 3, null);
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getScoreDefinition()).thenReturn(new SimpleScoreDefinition());
+        when(scoreDirector.isConstraintMatchEnabled()).thenReturn(true);
+        ConstraintMatch<SimpleScore> constraintMatch = new ConstraintMatch<>("package", "Conflict",
+                Arrays.asList(e2, e4), SimpleScore.of(-1));
+        Indictment<SimpleScore> indictment = mock(Indictment.class);
+        when(indictment.getScore()).thenReturn(SimpleScore.of(-1));
+        Set<ConstraintMatch<SimpleScore>> constraintMatchSet = Collections.singleton(constraintMatch);
+        when(indictment.getConstraintMatchSet()).thenReturn(constraintMatchSet);
+        Map<Object, Indictment<SimpleScore>> indictmentMap = new HashMap<>();
+        indictmentMap.put(e2, indictment);
+        when(scoreDirector.getIndictmentMap()).thenReturn(indictmentMap);
+        // A ruined count of 3, then e2 as the seed, then its related e4, then e1 to top up
+        Random workingRandom = mockRandom(0, 0, 0, 0);
+        startStep(moveSelector, scoreDirector, workingRandom);
+
+        RuinRecreateMove<TestdataSolution> move = (RuinRecreateMove<TestdataSolution>) moveSelector.iterator().next();
+        assertThat(move.getRuinedEntityList()).containsExactly(e2, e4, e1);
+    }
+
+    @Test
+    public void solveWithRandomRuin() {
+        RuinRecreateMoveSelectorConfig moveSelectorConfig = new RuinRecreateMoveSelectorConfig();
+        TestdataSolution solution = solve(moveSelectorConfig, new ScoreDirectorFactoryConfig()
+                .withEasyScoreCalculatorClass(TestdataDifferentValuesCalculator.class));
+        assertThat(solution.getScore()).isEqualTo(SimpleScore.of(0));
+    }
+
+    @Test
+    public void solveWithNearbyRuin() {
+        RuinRecreateMoveSelectorConfig moveSelectorConfig = new RuinRecreateMoveSelectorConfig();
+        moveSelectorConfig.setRuinType(RuinType.NEARBY);
+        moveSelectorConfig.setNearbyDistanceMeterClass(TestdataEntityCodeDistanceMeter.class);
+        TestdataSolution solution = solve(moveSelectorConfig, new ScoreDirectorFactoryConfig()
+                .withEasyScoreCalculatorClass(TestdataDifferentValuesCalculator.class));
+        assertThat(solution.getScore()).isEqualTo(SimpleScore.of(0));
+    }
+
+    @Test
+    public void solveWithIndictmentRuin() {
+        RuinRecreateMoveSelectorConfig moveSelectorConfig = new RuinRecreateMoveSelectorConfig();
+        moveSelectorConfig.setRuinType(RuinType.INDICTMENT);
+        TestdataSolution solution = solve(moveSelectorConfig, new ScoreDirectorFactoryConfig()
+                .withConstraintProviderClass(TestdataDifferentValuesConstraintProvider.class));
+        assertThat(solution.getScore()).isEqualTo(SimpleScore.of(0));
+    }
+
+    private RuinRecreateMoveSelector<TestdataSolution> buildMoveSelector(RuinType ruinType,
+            int minimumRuinedEntityCount, int maximumRuinedEntityCount,
+            NearbyDistanceMeter<?, ?> nearbyDistanceMeter) {
+        EntitySelector<TestdataSolution> entitySelector = SelectorTestUtils.mockEntitySelector(
+                TestdataEntity.buildEntityDescriptor(), e1, e2, e3, e4, e5);
+        return new RuinRecreateMoveSelector<>(entitySelector,
+                TestdataEntity.buildEntityDescriptor().getGenuineVariableDescriptorList(), ruinType,
+                minimumRuinedEntityCount, maximumRuinedEntityCount, nearbyDistanceMeter, null);
+    }
+
+    private static Random mockRandom(Integer first, Integer... next) {
+        Random workingRandom = mock(Random.class);
+        when(workingRandom.nextInt(anyInt())).thenReturn(first, next);
+        return workingRandom;
+    }
+
+    private static void startStep(RuinRecreateMoveSelector<TestdataSolution> moveSelector,
+            InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector, Random workingRandom) {
+        SolverScope<TestdataSolution> solverScope = mock(SolverScope.class);
+        when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
+        moveSelector.solvingStarted(solverScope);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = mock(LocalSearchPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        when(phaseScope.getWorkingRandom()).thenReturn(workingRandom);
+        when(phaseScope.getScoreDirector()).thenReturn((InnerScoreDirector) scoreDirector);
+        when(scoreDirector.getSupplyManager()).thenReturn(new VariableListenerSupport<>(scoreDirector));
+        moveSelector.phaseStarted(phaseScope);
+        LocalSearchStepScope<TestdataSolution> stepScope = mock(LocalSearchStepScope.class);
+        when(stepScope.getPhaseScope()).thenReturn(phaseScope);
+        when(stepScope.getWorkingRandom()).thenReturn(workingRandom);
+        moveSelector.stepStarted(stepScope);
+    }
+
+    private static TestdataSolution solve(RuinRecreateMoveSelectorConfig moveSelectorConfig,
+            ScoreDirectorFactoryConfig scoreDirectorFactoryConfig) {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.setScoreDirectorFactoryConfig(scoreDirectorFactoryConfig);
+        LocalSearchPhaseConfig localSearchPhaseConfig = new LocalSearchPhaseConfig()
+                .withMoveSelectorConfig(moveSelectorConfig);
+        localSearchPhaseConfig.setTerminationConfig(
+                new TerminationConfig().withStepCountLimit(PlannerTestUtils.TERMINATION_STEP_COUNT_LIMIT));
+        solverConfig.getPhaseConfigList().set(1, localSearchPhaseConfig);
+
+        TestdataSolution solution = PlannerTestUtils.generateTestdataSolution("s1", 5);
+        return PlannerTestUtils.solve(solverConfig, solution);
+    }
+
+    public static class TestdataEntityCodeDistanceMeter implements NearbyDistanceMeter<TestdataEntity, TestdataEntity> {
+
+        @Override
+        public double getNearbyDistance(TestdataEntity origin, TestdataEntity destination) {
+            return Math.abs(parseNumber(origin) - parseNumber(destination));
+        }
+
+        private static int parseNumber(TestdataEntity entity) {
+            return Integer.parseInt(entity.getCode().replaceAll("\\D", ""));
+        }
+
+    }
+
+    public static class TestdataDifferentValuesConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.fromUniquePair(TestdataEntity.class, Joiners.equal(TestdataEntity::getValue))
+                            .penalize("Same value", SimpleScore.ONE)
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.optaplanner.core.impl.testdata.util.PlannerTestUtils.mockRebasingScoreDirector;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.config.solver.testutil.calculator.TestdataDifferentValuesCalculator;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.easy.EasyScoreDirectorFactory;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+public class RuinRecreateMoveTest {
+
+    @Test
+    public void doMoveAndUndo() {
+        EntityDescriptor<TestdataSolution> entityDescriptor = TestdataEntity.buildEntityDescriptor();
+        List<GenuineVariableDescriptor<TestdataSolution>> variableDescriptorList = entityDescriptor
+                .getGenuineVariableDescriptorList();
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        TestdataEntity e2 = new TestdataEntity("e2", v1);
+        TestdataEntity e3 = new TestdataEntity("e3", v2);
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        solution.setEntityList(Arrays.asList(e1, e2, e3));
+
+        EasyScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory = new EasyScoreDirectorFactory<>(
+                entityDescriptor.getSolutionDescriptor(), new TestdataDifferentValuesCalculator());
+        try (InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false)) {
+            scoreDirector.setWorkingSolution(solution);
+            assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-1));
+
+            RuinRecreateMove<TestdataSolution> move = new RuinRecreateMove<>(variableDescriptorList,
+                    Arrays.asList(e1, e2));
+            assertThat(move.isMoveDoable(scoreDirector)).isTrue();
+            RuinRecreateMove<TestdataSolution> undoMove = move.createUndoMove(scoreDirector);
+            move.doMove(scoreDirector);
+            // e1 keeps v1 because the first value wins a tie, e2 avoids both used values
+            assertThat(e1.getValue()).isSameAs(v1);
+            assertThat(e2.getValue()).isSameAs(v3);
+            assertThat(e3.getValue()).isSameAs(v2);
+            assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(0));
+            assertThat((Collection<Object>) move.getPlanningValues()).containsExactly(v1, v3);
+
+            undoMove.doMove(scoreDirector);
+            assertThat(e1.getValue()).isSameAs(v1);
+            assertThat(e2.getValue()).isSameAs(v1);
+            assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-1));
+
+            // Redoing reuses the recreated values
+            move.doMove(scoreDirector);
+            assertThat(e2.getValue()).isSameAs(v3);
+            assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(0));
+        }
+    }
+
+    @Test
+    public void rebase() {
+        EntityDescriptor<TestdataSolution> entityDescriptor = TestdataEntity.buildEntityDescriptor();
+        List<GenuineVariableDescriptor<TestdataSolution>> variableDescriptorList = entityDescriptor
+                .getGenuineVariableDescriptorList();
+
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        TestdataEntity e2 = new TestdataEntity("e2", null);
+
+        TestdataValue destinationV1 = new TestdataValue("v1");
+        TestdataEntity destinationE1 = new TestdataEntity("e1", destinationV1);
+        TestdataEntity destinationE2 = new TestdataEntity("e2", null);
+
+        ScoreDirector<TestdataSolution> destinationScoreDirector = mockRebasingScoreDirector(
+                entityDescriptor.getSolutionDescriptor(), new Object[][] {
+                        { v1, destinationV1 },
+                        { e1, destinationE1 },
+                        { e2, destinationE2 },
+                });
+
+        RuinRecreateMove<TestdataSolution> rebasedMove = new RuinRecreateMove<>(variableDescriptorList,
+                Arrays.asList(e1, e2)).rebase(destinationScoreDirector);
+        assertThat(rebasedMove.getRuinedEntityList()).containsExactly(destinationE1, destinationE2);
+        RuinRecreateMove<TestdataSolution> rebasedUndoMove = new RuinRecreateMove<>(variableDescriptorList,
+                Arrays.asList(e1, e2), new Object[] { v1, null }).rebase(destinationScoreDirector);
+        assertThat(rebasedUndoMove.getRuinedEntityList()).containsExactly(destinationE1, destinationE2);
+        assertThat((Collection<Object>) rebasedUndoMove.getPlanningValues()).containsExactly(destinationV1, null);
+    }
+
+}
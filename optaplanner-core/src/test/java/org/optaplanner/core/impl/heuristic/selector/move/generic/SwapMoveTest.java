@@ -21,6 +21,7 @@ import static org.mockito.Mockito.mock;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
 import static org.optaplanner.core.impl.testdata.util.PlannerTestUtils.mockRebasingScoreDirector;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -250,6 +251,28 @@ public class SwapMoveTest {
         assertCode("d", move.getRightEntity());
     }
 
+    @Test
+    public void visitPlanningEntitiesAndValues() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        TestdataValue v4 = new TestdataValue("v4");
+        TestdataOtherValue w1 = new TestdataOtherValue("w1");
+        TestdataOtherValue w2 = new TestdataOtherValue("w2");
+        TestdataMultiVarEntity b = new TestdataMultiVarEntity("b", v1, v3, w1);
+        TestdataMultiVarEntity c = new TestdataMultiVarEntity("c", v2, v4, w2);
+        EntityDescriptor<TestdataMultiVarSolution> entityDescriptor = TestdataMultiVarEntity.buildEntityDescriptor();
+        SwapMove<TestdataMultiVarSolution> move = new SwapMove<>(entityDescriptor.getGenuineVariableDescriptorList(),
+                b, c);
+
+        List<Object> entityList = new ArrayList<>();
+        move.visitPlanningEntities(entityList::add);
+        assertThat(entityList).containsExactlyElementsOf(move.getPlanningEntities());
+        List<Object> valueList = new ArrayList<>();
+        move.visitPlanningValues(valueList::add);
+        assertThat(valueList).containsExactlyElementsOf(move.getPlanningValues());
+    }
+
     @Test
     public void toStringTest() {
         TestdataValue v1 = new TestdataValue("v1");
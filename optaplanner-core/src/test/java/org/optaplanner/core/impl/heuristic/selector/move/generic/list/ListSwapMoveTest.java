@@ -0,0 +1,69 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
+
+public class ListSwapMoveTest {
+
+    private final ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+            TestdataListEntity.buildVariableDescriptorForValueList();
+    private final InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+
+    @Test
+    public void isMoveDoable() {
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2);
+
+        assertThat(new ListSwapMove<>(variableDescriptor, a, 0, a, 0).isMoveDoable(scoreDirector)).isFalse();
+        assertThat(new ListSwapMove<>(variableDescriptor, a, 0, a, 1).isMoveDoable(scoreDirector)).isTrue();
+    }
+
+    @Test
+    public void doMoveAndUndo() {
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListValue v3 = new TestdataListValue("3");
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2);
+        TestdataListEntity b = new TestdataListEntity("b", v3);
+
+        ListSwapMove<TestdataListSolution> move = new ListSwapMove<>(variableDescriptor, a, 0, b, 0);
+        Move<TestdataListSolution> undoMove = move.doMove(scoreDirector);
+        assertThat(a.getValueList()).containsExactly(v3, v2);
+        assertThat(b.getValueList()).containsExactly(v1);
+
+        undoMove.doMove(scoreDirector);
+        assertThat(a.getValueList()).containsExactly(v1, v2);
+        assertThat(b.getValueList()).containsExactly(v3);
+
+        ListSwapMove<TestdataListSolution> sameEntityMove = new ListSwapMove<>(variableDescriptor, a, 0, a, 1);
+        sameEntityMove.doMove(scoreDirector);
+        assertThat(a.getValueList()).containsExactly(v2, v1);
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.value.chained;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.anchor.ExternalizedAnchorVariableSupply;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.inverserelation.ExternalizedSingletonInverseVariableSupply;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedObject;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
+
+public class AnchorTrailingChainSupplyTest {
+
+    @Test
+    public void chainedEntity() {
+        GenuineVariableDescriptor<TestdataChainedSolution> variableDescriptor =
+                TestdataChainedEntity.buildVariableDescriptorForChainedObject();
+        ScoreDirector<TestdataChainedSolution> scoreDirector = mock(ScoreDirector.class);
+        ExternalizedSingletonInverseVariableSupply<TestdataChainedSolution> nextVariableSupply =
+                new ExternalizedSingletonInverseVariableSupply<>(variableDescriptor);
+        ExternalizedAnchorVariableSupply<TestdataChainedSolution> anchorVariableSupply =
+                new ExternalizedAnchorVariableSupply<>(variableDescriptor, nextVariableSupply);
+        AnchorTrailingChainSupply<TestdataChainedSolution> supply =
+                new AnchorTrailingChainSupply<>(variableDescriptor, nextVariableSupply, anchorVariableSupply);
+
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        TestdataChainedEntity a3 = new TestdataChainedEntity("a3", a2);
+
+        TestdataChainedAnchor b0 = new TestdataChainedAnchor("b0");
+        TestdataChainedEntity b1 = new TestdataChainedEntity("b1", b0);
+
+        TestdataChainedAnchor c0 = new TestdataChainedAnchor("c0");
+
+        TestdataChainedSolution solution = new TestdataChainedSolution("solution");
+        solution.setChainedAnchorList(Arrays.asList(a0, b0, c0));
+        solution.setChainedEntityList(Arrays.asList(a1, a2, a3, b1));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        nextVariableSupply.resetWorkingSolution(scoreDirector);
+        anchorVariableSupply.resetWorkingSolution(scoreDirector);
+        supply.resetWorkingSolution(scoreDirector);
+
+        assertThat(supply.getAnchorTrailingChain(a0)).containsExactly(a1, a2, a3);
+        List<Object> bChain = supply.getAnchorTrailingChain(b0);
+        assertThat(bChain).containsExactly(b1);
+        assertThat(supply.getAnchorTrailingChain(c0)).isEmpty();
+
+        nextVariableSupply.beforeVariableChanged(scoreDirector, a2);
+        anchorVariableSupply.beforeVariableChanged(scoreDirector, a2);
+        supply.beforeVariableChanged(scoreDirector, a2);
+        a2.setChainedObject(c0);
+        nextVariableSupply.afterVariableChanged(scoreDirector, a2);
+        anchorVariableSupply.afterVariableChanged(scoreDirector, a2);
+        supply.afterVariableChanged(scoreDirector, a2);
+
+        nextVariableSupply.beforeVariableChanged(scoreDirector, a3);
+        anchorVariableSupply.beforeVariableChanged(scoreDirector, a3);
+        supply.beforeVariableChanged(scoreDirector, a3);
+        a3.setChainedObject(a1);
+        nextVariableSupply.afterVariableChanged(scoreDirector, a3);
+        anchorVariableSupply.afterVariableChanged(scoreDirector, a3);
+        supply.afterVariableChanged(scoreDirector, a3);
+
+        assertThat(supply.getAnchorTrailingChain(a0)).containsExactly(a1, a3);
+        // The untouched chain is not walked again
+        assertThat(supply.getAnchorTrailingChain(b0)).isSameAs(bChain);
+        assertThat(supply.getAnchorTrailingChain(c0)).containsExactly(a2);
+
+        supply.close();
+        anchorVariableSupply.close();
+        nextVariableSupply.close();
+    }
+
+    @Test
+    public void evaluatedMovesDoNotInvalidateChains() {
+        GenuineVariableDescriptor<TestdataChainedSolution> variableDescriptor =
+                TestdataChainedEntity.buildVariableDescriptorForChainedObject();
+        InnerScoreDirector<TestdataChainedSolution, ?> scoreDirector = mock(InnerScoreDirector.class);
+        ExternalizedSingletonInverseVariableSupply<TestdataChainedSolution> nextVariableSupply =
+                new ExternalizedSingletonInverseVariableSupply<>(variableDescriptor);
+        ExternalizedAnchorVariableSupply<TestdataChainedSolution> anchorVariableSupply =
+                new ExternalizedAnchorVariableSupply<>(variableDescriptor, nextVariableSupply);
+        AnchorTrailingChainSupply<TestdataChainedSolution> supply =
+                new AnchorTrailingChainSupply<>(variableDescriptor, nextVariableSupply, anchorVariableSupply);
+
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        TestdataChainedAnchor b0 = new TestdataChainedAnchor("b0");
+
+        TestdataChainedSolution solution = new TestdataChainedSolution("solution");
+        solution.setChainedAnchorList(Arrays.asList(a0, b0));
+        solution.setChainedEntityList(Arrays.asList(a1, a2));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        nextVariableSupply.resetWorkingSolution(scoreDirector);
+        anchorVariableSupply.resetWorkingSolution(scoreDirector);
+        supply.resetWorkingSolution(scoreDirector);
+
+        List<Object> aChain = supply.getAnchorTrailingChain(a0);
+        assertThat(aChain).containsExactly(a1, a2);
+        List<Object> bChain = supply.getAnchorTrailingChain(b0);
+        assertThat(bChain).isEmpty();
+
+        // Evaluate a move and undo it
+        when(scoreDirector.isAllChangesWillBeUndoneBeforeStepEnds()).thenReturn(true);
+        changeChainedObject(scoreDirector, nextVariableSupply, anchorVariableSupply, supply, a2, b0);
+        changeChainedObject(scoreDirector, nextVariableSupply, anchorVariableSupply, supply, a2, a1);
+        when(scoreDirector.isAllChangesWillBeUndoneBeforeStepEnds()).thenReturn(false);
+        assertThat(supply.getAnchorTrailingChain(a0)).isSameAs(aChain);
+        assertThat(supply.getAnchorTrailingChain(b0)).isSameAs(bChain);
+
+        // Do the step
+        changeChainedObject(scoreDirector, nextVariableSupply, anchorVariableSupply, supply, a2, b0);
+        assertThat(supply.getAnchorTrailingChain(a0)).containsExactly(a1);
+        assertThat(supply.getAnchorTrailingChain(b0)).containsExactly(a2);
+
+        supply.close();
+        anchorVariableSupply.close();
+        nextVariableSupply.close();
+    }
+
+    private static void changeChainedObject(InnerScoreDirector<TestdataChainedSolution, ?> scoreDirector,
+            ExternalizedSingletonInverseVariableSupply<TestdataChainedSolution> nextVariableSupply,
+            ExternalizedAnchorVariableSupply<TestdataChainedSolution> anchorVariableSupply,
+            AnchorTrailingChainSupply<TestdataChainedSolution> supply,
+            TestdataChainedEntity entity, TestdataChainedObject chainedObject) {
+        nextVariableSupply.beforeVariableChanged(scoreDirector, entity);
+        anchorVariableSupply.beforeVariableChanged(scoreDirector, entity);
+        supply.beforeVariableChanged(scoreDirector, entity);
+        entity.setChainedObject(chainedObject);
+        nextVariableSupply.afterVariableChanged(scoreDirector, entity);
+        anchorVariableSupply.afterVariableChanged(scoreDirector, entity);
+        supply.afterVariableChanged(scoreDirector, entity);
+    }
+
+}
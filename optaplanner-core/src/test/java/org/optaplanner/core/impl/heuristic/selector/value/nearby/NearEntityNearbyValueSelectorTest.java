@@ -23,6 +23,7 @@ import static org.optaplanner.core.impl.testdata.util.PlannerAssert.verifyPhaseL
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.support.VariableListenerSupport;
 import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
@@ -31,6 +32,7 @@ import org.optaplanner.core.impl.heuristic.selector.entity.mimic.MimicReplayingE
 import org.optaplanner.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -108,6 +110,7 @@ public class NearEntityNearbyValueSelectorTest {
         TestdataEntity movingEntity = europe;
 
         AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
+        when(phaseScopeA.getScoreDirector()).thenReturn(mockScoreDirector());
         when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
         valueSelector.phaseStarted(phaseScopeA);
 
@@ -128,6 +131,7 @@ public class NearEntityNearbyValueSelectorTest {
         valueSelector.phaseEnded(phaseScopeA);
 
         AbstractPhaseScope phaseScopeB = mock(AbstractPhaseScope.class);
+        when(phaseScopeB.getScoreDirector()).thenReturn(mockScoreDirector());
         when(phaseScopeB.getSolverScope()).thenReturn(solverScope);
         valueSelector.phaseStarted(phaseScopeB);
 
@@ -226,6 +230,7 @@ public class NearEntityNearbyValueSelectorTest {
         TestdataChainedEntity movingEntity = spain;
 
         AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
+        when(phaseScopeA.getScoreDirector()).thenReturn(mockScoreDirector());
         when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
         valueSelector.phaseStarted(phaseScopeA);
 
@@ -246,6 +251,7 @@ public class NearEntityNearbyValueSelectorTest {
         valueSelector.phaseEnded(phaseScopeA);
 
         AbstractPhaseScope phaseScopeB = mock(AbstractPhaseScope.class);
+        when(phaseScopeB.getScoreDirector()).thenReturn(mockScoreDirector());
         when(phaseScopeB.getSolverScope()).thenReturn(solverScope);
         valueSelector.phaseStarted(phaseScopeB);
 
@@ -279,4 +285,10 @@ public class NearEntityNearbyValueSelectorTest {
         //        verify(childValueSelector, times(5)).getSize(any());
     }
 
+    private static InnerScoreDirector mockScoreDirector() {
+        InnerScoreDirector scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getSupplyManager()).thenReturn(new VariableListenerSupport<>(scoreDirector));
+        return scoreDirector;
+    }
+
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchType;
+import org.optaplanner.core.config.localsearch.PerturbationType;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
+import org.optaplanner.core.impl.localsearch.decider.LocalSearchDecider;
+import org.optaplanner.core.impl.localsearch.decider.VariableNeighborhoodDescentDecider;
+import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
+import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
+import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+class DefaultLocalSearchPhaseFactoryTest {
+
+    @Test
+    void variableNeighborhoodDescentWithoutPerturbation() {
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig()
+                .withLocalSearchType(LocalSearchType.VARIABLE_NEIGHBORHOOD_DESCENT);
+        assertThat(buildDecider(phaseConfig)).isExactlyInstanceOf(LocalSearchDecider.class);
+    }
+
+    @Test
+    void variableNeighborhoodDescentWithPerturbationType() {
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig()
+                .withLocalSearchType(LocalSearchType.VARIABLE_NEIGHBORHOOD_DESCENT)
+                .withPerturbationType(PerturbationType.ESCALATING);
+        assertThat(buildDecider(phaseConfig)).isExactlyInstanceOf(VariableNeighborhoodDescentDecider.class);
+    }
+
+    @Test
+    void variableNeighborhoodDescentWithPerturbationMoveCount() {
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig()
+                .withLocalSearchType(LocalSearchType.VARIABLE_NEIGHBORHOOD_DESCENT)
+                .withPerturbationMoveCount(5);
+        assertThat(buildDecider(phaseConfig)).isExactlyInstanceOf(VariableNeighborhoodDescentDecider.class);
+    }
+
+    private LocalSearchDecider<TestdataSolution> buildDecider(LocalSearchPhaseConfig phaseConfig) {
+        phaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(10));
+        InnerScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory = mock(InnerScoreDirectorFactory.class);
+        when(scoreDirectorFactory.getSolutionDescriptor()).thenReturn(TestdataSolution.buildSolutionDescriptor());
+        HeuristicConfigPolicy<TestdataSolution> configPolicy = new HeuristicConfigPolicy<>(EnvironmentMode.REPRODUCIBLE,
+                null, null, null, scoreDirectorFactory);
+        DefaultLocalSearchPhase<TestdataSolution> phase =
+                (DefaultLocalSearchPhase<TestdataSolution>) new DefaultLocalSearchPhaseFactory<TestdataSolution>(phaseConfig)
+                        .buildPhase(0, configPolicy, mock(BestSolutionRecaller.class), mock(Termination.class));
+        return phase.getDecider();
+    }
+
+}
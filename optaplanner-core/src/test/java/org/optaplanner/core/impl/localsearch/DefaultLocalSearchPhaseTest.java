@@ -17,14 +17,20 @@
 package org.optaplanner.core.impl.localsearch;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
 
 import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.score.stream.ConstraintStreamImplType;
 import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchType;
+import org.optaplanner.core.config.localsearch.PerturbationType;
+import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
@@ -32,6 +38,8 @@ import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 import org.optaplanner.core.impl.testdata.domain.pinned.TestdataPinnedEntity;
 import org.optaplanner.core.impl.testdata.domain.pinned.TestdataPinnedSolution;
+import org.optaplanner.core.impl.testdata.domain.score.TestdataHardSoftScoreConstraintProvider;
+import org.optaplanner.core.impl.testdata.domain.score.TestdataHardSoftScoreSolution;
 import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
 
 public class DefaultLocalSearchPhaseTest {
@@ -209,4 +217,128 @@ public class DefaultLocalSearchPhaseTest {
         assertThat(solution.getEntityList().size()).isEqualTo(0);
     }
 
+    @Test
+    public void solveWithLevelWiseScoreCalculation() {
+        TestdataHardSoftScoreSolution expectedSolution = solveLevelWise(EnvironmentMode.REPRODUCIBLE, false);
+        TestdataHardSoftScoreSolution solution = solveLevelWise(EnvironmentMode.REPRODUCIBLE, true);
+        // An early rejected move is rejected anyway, so the same steps are taken
+        assertThat(solution.getScore()).isEqualTo(expectedSolution.getScore());
+        for (int i = 0; i < solution.getEntityList().size(); i++) {
+            assertCode(expectedSolution.getEntityList().get(i).getValue().getCode(),
+                    solution.getEntityList().get(i).getValue());
+        }
+    }
+
+    @Test
+    public void solveWithLevelWiseScoreCalculationFullAssert() {
+        TestdataHardSoftScoreSolution solution = solveLevelWise(EnvironmentMode.FULL_ASSERT, true);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+    }
+
+    private TestdataHardSoftScoreSolution solveLevelWise(EnvironmentMode environmentMode,
+            boolean levelWiseScoreCalculation) {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataHardSoftScoreSolution.class, TestdataEntity.class);
+        solverConfig.setEnvironmentMode(environmentMode);
+        solverConfig.setScoreDirectorFactoryConfig(new ScoreDirectorFactoryConfig()
+                .withConstraintProviderClass(TestdataHardSoftScoreConstraintProvider.class)
+                .withConstraintStreamImplType(ConstraintStreamImplType.BAVET));
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig()
+                .withLocalSearchType(LocalSearchType.TABU_SEARCH)
+                .withLevelWiseScoreCalculation(levelWiseScoreCalculation);
+        phaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(20));
+        solverConfig.setPhaseConfigList(Collections.singletonList(phaseConfig));
+
+        TestdataHardSoftScoreSolution solution = TestdataHardSoftScoreSolution.generateSolution(4, 8);
+        return PlannerTestUtils.solve(solverConfig, solution);
+    }
+
+    @Test
+    public void solveVariableNeighborhoodDescentWithFixedPerturbation() {
+        TestdataHardSoftScoreSolution solution = solveVariableNeighborhoodDescent(PerturbationType.FIXED);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+    }
+
+    @Test
+    public void solveVariableNeighborhoodDescentWithEscalatingPerturbation() {
+        TestdataHardSoftScoreSolution solution = solveVariableNeighborhoodDescent(PerturbationType.ESCALATING);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+    }
+
+    private TestdataHardSoftScoreSolution solveVariableNeighborhoodDescent(PerturbationType perturbationType) {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataHardSoftScoreSolution.class, TestdataEntity.class);
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.setScoreDirectorFactoryConfig(new ScoreDirectorFactoryConfig()
+                .withConstraintProviderClass(TestdataHardSoftScoreConstraintProvider.class)
+                .withConstraintStreamImplType(ConstraintStreamImplType.BAVET));
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig()
+                .withLocalSearchType(LocalSearchType.VARIABLE_NEIGHBORHOOD_DESCENT)
+                .withPerturbationType(perturbationType)
+                .withPerturbationMoveCount(2);
+        phaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(50));
+        solverConfig.setPhaseConfigList(Collections.singletonList(phaseConfig));
+
+        TestdataHardSoftScoreSolution solution = TestdataHardSoftScoreSolution.generateSolution(4, 8);
+        return PlannerTestUtils.solve(solverConfig, solution);
+    }
+
+    @Test
+    public void perturbationWithoutVariableNeighborhoodDescent() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataSolution.class, TestdataEntity.class);
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig()
+                .withLocalSearchType(LocalSearchType.TABU_SEARCH)
+                .withPerturbationType(PerturbationType.ESCALATING);
+        phaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(10));
+        solverConfig.setPhaseConfigList(Collections.singletonList(phaseConfig));
+
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 2);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> PlannerTestUtils.solve(solverConfig, solution))
+                .withMessageContaining("perturbationType");
+    }
+
+    @Test
+    public void solveWithIslands() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataHardSoftScoreSolution.class, TestdataEntity.class);
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.setScoreDirectorFactoryConfig(new ScoreDirectorFactoryConfig()
+                .withConstraintProviderClass(TestdataHardSoftScoreConstraintProvider.class)
+                .withConstraintStreamImplType(ConstraintStreamImplType.BAVET));
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig()
+                .withIslandCount(3)
+                .withIslandExchangeStepCount(5);
+        phaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(30));
+        solverConfig.setPhaseConfigList(Collections.singletonList(phaseConfig));
+
+        TestdataHardSoftScoreSolution solution = TestdataHardSoftScoreSolution.generateSolution(4, 8);
+        // Start from the worst solution, so the islands have something to improve and exchange
+        TestdataValue firstValue = solution.getValueList().get(0);
+        solution.getEntityList().forEach(entity -> entity.setValue(firstValue));
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getScore()).isGreaterThan(HardSoftScore.of(-28, 0));
+    }
+
+    @Test
+    public void islandsWithMoveThreadCount() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setMoveThreadCount("2");
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig()
+                .withIslandCount(2);
+        phaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(10));
+        solverConfig.setPhaseConfigList(Collections.singletonList(phaseConfig));
+
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 2);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> PlannerTestUtils.solve(solverConfig, solution))
+                .withMessageContaining("moveThreadCount");
+    }
+
 }
@@ -26,6 +26,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.CompositeAcceptor;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
@@ -74,6 +76,27 @@ public class CompositeAcceptorTest {
         assertThat(isCompositeAccepted(false, false, false)).isFalse();
     }
 
+    @Test
+    public void getRejectionThreshold() {
+        assertThat(getCompositeRejectionThreshold(null, null)).isNull();
+        assertThat(getCompositeRejectionThreshold(SimpleScore.of(-10), null)).isEqualTo(SimpleScore.of(-10));
+        assertThat(getCompositeRejectionThreshold(null, SimpleScore.of(-10), SimpleScore.of(-20)))
+                .isEqualTo(SimpleScore.of(-10));
+        assertThat(getCompositeRejectionThreshold(SimpleScore.of(-20), SimpleScore.of(-10)))
+                .isEqualTo(SimpleScore.of(-10));
+    }
+
+    private Score getCompositeRejectionThreshold(Score... childThresholds) {
+        List<Acceptor> acceptorList = new ArrayList<>(childThresholds.length);
+        for (Score childThreshold : childThresholds) {
+            Acceptor acceptor = mock(Acceptor.class);
+            when(acceptor.getRejectionThreshold(any(LocalSearchMoveScope.class))).thenReturn(childThreshold);
+            acceptorList.add(acceptor);
+        }
+        CompositeAcceptor acceptor = new CompositeAcceptor(acceptorList);
+        return acceptor.getRejectionThreshold(mock(LocalSearchMoveScope.class));
+    }
+
     private boolean isCompositeAccepted(boolean... childAccepts) {
         List<Acceptor> acceptorList = new ArrayList<>(childAccepts.length);
         for (boolean childAccept : childAccepts) {
@@ -78,4 +78,26 @@ public class HillClimbingAcceptorTest extends AbstractAcceptorTest {
         acceptor.phaseEnded(phaseScope);
     }
 
+    @Test
+    public void getRejectionThreshold() {
+        HillClimbingAcceptor<TestdataSolution> acceptor = new HillClimbingAcceptor<>();
+
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setBestScore(SimpleScore.of(-500));
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setScore(SimpleScore.of(-1000));
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        acceptor.phaseStarted(phaseScope);
+
+        LocalSearchStepScope<TestdataSolution> stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        LocalSearchMoveScope<TestdataSolution> moveScope0 = buildMoveScope(stepScope0, -2000);
+        assertThat(acceptor.getRejectionThreshold(moveScope0)).isEqualTo(SimpleScore.of(-1000));
+        // Every move worse than the threshold is rejected
+        assertThat(acceptor.isAccepted(moveScope0)).isFalse();
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope0, -1000))).isTrue();
+
+        acceptor.phaseEnded(phaseScope);
+    }
+
 }
@@ -18,6 +18,8 @@ package org.optaplanner.core.impl.localsearch.decider.acceptor.lateacceptance;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
@@ -25,6 +27,8 @@ import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptorTe
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreDefinition;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 
@@ -37,6 +41,7 @@ public class LateAcceptanceAcceptorTest extends AbstractAcceptorTest {
         acceptor.setHillClimbingEnabled(false);
 
         SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(mockScoreDirector());
         solverScope.setBestScore(SimpleScore.of(-1000));
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
         LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
@@ -150,6 +155,7 @@ public class LateAcceptanceAcceptorTest extends AbstractAcceptorTest {
         acceptor.setHillClimbingEnabled(true);
 
         SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(mockScoreDirector());
         solverScope.setBestScore(SimpleScore.of(-1000));
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
         LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
@@ -269,4 +275,58 @@ public class LateAcceptanceAcceptorTest extends AbstractAcceptorTest {
         acceptor.setLateAcceptanceSize(-1);
         assertThatIllegalArgumentException().isThrownBy(() -> acceptor.phaseStarted(null));
     }
+
+    @Test
+    public void uninitializedStepScoreFallsBackToGenericComparison() {
+        LateAcceptanceAcceptor acceptor = new LateAcceptanceAcceptor();
+        acceptor.setLateAcceptanceSize(2);
+        acceptor.setHillClimbingEnabled(false);
+
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(mockScoreDirector());
+        solverScope.setBestScore(SimpleScore.of(-1000));
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setScore(solverScope.getBestScore());
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        acceptor.phaseStarted(phaseScope);
+
+        // lateScore = -1000
+        LocalSearchStepScope<TestdataSolution> stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope0, -999))).isTrue();
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope0, -1001))).isFalse();
+        LocalSearchMoveScope<TestdataSolution> moveScope0 = buildMoveScope(stepScope0, -2000);
+        moveScope0.setScore(SimpleScore.ofUninitialized(-1, -2000));
+        assertThat(acceptor.isAccepted(moveScope0)).isFalse();
+        stepScope0.setStep(moveScope0.getMove());
+        stepScope0.setScore(moveScope0.getScore());
+        acceptor.stepEnded(stepScope0);
+        phaseScope.setLastCompletedStepScope(stepScope0);
+
+        // lateScore = -1000
+        LocalSearchStepScope<TestdataSolution> stepScope1 = new LocalSearchStepScope<>(phaseScope);
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope1, -999))).isTrue();
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope1, -1001))).isFalse();
+        LocalSearchMoveScope<TestdataSolution> moveScope1 = buildMoveScope(stepScope1, -900);
+        stepScope1.setStep(moveScope1.getMove());
+        stepScope1.setScore(moveScope1.getScore());
+        acceptor.stepEnded(stepScope1);
+        phaseScope.setLastCompletedStepScope(stepScope1);
+
+        // lateScore = -2000 uninitialized
+        LocalSearchStepScope<TestdataSolution> stepScope2 = new LocalSearchStepScope<>(phaseScope);
+        LocalSearchMoveScope<TestdataSolution> moveScope2 = buildMoveScope(stepScope2, -3000);
+        moveScope2.setScore(SimpleScore.ofUninitialized(-1, -1000));
+        assertThat(acceptor.isAccepted(moveScope2)).isTrue();
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope2, -5000))).isTrue();
+
+        acceptor.phaseEnded(phaseScope);
+    }
+
+    private InnerScoreDirector<TestdataSolution, SimpleScore> mockScoreDirector() {
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getScoreDefinition()).thenReturn(new SimpleScoreDefinition());
+        return scoreDirector;
+    }
+
 }
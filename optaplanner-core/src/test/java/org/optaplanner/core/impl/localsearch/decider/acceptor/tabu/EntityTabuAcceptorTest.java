@@ -17,18 +17,25 @@
 package org.optaplanner.core.impl.localsearch.decider.acceptor.tabu;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.domain.ordinal.OrdinalManager;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.size.FixedTabuSizeStrategy;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
@@ -48,6 +55,7 @@ public class EntityTabuAcceptorTest {
         TestdataEntity e4 = new TestdataEntity("e4");
 
         SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(buildScoreDirector(e0, e1, e2, e3, e4));
         solverScope.setBestScore(SimpleScore.of(0));
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
         acceptor.phaseStarted(phaseScope);
@@ -133,6 +141,7 @@ public class EntityTabuAcceptorTest {
         TestdataEntity e4 = new TestdataEntity("e4");
 
         SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(buildScoreDirector(e0, e1, e2, e3, e4));
         solverScope.setBestScore(SimpleScore.of(0));
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
         acceptor.phaseStarted(phaseScope);
@@ -230,6 +239,7 @@ public class EntityTabuAcceptorTest {
         TestdataEntity e1 = new TestdataEntity("e1");
 
         SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(buildScoreDirector(e0, e1));
         solverScope.setBestScore(SimpleScore.of(-100));
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
         acceptor.phaseStarted(phaseScope);
@@ -253,6 +263,105 @@ public class EntityTabuAcceptorTest {
         acceptor.phaseEnded(phaseScope);
     }
 
+    @Test
+    public void rejectionThresholdDoesNotVisitEntitiesBeforeMove() {
+        EntityTabuAcceptor acceptor = new EntityTabuAcceptor("");
+        acceptor.setTabuSizeStrategy(new FixedTabuSizeStrategy(2));
+        acceptor.setAspirationEnabled(true);
+
+        TestdataEntity e0 = new TestdataEntity("e0");
+        TestdataEntity e1 = new TestdataEntity("e1");
+
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(buildScoreDirector(e0, e1));
+        solverScope.setBestScore(SimpleScore.of(-100));
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        acceptor.phaseStarted(phaseScope);
+
+        LocalSearchStepScope<TestdataSolution> stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        stepScope0.setStep(buildMoveScope(stepScope0, e1).getMove());
+        acceptor.stepEnded(stepScope0);
+        phaseScope.setLastCompletedStepScope(stepScope0);
+
+        LocalSearchStepScope<TestdataSolution> stepScope1 = new LocalSearchStepScope<>(phaseScope);
+        LocalSearchMoveScope<TestdataSolution> moveScope = buildMoveScope(stepScope1, -120, e1);
+        assertThat(acceptor.getRejectionThreshold(moveScope)).isNull();
+        verify(moveScope.getMove(), never()).visitPlanningEntities(any());
+        assertThat(acceptor.isAccepted(moveScope)).isFalse();
+        // Entity tabus are never known before the move, even after isAccepted() checked the same move
+        assertThat(acceptor.getRejectionThreshold(moveScope)).isNull();
+        stepScope1.setStep(buildMoveScope(stepScope1, -20, e0).getMove());
+        acceptor.stepEnded(stepScope1);
+        phaseScope.setLastCompletedStepScope(stepScope1);
+
+        acceptor.phaseEnded(phaseScope);
+    }
+
+    @Test
+    public void ordinalTabuIsTrackedByIdentity() {
+        EntityTabuAcceptor acceptor = new EntityTabuAcceptor("");
+        acceptor.setTabuSizeStrategy(new FixedTabuSizeStrategy(2));
+        acceptor.setAspirationEnabled(false);
+        acceptor.setAssertTabuHashCodeCorrectness(true);
+
+        TestdataEntity e0 = new CodeEqualsTestdataEntity("e0");
+        TestdataEntity e0Twin = new CodeEqualsTestdataEntity("e0");
+
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(buildScoreDirector(e0, e0Twin));
+        solverScope.setBestScore(SimpleScore.of(0));
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        acceptor.phaseStarted(phaseScope);
+
+        LocalSearchStepScope<TestdataSolution> stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        stepScope0.setStep(buildMoveScope(stepScope0, e0).getMove());
+        acceptor.stepEnded(stepScope0);
+        phaseScope.setLastCompletedStepScope(stepScope0);
+
+        LocalSearchStepScope<TestdataSolution> stepScope1 = new LocalSearchStepScope<>(phaseScope);
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope1, e0))).isFalse();
+        // Equal, but a different working object
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope1, e0Twin))).isTrue();
+
+        acceptor.phaseEnded(phaseScope);
+    }
+
+    @Test
+    public void ordinalTabuHashCodeCorrectnessIsAsserted() {
+        EntityTabuAcceptor acceptor = new EntityTabuAcceptor("");
+        acceptor.setTabuSizeStrategy(new FixedTabuSizeStrategy(2));
+        acceptor.setAssertTabuHashCodeCorrectness(true);
+
+        TestdataEntity e0 = new AlwaysEqualsTestdataEntity("e0");
+        TestdataEntity e1 = new AlwaysEqualsTestdataEntity("e1");
+
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(buildScoreDirector(e0, e1));
+        solverScope.setBestScore(SimpleScore.of(0));
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        acceptor.phaseStarted(phaseScope);
+
+        LocalSearchStepScope<TestdataSolution> stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        stepScope0.setStep(buildMoveScope(stepScope0, e0).getMove());
+        acceptor.stepEnded(stepScope0);
+        phaseScope.setLastCompletedStepScope(stepScope0);
+
+        LocalSearchStepScope<TestdataSolution> stepScope1 = new LocalSearchStepScope<>(phaseScope);
+        assertThatIllegalStateException()
+                .isThrownBy(() -> acceptor.isAccepted(buildMoveScope(stepScope1, e1)))
+                .withMessageContaining("HashCode/equals contract violation");
+
+        acceptor.phaseEnded(phaseScope);
+    }
+
+    private InnerScoreDirector<TestdataSolution, SimpleScore> buildScoreDirector(Object... workingObjects) {
+        OrdinalManager ordinalManager = new OrdinalManager();
+        ordinalManager.resetWorkingObjects(Arrays.asList(workingObjects));
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getOrdinalManager()).thenReturn(ordinalManager);
+        return scoreDirector;
+    }
+
     private <Solution_> LocalSearchMoveScope<Solution_> buildMoveScope(
             LocalSearchStepScope<Solution_> stepScope, TestdataEntity... entities) {
         return buildMoveScope(stepScope, 0, entities);
@@ -262,9 +371,46 @@ public class EntityTabuAcceptorTest {
             LocalSearchStepScope<Solution_> stepScope, int score, TestdataEntity... entities) {
         Move move = mock(Move.class);
         when(move.getPlanningEntities()).thenReturn(Arrays.asList(entities));
+        doCallRealMethod().when(move).visitPlanningEntities(any());
         LocalSearchMoveScope<Solution_> moveScope = new LocalSearchMoveScope<>(stepScope, 0, move);
         moveScope.setScore(SimpleScore.of(score));
         return moveScope;
     }
 
+    private static class CodeEqualsTestdataEntity extends TestdataEntity {
+
+        public CodeEqualsTestdataEntity(String code) {
+            super(code);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CodeEqualsTestdataEntity && getCode().equals(((CodeEqualsTestdataEntity) o).getCode());
+        }
+
+        @Override
+        public int hashCode() {
+            return getCode().hashCode();
+        }
+
+    }
+
+    private static class AlwaysEqualsTestdataEntity extends TestdataEntity {
+
+        public AlwaysEqualsTestdataEntity(String code) {
+            super(code);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof AlwaysEqualsTestdataEntity;
+        }
+
+        @Override
+        public int hashCode() {
+            return getCode().hashCode();
+        }
+
+    }
+
 }
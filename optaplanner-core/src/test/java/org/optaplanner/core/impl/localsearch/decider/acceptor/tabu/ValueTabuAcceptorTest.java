@@ -17,6 +17,8 @@
 package org.optaplanner.core.impl.localsearch.decider.acceptor.tabu;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -24,11 +26,13 @@ import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.domain.ordinal.OrdinalManager;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.size.FixedTabuSizeStrategy;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -48,6 +52,7 @@ public class ValueTabuAcceptorTest {
         TestdataValue v4 = new TestdataValue("v4");
 
         SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(buildScoreDirector(v0, v1, v2));
         solverScope.setBestScore(SimpleScore.of(0));
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
         acceptor.phaseStarted(phaseScope);
@@ -133,6 +138,7 @@ public class ValueTabuAcceptorTest {
         TestdataValue v4 = new TestdataValue("v4");
 
         SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(buildScoreDirector(v0, v1, v2));
         solverScope.setBestScore(SimpleScore.of(0));
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
         acceptor.phaseStarted(phaseScope);
@@ -230,6 +236,7 @@ public class ValueTabuAcceptorTest {
         TestdataValue v1 = new TestdataValue("v1");
 
         SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(buildScoreDirector(v0));
         solverScope.setBestScore(SimpleScore.of(-100));
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
         acceptor.phaseStarted(phaseScope);
@@ -253,6 +260,14 @@ public class ValueTabuAcceptorTest {
         acceptor.phaseEnded(phaseScope);
     }
 
+    private InnerScoreDirector<TestdataSolution, SimpleScore> buildScoreDirector(Object... workingObjects) {
+        OrdinalManager ordinalManager = new OrdinalManager();
+        ordinalManager.resetWorkingObjects(Arrays.asList(workingObjects));
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getOrdinalManager()).thenReturn(ordinalManager);
+        return scoreDirector;
+    }
+
     private <Solution_> LocalSearchMoveScope<Solution_> buildMoveScope(
             LocalSearchStepScope<Solution_> stepScope, TestdataValue... values) {
         return buildMoveScope(stepScope, 0, values);
@@ -262,6 +277,7 @@ public class ValueTabuAcceptorTest {
             LocalSearchStepScope<Solution_> stepScope, int score, TestdataValue... values) {
         Move move = mock(Move.class);
         when(move.getPlanningValues()).thenReturn(Arrays.asList(values));
+        doCallRealMethod().when(move).visitPlanningValues(any());
         LocalSearchMoveScope<Solution_> moveScope = new LocalSearchMoveScope<>(stepScope, 0, move);
         moveScope.setScore(SimpleScore.of(score));
         return moveScope;
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
 import java.util.Random;
 
 import org.junit.jupiter.api.Test;
@@ -33,6 +34,7 @@ import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreDefinition;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.solver.termination.CoarseClock;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 
 public class AcceptedLocalSearchForagerTest {
@@ -223,6 +225,144 @@ public class AcceptedLocalSearchForagerTest {
         forager.phaseEnded(phaseScope);
     }
 
+    @Test
+    public void pickMoveStepMillisecondsSpentLimit() {
+        // Setup
+        Clock clock = mock(Clock.class);
+        LocalSearchForager<TestdataSolution> forager = new AcceptedLocalSearchForager<>(new HighestScoreFinalistPodium<>(),
+                LocalSearchPickEarlyType.NEVER, Integer.MAX_VALUE, 100L, false, clock);
+        assertThat(forager.supportsNeverEndingMoveSelector()).isTrue();
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = createPhaseScope();
+        forager.phaseStarted(phaseScope);
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        when(clock.millis()).thenReturn(1000L);
+        forager.stepStarted(stepScope);
+        // Pre conditions
+        LocalSearchMoveScope<TestdataSolution> a = createMoveScope(stepScope, SimpleScore.of(-20), true);
+        LocalSearchMoveScope<TestdataSolution> b = createMoveScope(stepScope, SimpleScore.of(-1), false);
+        LocalSearchMoveScope<TestdataSolution> c = createMoveScope(stepScope, SimpleScore.of(-2), false);
+        LocalSearchMoveScope<TestdataSolution> d = createMoveScope(stepScope, SimpleScore.of(-30), true);
+        // Do stuff
+        when(clock.millis()).thenReturn(1050L);
+        forager.addMove(a);
+        assertThat(forager.isQuitEarly()).isFalse();
+        when(clock.millis()).thenReturn(1099L);
+        forager.addMove(b);
+        assertThat(forager.isQuitEarly()).isFalse();
+        when(clock.millis()).thenReturn(1100L);
+        forager.addMove(c);
+        assertThat(forager.isQuitEarly()).isTrue();
+        LocalSearchMoveScope<TestdataSolution> pickedScope = forager.pickMove(stepScope);
+        // Post conditions
+        assertThat(pickedScope).isSameAs(a);
+
+        // No accepted move yet, so the time budget is exceeded until one is accepted
+        stepScope = new LocalSearchStepScope<>(phaseScope);
+        when(clock.millis()).thenReturn(2000L);
+        forager.stepStarted(stepScope);
+        when(clock.millis()).thenReturn(2200L);
+        forager.addMove(createMoveScope(stepScope, SimpleScore.of(-1), false));
+        assertThat(forager.isQuitEarly()).isFalse();
+        forager.addMove(d);
+        assertThat(forager.isQuitEarly()).isTrue();
+        assertThat(forager.pickMove(stepScope)).isSameAs(d);
+        forager.phaseEnded(phaseScope);
+    }
+
+    @Test
+    public void pickMoveDiminishingImprovementRate() {
+        // Setup
+        Clock clock = mock(Clock.class);
+        LocalSearchForager<TestdataSolution> forager = new AcceptedLocalSearchForager<>(new HighestScoreFinalistPodium<>(),
+                LocalSearchPickEarlyType.DIMINISHING_IMPROVEMENT_RATE, Integer.MAX_VALUE, Long.MAX_VALUE, false,
+                clock);
+        assertThat(forager.supportsNeverEndingMoveSelector()).isFalse();
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = createPhaseScope();
+        forager.phaseStarted(phaseScope);
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        when(clock.millis()).thenReturn(1000L);
+        forager.stepStarted(stepScope);
+        // Pre conditions
+        LocalSearchMoveScope<TestdataSolution> a = createMoveScope(stepScope, SimpleScore.of(-200), true);
+        LocalSearchMoveScope<TestdataSolution> b = createMoveScope(stepScope, SimpleScore.of(-50), true);
+        LocalSearchMoveScope<TestdataSolution> c = createMoveScope(stepScope, SimpleScore.of(-1), false);
+        LocalSearchMoveScope<TestdataSolution> d = createMoveScope(stepScope, SimpleScore.of(-60), true);
+        LocalSearchMoveScope<TestdataSolution> e = createMoveScope(stepScope, SimpleScore.of(-70), true);
+        // Do stuff
+        when(clock.millis()).thenReturn(1005L);
+        forager.addMove(a); // Doesn't improve the last step score
+        assertThat(forager.isQuitEarly()).isFalse();
+        when(clock.millis()).thenReturn(1010L);
+        forager.addMove(b); // Improves the last step score after 10ms
+        assertThat(forager.isQuitEarly()).isFalse();
+        when(clock.millis()).thenReturn(1018L);
+        forager.addMove(c);
+        assertThat(forager.isQuitEarly()).isFalse();
+        when(clock.millis()).thenReturn(1020L);
+        forager.addMove(d);
+        assertThat(forager.isQuitEarly()).isFalse();
+        when(clock.millis()).thenReturn(1021L);
+        forager.addMove(e); // No better move in the last 11ms
+        assertThat(forager.isQuitEarly()).isTrue();
+        LocalSearchMoveScope<TestdataSolution> pickedScope = forager.pickMove(stepScope);
+        // Post conditions
+        assertThat(pickedScope).isSameAs(b);
+        forager.phaseEnded(phaseScope);
+    }
+
+    @Test
+    public void pickMoveDiminishingImprovementRateWithinFirstMillisecond() {
+        // Setup
+        Clock clock = mock(Clock.class);
+        LocalSearchForager<TestdataSolution> forager = new AcceptedLocalSearchForager<>(new HighestScoreFinalistPodium<>(),
+                LocalSearchPickEarlyType.DIMINISHING_IMPROVEMENT_RATE, Integer.MAX_VALUE, Long.MAX_VALUE, false,
+                clock);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = createPhaseScope();
+        forager.phaseStarted(phaseScope);
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        when(clock.millis()).thenReturn(1000L);
+        forager.stepStarted(stepScope);
+        // Pre conditions
+        LocalSearchMoveScope<TestdataSolution> a = createMoveScope(stepScope, SimpleScore.of(-50), true);
+        LocalSearchMoveScope<TestdataSolution> b = createMoveScope(stepScope, SimpleScore.of(-60), true);
+        LocalSearchMoveScope<TestdataSolution> c = createMoveScope(stepScope, SimpleScore.of(-70), true);
+        LocalSearchMoveScope<TestdataSolution> d = createMoveScope(stepScope, SimpleScore.of(-80), true);
+        // Do stuff
+        forager.addMove(a); // Improves the last step score after 0ms
+        assertThat(forager.isQuitEarly()).isFalse();
+        when(clock.millis()).thenReturn(1001L);
+        forager.addMove(b); // A single tick doesn't halve the improvement rate
+        assertThat(forager.isQuitEarly()).isFalse();
+        when(clock.millis()).thenReturn(1000L + AcceptedLocalSearchForager.DIMINISHING_IMPROVEMENT_RATE_MINIMUM_MILLIS);
+        forager.addMove(c);
+        assertThat(forager.isQuitEarly()).isFalse();
+        when(clock.millis()).thenReturn(1001L + AcceptedLocalSearchForager.DIMINISHING_IMPROVEMENT_RATE_MINIMUM_MILLIS);
+        forager.addMove(d);
+        assertThat(forager.isQuitEarly()).isTrue();
+        LocalSearchMoveScope<TestdataSolution> pickedScope = forager.pickMove(stepScope);
+        // Post conditions
+        assertThat(pickedScope).isSameAs(a);
+        forager.phaseEnded(phaseScope);
+    }
+
+    @Test
+    public void stepMillisecondsSpentLimitReadsCoarseClockDuringPhase() {
+        LocalSearchForager<TestdataSolution> untimedForager = new AcceptedLocalSearchForager<>(
+                new HighestScoreFinalistPodium<>(), LocalSearchPickEarlyType.NEVER, Integer.MAX_VALUE, true);
+        LocalSearchPhaseScope<TestdataSolution> untimedPhaseScope = createPhaseScope();
+        untimedForager.phaseStarted(untimedPhaseScope);
+        assertThat(CoarseClock.getInstance().isTicking()).isFalse();
+        untimedForager.phaseEnded(untimedPhaseScope);
+
+        LocalSearchForager<TestdataSolution> forager = new AcceptedLocalSearchForager<>(
+                new HighestScoreFinalistPodium<>(), LocalSearchPickEarlyType.NEVER, Integer.MAX_VALUE, 100L, false);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = createPhaseScope();
+        forager.phaseStarted(phaseScope);
+        assertThat(CoarseClock.getInstance().isTicking()).isTrue();
+        forager.phaseEnded(phaseScope);
+        assertThat(CoarseClock.getInstance().isTicking()).isFalse();
+    }
+
     private LocalSearchPhaseScope<TestdataSolution> createPhaseScope() {
         SolverScope<TestdataSolution> solverScope = new SolverScope<>();
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
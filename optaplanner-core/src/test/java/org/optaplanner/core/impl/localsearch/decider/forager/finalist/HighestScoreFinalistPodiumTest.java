@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.decider.forager.finalist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.extractSingleton;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.buildin.hardsoft.HardSoftScoreDefinition;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+public class HighestScoreFinalistPodiumTest {
+
+    @Test
+    public void packedScores() {
+        HighestScoreFinalistPodium<TestdataSolution> finalistPodium = new HighestScoreFinalistPodium<>();
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = buildPhaseScope();
+        finalistPodium.phaseStarted(phaseScope);
+        assertThat(finalistPodium.packedScoresEnabled).isTrue();
+
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        finalistPodium.stepStarted(stepScope);
+        LocalSearchMoveScope<TestdataSolution> moveScope = buildMoveScope(stepScope, HardSoftScore.of(-1, -10));
+        finalistPodium.addMove(buildMoveScope(stepScope, HardSoftScore.of(-2, 0)));
+        finalistPodium.addMove(moveScope);
+        finalistPodium.addMove(buildMoveScope(stepScope, HardSoftScore.of(-1, -11)));
+        assertThat(extractSingleton(finalistPodium.getFinalistList())).isSameAs(moveScope);
+        assertThat(finalistPodium.finalistScore).isNull();
+        finalistPodium.stepEnded(stepScope);
+        finalistPodium.phaseEnded(phaseScope);
+    }
+
+    @Test
+    public void uninitializedMoveScoreFallsBackToGenericComparisonUntilPhaseEnded() {
+        HighestScoreFinalistPodium<TestdataSolution> finalistPodium = new HighestScoreFinalistPodium<>();
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = buildPhaseScope();
+        finalistPodium.phaseStarted(phaseScope);
+
+        LocalSearchStepScope<TestdataSolution> stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        finalistPodium.stepStarted(stepScope0);
+        LocalSearchMoveScope<TestdataSolution> moveScope0 = buildMoveScope(stepScope0, HardSoftScore.of(-1, -10));
+        finalistPodium.addMove(moveScope0);
+        finalistPodium.addMove(buildMoveScope(stepScope0, HardSoftScore.ofUninitialized(-1, 0, 0)));
+        assertThat(finalistPodium.packedScoresEnabled).isFalse();
+        assertThat(finalistPodium.finalistScore).isEqualTo(HardSoftScore.of(-1, -10));
+        LocalSearchMoveScope<TestdataSolution> moveScope1 = buildMoveScope(stepScope0, HardSoftScore.of(-1, -10));
+        finalistPodium.addMove(moveScope1);
+        assertThat(finalistPodium.getFinalistList()).containsExactly(moveScope0, moveScope1);
+        finalistPodium.stepEnded(stepScope0);
+        finalistPodium.phaseEnded(phaseScope);
+        assertThat(finalistPodium.packedScoresEnabled).isFalse();
+        assertThat(finalistPodium.finalistScore).isNull();
+
+        // The next phase packs its scores again
+        LocalSearchPhaseScope<TestdataSolution> nextPhaseScope = buildPhaseScope();
+        finalistPodium.phaseStarted(nextPhaseScope);
+        assertThat(finalistPodium.packedScoresEnabled).isTrue();
+        LocalSearchStepScope<TestdataSolution> stepScope2 = new LocalSearchStepScope<>(nextPhaseScope);
+        finalistPodium.stepStarted(stepScope2);
+        LocalSearchMoveScope<TestdataSolution> moveScope2 = buildMoveScope(stepScope2, HardSoftScore.of(0, -20));
+        finalistPodium.addMove(buildMoveScope(stepScope2, HardSoftScore.of(-1, 0)));
+        finalistPodium.addMove(moveScope2);
+        assertThat(extractSingleton(finalistPodium.getFinalistList())).isSameAs(moveScope2);
+        assertThat(finalistPodium.finalistScore).isNull();
+    }
+
+    private LocalSearchPhaseScope<TestdataSolution> buildPhaseScope() {
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        InnerScoreDirector<TestdataSolution, HardSoftScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getScoreDefinition()).thenReturn(new HardSoftScoreDefinition());
+        solverScope.setScoreDirector(scoreDirector);
+        solverScope.setBestScore(HardSoftScore.of(-5, -50));
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setScore(solverScope.getBestScore());
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        return phaseScope;
+    }
+
+    private LocalSearchMoveScope<TestdataSolution> buildMoveScope(LocalSearchStepScope<TestdataSolution> stepScope,
+            HardSoftScore score) {
+        Move<TestdataSolution> move = mock(Move.class);
+        LocalSearchMoveScope<TestdataSolution> moveScope = new LocalSearchMoveScope<>(stepScope, 0, move);
+        moveScope.setScore(score);
+        moveScope.setAccepted(true);
+        return moveScope;
+    }
+
+}
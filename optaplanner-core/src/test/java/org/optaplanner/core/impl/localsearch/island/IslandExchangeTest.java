@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.island;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class IslandExchangeTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(IslandExchangeTest.class);
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        executorService.shutdownNow();
+        if (!executorService.awaitTermination(1, TimeUnit.MILLISECONDS)) {
+            logger.warn("Thread pool didn't terminate within the timeout.");
+        }
+    }
+
+    @Test
+    public void addIslandBestSolution() throws ExecutionException, InterruptedException {
+        IslandExchange<TestdataSolution> islandExchange = new IslandExchange<>(3);
+        Iterator<Pair<Score<?>, IslandMigrationMove<TestdataSolution>>> it = islandExchange.iterator();
+
+        IslandMigrationMove<TestdataSolution> moveA1 = buildMove(0);
+        executorService.submit(() -> islandExchange.addIslandBestSolution(0, SimpleScore.of(-10), moveA1)).get();
+        Pair<Score<?>, IslandMigrationMove<TestdataSolution>> islandBest = it.next();
+        assertThat(islandBest.getKey()).isEqualTo(SimpleScore.of(-10));
+        assertThat(islandBest.getValue()).isSameAs(moveA1);
+
+        IslandMigrationMove<TestdataSolution> moveB1 = buildMove(1);
+        executorService.submit(() -> islandExchange.addIslandBestSolution(1, SimpleScore.of(-9), moveB1)).get(); // Skipped
+        IslandMigrationMove<TestdataSolution> moveB2 = buildMove(1);
+        executorService.submit(() -> islandExchange.addIslandBestSolution(1, SimpleScore.of(-8), moveB2)).get();
+        IslandMigrationMove<TestdataSolution> moveA2 = buildMove(0);
+        executorService.submit(() -> islandExchange.addIslandBestSolution(0, SimpleScore.of(-7), moveA2)).get();
+        assertThat(it.next().getValue()).isSameAs(moveB2);
+        assertThat(it.next().getValue()).isSameAs(moveA2);
+
+        executorService.submit(() -> islandExchange.addFinish(0, 100L)).get();
+        IslandMigrationMove<TestdataSolution> moveC1 = buildMove(2);
+        executorService.submit(() -> islandExchange.addIslandBestSolution(2, SimpleScore.of(-6), moveC1)).get();
+        executorService.submit(() -> islandExchange.addFinish(1, 20L)).get();
+        assertThat(it.next().getValue()).isSameAs(moveC1);
+
+        executorService.submit(() -> islandExchange.addFinish(2, 3L)).get();
+        assertThat(it.hasNext()).isFalse();
+        assertThat(islandExchange.getIslandsCalculationCount()).isEqualTo(123L);
+    }
+
+    @Test
+    public void addExceptionThrown() throws ExecutionException, InterruptedException {
+        IslandExchange<TestdataSolution> islandExchange = new IslandExchange<>(2);
+        Iterator<Pair<Score<?>, IslandMigrationMove<TestdataSolution>>> it = islandExchange.iterator();
+
+        IslandMigrationMove<TestdataSolution> moveA1 = buildMove(0);
+        executorService.submit(() -> islandExchange.addIslandBestSolution(0, SimpleScore.of(-10), moveA1)).get();
+        IllegalArgumentException exception = new IllegalArgumentException();
+        executorService.submit(() -> islandExchange.addExceptionThrown(1, exception)).get();
+        executorService.submit(() -> islandExchange.addFinish(0, 100L)).get();
+        assertThat(it.hasNext()).isTrue();
+        assertThat(it.next().getValue()).isSameAs(moveA1);
+        assertThatIllegalStateException().isThrownBy(it::hasNext).withCause(exception);
+    }
+
+    @Test
+    public void publishGlobalBestSolution() throws ExecutionException, InterruptedException {
+        IslandExchange<TestdataSolution> islandExchange = new IslandExchange<>(2);
+        assertThat(executorService.submit(islandExchange::getGlobalBestSolution).get()).isNull();
+
+        IslandMigrationMove<TestdataSolution> move1 = buildMove(-1);
+        islandExchange.publishGlobalBestSolution(SimpleScore.of(-10), move1);
+        IslandMigrationMove<TestdataSolution> move2 = buildMove(-1);
+        islandExchange.publishGlobalBestSolution(SimpleScore.of(-5), move2);
+        Pair<Score<?>, IslandMigrationMove<TestdataSolution>> globalBest =
+                executorService.submit(islandExchange::getGlobalBestSolution).get();
+        assertThat(globalBest.getKey()).isEqualTo(SimpleScore.of(-5));
+        assertThat(globalBest.getValue()).isSameAs(move2);
+    }
+
+    private IslandMigrationMove<TestdataSolution> buildMove(int islandIndex) {
+        return new IslandMigrationMove<>(Collections.emptyMap(), islandIndex);
+    }
+
+}
@@ -53,6 +53,34 @@ public class HardSoftScoreDefinitionTest extends AbstractScoreDefinitionTest {
         assertThat(new HardSoftScoreDefinition().getFeasibleLevelsSize()).isEqualTo(1);
     }
 
+    @Test
+    public void packScore() {
+        HardSoftScoreDefinition scoreDefinition = new HardSoftScoreDefinition();
+        assertThat(scoreDefinition.isScorePackable()).isTrue();
+        HardSoftScore[] ascendingScores = {
+                HardSoftScore.of(Integer.MIN_VALUE, Integer.MIN_VALUE),
+                HardSoftScore.of(-1, Integer.MIN_VALUE),
+                HardSoftScore.of(-1, -1),
+                HardSoftScore.of(-1, Integer.MAX_VALUE),
+                HardSoftScore.of(0, Integer.MIN_VALUE),
+                HardSoftScore.of(0, -1),
+                HardSoftScore.ZERO,
+                HardSoftScore.ONE_SOFT,
+                HardSoftScore.of(0, Integer.MAX_VALUE),
+                HardSoftScore.ONE_HARD,
+                HardSoftScore.of(Integer.MAX_VALUE, Integer.MAX_VALUE) };
+        for (int i = 0; i < ascendingScores.length; i++) {
+            for (int j = 0; j < ascendingScores.length; j++) {
+                assertThat(Long.signum(Long.compare(scoreDefinition.packScore(ascendingScores[i]),
+                        scoreDefinition.packScore(ascendingScores[j]))))
+                        .isEqualTo(Integer.signum(ascendingScores[i].compareTo(ascendingScores[j])));
+            }
+        }
+        for (HardSoftScore score : ascendingScores) {
+            assertThat(scoreDefinition.unpackScore(scoreDefinition.packScore(score))).isEqualTo(score);
+        }
+    }
+
     @Test
     public void buildOptimisticBoundOnlyUp() {
         HardSoftScoreDefinition scoreDefinition = new HardSoftScoreDefinition();
@@ -87,6 +87,20 @@ public class SimpleScoreDefinitionTest {
         assertThat(pessimisticBound.getScore()).isEqualTo(Integer.MIN_VALUE);
     }
 
+    @Test
+    public void packScore() {
+        SimpleScoreDefinition scoreDefinition = new SimpleScoreDefinition();
+        assertThat(scoreDefinition.isScorePackable()).isTrue();
+        assertThat(scoreDefinition.packScore(SimpleScore.of(-3)))
+                .isLessThan(scoreDefinition.packScore(SimpleScore.of(-2)));
+        assertThat(scoreDefinition.packScore(SimpleScore.of(Integer.MIN_VALUE)))
+                .isLessThan(scoreDefinition.packScore(SimpleScore.of(Integer.MAX_VALUE)));
+        assertThat(scoreDefinition.unpackScore(scoreDefinition.packScore(SimpleScore.of(-3))))
+                .isEqualTo(SimpleScore.of(-3));
+        assertThat(scoreDefinition.unpackScore(scoreDefinition.packScore(SimpleScore.of(Integer.MIN_VALUE))))
+                .isEqualTo(SimpleScore.of(Integer.MIN_VALUE));
+    }
+
     @Test
     public void divideBySanitizedDivisor() {
         SimpleScoreDefinition scoreDefinition = new SimpleScoreDefinition();
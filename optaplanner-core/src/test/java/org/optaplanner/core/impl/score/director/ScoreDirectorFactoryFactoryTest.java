@@ -33,11 +33,16 @@ import org.optaplanner.core.api.score.calculator.IncrementalScoreCalculator;
 import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.api.score.stream.ConstraintFactory;
 import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.api.score.stream.ConstraintStreamImplType;
 import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
 import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.impl.score.director.easy.EasyScoreDirector;
 import org.optaplanner.core.impl.score.director.incremental.IncrementalScoreDirector;
+import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDirectorFactory;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListConstraintProvider;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
 
 class ScoreDirectorFactoryFactoryTest {
 
@@ -138,6 +143,32 @@ class ScoreDirectorFactoryFactoryTest {
                 .withMessageContaining("together");
     }
 
+    @Test
+    void constraintStreamsWithListVariable_defaultsToBavet() {
+        ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig()
+                .withConstraintProviderClass(TestdataListConstraintProvider.class);
+        ConstraintStreamScoreDirectorFactory<TestdataListSolution, SimpleScore> scoreDirectorFactory =
+                (ConstraintStreamScoreDirectorFactory<TestdataListSolution, SimpleScore>)
+                        new ScoreDirectorFactoryFactory<TestdataListSolution, SimpleScore>(config)
+                                .buildScoreDirectorFactory(getClass().getClassLoader(), EnvironmentMode.REPRODUCIBLE,
+                                        TestdataListSolution.buildSolutionDescriptor());
+        assertThat(scoreDirectorFactory.getConstraints()).hasOnlyElementsOfType(BavetConstraint.class);
+    }
+
+    @Test
+    void droolsConstraintStreamsWithListVariable_throwsException() {
+        ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig()
+                .withConstraintProviderClass(TestdataConstraintProvider.class)
+                .withConstraintStreamImplType(ConstraintStreamImplType.DROOLS);
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> new ScoreDirectorFactoryFactory<TestdataListSolution, SimpleScore>(config)
+                        .buildScoreDirectorFactory(getClass().getClassLoader(), EnvironmentMode.REPRODUCIBLE,
+                                TestdataListSolution.buildSolutionDescriptor()))
+                .withMessageContaining("constraintProviderClass")
+                .withMessageContaining("list variable")
+                .withMessageContaining(ConstraintStreamImplType.BAVET.name());
+    }
+
     @Test
     void invalidDrlResource_throwsException() {
         ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig()
@@ -26,8 +26,11 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.config.score.trend.InitializingScoreTrendLevel;
+import org.optaplanner.core.impl.domain.ordinal.OrdinalManager;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.score.trend.InitializingScoreTrend;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 import org.optaplanner.core.impl.testdata.domain.shadow.corrupted.TestdataCorruptedShadowedEntity;
 import org.optaplanner.core.impl.testdata.domain.shadow.corrupted.TestdataCorruptedShadowedSolution;
@@ -81,4 +84,32 @@ public class EasyScoreDirectorTest {
                 () -> scoreDirector.assertShadowVariablesAreNotStale(SimpleScore.ofUninitialized(0, 0), "FirstChange"))
                         .isInstanceOf(IllegalStateException.class);
     }
+
+    @Test
+    public void ordinalManagerCreatedOnFirstUse() {
+        EasyScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                        (solution_) -> SimpleScore.of(0));
+        scoreDirectorFactory.setInitializingScoreTrend(
+                InitializingScoreTrend.buildUniformTrend(InitializingScoreTrendLevel.ONLY_DOWN, 1));
+        EasyScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        solution.setValueList(Arrays.asList(v1));
+        TestdataEntity e1 = new TestdataEntity("e1");
+        solution.setEntityList(Arrays.asList(e1));
+        scoreDirector.setWorkingSolution(solution);
+
+        // Created lazily, after the working solution is set
+        OrdinalManager ordinalManager = scoreDirector.getOrdinalManager();
+        assertThat(ordinalManager.getOrdinal(v1)).isNotEqualTo(OrdinalManager.NO_ORDINAL);
+        assertThat(ordinalManager.getOrdinal(e1)).isNotEqualTo(OrdinalManager.NO_ORDINAL);
+        TestdataValue v2 = new TestdataValue("v2");
+        scoreDirector.beforeProblemFactAdded(v2);
+        scoreDirector.afterProblemFactAdded(v2);
+        assertThat(ordinalManager.getOrdinal(v2)).isNotEqualTo(OrdinalManager.NO_ORDINAL);
+        assertThat(scoreDirector.getOrdinalManager()).isSameAs(ordinalManager);
+    }
 }
@@ -20,10 +20,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -32,8 +35,16 @@ import org.mockito.InOrder;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.calculator.ConstraintMatchAwareIncrementalScoreCalculator;
 import org.optaplanner.core.api.score.calculator.IncrementalScoreCalculator;
+import org.optaplanner.core.api.score.calculator.MovePeekingIncrementalScoreCalculator;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
 import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreDefinition;
+import org.optaplanner.core.impl.solver.trace.MoveEvaluationStage;
+import org.optaplanner.core.impl.solver.trace.MoveEvaluationTrace;
+import org.optaplanner.core.impl.solver.trace.MoveEvaluationTracer;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 import org.optaplanner.core.impl.testdata.domain.chained.shadow.TestdataShadowingChainedAnchor;
 import org.optaplanner.core.impl.testdata.domain.chained.shadow.TestdataShadowingChainedEntity;
 import org.optaplanner.core.impl.testdata.domain.chained.shadow.TestdataShadowingChainedSolution;
@@ -122,6 +133,122 @@ public class IncrementalScoreDirectorTest {
         assertThat(director.isConstraintMatchEnabled()).isFalse();
     }
 
+    @Test
+    public void peekedChangeMoveIsNotDone() {
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 2);
+        TestdataEntity entity = solution.getEntityList().get(0);
+        TestdataValue fromValue = entity.getValue();
+        TestdataValue toValue = solution.getValueList().get(1);
+        MovePeekingIncrementalScoreCalculator<TestdataSolution, SimpleScore> incrementalScoreCalculator =
+                mock(MovePeekingIncrementalScoreCalculator.class);
+        when(incrementalScoreCalculator.peekChangeMove(entity, "value", toValue)).thenReturn(SimpleScore.of(-7));
+        IncrementalScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                new IncrementalScoreDirector<>(mockTestdataIncrementalScoreDirectorFactory(), false, false,
+                        incrementalScoreCalculator);
+        scoreDirector.setWorkingSolution(solution);
+
+        ChangeMove<TestdataSolution> move = new ChangeMove<>(entity, TestdataEntity.buildVariableDescriptorForValue(),
+                toValue);
+        scoreDirector.doAndProcessMove(move, false,
+                score -> assertThat(score).isEqualTo(SimpleScore.of(-7)));
+        assertThat(entity.getValue()).isSameAs(fromValue);
+        assertThat(scoreDirector.getCalculationCount()).isEqualTo(1L);
+        verify(incrementalScoreCalculator, never()).beforeVariableChanged(entity, "value");
+        verify(incrementalScoreCalculator, never()).calculateScore();
+    }
+
+    @Test
+    public void peekedChangeMoveIsTracedWithoutDoAndUndo() {
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 2);
+        TestdataEntity entity = solution.getEntityList().get(0);
+        TestdataValue toValue = solution.getValueList().get(1);
+        MovePeekingIncrementalScoreCalculator<TestdataSolution, SimpleScore> incrementalScoreCalculator =
+                mock(MovePeekingIncrementalScoreCalculator.class);
+        when(incrementalScoreCalculator.peekChangeMove(entity, "value", toValue)).thenReturn(SimpleScore.of(-7));
+        IncrementalScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                new IncrementalScoreDirector<>(mockTestdataIncrementalScoreDirectorFactory(), false, false,
+                        incrementalScoreCalculator);
+        scoreDirector.setWorkingSolution(solution);
+        MoveEvaluationTracer<TestdataSolution> tracer = new MoveEvaluationTracer<>();
+        List<MoveEvaluationTrace> traceList = new ArrayList<>();
+        tracer.addEventListener((phaseScope, phaseTraceList) -> traceList.addAll(phaseTraceList));
+        tracer.phaseStarted(0, "Local Search", scoreDirector);
+
+        ChangeMove<TestdataSolution> move = new ChangeMove<>(entity, TestdataEntity.buildVariableDescriptorForValue(),
+                toValue);
+        scoreDirector.doAndProcessMove(move, false, score -> assertThat(score).isEqualTo(SimpleScore.of(-7)));
+        scoreDirector.doAndProcessMove(move, false, score -> assertThat(score).isEqualTo(SimpleScore.of(-7)));
+        tracer.phaseEnded(null);
+
+        assertThat(traceList).hasSize(1);
+        MoveEvaluationTrace trace = traceList.get(0);
+        assertThat(trace.getMoveSelector()).isEqualTo("Local Search");
+        assertThat(trace.getMoveType()).isEqualTo("ChangeMove(TestdataEntity.value) (peeked)");
+        assertThat(trace.getMoveCount()).isEqualTo(2L);
+        assertThat(trace.getHistogram(MoveEvaluationStage.DO_MOVE).getMaxValue()).isEqualTo(0L);
+        assertThat(trace.getHistogram(MoveEvaluationStage.UNDO_MOVE).getMaxValue()).isEqualTo(0L);
+    }
+
+    @Test
+    public void unpeekedChangeMoveIsDoneAndUndone() {
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 2);
+        TestdataEntity entity = solution.getEntityList().get(0);
+        TestdataValue fromValue = entity.getValue();
+        TestdataValue toValue = solution.getValueList().get(1);
+        MovePeekingIncrementalScoreCalculator<TestdataSolution, SimpleScore> incrementalScoreCalculator =
+                mock(MovePeekingIncrementalScoreCalculator.class);
+        when(incrementalScoreCalculator.calculateScore()).thenReturn(SimpleScore.of(-3));
+        IncrementalScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                new IncrementalScoreDirector<>(mockTestdataIncrementalScoreDirectorFactory(), false, false,
+                        incrementalScoreCalculator);
+        scoreDirector.setWorkingSolution(solution);
+
+        ChangeMove<TestdataSolution> move = new ChangeMove<>(entity, TestdataEntity.buildVariableDescriptorForValue(),
+                toValue);
+        scoreDirector.doAndProcessMove(move, false, score -> {
+            assertThat(score).isEqualTo(SimpleScore.of(-3));
+            assertThat(entity.getValue()).isSameAs(toValue);
+        });
+        assertThat(entity.getValue()).isSameAs(fromValue);
+        verify(incrementalScoreCalculator).peekChangeMove(entity, "value", toValue);
+        verify(incrementalScoreCalculator, times(2)).beforeVariableChanged(entity, "value");
+    }
+
+    @Test
+    public void peekedChangeMoveIsAssertedWhenAssertingMoveScore() {
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 2);
+        TestdataEntity entity = solution.getEntityList().get(0);
+        TestdataValue toValue = solution.getValueList().get(1);
+        MovePeekingIncrementalScoreCalculator<TestdataSolution, SimpleScore> incrementalScoreCalculator =
+                mock(MovePeekingIncrementalScoreCalculator.class);
+        when(incrementalScoreCalculator.peekChangeMove(entity, "value", toValue)).thenReturn(SimpleScore.of(-7));
+        when(incrementalScoreCalculator.calculateScore()).thenReturn(SimpleScore.of(-3));
+        IncrementalScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                new IncrementalScoreDirector<TestdataSolution, SimpleScore>(
+                        mockTestdataIncrementalScoreDirectorFactory(), false, false, incrementalScoreCalculator) {
+                    @Override
+                    public void assertWorkingScoreFromScratch(SimpleScore workingScore, Object completedAction) {
+                        // Only the peeked score is asserted in this test
+                    }
+                };
+        scoreDirector.setWorkingSolution(solution);
+
+        ChangeMove<TestdataSolution> move = new ChangeMove<>(entity, TestdataEntity.buildVariableDescriptorForValue(),
+                toValue);
+        assertThatIllegalStateException()
+                .isThrownBy(() -> scoreDirector.doAndProcessMove(move, true))
+                .withMessageContaining("peekedScore");
+    }
+
+    @SuppressWarnings("unchecked")
+    private IncrementalScoreDirectorFactory<TestdataSolution, SimpleScore> mockTestdataIncrementalScoreDirectorFactory() {
+        IncrementalScoreDirectorFactory<TestdataSolution, SimpleScore> factory =
+                mock(IncrementalScoreDirectorFactory.class);
+        when(factory.getScoreDefinition()).thenReturn(new SimpleScoreDefinition());
+        when(factory.getSolutionDescriptor()).thenReturn(TestdataSolution.buildSolutionDescriptor());
+        return factory;
+    }
+
     @SuppressWarnings("unchecked")
     private IncrementalScoreDirectorFactory<Object, SimpleScore> mockIncrementalScoreDirectorFactory() {
         IncrementalScoreDirectorFactory<Object, SimpleScore> factory = mock(IncrementalScoreDirectorFactory.class);
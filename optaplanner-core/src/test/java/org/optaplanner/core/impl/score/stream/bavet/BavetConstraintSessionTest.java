@@ -0,0 +1,116 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintStreamImplType;
+import org.optaplanner.core.api.score.stream.Joiners;
+import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDirector;
+import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDirectorFactory;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.score.TestdataHardSoftScoreConstraintProvider;
+import org.optaplanner.core.impl.testdata.domain.score.TestdataHardSoftScoreSolution;
+
+public class BavetConstraintSessionTest {
+
+    private TestdataHardSoftScoreSolution solution;
+    private ConstraintStreamScoreDirector<TestdataHardSoftScoreSolution, HardSoftScore> scoreDirector;
+    private BavetConstraintSession<TestdataHardSoftScoreSolution, HardSoftScore> session;
+
+    @BeforeEach
+    void initializeSession() {
+        ConstraintStreamScoreDirectorFactory<TestdataHardSoftScoreSolution, HardSoftScore> scoreDirectorFactory =
+                new ConstraintStreamScoreDirectorFactory<>(TestdataHardSoftScoreSolution.buildSolutionDescriptor(),
+                        new TestdataHardSoftScoreConstraintProvider(), ConstraintStreamImplType.BAVET);
+        scoreDirector = scoreDirectorFactory.buildScoreDirector(false, false);
+        // Every entity has a different value
+        solution = TestdataHardSoftScoreSolution.generateSolution(3, 3);
+        scoreDirector.setWorkingSolution(solution);
+        session = (BavetConstraintSession<TestdataHardSoftScoreSolution, HardSoftScore>) scoreDirector.getSession();
+        assertThat(session.calculateScore(0)).isEqualTo(HardSoftScore.of(0, -3));
+    }
+
+    @Test
+    void calculateScoreLevelWiseWithWorseHardLevel() {
+        TestdataEntity entity = solution.getEntityList().get(1);
+        TestdataValue oldValue = entity.getValue();
+        changeValue(entity, solution.getValueList().get(0));
+        assertThat(session.calculateScore(0, HardSoftScore.of(0, -3))).isNull();
+        // The soft level is still dirty, the next calculation must catch up
+        changeValue(entity, oldValue);
+        assertThat(session.calculateScore(0)).isEqualTo(HardSoftScore.of(0, -3));
+        changeValue(entity, solution.getValueList().get(0));
+        assertThat(session.calculateScore(0, HardSoftScore.of(-2, 0))).isEqualTo(HardSoftScore.of(-1, -2));
+        assertThat(session.calculateScore(0)).isEqualTo(HardSoftScore.of(-1, -2));
+    }
+
+    @Test
+    void calculateScoreLevelWiseWithWorseSoftLevel() {
+        TestdataEntity entity = solution.getEntityList().get(2);
+        changeValue(entity, solution.getValueList().get(0));
+        assertThat(session.calculateScore(0, HardSoftScore.of(-1, -1))).isNull();
+        assertThat(session.calculateScore(0, HardSoftScore.of(-1, -2))).isEqualTo(HardSoftScore.of(-1, -2));
+        assertThat(session.calculateScore(0, HardSoftScore.of(-1, -3))).isEqualTo(HardSoftScore.of(-1, -2));
+    }
+
+    @Test
+    void calculateScoreLevelWiseComparesInitScoreFirst() {
+        assertThat(session.calculateScore(0, HardSoftScore.ofUninitialized(-1, 0, 0)))
+                .isEqualTo(HardSoftScore.of(0, -3));
+        assertThat(session.calculateScore(-1, HardSoftScore.of(-10, -10))).isNull();
+        assertThat(session.calculateScore(0)).isEqualTo(HardSoftScore.of(0, -3));
+    }
+
+    @Test
+    void singleEqualsJoinKeyChangeOnUpdate() {
+        ConstraintStreamScoreDirectorFactory<TestdataHardSoftScoreSolution, HardSoftScore> scoreDirectorFactory =
+                new ConstraintStreamScoreDirectorFactory<>(TestdataHardSoftScoreSolution.buildSolutionDescriptor(),
+                        constraintFactory -> new Constraint[] {
+                                constraintFactory.from(TestdataEntity.class)
+                                        .join(TestdataEntity.class, Joiners.equal(TestdataEntity::getValue))
+                                        .penalize("Same value", HardSoftScore.ONE_HARD)
+                        }, ConstraintStreamImplType.BAVET);
+        scoreDirector = scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        session = (BavetConstraintSession<TestdataHardSoftScoreSolution, HardSoftScore>) scoreDirector.getSession();
+        // Every entity only joins with itself
+        assertThat(session.calculateScore(0)).isEqualTo(HardSoftScore.of(-3, 0));
+        TestdataEntity entity = solution.getEntityList().get(1);
+        TestdataValue oldValue = entity.getValue();
+        // An update that keeps the join key
+        changeValue(entity, oldValue);
+        assertThat(session.calculateScore(0)).isEqualTo(HardSoftScore.of(-3, 0));
+        // An update that changes the join key
+        changeValue(entity, solution.getValueList().get(0));
+        assertThat(session.calculateScore(0)).isEqualTo(HardSoftScore.of(-5, 0));
+        changeValue(entity, oldValue);
+        assertThat(session.calculateScore(0)).isEqualTo(HardSoftScore.of(-3, 0));
+    }
+
+    private void changeValue(TestdataEntity entity, TestdataValue value) {
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(value);
+        scoreDirector.afterVariableChanged(entity, "value");
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNode;
+
+public class BavetSingleEqualsIndexTest {
+
+    @Test
+    public void putGetRemove() {
+        BavetSingleEqualsIndex<TestTuple> index = new BavetSingleEqualsIndex<>();
+        TestTuple a = new TestTuple("a");
+        TestTuple b = new TestTuple("b");
+        TestTuple c = new TestTuple("c");
+        index.put(new Object[] { "x" }, a);
+        index.put(new Object[] { "x" }, b);
+        index.put(new Object[] { "y" }, c);
+        assertThat(a.getIndexProperties()).containsExactly("x");
+        assertThat(index.get(new Object[] { "x" })).containsExactly(a, b);
+        assertThat(index.get(new Object[] { "y" })).containsExactly(c);
+        assertThat(index.get(new Object[] { "z" })).isEmpty();
+
+        index.remove(a);
+        assertThat(a.getIndexProperties()).isNull();
+        assertThat(index.get(new Object[] { "x" })).containsExactly(b);
+        index.remove(b);
+        assertThat(index.get(new Object[] { "x" })).isEmpty();
+        assertThat(index.get(new Object[] { "y" })).containsExactly(c);
+    }
+
+    @Test
+    public void nullKey() {
+        BavetSingleEqualsIndex<TestTuple> index = new BavetSingleEqualsIndex<>();
+        TestTuple a = new TestTuple("a");
+        TestTuple b = new TestTuple("b");
+        index.put(new Object[] { null }, a);
+        index.put(new Object[] { "x" }, b);
+        assertThat(index.get(new Object[] { null })).containsExactly(a);
+        index.remove(a);
+        assertThat(index.get(new Object[] { null })).isEmpty();
+        assertThat(index.get(new Object[] { "x" })).containsExactly(b);
+    }
+
+    @Test
+    public void keyChange() {
+        BavetSingleEqualsIndex<TestTuple> index = new BavetSingleEqualsIndex<>();
+        TestTuple a = new TestTuple("a");
+        TestTuple b = new TestTuple("b");
+        index.put(new Object[] { "x" }, a);
+        index.put(new Object[] { "x" }, b);
+        // The join bridge nodes re-put a tuple when its join key changes on update
+        index.remove(a);
+        index.put(new Object[] { "y" }, a);
+        assertThat(a.getIndexProperties()).containsExactly("y");
+        assertThat(index.get(new Object[] { "x" })).containsExactly(b);
+        assertThat(index.get(new Object[] { "y" })).containsExactly(a);
+    }
+
+    @Test
+    public void putTwice() {
+        BavetSingleEqualsIndex<TestTuple> index = new BavetSingleEqualsIndex<>();
+        TestTuple a = new TestTuple("a");
+        index.put(new Object[] { "x" }, a);
+        assertThatIllegalStateException().isThrownBy(() -> index.put(new Object[] { "x" }, a));
+    }
+
+    private static class TestTuple implements BavetJoinBridgeTuple {
+
+        private final Object fact;
+        private Object[] indexProperties;
+
+        public TestTuple(Object fact) {
+            this.fact = fact;
+        }
+
+        @Override
+        public BavetNode getNode() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object[] getFacts() {
+            return new Object[] { fact };
+        }
+
+        @Override
+        public Object[] getIndexProperties() {
+            return indexProperties;
+        }
+
+        @Override
+        public void setIndexProperties(Object[] indexProperties) {
+            this.indexProperties = indexProperties;
+        }
+
+        @Override
+        public String toString() {
+            return fact.toString();
+        }
+
+    }
+
+}
@@ -19,11 +19,77 @@ package org.optaplanner.core.impl.solver;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
+import org.optaplanner.core.impl.score.director.drools.DroolsScoreDirectorFactory;
+import org.optaplanner.core.impl.score.director.easy.EasyScoreDirector;
+import org.optaplanner.core.impl.score.director.easy.EasyScoreDirectorFactory;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.score.TestdataHardSoftScoreSolution;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
 
 class DefaultSolverFactoryTest {
 
+    @Test
+    void solversShareOnlyTheImmutablePartsOfTheScoreDirectorFactory() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        DefaultSolverFactory<TestdataSolution> solverFactory =
+                (DefaultSolverFactory<TestdataSolution>) SolverFactory.<TestdataSolution> create(solverConfig);
+        DefaultSolver<TestdataSolution> solver1 = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        DefaultSolver<TestdataSolution> solver2 = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        InnerScoreDirectorFactory<TestdataSolution, ?> scoreDirectorFactory1 = solver1.getScoreDirectorFactory();
+        InnerScoreDirectorFactory<TestdataSolution, ?> scoreDirectorFactory2 = solver2.getScoreDirectorFactory();
+        assertThat(scoreDirectorFactory2).isNotSameAs(scoreDirectorFactory1);
+        assertThat(scoreDirectorFactory2.getSolutionDescriptor()).isSameAs(scoreDirectorFactory1.getSolutionDescriptor());
+        // Every solver has its own score calculator instance
+        EasyScoreDirector<TestdataSolution, ?> scoreDirector1 =
+                (EasyScoreDirector<TestdataSolution, ?>) scoreDirectorFactory1.buildScoreDirector(false, false);
+        EasyScoreDirector<TestdataSolution, ?> scoreDirector2 =
+                (EasyScoreDirector<TestdataSolution, ?>) scoreDirectorFactory2.buildScoreDirector(false, false);
+        assertThat(scoreDirector2.getEasyScoreCalculator()).isNotSameAs(scoreDirector1.getEasyScoreCalculator());
+    }
+
+    @Test
+    void solversShareTheKieBase() {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactoryWithDroolsScoreDirector(
+                TestdataSolution.class, TestdataEntity.class);
+        DefaultSolver<TestdataSolution> solver1 = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        DefaultSolver<TestdataSolution> solver2 = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        DroolsScoreDirectorFactory<TestdataSolution, ?> scoreDirectorFactory1 =
+                (DroolsScoreDirectorFactory<TestdataSolution, ?>) solver1.getScoreDirectorFactory();
+        DroolsScoreDirectorFactory<TestdataSolution, ?> scoreDirectorFactory2 =
+                (DroolsScoreDirectorFactory<TestdataSolution, ?>) solver2.getScoreDirectorFactory();
+        assertThat(scoreDirectorFactory2).isNotSameAs(scoreDirectorFactory1);
+        assertThat(scoreDirectorFactory2.getKieBase()).isSameAs(scoreDirectorFactory1.getKieBase());
+    }
+
+    @Test
+    void solverConfigChangedAfterBuildSolver() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+        DefaultSolver<TestdataSolution> solver1 = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        assertThat(solver1.getScoreDirectorFactory()).isInstanceOf(EasyScoreDirectorFactory.class);
+
+        solverConfig.getScoreDirectorFactoryConfig().setEasyScoreCalculatorClass(null);
+        solverConfig.getScoreDirectorFactoryConfig().setScoreDrlList(Collections.singletonList(
+                "org/optaplanner/core/impl/score/dummySimpleScoreDroolsConstraints.drl"));
+        DefaultSolver<TestdataSolution> solver2 = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        assertThat(solver2.getScoreDirectorFactory()).isInstanceOf(DroolsScoreDirectorFactory.class);
+        assertThat(solver2.getScoreDirectorFactory().getSolutionDescriptor())
+                .isSameAs(solver1.getScoreDirectorFactory().getSolutionDescriptor());
+
+        solverConfig.setEntityClassList(Collections.singletonList(TestdataEntity.class));
+        solverConfig.setSolutionClass(TestdataHardSoftScoreSolution.class);
+        DefaultSolver<TestdataSolution> solver3 = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        assertThat(solver3.getScoreDirectorFactory().getSolutionDescriptor().getSolutionClass())
+                .isEqualTo(TestdataHardSoftScoreSolution.class);
+    }
+
     @Test
     void moveThreadCountAutoIsCorrectlyResolvedWhenCpuCountIsPositive() {
         final int cpuCount = 16;
@@ -17,26 +17,43 @@
 package org.optaplanner.core.impl.solver;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.fail;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.SubListChangeMoveSelectorConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchType;
 import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
+import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
 import org.optaplanner.core.impl.phase.custom.NoChangeCustomPhaseCommand;
+import org.optaplanner.core.impl.solver.termination.CoarseClock;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
 import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
 import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListConstraintProvider;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
 import org.optaplanner.core.impl.testdata.domain.pinned.TestdataPinnedEntity;
 import org.optaplanner.core.impl.testdata.domain.pinned.TestdataPinnedSolution;
 import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
@@ -59,6 +76,119 @@ public class DefaultSolverTest {
         assertThat(solution.getScore().isSolutionInitialized()).isTrue();
     }
 
+    @Test
+    public void solveListVariable() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataListSolution.class, TestdataListEntity.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        SolverFactory<TestdataListSolution> solverFactory = SolverFactory.create(solverConfig);
+        Solver<TestdataListSolution> solver = solverFactory.buildSolver();
+
+        TestdataListSolution solution = TestdataListSolution.generateUninitializedSolution(6, 2);
+
+        solution = solver.solve(solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+        assertThat(solution.getEntityList().stream().flatMap(entity -> entity.getValueList().stream()))
+                .containsExactlyInAnyOrderElementsOf(solution.getValueList());
+    }
+
+    @Test
+    public void solveListVariableWithConstraintStreams() {
+        LocalSearchPhaseConfig localSearchPhaseConfig = new LocalSearchPhaseConfig();
+        localSearchPhaseConfig.setTerminationConfig(
+                new TerminationConfig().withStepCountLimit(PlannerTestUtils.TERMINATION_STEP_COUNT_LIMIT));
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataListSolution.class, TestdataListEntity.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withScoreDirectorFactory(new ScoreDirectorFactoryConfig()
+                        .withConstraintProviderClass(TestdataListConstraintProvider.class))
+                .withPhases(new ConstructionHeuristicPhaseConfig(), localSearchPhaseConfig);
+        SolverFactory<TestdataListSolution> solverFactory = SolverFactory.create(solverConfig);
+        Solver<TestdataListSolution> solver = solverFactory.buildSolver();
+
+        TestdataListSolution solution = TestdataListSolution.generateUninitializedSolution(6, 2);
+
+        solution = solver.solve(solution);
+        assertThat(solution).isNotNull();
+        // Spread evenly, 3 values in each of the 2 lists
+        assertThat(solution.getScore()).isEqualTo(SimpleScore.of(-18));
+        assertThat(solution.getEntityList().stream().flatMap(entity -> entity.getValueList().stream()))
+                .containsExactlyInAnyOrderElementsOf(solution.getValueList());
+    }
+
+    @Test
+    public void solveListVariableWithSubListChangeMoves() {
+        LocalSearchPhaseConfig localSearchPhaseConfig = new LocalSearchPhaseConfig()
+                .withMoveSelectorConfig(new SubListChangeMoveSelectorConfig());
+        localSearchPhaseConfig.setTerminationConfig(
+                new TerminationConfig().withStepCountLimit(PlannerTestUtils.TERMINATION_STEP_COUNT_LIMIT));
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataListSolution.class, TestdataListEntity.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withPhases(new ConstructionHeuristicPhaseConfig(), localSearchPhaseConfig);
+        SolverFactory<TestdataListSolution> solverFactory = SolverFactory.create(solverConfig);
+        Solver<TestdataListSolution> solver = solverFactory.buildSolver();
+
+        TestdataListSolution solution = TestdataListSolution.generateUninitializedSolution(8, 3);
+
+        solution = solver.solve(solution);
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+        assertThat(solution.getEntityList().stream().flatMap(entity -> entity.getValueList().stream()))
+                .containsExactlyInAnyOrderElementsOf(solution.getValueList());
+    }
+
+    @Test
+    public void solveListVariableWithVariableNeighborhoodDescent() {
+        LocalSearchPhaseConfig localSearchPhaseConfig = new LocalSearchPhaseConfig()
+                .withLocalSearchType(LocalSearchType.VARIABLE_NEIGHBORHOOD_DESCENT);
+        localSearchPhaseConfig.setTerminationConfig(
+                new TerminationConfig().withStepCountLimit(PlannerTestUtils.TERMINATION_STEP_COUNT_LIMIT));
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataListSolution.class, TestdataListEntity.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withPhases(new ConstructionHeuristicPhaseConfig(), localSearchPhaseConfig);
+        SolverFactory<TestdataListSolution> solverFactory = SolverFactory.create(solverConfig);
+        Solver<TestdataListSolution> solver = solverFactory.buildSolver();
+
+        TestdataListSolution solution = TestdataListSolution.generateUninitializedSolution(5, 2);
+
+        solution = solver.solve(solution);
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+        assertThat(solution.getEntityList().stream().flatMap(entity -> entity.getValueList().stream()))
+                .containsExactlyInAnyOrderElementsOf(solution.getValueList());
+    }
+
+    @Test
+    public void solveListVariableDoesNotChangeEarlierBestSolutions() {
+        LocalSearchPhaseConfig localSearchPhaseConfig = new LocalSearchPhaseConfig();
+        localSearchPhaseConfig.setTerminationConfig(
+                new TerminationConfig().withStepCountLimit(PlannerTestUtils.TERMINATION_STEP_COUNT_LIMIT));
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataListSolution.class, TestdataListEntity.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig(), localSearchPhaseConfig);
+        SolverFactory<TestdataListSolution> solverFactory = SolverFactory.create(solverConfig);
+        Solver<TestdataListSolution> solver = solverFactory.buildSolver();
+        Map<TestdataListSolution, List<List<TestdataListValue>>> bestSolutionToValueListsMap = new IdentityHashMap<>();
+        solver.addEventListener(event -> {
+            TestdataListSolution bestSolution = event.getNewBestSolution();
+            bestSolutionToValueListsMap.put(bestSolution, bestSolution.getEntityList().stream()
+                    .map(entity -> new ArrayList<>(entity.getValueList()))
+                    .collect(Collectors.toList()));
+        });
+
+        TestdataListSolution solution = TestdataListSolution.generateUninitializedSolution(8, 3);
+
+        solution = solver.solve(solution);
+        assertThat(bestSolutionToValueListsMap).isNotEmpty();
+        // The steps after a new best solution must not change the lists of that best solution
+        bestSolutionToValueListsMap.forEach((bestSolution, valueLists) -> assertThat(
+                bestSolution.getEntityList().stream().map(TestdataListEntity::getValueList))
+                        .containsExactlyElementsOf(valueLists));
+        assertThat(solution.getEntityList().stream().flatMap(entity -> entity.getValueList().stream()))
+                .containsExactlyInAnyOrderElementsOf(solution.getValueList());
+    }
+
     @Test
     public void solveEmptyEntityList() {
         SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
@@ -164,6 +294,27 @@ public class DefaultSolverTest {
         assertThat(solution.getScore().isSolutionInitialized()).isFalse();
     }
 
+    @Test
+    public void coarseClockStopsTickingAfterFailedSolve() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withTerminationConfig(new TerminationConfig().withSecondsSpentLimit(60L))
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(
+                        scoreDirector -> {
+                            assertThat(CoarseClock.getInstance().isTicking()).isTrue();
+                            throw new IllegalStateException("Failing phase.");
+                        }));
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+        Solver<TestdataSolution> solver = solverFactory.buildSolver();
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2")));
+
+        assertThatIllegalStateException().isThrownBy(() -> solver.solve(solution))
+                .withMessage("Failing phase.");
+        assertThat(CoarseClock.getInstance().isTicking()).isFalse();
+    }
+
     @Test
     public void solveStopsWhenUninitialized() {
         SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class AliasMethodSamplerTest {
+
+    @Test
+    public void sampleInProportionToWeight() {
+        AliasMethodSampler sampler = new AliasMethodSampler();
+        double[] weights = { 1000.0, 200.0, 0.0, 30.0, 4.0 };
+        sampler.setSize(weights.length);
+        for (int i = 0; i < weights.length; i++) {
+            sampler.setWeight(i, weights[i]);
+        }
+        assertSampleFrequencies(sampler, weights);
+
+        // Changing a weight rebuilds the alias table
+        weights[1] = 0.0;
+        weights[2] = 500.0;
+        sampler.setWeight(1, weights[1]);
+        sampler.setWeight(2, weights[2]);
+        assertSampleFrequencies(sampler, weights);
+
+        // Shrinking drops the last weights
+        sampler.setSize(2);
+        assertThat(sampler.getSize()).isEqualTo(2);
+        assertSampleFrequencies(sampler, new double[] { 1000.0, 0.0 });
+    }
+
+    private static void assertSampleFrequencies(AliasMethodSampler sampler, double[] weights) {
+        double weightTotal = 0.0;
+        for (double weight : weights) {
+            weightTotal += weight;
+        }
+        Random workingRandom = new Random(37);
+        int sampleCount = 100_000;
+        int[] counts = new int[weights.length];
+        for (int i = 0; i < sampleCount; i++) {
+            counts[sampler.sample(workingRandom)]++;
+        }
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] == 0.0) {
+                assertThat(counts[i]).isZero();
+            } else {
+                assertThat((double) counts[i] / sampleCount).isCloseTo(weights[i] / weightTotal, within(0.01));
+            }
+        }
+    }
+
+    @Test
+    public void invalidWeight() {
+        AliasMethodSampler sampler = new AliasMethodSampler();
+        sampler.setSize(2);
+        assertThatIllegalArgumentException().isThrownBy(() -> sampler.setWeight(0, -1.0));
+        assertThatIllegalArgumentException().isThrownBy(() -> sampler.setWeight(0, Double.NaN));
+        sampler.setSize(0);
+        assertThatIllegalStateException().isThrownBy(() -> sampler.sample(new Random(37)));
+    }
+
+    @Test
+    public void zeroWeightTotalSamplesLastIndex() {
+        AliasMethodSampler sampler = new AliasMethodSampler();
+        sampler.setSize(3);
+        Random workingRandom = new Random(37);
+        for (int i = 0; i < 100; i++) {
+            assertThat(sampler.sample(workingRandom)).isEqualTo(2);
+        }
+        // A positive weight takes over
+        sampler.setWeight(0, 1.0);
+        assertThat(sampler.sample(workingRandom)).isEqualTo(0);
+        sampler.setWeight(0, 0.0);
+        assertThat(sampler.sample(workingRandom)).isEqualTo(2);
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.termination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+
+public class CoarseClockTest {
+
+    @Test
+    public void tickingOnlyWhileAcquired() throws InterruptedException {
+        CoarseClock clock = new CoarseClock();
+        assertThat(clock.isTicking()).isFalse();
+        long before = System.currentTimeMillis();
+        assertThat(clock.millis()).isGreaterThanOrEqualTo(before);
+
+        clock.acquire();
+        clock.acquire();
+        try {
+            assertThat(clock.isTicking()).isTrue();
+            long start = clock.millis();
+            assertThat(start).isGreaterThanOrEqualTo(before);
+            Thread.sleep(50L);
+            assertThat(clock.millis()).isGreaterThan(start);
+            clock.release();
+            assertThat(clock.isTicking()).isTrue();
+        } finally {
+            clock.release();
+        }
+        assertThat(clock.isTicking()).isFalse();
+        assertThatIllegalStateException().isThrownBy(clock::release);
+    }
+
+    @Test
+    public void timeBasedTerminationsAcquireDuringSolving() {
+        CoarseClock clock = new CoarseClock();
+        SolverScope<?> solverScope = new SolverScope<>();
+        Termination termination = new OrCompositeTermination(
+                new TimeMillisSpentTermination(1000L, clock),
+                new UnimprovedTimeMillisSpentTermination(1000L, clock));
+        termination.solvingStarted(solverScope);
+        assertThat(clock.isTicking()).isTrue();
+        termination.solvingEnded(solverScope);
+        assertThat(clock.isTicking()).isFalse();
+        // A restarted solver acquires it again
+        termination.solvingStarted(solverScope);
+        assertThat(clock.isTicking()).isTrue();
+        termination.solvingEnded(solverScope);
+        assertThat(clock.isTicking()).isFalse();
+    }
+
+    @Test
+    public void solverScopeReleasesWhenSolvingFails() {
+        CoarseClock clock = new CoarseClock();
+        SolverScope<?> solverScope = new SolverScope<>();
+        Termination termination = new TimeMillisSpentTermination(1000L, clock);
+        termination.solvingStarted(solverScope);
+        assertThat(clock.isTicking()).isTrue();
+        // Solving failed before solvingEnded()
+        solverScope.releaseCoarseClocks();
+        assertThat(clock.isTicking()).isFalse();
+        assertThatIllegalStateException().isThrownBy(clock::release);
+        solverScope.releaseCoarseClocks();
+    }
+
+}
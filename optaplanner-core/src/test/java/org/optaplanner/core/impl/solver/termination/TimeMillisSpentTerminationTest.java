@@ -21,32 +21,44 @@ import static org.assertj.core.data.Offset.offset;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
+
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 public class TimeMillisSpentTerminationTest {
 
+    private static final long START_TIME_MILLIS = 3000L;
+
     @Test
     public void solveTermination() {
-        Termination termination = new TimeMillisSpentTermination(1000L);
+        Clock clock = mock(Clock.class);
+        Termination termination = new TimeMillisSpentTermination(1000L, clock);
         SolverScope solverScope = mock(SolverScope.class);
+        when(solverScope.getStartingSystemTimeMillis()).thenReturn(START_TIME_MILLIS);
 
+        when(clock.millis()).thenReturn(START_TIME_MILLIS);
         when(solverScope.calculateTimeMillisSpentUpToNow()).thenReturn(0L);
         assertThat(termination.isSolverTerminated(solverScope)).isFalse();
         assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(0.0, offset(0.0));
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 100L);
         when(solverScope.calculateTimeMillisSpentUpToNow()).thenReturn(100L);
         assertThat(termination.isSolverTerminated(solverScope)).isFalse();
         assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(0.1, offset(0.0));
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 500L);
         when(solverScope.calculateTimeMillisSpentUpToNow()).thenReturn(500L);
         assertThat(termination.isSolverTerminated(solverScope)).isFalse();
         assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(0.5, offset(0.0));
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 700L);
         when(solverScope.calculateTimeMillisSpentUpToNow()).thenReturn(700L);
         assertThat(termination.isSolverTerminated(solverScope)).isFalse();
         assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(0.7, offset(0.0));
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 1000L);
         when(solverScope.calculateTimeMillisSpentUpToNow()).thenReturn(1000L);
         assertThat(termination.isSolverTerminated(solverScope)).isTrue();
         assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(1.0, offset(0.0));
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 1200L);
         when(solverScope.calculateTimeMillisSpentUpToNow()).thenReturn(1200L);
         assertThat(termination.isSolverTerminated(solverScope)).isTrue();
         assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(1.0, offset(0.0));
@@ -54,24 +66,32 @@ public class TimeMillisSpentTerminationTest {
 
     @Test
     public void phaseTermination() {
-        Termination termination = new TimeMillisSpentTermination(1000L);
+        Clock clock = mock(Clock.class);
+        Termination termination = new TimeMillisSpentTermination(1000L, clock);
         AbstractPhaseScope phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getStartingSystemTimeMillis()).thenReturn(START_TIME_MILLIS);
 
+        when(clock.millis()).thenReturn(START_TIME_MILLIS);
         when(phaseScope.calculatePhaseTimeMillisSpentUpToNow()).thenReturn(0L);
         assertThat(termination.isPhaseTerminated(phaseScope)).isFalse();
         assertThat(termination.calculatePhaseTimeGradient(phaseScope)).isEqualTo(0.0, offset(0.0));
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 100L);
         when(phaseScope.calculatePhaseTimeMillisSpentUpToNow()).thenReturn(100L);
         assertThat(termination.isPhaseTerminated(phaseScope)).isFalse();
         assertThat(termination.calculatePhaseTimeGradient(phaseScope)).isEqualTo(0.1, offset(0.0));
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 500L);
         when(phaseScope.calculatePhaseTimeMillisSpentUpToNow()).thenReturn(500L);
         assertThat(termination.isPhaseTerminated(phaseScope)).isFalse();
         assertThat(termination.calculatePhaseTimeGradient(phaseScope)).isEqualTo(0.5, offset(0.0));
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 700L);
         when(phaseScope.calculatePhaseTimeMillisSpentUpToNow()).thenReturn(700L);
         assertThat(termination.isPhaseTerminated(phaseScope)).isFalse();
         assertThat(termination.calculatePhaseTimeGradient(phaseScope)).isEqualTo(0.7, offset(0.0));
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 1000L);
         when(phaseScope.calculatePhaseTimeMillisSpentUpToNow()).thenReturn(1000L);
         assertThat(termination.isPhaseTerminated(phaseScope)).isTrue();
         assertThat(termination.calculatePhaseTimeGradient(phaseScope)).isEqualTo(1.0, offset(0.0));
+        when(clock.millis()).thenReturn(START_TIME_MILLIS + 1200L);
         when(phaseScope.calculatePhaseTimeMillisSpentUpToNow()).thenReturn(1200L);
         assertThat(termination.isPhaseTerminated(phaseScope)).isTrue();
         assertThat(termination.calculatePhaseTimeGradient(phaseScope)).isEqualTo(1.0, offset(0.0));
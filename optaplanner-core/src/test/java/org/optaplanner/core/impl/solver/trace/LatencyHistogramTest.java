@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.offset;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void empty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThat(histogram.getTotalCount()).isEqualTo(0L);
+        assertThat(histogram.getMinValue()).isEqualTo(0L);
+        assertThat(histogram.getMaxValue()).isEqualTo(0L);
+        assertThat(histogram.getMean()).isEqualTo(0.0);
+        assertThat(histogram.getValueAtPercentile(99.0)).isEqualTo(0L);
+    }
+
+    @Test
+    public void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1L; value <= 100L; value++) {
+            histogram.recordValue(value);
+        }
+        assertThat(histogram.getTotalCount()).isEqualTo(100L);
+        assertThat(histogram.getMinValue()).isEqualTo(1L);
+        assertThat(histogram.getMaxValue()).isEqualTo(100L);
+        assertThat(histogram.getMean()).isEqualTo(50.5, offset(0.0));
+        assertThat(histogram.getValueAtPercentile(0.0)).isEqualTo(1L);
+        assertThat(histogram.getValueAtPercentile(50.0)).isEqualTo(50L);
+        assertThat(histogram.getValueAtPercentile(99.0)).isEqualTo(99L);
+        assertThat(histogram.getValueAtPercentile(100.0)).isEqualTo(100L);
+    }
+
+    @Test
+    public void largeValuesHaveBoundedRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1_000L; value <= 1_000_000_000L; value *= 10L) {
+            histogram.recordValue(value);
+        }
+        for (int i = 0; i < 7; i++) {
+            long value = histogram.getValueAtPercentile((i + 0.5) * 100.0 / 7.0);
+            double expected = Math.pow(10.0, i + 3);
+            assertThat((double) value).isBetween(expected, expected * (1.0 + 1.0 / 64.0));
+        }
+        assertThat(histogram.getValueAtPercentile(100.0)).isEqualTo(1_000_000_000L);
+    }
+
+    @Test
+    public void bucketIndexIsContiguous() {
+        for (long value = 0L; value < 100_000L; value++) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertThat(LatencyHistogram.highestEquivalentValue(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(LatencyHistogram.highestEquivalentValue(index - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    public void add() {
+        LatencyHistogram a = new LatencyHistogram();
+        a.recordValue(10L);
+        a.recordValue(20L);
+        LatencyHistogram b = new LatencyHistogram();
+        b.recordValue(5_000_000L);
+        a.add(b);
+        assertThat(a.getTotalCount()).isEqualTo(3L);
+        assertThat(a.getMinValue()).isEqualTo(10L);
+        assertThat(a.getMaxValue()).isEqualTo(5_000_000L);
+        assertThat(a.getValueAtPercentile(50.0)).isEqualTo(20L);
+    }
+
+    @Test
+    public void invalidPercentile() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new LatencyHistogram().getValueAtPercentile(101.0));
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+public class MoveEvaluationTracerTest {
+
+    @Test
+    public void traceEveryPhase() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        DefaultSolver<TestdataSolution> solver =
+                (DefaultSolver<TestdataSolution>) SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        List<Integer> tracedPhaseIndexList = new ArrayList<>();
+        List<MoveEvaluationTrace> traceList = new ArrayList<>();
+        MoveEvaluationTraceListener<TestdataSolution> listener = (phaseScope, phaseTraceList) -> {
+            tracedPhaseIndexList.add(tracedPhaseIndexList.size());
+            traceList.addAll(phaseTraceList);
+        };
+        solver.addMoveEvaluationTraceListener(listener);
+        assertThat(solver.getSolverScope().getMoveEvaluationTracer()).isNotNull();
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2"),
+                new TestdataEntity("e3")));
+        solver.solve(solution);
+
+        assertThat(tracedPhaseIndexList).containsExactly(0, 1);
+        MoveEvaluationTrace constructionHeuristicTrace = traceList.get(0);
+        assertThat(constructionHeuristicTrace.getPhaseIndex()).isEqualTo(0);
+        assertThat(constructionHeuristicTrace.getMoveSelector()).isEqualTo("Construction Heuristics");
+        assertThat(constructionHeuristicTrace.getMoveType()).isEqualTo("ChangeMove(TestdataEntity.value)");
+        assertThat(constructionHeuristicTrace.getMoveCount()).isEqualTo(6L);
+
+        MoveEvaluationTrace localSearchTrace = traceList.stream()
+                .filter(trace -> trace.getPhaseIndex() == 1)
+                .findFirst().orElseThrow(() -> new AssertionError("Local search was not traced."));
+        assertThat(localSearchTrace.getMoveSelector()).isNotEqualTo("Local Search");
+        assertThat(localSearchTrace.getMoveCount()).isGreaterThan(0L);
+        for (MoveEvaluationStage stage : MoveEvaluationStage.values()) {
+            assertThat(localSearchTrace.getHistogram(stage).getTotalCount())
+                    .isEqualTo(localSearchTrace.getMoveCount());
+        }
+        LatencyHistogram total = localSearchTrace.getHistogram(MoveEvaluationStage.TOTAL);
+        assertThat(total.getMaxValue())
+                .isGreaterThanOrEqualTo(localSearchTrace.getHistogram(MoveEvaluationStage.DO_MOVE).getMinValue());
+        assertThat(total.getMean())
+                .isGreaterThanOrEqualTo(localSearchTrace.getHistogram(MoveEvaluationStage.SCORE_CALCULATION).getMean());
+
+        // The default local search is a union of a change and a swap move selector, traced per child
+        assertThat(traceList.stream().filter(trace -> trace.getPhaseIndex() == 1))
+                .extracting(MoveEvaluationTrace::getMoveSelector)
+                .isNotEmpty()
+                .doesNotHaveDuplicates()
+                .noneMatch(moveSelector -> moveSelector.startsWith("Union"));
+
+        solver.removeMoveEvaluationTraceListener(listener);
+        assertThat(solver.getSolverScope().getMoveEvaluationTracer()).isNull();
+        traceList.clear();
+        solver.solve(solution);
+        assertThat(traceList).isEmpty();
+    }
+
+}
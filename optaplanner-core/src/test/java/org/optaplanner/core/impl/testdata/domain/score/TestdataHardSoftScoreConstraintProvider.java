@@ -0,0 +1,51 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.testdata.domain.score;
+
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.api.score.stream.Joiners;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+
+/**
+ * The hard constraint wants every entity to have a different value,
+ * the soft constraint wants every entity to have the same value.
+ */
+public class TestdataHardSoftScoreConstraintProvider implements ConstraintProvider {
+
+    @Override
+    public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+        return new Constraint[] {
+                sameValue(constraintFactory),
+                differentValue(constraintFactory)
+        };
+    }
+
+    protected Constraint sameValue(ConstraintFactory constraintFactory) {
+        return constraintFactory.fromUniquePair(TestdataEntity.class, Joiners.equal(TestdataEntity::getValue))
+                .penalize("Same value", HardSoftScore.ONE_HARD);
+    }
+
+    protected Constraint differentValue(ConstraintFactory constraintFactory) {
+        return constraintFactory.fromUniquePair(TestdataEntity.class)
+                .filter((a, b) -> a.getValue() != b.getValue())
+                .penalize("Different value", HardSoftScore.ONE_SOFT);
+    }
+
+}
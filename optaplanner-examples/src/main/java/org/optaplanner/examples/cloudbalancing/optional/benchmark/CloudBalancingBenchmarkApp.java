@@ -32,6 +32,10 @@ public class CloudBalancingBenchmarkApp extends CommonBenchmarkApp {
                         "org/optaplanner/examples/cloudbalancing/optional/benchmark/cloudBalancingStepLimitBenchmarkConfig.xml"),
                 new ArgOption("scoreDirector",
                         "org/optaplanner/examples/cloudbalancing/optional/benchmark/cloudBalancingScoreDirectorBenchmarkConfig.xml"),
+                new ArgOption("packedScore",
+                        "org/optaplanner/examples/cloudbalancing/optional/benchmark/cloudBalancingPackedScoreBenchmarkConfig.xml"),
+                new ArgOption("ruinRecreate",
+                        "org/optaplanner/examples/cloudbalancing/optional/benchmark/cloudBalancingRuinRecreateBenchmarkConfig.xml"),
                 new ArgOption("template",
                         "org/optaplanner/examples/cloudbalancing/optional/benchmark/cloudBalancingBenchmarkConfigTemplate.xml.ftl",
                         true));
@@ -32,6 +32,8 @@ public class MachineReassignmentBenchmarkApp extends CommonBenchmarkApp {
                         "org/optaplanner/examples/machinereassignment/optional/benchmark/machineReassignmentStepLimitBenchmarkConfig.xml"),
                 new ArgOption("scoreDirector",
                         "org/optaplanner/examples/machinereassignment/optional/benchmark/machineReassignmentScoreDirectorBenchmarkConfig.xml"),
+                new ArgOption("movePeeking",
+                        "org/optaplanner/examples/machinereassignment/optional/benchmark/machineReassignmentMovePeekingBenchmarkConfig.xml"),
                 new ArgOption("template",
                         "org/optaplanner/examples/machinereassignment/optional/benchmark/machineReassignmentBenchmarkConfigTemplate.xml.ftl",
                         true));
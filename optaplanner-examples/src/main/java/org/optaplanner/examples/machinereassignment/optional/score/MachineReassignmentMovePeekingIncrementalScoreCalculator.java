@@ -0,0 +1,58 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.examples.machinereassignment.optional.score;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.optaplanner.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
+import org.optaplanner.core.api.score.calculator.MovePeekingIncrementalScoreCalculator;
+import org.optaplanner.examples.machinereassignment.domain.MachineReassignment;
+import org.optaplanner.examples.machinereassignment.domain.MrMachine;
+import org.optaplanner.examples.machinereassignment.domain.MrProcessAssignment;
+import org.optaplanner.examples.machinereassignment.score.MachineReassignmentIncrementalScoreCalculator;
+
+/**
+ * Predicts the score of change, swap and pillar change moves from the tallies of the incremental score calculator,
+ * without changing the process assignments or those tallies.
+ */
+public class MachineReassignmentMovePeekingIncrementalScoreCalculator
+        extends MachineReassignmentIncrementalScoreCalculator
+        implements MovePeekingIncrementalScoreCalculator<MachineReassignment, HardSoftLongScore> {
+
+    @Override
+    public HardSoftLongScore peekChangeMove(Object entity, String variableName, Object toPlanningValue) {
+        return calculateReassignedScore(Collections.singletonList((MrProcessAssignment) entity),
+                Collections.singletonList((MrMachine) toPlanningValue));
+    }
+
+    @Override
+    public HardSoftLongScore peekSwapMove(Object leftEntity, Object rightEntity, List<String> variableNameList) {
+        MrProcessAssignment leftProcessAssignment = (MrProcessAssignment) leftEntity;
+        MrProcessAssignment rightProcessAssignment = (MrProcessAssignment) rightEntity;
+        return calculateReassignedScore(Arrays.asList(leftProcessAssignment, rightProcessAssignment),
+                Arrays.asList(rightProcessAssignment.getMachine(), leftProcessAssignment.getMachine()));
+    }
+
+    @Override
+    public HardSoftLongScore peekPillarChangeMove(List<Object> pillar, String variableName, Object toPlanningValue) {
+        return calculateReassignedScore((List<MrProcessAssignment>) (List<?>) pillar,
+                Collections.nCopies(pillar.size(), (MrMachine) toPlanningValue));
+    }
+
+}
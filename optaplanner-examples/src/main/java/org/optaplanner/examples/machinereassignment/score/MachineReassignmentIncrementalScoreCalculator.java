@@ -20,8 +20,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import org.optaplanner.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
 import org.optaplanner.core.api.score.calculator.ConstraintMatchAwareIncrementalScoreCalculator;
@@ -148,6 +151,31 @@ public class MachineReassignmentIncrementalScoreCalculator
         return HardSoftLongScore.of(hardScore, softScore);
     }
 
+    /**
+     * Calculates the score as it would be if every process assignment was assigned to the machine at the same index,
+     * without changing any process assignment or any tally of this calculator.
+     *
+     * @param processAssignmentList never null, without duplicates
+     * @param toMachineList never null, with the same size as processAssignmentList
+     * @return null if a process assignment or a toMachine is unassigned
+     */
+    protected HardSoftLongScore calculateReassignedScore(List<MrProcessAssignment> processAssignmentList,
+            List<MrMachine> toMachineList) {
+        MrReassignmentDelta reassignmentDelta = new MrReassignmentDelta();
+        for (int i = 0; i < processAssignmentList.size(); i++) {
+            MrProcessAssignment processAssignment = processAssignmentList.get(i);
+            MrMachine fromMachine = processAssignment.getMachine();
+            MrMachine toMachine = toMachineList.get(i);
+            if (fromMachine == null || toMachine == null) {
+                return null;
+            }
+            if (fromMachine != toMachine) {
+                reassignmentDelta.reassign(processAssignment, fromMachine, toMachine);
+            }
+        }
+        return reassignmentDelta.calculateScore();
+    }
+
     private class MrServiceScorePart {
 
         private final MrService service;
@@ -450,6 +478,260 @@ public class MachineReassignmentIncrementalScoreCalculator
 
     }
 
+    /**
+     * Tallies the changes of a hypothetical reassignment next to the real tallies, which it only reads.
+     */
+    private class MrReassignmentDelta {
+
+        private final Map<MrMachine, MrMachineDelta> machineDeltaMap = new HashMap<>(4);
+        private final Map<MrService, MrServiceDelta> serviceDeltaMap = new HashMap<>(4);
+
+        private long hardDelta = 0L;
+        private long softDelta = 0L;
+
+        private void reassign(MrProcessAssignment processAssignment, MrMachine fromMachine, MrMachine toMachine) {
+            machineDeltaMap.computeIfAbsent(fromMachine, MrMachineDelta::new)
+                    .changeProcessAssignment(processAssignment, fromMachine, -1);
+            machineDeltaMap.computeIfAbsent(toMachine, MrMachineDelta::new)
+                    .changeProcessAssignment(processAssignment, toMachine, 1);
+            MrServiceDelta serviceDelta = serviceDeltaMap.computeIfAbsent(processAssignment.getService(),
+                    MrServiceDelta::new);
+            serviceDelta.changeProcessAssignment(processAssignment, fromMachine, -1);
+            serviceDelta.changeProcessAssignment(processAssignment, toMachine, 1);
+            // Move costs
+            softDelta += calculateMoveCost(processAssignment, fromMachine)
+                    - calculateMoveCost(processAssignment, toMachine);
+        }
+
+        private long calculateMoveCost(MrProcessAssignment processAssignment, MrMachine machine) {
+            MrMachine originalMachine = processAssignment.getOriginalMachine();
+            if (Objects.equals(originalMachine, machine)) {
+                return 0L;
+            }
+            long moveCost = processAssignment.getProcessMoveCost() * globalPenaltyInfo.getProcessMoveCostWeight();
+            if (originalMachine != null) {
+                moveCost += originalMachine.getMoveCostTo(machine) * globalPenaltyInfo.getMachineMoveCostWeight();
+            }
+            return moveCost;
+        }
+
+        private HardSoftLongScore calculateScore() {
+            for (MrMachineDelta machineDelta : machineDeltaMap.values()) {
+                machineDelta.calculateDelta();
+            }
+            for (MrServiceDelta serviceDelta : serviceDeltaMap.values()) {
+                serviceDelta.calculateLocationSpreadDelta();
+            }
+            calculateDependencyDelta();
+            calculateServiceMoveCostDelta();
+            return HardSoftLongScore.of(hardScore + hardDelta, softScore + softDelta);
+        }
+
+        private void calculateDependencyDelta() {
+            // Every process of a service is penalized per toDependency service without a process in its neighborhood
+            Map<MrNeighborhood, Set<MrService>> affectedNeighborhoodServiceMap = new HashMap<>(4);
+            for (MrServiceDelta serviceDelta : serviceDeltaMap.values()) {
+                MrService service = serviceDelta.serviceScorePart.service;
+                for (Map.Entry<MrNeighborhood, Integer> entry : serviceDelta.neighborhoodCountDeltaMap.entrySet()) {
+                    if (entry.getValue() != 0) {
+                        Set<MrService> affectedServiceSet = affectedNeighborhoodServiceMap
+                                .computeIfAbsent(entry.getKey(), k -> new HashSet<>());
+                        affectedServiceSet.add(service);
+                        affectedServiceSet.addAll(service.getFromDependencyServiceList());
+                    }
+                }
+            }
+            for (Map.Entry<MrNeighborhood, Set<MrService>> entry : affectedNeighborhoodServiceMap.entrySet()) {
+                MrNeighborhood neighborhood = entry.getKey();
+                for (MrService service : entry.getValue()) {
+                    hardDelta -= calculateDependencyPenalty(service, neighborhood, true)
+                            - calculateDependencyPenalty(service, neighborhood, false);
+                }
+            }
+        }
+
+        private long calculateDependencyPenalty(MrService service, MrNeighborhood neighborhood, boolean reassigned) {
+            int neighborhoodProcessCount = getNeighborhoodProcessCount(service, neighborhood, reassigned);
+            if (neighborhoodProcessCount == 0) {
+                return 0L;
+            }
+            int missingDependencyCount = 0;
+            for (MrService toDependencyService : service.getToDependencyServiceList()) {
+                if (getNeighborhoodProcessCount(toDependencyService, neighborhood, reassigned) == 0) {
+                    missingDependencyCount++;
+                }
+            }
+            return (long) neighborhoodProcessCount * missingDependencyCount;
+        }
+
+        private int getNeighborhoodProcessCount(MrService service, MrNeighborhood neighborhood, boolean reassigned) {
+            int neighborhoodProcessCount = serviceScorePartMap.get(service).neighborhoodBag.get(neighborhood);
+            if (reassigned) {
+                MrServiceDelta serviceDelta = serviceDeltaMap.get(service);
+                if (serviceDelta != null) {
+                    neighborhoodProcessCount += serviceDelta.neighborhoodCountDeltaMap.getOrDefault(neighborhood, 0);
+                }
+            }
+            return neighborhoodProcessCount;
+        }
+
+        private void calculateServiceMoveCostDelta() {
+            // The service move cost is the highest movedProcessCount of all services
+            int maximumMovedProcessCount = serviceMoveCost;
+            boolean changed = false;
+            for (MrServiceDelta serviceDelta : serviceDeltaMap.values()) {
+                if (serviceDelta.movedProcessCountDelta != 0) {
+                    changed = true;
+                    maximumMovedProcessCount = Math.max(maximumMovedProcessCount,
+                            serviceDelta.getReassignedMovedProcessCount());
+                }
+            }
+            if (!changed) {
+                return;
+            }
+            int newServiceMoveCost = maximumMovedProcessCount;
+            while (newServiceMoveCost > 0 && countReassignedServices(newServiceMoveCost) <= 0) {
+                newServiceMoveCost--;
+            }
+            softDelta -= (long) (newServiceMoveCost - serviceMoveCost) * globalPenaltyInfo.getServiceMoveCostWeight();
+        }
+
+        private int countReassignedServices(int movedProcessCount) {
+            int serviceCount = movedProcessCountToServiceCount.getOrDefault(movedProcessCount, 0);
+            for (MrServiceDelta serviceDelta : serviceDeltaMap.values()) {
+                if (serviceDelta.serviceScorePart.movedProcessCount == movedProcessCount) {
+                    serviceCount--;
+                }
+                if (serviceDelta.getReassignedMovedProcessCount() == movedProcessCount) {
+                    serviceCount++;
+                }
+            }
+            return serviceCount;
+        }
+
+        private class MrMachineDelta {
+
+            private final MrMachineScorePart machineScorePart;
+            private final long[] maximumAvailableDeltas;
+            private final long[] availableDeltas; // Of both safetyAvailable and balanceAvailable
+            private final Map<MrService, Integer> serviceCountDeltaMap = new HashMap<>(4);
+
+            private MrMachineDelta(MrMachine machine) {
+                machineScorePart = machineScorePartMap.get(machine);
+                int machineCapacitySize = machineScorePart.machineCapacityScorePartList.size();
+                maximumAvailableDeltas = new long[machineCapacitySize];
+                availableDeltas = new long[machineCapacitySize];
+            }
+
+            private void changeProcessAssignment(MrProcessAssignment processAssignment, MrMachine machine,
+                    int processCountDelta) {
+                boolean moved = !Objects.equals(processAssignment.getOriginalMachine(), machine);
+                List<MrMachineCapacityScorePart> machineCapacityScorePartList =
+                        machineScorePart.machineCapacityScorePartList;
+                for (int i = 0; i < machineCapacityScorePartList.size(); i++) {
+                    MrMachineCapacity machineCapacity = machineCapacityScorePartList.get(i).machineCapacity;
+                    long processUsage = processAssignment.getUsage(machineCapacity.getResource());
+                    if (!machineCapacity.isTransientlyConsumed() || moved) {
+                        maximumAvailableDeltas[i] -= processCountDelta * processUsage;
+                    }
+                    availableDeltas[i] -= processCountDelta * processUsage;
+                }
+                serviceCountDeltaMap.merge(processAssignment.getService(), processCountDelta, Integer::sum);
+            }
+
+            private void calculateDelta() {
+                List<MrMachineCapacityScorePart> machineCapacityScorePartList =
+                        machineScorePart.machineCapacityScorePartList;
+                // Capacity constraints + Transient usage constraints + Load cost
+                for (int i = 0; i < machineCapacityScorePartList.size(); i++) {
+                    MrMachineCapacityScorePart machineCapacityScorePart = machineCapacityScorePartList.get(i);
+                    long maximumAvailable = machineCapacityScorePart.maximumAvailable;
+                    hardDelta += Math.min(maximumAvailable + maximumAvailableDeltas[i], 0)
+                            - Math.min(maximumAvailable, 0);
+                    long safetyAvailable = machineCapacityScorePart.safetyAvailable;
+                    softDelta += (Math.min(safetyAvailable + availableDeltas[i], 0) - Math.min(safetyAvailable, 0))
+                            * machineCapacityScorePart.machineCapacity.getResource().getLoadCostWeight();
+                }
+                // Balance cost
+                for (MrBalancePenalty balancePenalty : machineReassignment.getBalancePenaltyList()) {
+                    int originIndex = balancePenalty.getOriginResource().getIndex();
+                    int targetIndex = balancePenalty.getTargetResource().getIndex();
+                    long originAvailable = machineCapacityScorePartList.get(originIndex).getBalanceAvailable();
+                    long targetAvailable = machineCapacityScorePartList.get(targetIndex).getBalanceAvailable();
+                    softDelta -= calculateBalancePenalty(balancePenalty,
+                            originAvailable + availableDeltas[originIndex],
+                            targetAvailable + availableDeltas[targetIndex])
+                            - calculateBalancePenalty(balancePenalty, originAvailable, targetAvailable);
+                }
+                // Service conflict
+                for (Map.Entry<MrService, Integer> entry : serviceCountDeltaMap.entrySet()) {
+                    int serviceProcessCount = machineScorePart.serviceBag.getOrDefault(entry.getKey(), 0);
+                    hardDelta -= Math.max(serviceProcessCount + entry.getValue() - 1, 0)
+                            - Math.max(serviceProcessCount - 1, 0);
+                }
+            }
+
+            private long calculateBalancePenalty(MrBalancePenalty balancePenalty,
+                    long originAvailable, long targetAvailable) {
+                if (originAvailable <= 0L) {
+                    return 0L;
+                }
+                long minimumTargetAvailable = originAvailable * balancePenalty.getMultiplicand();
+                // targetAvailable might be negative, but that's ok (and even avoids score traps)
+                if (targetAvailable >= minimumTargetAvailable) {
+                    return 0L;
+                }
+                return (minimumTargetAvailable - targetAvailable) * balancePenalty.getWeight();
+            }
+
+        }
+
+        private class MrServiceDelta {
+
+            private final MrServiceScorePart serviceScorePart;
+            private final Map<MrLocation, Integer> locationCountDeltaMap = new HashMap<>(4);
+            private final Map<MrNeighborhood, Integer> neighborhoodCountDeltaMap = new HashMap<>(4);
+            private int movedProcessCountDelta = 0;
+
+            private MrServiceDelta(MrService service) {
+                serviceScorePart = serviceScorePartMap.get(service);
+            }
+
+            private void changeProcessAssignment(MrProcessAssignment processAssignment, MrMachine machine,
+                    int processCountDelta) {
+                locationCountDeltaMap.merge(machine.getLocation(), processCountDelta, Integer::sum);
+                neighborhoodCountDeltaMap.merge(machine.getNeighborhood(), processCountDelta, Integer::sum);
+                if (!Objects.equals(processAssignment.getOriginalMachine(), machine)) {
+                    movedProcessCountDelta += processCountDelta;
+                }
+            }
+
+            private int getReassignedMovedProcessCount() {
+                return serviceScorePart.movedProcessCount + movedProcessCountDelta;
+            }
+
+            private void calculateLocationSpreadDelta() {
+                Map<MrLocation, Integer> locationBag = serviceScorePart.locationBag;
+                int locationCount = locationBag.size();
+                int reassignedLocationCount = locationCount;
+                for (Map.Entry<MrLocation, Integer> entry : locationCountDeltaMap.entrySet()) {
+                    int locationProcessCount = locationBag.getOrDefault(entry.getKey(), 0);
+                    int reassignedLocationProcessCount = locationProcessCount + entry.getValue();
+                    if (locationProcessCount == 0 && reassignedLocationProcessCount > 0) {
+                        reassignedLocationCount++;
+                    } else if (locationProcessCount > 0 && reassignedLocationProcessCount == 0) {
+                        reassignedLocationCount--;
+                    }
+                }
+                int locationSpread = serviceScorePart.service.getLocationSpread();
+                hardDelta -= Math.max(locationSpread - reassignedLocationCount, 0)
+                        - Math.max(locationSpread - locationCount, 0);
+            }
+
+        }
+
+    }
+
     @Override
     public void resetWorkingSolution(MachineReassignment workingSolution, boolean constraintMatchEnabled) {
         resetWorkingSolution(workingSolution);
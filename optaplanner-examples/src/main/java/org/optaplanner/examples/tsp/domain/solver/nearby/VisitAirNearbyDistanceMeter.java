@@ -0,0 +1,44 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.examples.tsp.domain.solver.nearby;
+
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.CoordinateNearbyDistanceMeter;
+import org.optaplanner.examples.tsp.domain.Standstill;
+import org.optaplanner.examples.tsp.domain.Visit;
+import org.optaplanner.examples.tsp.domain.location.Location;
+
+/**
+ * Sorts the nearby standstills by their air distance, through a spatial index.
+ * Unlike {@link VisitNearbyDistanceMeter}, it ignores road distances.
+ */
+public class VisitAirNearbyDistanceMeter implements CoordinateNearbyDistanceMeter<Visit, Standstill> {
+
+    @Override
+    public double[] getOriginCoordinates(Visit origin) {
+        return getCoordinates(origin.getLocation());
+    }
+
+    @Override
+    public double[] getDestinationCoordinates(Standstill destination) {
+        return getCoordinates(destination.getLocation());
+    }
+
+    private static double[] getCoordinates(Location location) {
+        return new double[] { location.getLatitude(), location.getLongitude() };
+    }
+
+}
@@ -27,7 +27,9 @@ public class TspBenchmarkApp extends CommonBenchmarkApp {
     public TspBenchmarkApp() {
         super(
                 new ArgOption("default",
-                        "org/optaplanner/examples/tsp/optional/benchmark/tspBenchmarkConfig.xml"));
+                        "org/optaplanner/examples/tsp/optional/benchmark/tspBenchmarkConfig.xml"),
+                new ArgOption("listVariable",
+                        "org/optaplanner/examples/tsp/optional/benchmark/tspListVariableBenchmarkConfig.xml"));
     }
 
 }
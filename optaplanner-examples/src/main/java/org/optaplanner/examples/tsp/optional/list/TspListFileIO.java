@@ -0,0 +1,128 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.examples.tsp.optional.list;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.examples.tsp.domain.Domicile;
+import org.optaplanner.examples.tsp.domain.Standstill;
+import org.optaplanner.examples.tsp.domain.TspSolution;
+import org.optaplanner.examples.tsp.domain.Visit;
+import org.optaplanner.examples.tsp.persistence.TspFileIO;
+import org.optaplanner.persistence.common.api.domain.solution.SolutionFileIO;
+
+/**
+ * Reads and writes the same files as {@link TspFileIO},
+ * converting the chain of visits to and from the list of a {@link TspTour}.
+ */
+public class TspListFileIO implements SolutionFileIO<TspListSolution> {
+
+    private TspFileIO tspFileIO = new TspFileIO();
+
+    @Override
+    public String getInputFileExtension() {
+        return tspFileIO.getInputFileExtension();
+    }
+
+    @Override
+    public String getOutputFileExtension() {
+        return tspFileIO.getOutputFileExtension();
+    }
+
+    @Override
+    public TspListSolution read(File inputSolutionFile) {
+        TspSolution tspSolution = tspFileIO.read(inputSolutionFile);
+        TspListSolution solution = new TspListSolution();
+        solution.setId(tspSolution.getId());
+        solution.setName(tspSolution.getName());
+        solution.setDistanceType(tspSolution.getDistanceType());
+        solution.setDistanceUnitOfMeasurement(tspSolution.getDistanceUnitOfMeasurement());
+        solution.setLocationList(tspSolution.getLocationList());
+        Domicile domicile = tspSolution.getDomicile();
+        solution.setDomicile(domicile);
+        List<Visit> visitList = new ArrayList<>(tspSolution.getVisitList().size());
+        Map<Standstill, Visit> nextVisitMap = new HashMap<>(tspSolution.getVisitList().size());
+        Map<Visit, Visit> visitToCopyMap = new HashMap<>(tspSolution.getVisitList().size());
+        for (Visit visit : tspSolution.getVisitList()) {
+            // Without the previousStandstill, which is not a planning variable in this model
+            Visit visitCopy = copyVisit(visit, null);
+            visitList.add(visitCopy);
+            visitToCopyMap.put(visit, visitCopy);
+            if (visit.getPreviousStandstill() != null) {
+                nextVisitMap.put(visit.getPreviousStandstill(), visit);
+            }
+        }
+        solution.setVisitList(visitList);
+        // An initialized input keeps its visiting order
+        List<Visit> tourVisitList = new ArrayList<>(visitList.size());
+        Visit nextVisit = nextVisitMap.get(domicile);
+        while (nextVisit != null) {
+            tourVisitList.add(visitToCopyMap.get(nextVisit));
+            nextVisit = nextVisitMap.get(nextVisit);
+        }
+        TspTour tour = new TspTour();
+        tour.setId(0L);
+        tour.setDomicile(domicile);
+        tour.setVisitList(tourVisitList);
+        solution.setTourList(Collections.singletonList(tour));
+        solution.setScore(tspSolution.getScore());
+        return solution;
+    }
+
+    @Override
+    public void write(TspListSolution solution, File outputSolutionFile) {
+        TspSolution tspSolution = new TspSolution();
+        tspSolution.setId(solution.getId());
+        tspSolution.setName(solution.getName());
+        tspSolution.setDistanceType(solution.getDistanceType());
+        tspSolution.setDistanceUnitOfMeasurement(solution.getDistanceUnitOfMeasurement());
+        tspSolution.setLocationList(solution.getLocationList());
+        tspSolution.setDomicile(solution.getDomicile());
+        // Copies the visits, because a planning clone of the solution shares them with the working solution
+        Map<Visit, Visit> visitToCopyMap = new HashMap<>(solution.getVisitList().size());
+        for (TspTour tour : solution.getTourList()) {
+            Standstill previousStandstill = tour.getDomicile();
+            for (Visit visit : tour.getVisitList()) {
+                Visit visitCopy = copyVisit(visit, previousStandstill);
+                visitToCopyMap.put(visit, visitCopy);
+                previousStandstill = visitCopy;
+            }
+        }
+        List<Visit> visitList = new ArrayList<>(solution.getVisitList().size());
+        for (Visit visit : solution.getVisitList()) {
+            Visit visitCopy = visitToCopyMap.get(visit);
+            visitList.add(visitCopy != null ? visitCopy : copyVisit(visit, null));
+        }
+        tspSolution.setVisitList(visitList);
+        tspSolution.setScore(solution.getScore());
+        tspFileIO.write(tspSolution, outputSolutionFile);
+    }
+
+    private static Visit copyVisit(Visit visit, Standstill previousStandstill) {
+        Visit visitCopy = new Visit();
+        visitCopy.setId(visit.getId());
+        visitCopy.setLocation(visit.getLocation());
+        visitCopy.setPreviousStandstill(previousStandstill);
+        return visitCopy;
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.examples.tsp.optional.list;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.optaplanner.core.api.score.buildin.simplelong.SimpleLongScore;
+import org.optaplanner.core.api.score.calculator.IncrementalScoreCalculator;
+
+/**
+ * A list variable change only reports its {@link TspTour},
+ * so the distance of that tour is recalculated in full after every change.
+ */
+public class TspListIncrementalScoreCalculator implements IncrementalScoreCalculator<TspListSolution, SimpleLongScore> {
+
+    private Map<TspTour, Long> tourDistanceMap;
+
+    private long score;
+
+    @Override
+    public void resetWorkingSolution(TspListSolution tspListSolution) {
+        tourDistanceMap = new HashMap<>(tspListSolution.getTourList().size());
+        score = 0L;
+        for (TspTour tour : tspListSolution.getTourList()) {
+            insert(tour);
+        }
+    }
+
+    @Override
+    public void beforeEntityAdded(Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(Object entity) {
+        insert((TspTour) entity);
+    }
+
+    @Override
+    public void beforeVariableChanged(Object entity, String variableName) {
+        retract((TspTour) entity);
+    }
+
+    @Override
+    public void afterVariableChanged(Object entity, String variableName) {
+        insert((TspTour) entity);
+    }
+
+    @Override
+    public void beforeEntityRemoved(Object entity) {
+        retract((TspTour) entity);
+    }
+
+    @Override
+    public void afterEntityRemoved(Object entity) {
+        // Do nothing
+    }
+
+    private void insert(TspTour tour) {
+        long distance = tour.getDistance();
+        tourDistanceMap.put(tour, distance);
+        score -= distance;
+    }
+
+    private void retract(TspTour tour) {
+        score += tourDistanceMap.remove(tour);
+    }
+
+    @Override
+    public SimpleLongScore calculateScore() {
+        return SimpleLongScore.of(score);
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.examples.tsp.optional.list;
+
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningEntityCollectionProperty;
+import org.optaplanner.core.api.domain.solution.PlanningScore;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.solution.ProblemFactCollectionProperty;
+import org.optaplanner.core.api.domain.solution.ProblemFactProperty;
+import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
+import org.optaplanner.core.api.score.buildin.simplelong.SimpleLongScore;
+import org.optaplanner.examples.common.domain.AbstractPersistable;
+import org.optaplanner.examples.tsp.domain.Domicile;
+import org.optaplanner.examples.tsp.domain.TspSolution;
+import org.optaplanner.examples.tsp.domain.Visit;
+import org.optaplanner.examples.tsp.domain.location.DistanceType;
+import org.optaplanner.examples.tsp.domain.location.Location;
+
+/**
+ * The same problem as {@link TspSolution}, but modeled with a planning list variable on {@link TspTour}
+ * instead of a chained planning variable on {@link Visit}, to benchmark both models against each other.
+ */
+@PlanningSolution
+public class TspListSolution extends AbstractPersistable {
+
+    private String name;
+    protected DistanceType distanceType;
+    protected String distanceUnitOfMeasurement;
+    private List<Location> locationList;
+    private Domicile domicile;
+
+    private List<Visit> visitList;
+    private List<TspTour> tourList;
+
+    private SimpleLongScore score;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public DistanceType getDistanceType() {
+        return distanceType;
+    }
+
+    public void setDistanceType(DistanceType distanceType) {
+        this.distanceType = distanceType;
+    }
+
+    public String getDistanceUnitOfMeasurement() {
+        return distanceUnitOfMeasurement;
+    }
+
+    public void setDistanceUnitOfMeasurement(String distanceUnitOfMeasurement) {
+        this.distanceUnitOfMeasurement = distanceUnitOfMeasurement;
+    }
+
+    @ProblemFactCollectionProperty
+    public List<Location> getLocationList() {
+        return locationList;
+    }
+
+    public void setLocationList(List<Location> locationList) {
+        this.locationList = locationList;
+    }
+
+    @ProblemFactProperty
+    public Domicile getDomicile() {
+        return domicile;
+    }
+
+    public void setDomicile(Domicile domicile) {
+        this.domicile = domicile;
+    }
+
+    @ProblemFactCollectionProperty
+    @ValueRangeProvider(id = "visitRange")
+    public List<Visit> getVisitList() {
+        return visitList;
+    }
+
+    public void setVisitList(List<Visit> visitList) {
+        this.visitList = visitList;
+    }
+
+    @PlanningEntityCollectionProperty
+    public List<TspTour> getTourList() {
+        return tourList;
+    }
+
+    public void setTourList(List<TspTour> tourList) {
+        this.tourList = tourList;
+    }
+
+    @PlanningScore
+    public SimpleLongScore getScore() {
+        return score;
+    }
+
+    public void setScore(SimpleLongScore score) {
+        this.score = score;
+    }
+
+}
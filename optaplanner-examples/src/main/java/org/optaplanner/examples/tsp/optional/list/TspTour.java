@@ -0,0 +1,82 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.examples.tsp.optional.list;
+
+import java.util.List;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.examples.common.domain.AbstractPersistable;
+import org.optaplanner.examples.tsp.domain.Domicile;
+import org.optaplanner.examples.tsp.domain.Standstill;
+import org.optaplanner.examples.tsp.domain.Visit;
+
+/**
+ * The single tour of a {@link TspListSolution}, from its {@link Domicile} through every visit and back.
+ * The {@link Visit}s are planning values here, so their chained previousStandstill is not used.
+ */
+@PlanningEntity
+public class TspTour extends AbstractPersistable {
+
+    private Domicile domicile;
+
+    // Planning variables: changes during planning, between score calculations.
+    private List<Visit> visitList;
+
+    public Domicile getDomicile() {
+        return domicile;
+    }
+
+    public void setDomicile(Domicile domicile) {
+        this.domicile = domicile;
+    }
+
+    @PlanningListVariable(valueRangeProviderRefs = "visitRange")
+    public List<Visit> getVisitList() {
+        return visitList;
+    }
+
+    public void setVisitList(List<Visit> visitList) {
+        this.visitList = visitList;
+    }
+
+    // ************************************************************************
+    // Complex methods
+    // ************************************************************************
+
+    /**
+     * @return a positive number, the distance multiplied by 1000 to avoid floating point arithmetic rounding errors
+     */
+    public long getDistance() {
+        if (visitList.isEmpty()) {
+            return 0L;
+        }
+        long distance = 0L;
+        Standstill previousStandstill = domicile;
+        for (Visit visit : visitList) {
+            distance += previousStandstill.getDistanceTo(visit);
+            previousStandstill = visit;
+        }
+        return distance + previousStandstill.getDistanceTo(domicile);
+    }
+
+    @Override
+    public String toString() {
+        return domicile + "-tour";
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.examples.machinereassignment.optional.score;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
+import org.optaplanner.examples.machinereassignment.domain.MachineReassignment;
+import org.optaplanner.examples.machinereassignment.domain.MrMachine;
+import org.optaplanner.examples.machinereassignment.domain.MrProcessAssignment;
+import org.optaplanner.persistence.xstream.impl.domain.solution.XStreamSolutionFileIO;
+
+public class MachineReassignmentMovePeekingIncrementalScoreCalculatorTest {
+
+    private MachineReassignment solution;
+    private MachineReassignmentMovePeekingIncrementalScoreCalculator scoreCalculator;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        XStreamSolutionFileIO<MachineReassignment> solutionFileIO = new XStreamSolutionFileIO<>(MachineReassignment.class);
+        try (InputStream inputStream = MachineReassignmentMovePeekingIncrementalScoreCalculatorTest.class
+                .getResourceAsStream("model-a1-1-0hard-44306501soft.xml")) {
+            solution = solutionFileIO.read(inputStream);
+        }
+        scoreCalculator = new MachineReassignmentMovePeekingIncrementalScoreCalculator();
+        scoreCalculator.resetWorkingSolution(solution);
+    }
+
+    @Test
+    public void peekChangeMove() {
+        for (MrProcessAssignment processAssignment : solution.getProcessAssignmentList()) {
+            MrMachine oldMachine = processAssignment.getMachine();
+            for (MrMachine machine : solution.getMachineList()) {
+                HardSoftLongScore score = scoreCalculator.calculateScore();
+                HardSoftLongScore peekedScore = scoreCalculator.peekChangeMove(processAssignment, "machine", machine);
+                assertThat(scoreCalculator.calculateScore()).isEqualTo(score);
+                reassign(processAssignment, machine);
+                assertThat(peekedScore).isEqualTo(scoreCalculator.calculateScore());
+                reassign(processAssignment, oldMachine);
+            }
+        }
+    }
+
+    @Test
+    public void peekSwapMove() {
+        List<MrProcessAssignment> processAssignmentList = solution.getProcessAssignmentList();
+        List<String> variableNameList = Collections.singletonList("machine");
+        for (int i = 0; i < processAssignmentList.size(); i++) {
+            MrProcessAssignment leftProcessAssignment = processAssignmentList.get(i);
+            for (int j = i + 1; j < processAssignmentList.size(); j++) {
+                MrProcessAssignment rightProcessAssignment = processAssignmentList.get(j);
+                MrMachine leftMachine = leftProcessAssignment.getMachine();
+                MrMachine rightMachine = rightProcessAssignment.getMachine();
+                HardSoftLongScore score = scoreCalculator.calculateScore();
+                HardSoftLongScore peekedScore = scoreCalculator.peekSwapMove(leftProcessAssignment,
+                        rightProcessAssignment, variableNameList);
+                assertThat(scoreCalculator.calculateScore()).isEqualTo(score);
+                reassign(leftProcessAssignment, rightMachine);
+                reassign(rightProcessAssignment, leftMachine);
+                assertThat(peekedScore).isEqualTo(scoreCalculator.calculateScore());
+                reassign(rightProcessAssignment, rightMachine);
+                reassign(leftProcessAssignment, leftMachine);
+            }
+        }
+    }
+
+    @Test
+    public void peekPillarChangeMove() {
+        for (MrMachine fromMachine : solution.getMachineList()) {
+            List<Object> pillar = solution.getProcessAssignmentList().stream()
+                    .filter(processAssignment -> processAssignment.getMachine() == fromMachine)
+                    .collect(Collectors.toCollection(ArrayList::new));
+            if (pillar.isEmpty()) {
+                continue;
+            }
+            for (MrMachine toMachine : solution.getMachineList()) {
+                HardSoftLongScore score = scoreCalculator.calculateScore();
+                HardSoftLongScore peekedScore = scoreCalculator.peekPillarChangeMove(pillar, "machine", toMachine);
+                assertThat(scoreCalculator.calculateScore()).isEqualTo(score);
+                for (Object entity : pillar) {
+                    reassign((MrProcessAssignment) entity, toMachine);
+                }
+                assertThat(peekedScore).isEqualTo(scoreCalculator.calculateScore());
+                for (Object entity : pillar) {
+                    reassign((MrProcessAssignment) entity, fromMachine);
+                }
+            }
+        }
+    }
+
+    private void reassign(MrProcessAssignment processAssignment, MrMachine machine) {
+        scoreCalculator.beforeVariableChanged(processAssignment, "machine");
+        processAssignment.setMachine(machine);
+        scoreCalculator.afterVariableChanged(processAssignment, "machine");
+    }
+
+}